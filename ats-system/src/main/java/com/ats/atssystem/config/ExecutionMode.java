@@ -0,0 +1,61 @@
+package com.ats.atssystem.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.stereotype.Component;
+
+/**
+ * Request execution mode, switched by spring.threads.virtual.enabled.
+ *
+ * Platform threads (default): requests run on Tomcat's pool
+ * (server.tomcat.threads.max). A request blocked on JDBC, file I/O or a
+ * slow client holds its pool thread, so the pool caps throughput before
+ * the CPU does.
+ *
+ * Virtual threads (opt-in): Spring Boot runs each request, @Scheduled run
+ * and MVC async task (streamed exports) on its own virtual thread. Resume
+ * uploads (ResumeStorageService) and downloads (ResumeDownloadService,
+ * FileDownloadResponder) block on the request thread, so they park a
+ * virtual thread instead of holding a pooled one. Concurrency is then
+ * bounded by:
+ *   - the Hikari pool (spring.datasource.hikari.maximum-pool-size): sized
+ *     to what the database serves well, not to request concurrency; waits
+ *     past connection-timeout get 503 with Retry-After
+ *   - the bounded pools for CPU-bound or fan-out work (BCrypt, resume text
+ *     extraction, status streams, webhooks), which stay on platform threads
+ *   - server.tomcat.max-connections
+ *
+ * Virtual threads need a Java 21+ runtime (the code still targets 17).
+ * Enabling the mode on an older runtime fails startup rather than
+ * silently running on platform threads.
+ */
+@Component
+public class ExecutionMode {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionMode.class);
+
+    private final boolean virtualThreads;
+
+    public ExecutionMode(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                         @Value("${server.tomcat.threads.max:200}") int requestThreads,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connections) {
+        if (virtualThreads && !JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            throw new IllegalStateException("spring.threads.virtual.enabled=true needs a Java 21+ runtime; "
+                    + "running on Java " + Runtime.version().feature());
+        }
+        this.virtualThreads = virtualThreads;
+
+        if (virtualThreads) {
+            log.info("Request execution: virtual threads, {} database connections", connections);
+        } else {
+            log.info("Request execution: {} platform threads, {} database connections", requestThreads, connections);
+        }
+    }
+
+    /** True if requests run on virtual threads */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+}
@@ -1,13 +1,24 @@
 package com.ats.atssystem.controller;
 
 import com.ats.atssystem.dto.*;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
 import com.ats.atssystem.service.AdminService;
+import com.ats.atssystem.service.ApplicationStatusLog;
+import com.ats.atssystem.service.FunnelAnalyticsService;
 import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,9 +27,11 @@ import java.util.List;
  * All endpoints require ADMIN role.
  *
  * Phase A1: Dashboard statistics
- * Phase A2: View all users
- * Phase A3: View all jobs
+ * Phase A2: View all users (list, paged/filtered, NDJSON/CSV export)
+ * Phase A3: View all jobs  (list, paged/filtered, NDJSON/CSV export)
  * Phase A4: View and edit admin profile
+ * Analytics: Hiring funnel (system-wide, per recruiter, per job)
+ * Events:    Application status event log (incremental and time-range reads)
  */
 @RestController
 @RequestMapping("/admin")
@@ -26,9 +39,15 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final FunnelAnalyticsService funnelAnalyticsService;
+    private final ApplicationStatusLog applicationStatusLog;
 
-    public AdminController(AdminService adminService) {
+    public AdminController(AdminService adminService,
+                           FunnelAnalyticsService funnelAnalyticsService,
+                           ApplicationStatusLog applicationStatusLog) {
         this.adminService = adminService;
+        this.funnelAnalyticsService = funnelAnalyticsService;
+        this.applicationStatusLog = applicationStatusLog;
     }
 
     /**
@@ -83,6 +102,46 @@ public class AdminController {
         return adminService.getAllUsers();
     }
 
+    /**
+     * PHASE A2: Get Users (paged)
+     *
+     * GET /admin/users/page?role=RECRUITER&q=ali&page=0&size=50
+     *
+     * - role: optional filter (ADMIN, RECRUITER, CANDIDATE)
+     * - q:    optional prefix of email or name
+     * - size: default 50, max 200
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/users/page")
+    public PageResponse<AdminUserDTO> getUsersPage(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return adminService.getUsersPage(role, q, page, size);
+    }
+
+    /**
+     * PHASE A2: Export Users
+     *
+     * GET /admin/users/export?format=csv&role=CANDIDATE&q=bob
+     *
+     * Streams every matching user as NDJSON (default) or CSV. Rows are
+     * written as they are read, so memory use does not grow with the table.
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return export("users", exportFormat,
+                out -> adminService.exportUsers(role, q, exportFormat, out));
+    }
+
     /**
      * PHASE A3: Get All Jobs
      *
@@ -110,6 +169,103 @@ public class AdminController {
         return adminService.getAllJobs();
     }
 
+    /**
+     * PHASE A3: Get Jobs (paged)
+     *
+     * GET /admin/jobs/page?status=OPEN&q=Software&page=0&size=50
+     *
+     * - status: optional filter (OPEN, CLOSED)
+     * - q:      optional title prefix
+     * - size:   default 50, max 200
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/jobs/page")
+    public PageResponse<AdminJobDTO> getJobsPage(
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return adminService.getJobsPage(status, q, page, size);
+    }
+
+    /**
+     * PHASE A3: Export Jobs
+     *
+     * GET /admin/jobs/export?format=csv&status=OPEN
+     *
+     * Streams every matching job as NDJSON (default) or CSV.
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/jobs/export")
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @RequestParam(required = false) JobStatus status,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return export("jobs", exportFormat,
+                out -> adminService.exportJobs(status, q, exportFormat, out));
+    }
+
+    /**
+     * Hiring Funnel
+     *
+     * GET /admin/analytics/funnel?recruiterId=5&jobId=12&from=2024-01-01&to=2024-12-31
+     *
+     * - recruiterId, jobId: optional; omit both for the system-wide funnel
+     * - from, to:           ISO dates, inclusive; default the last 30 days
+     *
+     * Returns counts (applied, shortlisted, hired, rejected), conversion
+     * rates and time-to-decision percentiles in hours.
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/analytics/funnel")
+    public FunnelStatsDTO getFunnel(
+            @RequestParam(required = false) Long recruiterId,
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return funnelAnalyticsService.getFunnel(recruiterId, jobId, from, to);
+    }
+
+    /**
+     * Application Status Events (incremental)
+     *
+     * GET /admin/events/application-status?after=0&limit=100
+     *
+     * Returns events with eventId > after, oldest first, and nextOffset to
+     * pass as ?after= on the next call. limit defaults to 100 (max 1000).
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/events/application-status")
+    public StatusEventPageDTO getStatusEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        return applicationStatusLog.readAfter(after, limit);
+    }
+
+    /**
+     * Application Status Events (time range)
+     *
+     * GET /admin/events/application-status/range?from=2024-01-01T00:00:00&to=2024-02-01T00:00:00&cursor=...
+     *
+     * Returns events with from <= occurredAt < to, ordered by time, with an
+     * opaque nextCursor for the following page.
+     *
+     * Security: Admin only
+     */
+    @GetMapping("/events/application-status/range")
+    public StatusEventPageDTO getStatusEventsInRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int limit) {
+        return applicationStatusLog.readRange(from, to, cursor, limit);
+    }
+
     /**
      * PHASE A4: Get Admin Profile
      *
@@ -165,6 +321,21 @@ public class AdminController {
         }
     }
 
+    /**
+     * Wraps an export as a download. The body runs on the async request
+     * thread, where the service opens its own read-only transaction.
+     */
+    private static ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format,
+                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * Simple error response class
      */
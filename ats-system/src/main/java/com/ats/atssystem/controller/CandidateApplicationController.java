@@ -3,17 +3,18 @@ package com.ats.atssystem.controller;
 import com.ats.atssystem.dto.ApplicationRequest;
 import com.ats.atssystem.dto.ApplicationResponse;
 import com.ats.atssystem.dto.CandidateApplicationsResponse;
-import com.ats.atssystem.model.User;
-import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.AuthenticatedUser;
+import com.ats.atssystem.service.ApplicationStatusStream;
 import com.ats.atssystem.service.CandidateApplicationService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -22,24 +23,24 @@ import java.util.List;
  * Endpoints:
  *   POST /candidate/applications   → Apply for a job + upload resume (one multipart request)
  *   GET  /candidate/applications   → Dashboard: all my applications
+ *   GET  /candidate/applications/stream → Live status changes (Server-Sent Events)
  *
  * All endpoints require JWT + CANDIDATE role.
  *
- * The JWT filter sets the principal as the user's EMAIL (not userId).
- * So we extract the email from the token, then look up the User entity
- * via UserRepository to get the actual userId.
+ * The JWT filter sets an AuthenticatedUser principal carrying the userId
+ * from the token, so no user lookup is needed to identify the candidate.
  */
 @RestController
 @RequestMapping("/candidate/applications")
 public class CandidateApplicationController {
 
     private final CandidateApplicationService candidateApplicationService;
-    private final UserRepository userRepository;
+    private final ApplicationStatusStream applicationStatusStream;
 
     public CandidateApplicationController(CandidateApplicationService candidateApplicationService,
-                                          UserRepository userRepository) {
+                                          ApplicationStatusStream applicationStatusStream) {
         this.candidateApplicationService = candidateApplicationService;
-        this.userRepository = userRepository;
+        this.applicationStatusStream = applicationStatusStream;
     }
 
     // ============================================================
@@ -50,25 +51,39 @@ public class CandidateApplicationController {
      * Apply for a job and upload resume in a single multipart request.
      *
      * Content-Type: multipart/form-data
-     *   jobId  → the ID of the job to apply to
-     *   file   → the resume PDF file
+     *   jobId  → the ID of the job to apply to (must come before file,
+     *            or be passed as ?jobId= instead)
+     *   file   → the resume PDF file, max 5 MB
+     *
+     * The body is streamed: the job checks run before the file is read, and
+     * the file goes straight to storage, checked for the PDF signature and
+     * cut off at the size limit as it arrives.
+     *
+     * Optional header Idempotency-Key (up to 64 characters): a retry with the
+     * same key gets the original application back instead of 409. Reusing a
+     * key for a different job is rejected with 422.
      *
      * Response: 201 Created + ApplicationResponse
+     *           409 Conflict if already applied (including a lost double-submit race)
+     *           413 Payload Too Large if the file passes 5 MB
      *
-     * @param jobId the ID of the job (form field)
-     * @param file  the resume PDF (multipart file)
+     * @param httpRequest    the multipart request, read as a stream
+     * @param idempotencyKey optional client-generated key for safe retries
      * @return 201 Created with ApplicationResponse
      */
     @PostMapping(consumes = "multipart/form-data")
     @PreAuthorize("hasRole('CANDIDATE')")
     public ResponseEntity<ApplicationResponse> applyForJob(
-            @RequestParam("jobId") Long jobId,
-            @RequestParam("file") MultipartFile file) {
+            HttpServletRequest httpRequest,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) throws IOException {
 
         Long candidateId = getAuthenticatedUserId();
 
-        ApplicationRequest request = new ApplicationRequest(jobId);
-        ApplicationResponse response = candidateApplicationService.applyForJob(request, file, candidateId);
+        ApplicationResponse response = MultipartResumeReader.read(httpRequest, (fields, resume) -> {
+            Long jobId = parseJobId(fields.getOrDefault("jobId", httpRequest.getParameter("jobId")));
+            ApplicationRequest request = new ApplicationRequest(jobId, idempotencyKey);
+            return candidateApplicationService.applyForJob(request, resume, candidateId);
+        });
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -93,24 +108,62 @@ public class CandidateApplicationController {
     }
 
     // ============================================================
-    // Private helper — extract userId from JWT email
+    // Live Status Changes
     // ============================================================
 
     /**
-     * Extracts the authenticated user's ID by:
-     *   1. Getting the email from the JWT principal (set by JwtFilter)
-     *   2. Looking up the User entity by that email
-     *   3. Returning the userId
+     * Stream status changes of the authenticated candidate's applications.
+     *
+     * Each change is a "status" event whose id is the status log eventId and
+     * whose data is an ApplicationStatusEventDTO. EventSource reconnects send
+     * the last id back as Last-Event-ID and resume right after it.
+     *
+     * Response: 200 OK + text/event-stream
+     *           429 Too Many Requests if too many streams are open
+     *
+     * @param lastEventId optional id of the last event the client received
+     * @return the open event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public SseEmitter streamMyStatusChanges(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return applicationStatusStream.subscribe(getAuthenticatedUserId(), parseLastEventId(lastEventId));
+    }
+
+    // ============================================================
+    // Private helper — userId from the JWT principal
+    // ============================================================
+
+    /**
+     * Returns the authenticated user's ID from the AuthenticatedUser
+     * principal set by JwtFilter (no database lookup).
      *
      * @return the userId of the authenticated candidate
      */
     private Long getAuthenticatedUserId() {
-        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-        String email = auth.getPrincipal().toString();
+        return AuthenticatedUser.current().getUserId();
+    }
 
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found for email: " + email));
+    private static Long parseJobId(String jobId) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId is required and must be sent before the file.");
+        }
+        try {
+            return Long.valueOf(jobId.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("jobId must be a number.");
+        }
+    }
 
-        return user.getUserId();
+    private static Long parseLastEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lastEventId.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Last-Event-ID must be a number.");
+        }
     }
-}
\ No newline at end of file
+}
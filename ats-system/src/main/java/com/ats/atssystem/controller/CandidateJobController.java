@@ -1,6 +1,9 @@
 package com.ats.atssystem.controller;
 
 import com.ats.atssystem.dto.JobResponse;
+import com.ats.atssystem.dto.JobSearchResponse;
+import com.ats.atssystem.dto.JobSummaryResponse;
+import com.ats.atssystem.dto.PageResponse;
 import com.ats.atssystem.service.CandidateJobService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -38,6 +41,52 @@ public class CandidateJobController {
         return ResponseEntity.ok(jobs);
     }
 
+    /**
+     * Browse OPEN jobs page by page (newest first)
+     *
+     * Endpoint: GET /candidate/jobs/browse?page=0&size=20
+     * Authorization: CANDIDATE role required
+     *
+     * Returns lean job cards without the description; use
+     * GET /candidate/jobs/{jobId} for the full job.
+     *
+     * @param page zero-based page number (default 0)
+     * @param size page size (default 20, max 100)
+     * @return one page of OPEN job summaries
+     */
+    @GetMapping("/browse")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public ResponseEntity<PageResponse<JobSummaryResponse>> browseOpenJobs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(candidateJobService.browseOpenJobs(page, size));
+    }
+
+    /**
+     * Search OPEN jobs by keywords
+     *
+     * Endpoint: GET /candidate/jobs/search?q=java+backend&location=Colombo&page=0&size=20
+     * Authorization: CANDIDATE role required
+     *
+     * Ranks matches in title, description and location; returns location
+     * facet counts for refining the search.
+     *
+     * @param q        keywords (optional — blank lists all open jobs)
+     * @param location optional location filter
+     * @param page     zero-based page number (default 0)
+     * @param size     page size (default 20, max 100)
+     * @return ranked search results
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('CANDIDATE')")
+    public ResponseEntity<JobSearchResponse> searchJobs(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String location,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(candidateJobService.searchOpenJobs(q, location, page, size));
+    }
+
     /**
      * Get a specific job by ID
      *
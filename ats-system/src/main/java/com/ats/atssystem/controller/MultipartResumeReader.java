@@ -0,0 +1,114 @@
+package com.ats.atssystem.controller;
+
+import com.ats.atssystem.exception.ResumeTooLargeException;
+import com.ats.atssystem.service.ResumeStorageService;
+import com.ats.atssystem.service.ResumeUpload;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.tomcat.util.http.fileupload.FileItemIterator;
+import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.FileUpload;
+import org.apache.tomcat.util.http.fileupload.FileUploadException;
+import org.apache.tomcat.util.http.fileupload.impl.SizeException;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletRequestContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads a multipart/form-data apply request as a stream.
+ *
+ * Servlet multipart handling is switched off (spring.servlet.multipart.enabled
+ * = false), so the container neither buffers parts in memory nor spools
+ * them to its temp directory before the controller runs. Instead the
+ * multipart parser bundled with Tomcat walks the request body part by part:
+ *
+ * - small form fields (jobId, ...) are collected as they arrive
+ * - the "file" part is handed over as a live stream, to be consumed once
+ *
+ * Form fields must therefore come BEFORE the file part (browsers and
+ * Postman send parts in form order). Anything after the file is ignored.
+ *
+ * The parser caps the number of parts, each part it hands out and the
+ * whole body. Parts the handler never reads (an extra file, an unknown
+ * field) are drained by the parser outside the per-part cap, so the body
+ * cap is what bounds them.
+ *
+ * The Servlet Part API is not an alternative here: getParts() only returns
+ * once the container has read (and spooled) the whole body.
+ */
+final class MultipartResumeReader {
+
+    /** Name of the resume part */
+    static final String FILE_PART = "file";
+
+    /** Fields are ids and keys; anything longer is not a legitimate value */
+    private static final int MAX_FIELD_BYTES = 1024;
+
+    /** Fields plus the file; more parts than this are rejected by the parser */
+    private static final long MAX_PARTS = 16;
+
+    /**
+     * Largest part the parser accepts. One read buffer above the resume
+     * limit, so an oversized resume is still stopped (and reported) by
+     * ResumeStorageService, which reads it in chunks of up to 64 KB.
+     */
+    private static final long MAX_PART_BYTES = ResumeStorageService.MAX_FILE_SIZE_BYTES + 64 * 1024;
+
+    /** Whole body: one resume plus MAX_PARTS fields with their headers and boundaries */
+    private static final long MAX_REQUEST_BYTES = MAX_PART_BYTES + MAX_PARTS * (MAX_FIELD_BYTES + 1024);
+
+    private MultipartResumeReader() {
+    }
+
+    /** Receives the fields sent before the file and the file itself */
+    interface ResumeHandler<T> {
+        T handle(Map<String, String> fields, ResumeUpload resume);
+    }
+
+    /**
+     * Streams the request body and calls the handler once the file part
+     * starts. The handler must read the upload before returning.
+     *
+     * @throws IllegalArgumentException if the body is malformed, a field is
+     *                                  too long, or there is no file part
+     * @throws ResumeTooLargeException  if the body or a part exceeds the parser's caps
+     */
+    static <T> T read(HttpServletRequest request, ResumeHandler<T> handler) throws IOException {
+        FileUpload parser = new FileUpload();
+        parser.setFileCountMax(MAX_PARTS);
+        parser.setFileSizeMax(MAX_PART_BYTES);
+        parser.setSizeMax(MAX_REQUEST_BYTES);
+
+        Map<String, String> fields = new HashMap<>();
+        try {
+            FileItemIterator parts = parser.getItemIterator(new ServletRequestContext(request));
+            while (parts.hasNext()) {
+                FileItemStream part = parts.next();
+                if (part.isFormField()) {
+                    fields.put(part.getFieldName(), readField(part));
+                } else if (FILE_PART.equals(part.getFieldName())) {
+                    return handler.handle(fields,
+                            new ResumeUpload(part.getName(), part.getContentType(), part.openStream()));
+                }
+            }
+        } catch (SizeException e) {
+            throw new ResumeTooLargeException(ResumeStorageService.MAX_FILE_SIZE_BYTES);
+        } catch (FileUploadException e) {
+            throw new IllegalArgumentException("Malformed multipart request: " + e.getMessage(), e);
+        }
+        throw new IllegalArgumentException("Resume file is required (multipart part \"" + FILE_PART + "\").");
+    }
+
+    private static String readField(FileItemStream part) throws IOException {
+        try (InputStream in = part.openStream()) {
+            byte[] value = in.readNBytes(MAX_FIELD_BYTES + 1);
+            if (value.length > MAX_FIELD_BYTES) {
+                throw new IllegalArgumentException("Form field '" + part.getFieldName() + "' is too long.");
+            }
+            return new String(value, StandardCharsets.UTF_8).strip();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ats.atssystem.controller;
+
+import com.ats.atssystem.dto.FunnelStatsDTO;
+import com.ats.atssystem.service.FunnelAnalyticsService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Controller for recruiter hiring-funnel analytics.
+ *
+ * All figures cover the authenticated recruiter's own jobs only.
+ * Dates are ISO (yyyy-MM-dd), inclusive, and default to the last 30 days.
+ */
+@PreAuthorize("hasRole('RECRUITER')")
+@RestController
+@RequestMapping("/recruiter/analytics")
+public class RecruiterAnalyticsController {
+
+    private final FunnelAnalyticsService funnelAnalyticsService;
+
+    public RecruiterAnalyticsController(FunnelAnalyticsService funnelAnalyticsService) {
+        this.funnelAnalyticsService = funnelAnalyticsService;
+    }
+
+    /**
+     * Funnel across all my jobs, or for one of them.
+     *
+     * GET /recruiter/analytics/funnel?jobId=12&from=2024-01-01&to=2024-03-31
+     *
+     * Security:
+     * - jobId must belong to the recruiter
+     */
+    @GetMapping("/funnel")
+    public FunnelStatsDTO getMyFunnel(
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return funnelAnalyticsService.getMyFunnel(jobId, from, to);
+    }
+
+    /**
+     * One funnel per job with activity in the range.
+     *
+     * GET /recruiter/analytics/funnel/jobs?from=2024-01-01&to=2024-03-31
+     */
+    @GetMapping("/funnel/jobs")
+    public List<FunnelStatsDTO> getMyFunnelsByJob(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return funnelAnalyticsService.getMyFunnelsByJob(from, to);
+    }
+}
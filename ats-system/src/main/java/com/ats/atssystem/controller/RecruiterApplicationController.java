@@ -1,16 +1,22 @@
 package com.ats.atssystem.controller;
 
+import com.ats.atssystem.dto.ApplicationStatusEventDTO;
+import com.ats.atssystem.dto.BulkStatusUpdateRequest;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse;
 import com.ats.atssystem.dto.UpdateApplicationStatusDTO;
 import com.ats.atssystem.service.ApplicationService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 /**
  * Controller for recruiter operations on applications.
  *
  * Phase R4: Application Status Management
- * - Update application status (SHORTLIST, REJECT, HIRE)
+ * - Update application status (SHORTLIST, REJECT, HIRE), singly or in bulk
+ * - View an application's status history
  */
 @PreAuthorize("hasRole('RECRUITER')")
 @RestController
@@ -30,7 +36,8 @@ public class RecruiterApplicationController {
      *
      * Body:
      * {
-     *   "status": "SHORTLISTED" | "REJECTED" | "HIRED"
+     *   "status": "SHORTLISTED" | "REJECTED" | "HIRED",
+     *   "version": 3        (optional: the version the recruiter last saw)
      * }
      *
      * Valid transitions:
@@ -42,13 +49,51 @@ public class RecruiterApplicationController {
      * Security:
      * - Only job owner can update application status
      * - Invalid transitions are rejected
+     * - 409 Conflict, with the current status and version, if the application
+     *   was changed concurrently or "version" is out of date
      */
     @PutMapping("/{applicationId}/status")
     public ResponseEntity<String> updateApplicationStatus(
             @PathVariable Long applicationId,
             @RequestBody UpdateApplicationStatusDTO statusDTO
     ) {
-        applicationService.updateApplicationStatus(applicationId, statusDTO.getStatus());
+        applicationService.updateApplicationStatus(applicationId, statusDTO.getStatus(), statusDTO.getVersion());
         return ResponseEntity.ok("Application status updated successfully");
     }
-}
\ No newline at end of file
+
+    /**
+     * Update the status of many applications at once.
+     *
+     * PUT /recruiter/applications/status
+     *
+     * Body:
+     * {
+     *   "applicationIds": [101, 102, 103],
+     *   "status": "REJECTED"
+     * }
+     *
+     * Returns one result per id (UPDATED, NOT_FOUND, ACCESS_DENIED,
+     * INVALID_TRANSITION or CONFLICT) plus totals. Entries that fail do not
+     * stop the others. At most 5000 ids per request.
+     */
+    @PutMapping("/status")
+    public BulkStatusUpdateResponse updateApplicationStatuses(@RequestBody BulkStatusUpdateRequest request) {
+        return applicationService.updateApplicationStatuses(request.getApplicationIds(), request.getStatus());
+    }
+
+    /**
+     * Status history of an application, oldest first.
+     *
+     * GET /recruiter/applications/{applicationId}/history
+     *
+     * Each entry carries fromStatus → toStatus, when it happened, and
+     * secondsInPreviousStatus (time spent in fromStatus).
+     *
+     * Security:
+     * - Only job owner can view the history
+     */
+    @GetMapping("/{applicationId}/history")
+    public List<ApplicationStatusEventDTO> getStatusHistory(@PathVariable Long applicationId) {
+        return applicationService.getStatusHistory(applicationId);
+    }
+}
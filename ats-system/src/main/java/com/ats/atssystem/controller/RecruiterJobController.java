@@ -1,9 +1,13 @@
 package com.ats.atssystem.controller;
 
 import com.ats.atssystem.dto.ApplicantDTO;
+import com.ats.atssystem.dto.ApplicantPageDTO;
+import com.ats.atssystem.dto.ApplicantSort;
+import com.ats.atssystem.model.ApplicationStatus;
 import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
 import com.ats.atssystem.service.JobService;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -49,11 +53,46 @@ public class RecruiterJobController {
      * - Email
      * - Application status
      * - Applied date
+     * - Resume match score (null until the resume has been scored)
+     *
+     * ?sort=score ranks applicants by how well their resume matches the job
+     * description (default: sort=applied, application order).
      *
      * Security: Only the job owner can view applicants
      */
     @GetMapping("/{jobId}/applicants")
-    public List<ApplicantDTO> getApplicantsForJob(@PathVariable Long jobId) {
-        return jobService.getApplicantsForJob(jobId);
+    public List<ApplicantDTO> getApplicantsForJob(
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "applied") String sort
+    ) {
+        return jobService.getApplicantsForJob(jobId, ApplicantSort.from(sort));
+    }
+
+    /**
+     * Get one page of applicants for a specific job (keyset pagination).
+     *
+     * GET /recruiter/jobs/{jobId}/applicants/page?status=SHORTLISTED&limit=20&order=desc&cursor=...
+     *
+     * - status: optional ApplicationStatus filter
+     * - limit:  page size (default 20, max 100)
+     * - order:  asc | desc on appliedAt (default asc)
+     * - cursor: nextCursor from the previous page; omit for the first page
+     *
+     * Response size and latency stay flat regardless of how many applicants
+     * the job has. The unpaginated /applicants endpoint above remains
+     * available for existing clients.
+     *
+     * Security: Only the job owner can view applicants
+     */
+    @GetMapping("/{jobId}/applicants/page")
+    public ApplicantPageDTO getApplicantsPage(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(defaultValue = "asc") String order
+    ) {
+        Sort.Direction direction = Sort.Direction.fromString(order);
+        return jobService.getApplicantsPage(jobId, status, cursor, limit, direction);
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,23 @@
 package com.ats.atssystem.controller;
 
+import com.ats.atssystem.dto.ResumeSearchResponse;
 import com.ats.atssystem.service.ResumeDownloadService;
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import com.ats.atssystem.service.ResumeDownloadService.ResumeFile;
+import com.ats.atssystem.service.ResumeSearchService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+
 /**
  * Controller for recruiter operations on resumes.
  *
  * Phase R3: Resume Download
  * - Download resume for an application
+ * - Full-text search over resumes submitted to my jobs
  */
 @PreAuthorize("hasRole('RECRUITER')")
 @RestController
@@ -20,9 +25,38 @@ import org.springframework.web.bind.annotation.*;
 public class RecruiterResumeController {
 
     private final ResumeDownloadService resumeDownloadService;
+    private final ResumeSearchService resumeSearchService;
 
-    public RecruiterResumeController(ResumeDownloadService resumeDownloadService) {
+    public RecruiterResumeController(ResumeDownloadService resumeDownloadService,
+                                     ResumeSearchService resumeSearchService) {
         this.resumeDownloadService = resumeDownloadService;
+        this.resumeSearchService = resumeSearchService;
+    }
+
+    /**
+     * Search resumes by keywords.
+     *
+     * GET /recruiter/resumes/search?q=spring+kafka&jobId=12&page=0&size=20
+     *
+     * Security:
+     * - Only resumes submitted to the recruiter's own jobs are searched
+     *
+     * Ranks matches in the resume text and file name. Text is extracted in
+     * the background, so very recent resumes may not be found yet.
+     *
+     * @param q     keywords
+     * @param jobId optional job filter
+     * @param page  zero-based page number (default 0)
+     * @param size  page size (default 20, max 100)
+     * @return ranked search results
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ResumeSearchResponse> searchResumes(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Long jobId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(resumeSearchService.searchMyResumes(q, jobId, page, size));
     }
 
     /**
@@ -33,19 +67,20 @@ public class RecruiterResumeController {
      * Security:
      * - Only the job owner can download resumes for their job applications
      *
+     * HTTP caching and partial content:
+     * - Strong ETag (SHA-256 of the file) and Last-Modified; repeat views
+     *   with If-None-Match / If-Modified-Since get 304 Not Modified
+     * - Range requests (single range, If-Range aware) get 206 Partial Content
+     * - The body is sent zero-copy (sendfile / FileChannel.transferTo)
+     *
      * @param resumeId the ID of the resume to download
-     * @return the resume file as a downloadable resource
      */
     @GetMapping("/{resumeId}/download")
-    public ResponseEntity<Resource> downloadResume(@PathVariable Long resumeId) {
-
-        Resource resource = resumeDownloadService.getResumeFile(resumeId);
-        String fileName = resumeDownloadService.getResumeFileName(resumeId);
+    public void downloadResume(@PathVariable Long resumeId,
+                               HttpServletRequest request,
+                               HttpServletResponse response) throws IOException {
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_PDF)
-                .header(HttpHeaders.CONTENT_DISPOSITION,
-                        "attachment; filename=\"" + fileName + "\"")
-                .body(resource);
+        ResumeFile file = resumeDownloadService.getResumeFile(resumeId);
+        FileDownloadResponder.respond(file, request, response);
     }
 }
\ No newline at end of file
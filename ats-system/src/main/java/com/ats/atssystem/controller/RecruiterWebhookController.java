@@ -0,0 +1,61 @@
+package com.ats.atssystem.controller;
+
+import com.ats.atssystem.dto.WebhookEndpointDTO;
+import com.ats.atssystem.dto.WebhookRegistrationRequest;
+import com.ats.atssystem.service.WebhookService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controller for recruiter webhook registrations.
+ *
+ * Registered endpoints receive application.submitted and
+ * application.status-changed events for the recruiter's jobs, batched
+ * and signed (X-Ats-Signature: t=<unix seconds>,v1=<HMAC-SHA256 of
+ * "<t>.<body>" with the endpoint secret>).
+ */
+@PreAuthorize("hasRole('RECRUITER')")
+@RestController
+@RequestMapping("/recruiter/webhooks")
+public class RecruiterWebhookController {
+
+    private final WebhookService webhookService;
+
+    public RecruiterWebhookController(WebhookService webhookService) {
+        this.webhookService = webhookService;
+    }
+
+    /**
+     * Register an endpoint.
+     *
+     * POST /recruiter/webhooks
+     * { "url": "https://hr.example.com/ats", "events": ["application.submitted"] }
+     *
+     * Response: 201 Created, including the signing secret (shown only here)
+     */
+    @PostMapping
+    public ResponseEntity<WebhookEndpointDTO> register(@RequestBody WebhookRegistrationRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(webhookService.register(request));
+    }
+
+    /**
+     * GET /recruiter/webhooks
+     */
+    @GetMapping
+    public List<WebhookEndpointDTO> getMyWebhooks() {
+        return webhookService.getMyWebhooks();
+    }
+
+    /**
+     * DELETE /recruiter/webhooks/{endpointId}
+     */
+    @DeleteMapping("/{endpointId}")
+    public ResponseEntity<Void> deleteWebhook(@PathVariable Long endpointId) {
+        webhookService.deleteWebhook(endpointId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -23,6 +23,12 @@ public class ApplicantDTO {
     private String resumeFileName;
     private Boolean hasResume;
 
+    // Optimistic-locking version; send it back when updating the status
+    private Long version;
+
+    // Resume-to-job fit in [0, 1); null until the resume has been scored
+    private Double matchScore;
+
     // ============================================================
     // Constructors
     // ============================================================
@@ -32,7 +38,7 @@ public class ApplicantDTO {
 
     public ApplicantDTO(Long applicationId, Long candidateId, String candidateName,
                         String candidateEmail, ApplicationStatus status, LocalDateTime appliedAt,
-                        Long resumeId, String resumeFileName, Boolean hasResume) {
+                        Long resumeId, String resumeFileName, Boolean hasResume, Long version) {
         this.applicationId = applicationId;
         this.candidateId = candidateId;
         this.candidateName = candidateName;
@@ -42,6 +48,16 @@ public class ApplicantDTO {
         this.resumeId = resumeId;
         this.resumeFileName = resumeFileName;
         this.hasResume = hasResume;
+        this.version = version;
+    }
+
+    public ApplicantDTO(Long applicationId, Long candidateId, String candidateName,
+                        String candidateEmail, ApplicationStatus status, LocalDateTime appliedAt,
+                        Long resumeId, String resumeFileName, Boolean hasResume, Long version,
+                        Double matchScore) {
+        this(applicationId, candidateId, candidateName, candidateEmail, status, appliedAt,
+                resumeId, resumeFileName, hasResume, version);
+        this.matchScore = matchScore;
     }
 
     // ============================================================
@@ -119,4 +135,20 @@ public class ApplicantDTO {
     public void setHasResume(Boolean hasResume) {
         this.hasResume = hasResume;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Double getMatchScore() {
+        return matchScore;
+    }
+
+    public void setMatchScore(Double matchScore) {
+        this.matchScore = matchScore;
+    }
+}
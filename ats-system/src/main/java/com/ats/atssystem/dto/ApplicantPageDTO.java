@@ -0,0 +1,69 @@
+package com.ats.atssystem.dto;
+
+import java.util.List;
+
+/**
+ * One page of applicants for a job, returned by the keyset-paginated
+ * recruiter endpoint.
+ *
+ * nextCursor is an opaque token encoding the (appliedAt, applicationId)
+ * of the last row on this page. Pass it back as ?cursor= to fetch the
+ * following page; it is null when there are no more rows.
+ */
+public class ApplicantPageDTO {
+
+    private List<ApplicantDTO> applicants;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public ApplicantPageDTO() {
+    }
+
+    public ApplicantPageDTO(List<ApplicantDTO> applicants, String nextCursor, boolean hasMore, int limit) {
+        this.applicants = applicants;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.limit = limit;
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public List<ApplicantDTO> getApplicants() {
+        return applicants;
+    }
+
+    public void setApplicants(List<ApplicantDTO> applicants) {
+        this.applicants = applicants;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
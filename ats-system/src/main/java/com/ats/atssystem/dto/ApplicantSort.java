@@ -0,0 +1,37 @@
+package com.ats.atssystem.dto;
+
+/**
+ * Orderings of the unpaginated recruiter applicant list.
+ *
+ *   - APPLIED: application order (oldest first)
+ *   - SCORE:   best resume-to-job match first; unscored applicants last
+ */
+public enum ApplicantSort {
+
+    APPLIED("applied"),
+    SCORE("score");
+
+    private final String value;
+
+    ApplicantSort(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    /**
+     * Parses a sort name case-insensitively ("applied", "score").
+     *
+     * @throws IllegalArgumentException for unknown orderings
+     */
+    public static ApplicantSort from(String value) {
+        for (ApplicantSort sort : values()) {
+            if (sort.value.equalsIgnoreCase(value)) {
+                return sort;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported applicant sort: " + value + " (use applied or score)");
+    }
+}
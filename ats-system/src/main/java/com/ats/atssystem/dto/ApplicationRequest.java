@@ -4,16 +4,20 @@ package com.ats.atssystem.dto;
  * DTO for the apply-for-job request.
  *
  * Phase 4 change: the resume file is uploaded in the SAME request.
- * The file itself is passed as @RequestParam("file") MultipartFile
- * in the controller — this DTO only carries the jobId.
+ * The file itself is streamed to the service as a ResumeUpload
+ * by the controller — this DTO only carries the jobId.
  *
- * Postman example (multipart/form-data):
+ * Postman example (multipart/form-data, jobId before file):
  *   jobId  → 1
  *   file   → MyResume.pdf
+ *
+ * idempotencyKey comes from the optional Idempotency-Key header: a retry
+ * carrying the same key returns the original application instead of 409.
  */
 public class ApplicationRequest {
 
     private Long jobId;
+    private String idempotencyKey;
 
     public ApplicationRequest() {
     }
@@ -22,6 +26,11 @@ public class ApplicationRequest {
         this.jobId = jobId;
     }
 
+    public ApplicationRequest(Long jobId, String idempotencyKey) {
+        this.jobId = jobId;
+        this.idempotencyKey = idempotencyKey;
+    }
+
     public Long getJobId() {
         return jobId;
     }
@@ -29,4 +38,12 @@ public class ApplicationRequest {
     public void setJobId(Long jobId) {
         this.jobId = jobId;
     }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,111 @@
+package com.ats.atssystem.dto;
+
+import com.ats.atssystem.model.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One application status change from the status event log.
+ *
+ * fromStatus is null for the initial APPLIED event. secondsInPreviousStatus
+ * is filled in for per-application histories only: the time the
+ * application spent in fromStatus before this change.
+ */
+public class ApplicationStatusEventDTO {
+
+    private Long eventId;
+    private Long applicationId;
+    private Long jobId;
+    private Long actorId;
+    private ApplicationStatus fromStatus;
+    private ApplicationStatus toStatus;
+    private LocalDateTime occurredAt;
+    private Long secondsInPreviousStatus;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public ApplicationStatusEventDTO() {
+    }
+
+    public ApplicationStatusEventDTO(Long eventId, Long applicationId, Long jobId, Long actorId,
+                                     ApplicationStatus fromStatus, ApplicationStatus toStatus,
+                                     LocalDateTime occurredAt) {
+        this.eventId = eventId;
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.actorId = actorId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(Long eventId) {
+        this.eventId = eventId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public ApplicationStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(ApplicationStatus fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public ApplicationStatus getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(ApplicationStatus toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public Long getSecondsInPreviousStatus() {
+        return secondsInPreviousStatus;
+    }
+
+    public void setSecondsInPreviousStatus(Long secondsInPreviousStatus) {
+        this.secondsInPreviousStatus = secondsInPreviousStatus;
+    }
+}
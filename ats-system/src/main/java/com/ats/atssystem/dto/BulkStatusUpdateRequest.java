@@ -0,0 +1,47 @@
+package com.ats.atssystem.dto;
+
+import com.ats.atssystem.model.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * DTO for updating the status of many applications at once.
+ * Every listed application is moved to the same target status.
+ */
+public class BulkStatusUpdateRequest {
+
+    private List<Long> applicationIds;
+    private ApplicationStatus status;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public BulkStatusUpdateRequest() {
+    }
+
+    public BulkStatusUpdateRequest(List<Long> applicationIds, ApplicationStatus status) {
+        this.applicationIds = applicationIds;
+        this.status = status;
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public List<Long> getApplicationIds() {
+        return applicationIds;
+    }
+
+    public void setApplicationIds(List<Long> applicationIds) {
+        this.applicationIds = applicationIds;
+    }
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+}
@@ -0,0 +1,132 @@
+package com.ats.atssystem.dto;
+
+import com.ats.atssystem.model.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * Result of a bulk status update: one entry per requested application id,
+ * in request order, plus totals.
+ *
+ * Outcomes:
+ * - UPDATED:            status changed to the target
+ * - NOT_FOUND:          no such application
+ * - ACCESS_DENIED:      the application belongs to another recruiter's job
+ * - INVALID_TRANSITION: previousStatus → target is not allowed
+ * - CONFLICT:           the status changed concurrently; nothing written
+ */
+public class BulkStatusUpdateResponse {
+
+    public enum Outcome {
+        UPDATED,
+        NOT_FOUND,
+        ACCESS_DENIED,
+        INVALID_TRANSITION,
+        CONFLICT
+    }
+
+    private ApplicationStatus status;
+    private int updated;
+    private int failed;
+    private List<Result> results;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public BulkStatusUpdateResponse() {
+    }
+
+    public BulkStatusUpdateResponse(ApplicationStatus status, List<Result> results) {
+        this.status = status;
+        this.results = results;
+        for (Result result : results) {
+            if (result.getOutcome() == Outcome.UPDATED) {
+                updated++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public ApplicationStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ApplicationStatus status) {
+        this.status = status;
+    }
+
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    // ============================================================
+    // Per-application result
+    // ============================================================
+
+    public static class Result {
+
+        private Long applicationId;
+        private Outcome outcome;
+        private ApplicationStatus previousStatus;
+
+        public Result() {
+        }
+
+        public Result(Long applicationId, Outcome outcome, ApplicationStatus previousStatus) {
+            this.applicationId = applicationId;
+            this.outcome = outcome;
+            this.previousStatus = previousStatus;
+        }
+
+        public Long getApplicationId() {
+            return applicationId;
+        }
+
+        public void setApplicationId(Long applicationId) {
+            this.applicationId = applicationId;
+        }
+
+        public Outcome getOutcome() {
+            return outcome;
+        }
+
+        public void setOutcome(Outcome outcome) {
+            this.outcome = outcome;
+        }
+
+        /** Status before the update (null when NOT_FOUND or ACCESS_DENIED) */
+        public ApplicationStatus getPreviousStatus() {
+            return previousStatus;
+        }
+
+        public void setPreviousStatus(ApplicationStatus previousStatus) {
+            this.previousStatus = previousStatus;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ats.atssystem.dto;
+
+/**
+ * Output formats for streamed admin exports.
+ *
+ *   - NDJSON: one JSON object per line (application/x-ndjson)
+ *   - CSV:    header row + one row per record, RFC 4180 quoting (text/csv)
+ */
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parses a format name case-insensitively ("csv", "ndjson").
+     *
+     * @throws IllegalArgumentException for unknown formats
+     */
+    public static ExportFormat from(String value) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value + " (use ndjson or csv)");
+    }
+}
@@ -0,0 +1,173 @@
+package com.ats.atssystem.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Hiring funnel for a date range, system-wide or narrowed to one
+ * recruiter and/or job.
+ *
+ * Counts are events on days within [from, to]:
+ * - applied:     applications received
+ * - shortlisted: APPLIED → SHORTLISTED transitions
+ * - hired / rejected: final decisions
+ *
+ * Rates are ratios of those counts (0 when the denominator is 0):
+ * - shortlistRate       = shortlisted / applied
+ * - hireRate            = hired / applied
+ * - shortlistToHireRate = hired / shortlisted
+ * - rejectionRate       = rejected / applied
+ *
+ * Time to decision is measured from applying to HIRED/REJECTED, in hours;
+ * percentiles are null when no decision fell in the range.
+ */
+public class FunnelStatsDTO {
+    private Long jobId;
+    private Long recruiterId;
+    private LocalDate from;
+    private LocalDate to;
+    private long applied;
+    private long shortlisted;
+    private long hired;
+    private long rejected;
+    private double shortlistRate;
+    private double hireRate;
+    private double shortlistToHireRate;
+    private double rejectionRate;
+    private long decisions;
+    private Double timeToDecisionP50Hours;
+    private Double timeToDecisionP90Hours;
+    private Double timeToDecisionP99Hours;
+
+    public FunnelStatsDTO() {
+    }
+
+    // Getters and Setters
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public void setRecruiterId(Long recruiterId) {
+        this.recruiterId = recruiterId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public long getApplied() {
+        return applied;
+    }
+
+    public void setApplied(long applied) {
+        this.applied = applied;
+    }
+
+    public long getShortlisted() {
+        return shortlisted;
+    }
+
+    public void setShortlisted(long shortlisted) {
+        this.shortlisted = shortlisted;
+    }
+
+    public long getHired() {
+        return hired;
+    }
+
+    public void setHired(long hired) {
+        this.hired = hired;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public double getShortlistRate() {
+        return shortlistRate;
+    }
+
+    public void setShortlistRate(double shortlistRate) {
+        this.shortlistRate = shortlistRate;
+    }
+
+    public double getHireRate() {
+        return hireRate;
+    }
+
+    public void setHireRate(double hireRate) {
+        this.hireRate = hireRate;
+    }
+
+    public double getShortlistToHireRate() {
+        return shortlistToHireRate;
+    }
+
+    public void setShortlistToHireRate(double shortlistToHireRate) {
+        this.shortlistToHireRate = shortlistToHireRate;
+    }
+
+    public double getRejectionRate() {
+        return rejectionRate;
+    }
+
+    public void setRejectionRate(double rejectionRate) {
+        this.rejectionRate = rejectionRate;
+    }
+
+    public long getDecisions() {
+        return decisions;
+    }
+
+    public void setDecisions(long decisions) {
+        this.decisions = decisions;
+    }
+
+    public Double getTimeToDecisionP50Hours() {
+        return timeToDecisionP50Hours;
+    }
+
+    public void setTimeToDecisionP50Hours(Double timeToDecisionP50Hours) {
+        this.timeToDecisionP50Hours = timeToDecisionP50Hours;
+    }
+
+    public Double getTimeToDecisionP90Hours() {
+        return timeToDecisionP90Hours;
+    }
+
+    public void setTimeToDecisionP90Hours(Double timeToDecisionP90Hours) {
+        this.timeToDecisionP90Hours = timeToDecisionP90Hours;
+    }
+
+    public Double getTimeToDecisionP99Hours() {
+        return timeToDecisionP99Hours;
+    }
+
+    public void setTimeToDecisionP99Hours(Double timeToDecisionP99Hours) {
+        this.timeToDecisionP99Hours = timeToDecisionP99Hours;
+    }
+}
@@ -0,0 +1,82 @@
+package com.ats.atssystem.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single ranked result of the candidate job search.
+ * Lean like JobSummaryResponse — open the job for its description.
+ */
+public class JobSearchHit {
+
+    private Long jobsId;
+    private String title;
+    private String location;
+    private String recruiterName;
+    private LocalDateTime createdAt;
+    private double score;
+
+    // ---- Constructors ----
+
+    public JobSearchHit() {
+    }
+
+    public JobSearchHit(Long jobsId, String title, String location, String recruiterName,
+                        LocalDateTime createdAt, double score) {
+        this.jobsId = jobsId;
+        this.title = title;
+        this.location = location;
+        this.recruiterName = recruiterName;
+        this.createdAt = createdAt;
+        this.score = score;
+    }
+
+    // ---- Getters & Setters ----
+
+    public Long getJobsId() {
+        return jobsId;
+    }
+
+    public void setJobsId(Long jobsId) {
+        this.jobsId = jobsId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public String getRecruiterName() {
+        return recruiterName;
+    }
+
+    public void setRecruiterName(String recruiterName) {
+        this.recruiterName = recruiterName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
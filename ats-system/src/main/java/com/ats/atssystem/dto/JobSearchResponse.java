@@ -0,0 +1,86 @@
+package com.ats.atssystem.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of GET /candidate/jobs/search.
+ *
+ * locationFacets counts every job matching the keywords per location
+ * (ignoring the location filter itself), most common first, so the UI
+ * can offer "Colombo (12) · Remote (7)" style refinements.
+ */
+public class JobSearchResponse {
+
+    private String query;
+    private long totalHits;
+    private int page;
+    private int size;
+    private List<JobSearchHit> hits;
+    private Map<String, Long> locationFacets;
+
+    // ---- Constructors ----
+
+    public JobSearchResponse() {
+    }
+
+    public JobSearchResponse(String query, long totalHits, int page, int size,
+                             List<JobSearchHit> hits, Map<String, Long> locationFacets) {
+        this.query = query;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+        this.hits = hits;
+        this.locationFacets = locationFacets;
+    }
+
+    // ---- Getters & Setters ----
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(long totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<JobSearchHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<JobSearchHit> hits) {
+        this.hits = hits;
+    }
+
+    public Map<String, Long> getLocationFacets() {
+        return locationFacets;
+    }
+
+    public void setLocationFacets(Map<String, Long> locationFacets) {
+        this.locationFacets = locationFacets;
+    }
+}
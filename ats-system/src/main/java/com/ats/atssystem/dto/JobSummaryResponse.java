@@ -0,0 +1,85 @@
+package com.ats.atssystem.dto;
+
+import com.ats.atssystem.model.JobStatus;
+import java.time.LocalDateTime;
+
+/**
+ * Lean job card for the candidate browse list.
+ *
+ * Deliberately omits the TEXT description — the full job (including the
+ * description) is only loaded by GET /candidate/jobs/{jobId}.
+ */
+public class JobSummaryResponse {
+
+    private Long jobsId;
+    private String title;
+    private String location;
+    private JobStatus status;
+    private String recruiterName;
+    private LocalDateTime createdAt;
+
+    // ---- Constructors ----
+
+    public JobSummaryResponse() {
+    }
+
+    public JobSummaryResponse(Long jobsId, String title, String location, JobStatus status,
+                              String recruiterName, LocalDateTime createdAt) {
+        this.jobsId = jobsId;
+        this.title = title;
+        this.location = location;
+        this.status = status;
+        this.recruiterName = recruiterName;
+        this.createdAt = createdAt;
+    }
+
+    // ---- Getters & Setters ----
+
+    public Long getJobsId() {
+        return jobsId;
+    }
+
+    public void setJobsId(Long jobsId) {
+        this.jobsId = jobsId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public void setLocation(String location) {
+        this.location = location;
+    }
+
+    public JobStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(JobStatus status) {
+        this.status = status;
+    }
+
+    public String getRecruiterName() {
+        return recruiterName;
+    }
+
+    public void setRecruiterName(String recruiterName) {
+        this.recruiterName = recruiterName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
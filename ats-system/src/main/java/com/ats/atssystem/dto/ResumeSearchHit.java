@@ -0,0 +1,80 @@
+package com.ats.atssystem.dto;
+
+/**
+ * A single ranked result of the recruiter resume search.
+ * Download the resume (GET /recruiter/resumes/{resumeId}/download) for its content.
+ */
+public class ResumeSearchHit {
+
+    private Long resumeId;
+    private Long applicationId;
+    private Long jobId;
+    private String candidateName;
+    private String fileName;
+    private double score;
+
+    // ---- Constructors ----
+
+    public ResumeSearchHit() {
+    }
+
+    public ResumeSearchHit(Long resumeId, Long applicationId, Long jobId, String candidateName,
+                           String fileName, double score) {
+        this.resumeId = resumeId;
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.candidateName = candidateName;
+        this.fileName = fileName;
+        this.score = score;
+    }
+
+    // ---- Getters & Setters ----
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getCandidateName() {
+        return candidateName;
+    }
+
+    public void setCandidateName(String candidateName) {
+        this.candidateName = candidateName;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public void setScore(double score) {
+        this.score = score;
+    }
+}
@@ -0,0 +1,74 @@
+package com.ats.atssystem.dto;
+
+import java.util.List;
+
+/**
+ * Response of GET /recruiter/resumes/search.
+ *
+ * Only resumes submitted to the calling recruiter's jobs are searched.
+ * Text is extracted in the background after each application, so a resume
+ * submitted seconds ago may not be searchable yet.
+ */
+public class ResumeSearchResponse {
+
+    private String query;
+    private long totalHits;
+    private int page;
+    private int size;
+    private List<ResumeSearchHit> hits;
+
+    // ---- Constructors ----
+
+    public ResumeSearchResponse() {
+    }
+
+    public ResumeSearchResponse(String query, long totalHits, int page, int size, List<ResumeSearchHit> hits) {
+        this.query = query;
+        this.totalHits = totalHits;
+        this.page = page;
+        this.size = size;
+        this.hits = hits;
+    }
+
+    // ---- Getters & Setters ----
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public void setTotalHits(long totalHits) {
+        this.totalHits = totalHits;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<ResumeSearchHit> getHits() {
+        return hits;
+    }
+
+    public void setHits(List<ResumeSearchHit> hits) {
+        this.hits = hits;
+    }
+}
@@ -3,16 +3,15 @@ package com.ats.atssystem.dto;
 /**
  * DTO for the resume upload request.
  *
- * The actual file is passed separately as a MultipartFile via @RequestParam.
- * This DTO carries only the applicationId that the resume should be linked to.
+ * Carries only the applicationId that the resume should be linked to; the
+ * file itself is never bound to a DTO or a MultipartFile. Servlet multipart
+ * handling is disabled (spring.servlet.multipart.enabled=false) and the
+ * resume arrives with the apply request:
+ *   POST /candidate/applications  (multipart/form-data: jobId, then file)
+ * where MultipartResumeReader streams the "file" part straight to
+ * ResumeStorageService.
  *
- * Endpoint usage:
- *   POST /candidate/applications/{applicationId}/resume
- *   - applicationId comes from the @PathVariable (not this DTO)
- *   - file comes as @RequestParam("file") MultipartFile
- *
- * This class exists primarily as a clear contract; the controller
- * binds applicationId from the path and file from multipart directly.
+ * This class exists primarily as a clear contract for that link.
  */
 public class ResumeUploadRequest {
 
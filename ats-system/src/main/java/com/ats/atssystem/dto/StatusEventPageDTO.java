@@ -0,0 +1,80 @@
+package com.ats.atssystem.dto;
+
+import java.util.List;
+
+/**
+ * One page of the application status event log.
+ *
+ * Incremental reads (?after=) return nextOffset: the last eventId on the
+ * page, to pass back as ?after= (unchanged when the page is empty).
+ * Time-range reads return nextCursor, an opaque keyset token to pass back
+ * as ?cursor=; it is null when there are no more rows.
+ */
+public class StatusEventPageDTO {
+
+    private List<ApplicationStatusEventDTO> events;
+    private Long nextOffset;
+    private String nextCursor;
+    private boolean hasMore;
+    private int limit;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public StatusEventPageDTO() {
+    }
+
+    public StatusEventPageDTO(List<ApplicationStatusEventDTO> events, Long nextOffset, String nextCursor,
+                              boolean hasMore, int limit) {
+        this.events = events;
+        this.nextOffset = nextOffset;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+        this.limit = limit;
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public List<ApplicationStatusEventDTO> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<ApplicationStatusEventDTO> events) {
+        this.events = events;
+    }
+
+    public Long getNextOffset() {
+        return nextOffset;
+    }
+
+    public void setNextOffset(Long nextOffset) {
+        this.nextOffset = nextOffset;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public void setLimit(int limit) {
+        this.limit = limit;
+    }
+}
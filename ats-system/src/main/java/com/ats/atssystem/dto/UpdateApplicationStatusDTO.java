@@ -5,10 +5,14 @@ import com.ats.atssystem.model.ApplicationStatus;
 /**
  * DTO for updating application status.
  * Used by recruiters to change the status of an application.
+ *
+ * version is optional: when present, the update only applies if the
+ * application is still at that version (otherwise 409 Conflict).
  */
 public class UpdateApplicationStatusDTO {
 
     private ApplicationStatus status;
+    private Long version;
 
     // ============================================================
     // Constructors
@@ -32,4 +36,12 @@ public class UpdateApplicationStatusDTO {
     public void setStatus(ApplicationStatus status) {
         this.status = status;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.ats.atssystem.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a recruiter's webhook endpoint.
+ *
+ * The signing secret is only returned by the registration request;
+ * listings leave it null.
+ */
+public class WebhookEndpointDTO {
+
+    private Long endpointId;
+    private String url;
+    private List<String> events;
+    private LocalDateTime createdAt;
+    private String secret;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public WebhookEndpointDTO() {
+    }
+
+    public WebhookEndpointDTO(Long endpointId, String url, List<String> events,
+                              LocalDateTime createdAt, String secret) {
+        this.endpointId = endpointId;
+        this.url = url;
+        this.events = events;
+        this.createdAt = createdAt;
+        this.secret = secret;
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public Long getEndpointId() {
+        return endpointId;
+    }
+
+    public void setEndpointId(Long endpointId) {
+        this.endpointId = endpointId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public List<String> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<String> events) {
+        this.events = events;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public void setSecret(String secret) {
+        this.secret = secret;
+    }
+}
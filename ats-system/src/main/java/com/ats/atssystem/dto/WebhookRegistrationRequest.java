@@ -0,0 +1,48 @@
+package com.ats.atssystem.dto;
+
+import java.util.List;
+
+/**
+ * DTO for registering a webhook endpoint.
+ * Used for POST /recruiter/webhooks requests.
+ *
+ * events: application.submitted and/or application.status-changed;
+ * omitted or empty subscribes to both.
+ */
+public class WebhookRegistrationRequest {
+
+    private String url;
+    private List<String> events;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public WebhookRegistrationRequest() {
+    }
+
+    public WebhookRegistrationRequest(String url, List<String> events) {
+        this.url = url;
+        this.events = events;
+    }
+
+    // ============================================================
+    // Getters & Setters
+    // ============================================================
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public List<String> getEvents() {
+        return events;
+    }
+
+    public void setEvents(List<String> events) {
+        this.events = events;
+    }
+}
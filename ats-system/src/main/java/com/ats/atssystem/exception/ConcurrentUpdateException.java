@@ -0,0 +1,24 @@
+package com.ats.atssystem.exception;
+
+import java.util.Map;
+
+/**
+ * Thrown when an update loses an optimistic-locking race: the row changed
+ * (its version moved on) between being read and being written, or the
+ * client's expected version is out of date.
+ * Maps to HTTP 409 Conflict; the body carries the current state so the
+ * client can re-evaluate and retry.
+ */
+public class ConcurrentUpdateException extends RuntimeException {
+
+    private final Map<String, Object> currentState;
+
+    public ConcurrentUpdateException(String message, Map<String, Object> currentState) {
+        super(message);
+        this.currentState = currentState;
+    }
+
+    public Map<String, Object> getCurrentState() {
+        return currentState;
+    }
+}
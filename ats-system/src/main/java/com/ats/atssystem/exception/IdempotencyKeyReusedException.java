@@ -0,0 +1,13 @@
+package com.ats.atssystem.exception;
+
+/**
+ * Thrown when an Idempotency-Key is sent again with a different request,
+ * e.g. the same key for an application to another job.
+ * Maps to HTTP 422 Unprocessable Entity.
+ */
+public class IdempotencyKeyReusedException extends RuntimeException {
+
+    public IdempotencyKeyReusedException(Long originalJobId) {
+        super("This Idempotency-Key was already used to apply to job ID: " + originalJobId);
+    }
+}
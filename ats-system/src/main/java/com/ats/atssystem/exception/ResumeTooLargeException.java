@@ -0,0 +1,13 @@
+package com.ats.atssystem.exception;
+
+/**
+ * Thrown as soon as a streamed resume upload passes the size limit; the
+ * rest of the upload is not read.
+ * Maps to HTTP 413 Payload Too Large.
+ */
+public class ResumeTooLargeException extends RuntimeException {
+
+    public ResumeTooLargeException(long maxBytes) {
+        super("Resume file exceeds the maximum allowed size of " + (maxBytes / (1024 * 1024)) + " MB.");
+    }
+}
@@ -0,0 +1,20 @@
+package com.ats.atssystem.exception;
+
+/**
+ * Thrown when a bounded resource (e.g. the password hashing pool) is
+ * saturated and the request is rejected instead of queued.
+ * Maps to HTTP 429 Too Many Requests with a Retry-After header.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
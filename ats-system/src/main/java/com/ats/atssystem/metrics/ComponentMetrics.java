@@ -0,0 +1,106 @@
+package com.ats.atssystem.metrics;
+
+import com.ats.atssystem.outbox.OutboxDispatcher;
+import com.ats.atssystem.security.PasswordHasher;
+import com.ats.atssystem.service.ApplicationStatusStream;
+import com.ats.atssystem.service.ResumeTextIndexer;
+import com.ats.atssystem.webhook.WebhookClient;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the counters the bounded pools and background workers already
+ * keep (their "... METRICS" getters) as gauges and function counters.
+ * Nothing is recorded twice: each value is read from its component when
+ * Prometheus scrapes.
+ */
+@Component
+public class ComponentMetrics implements MeterBinder {
+
+    private final PasswordHasher passwordHasher;
+    private final ResumeTextIndexer resumeTextIndexer;
+    private final ApplicationStatusStream statusStream;
+    private final OutboxDispatcher outboxDispatcher;
+    private final WebhookClient webhookClient;
+
+    public ComponentMetrics(PasswordHasher passwordHasher,
+                            ResumeTextIndexer resumeTextIndexer,
+                            ApplicationStatusStream statusStream,
+                            OutboxDispatcher outboxDispatcher,
+                            WebhookClient webhookClient) {
+        this.passwordHasher = passwordHasher;
+        this.resumeTextIndexer = resumeTextIndexer;
+        this.statusStream = statusStream;
+        this.outboxDispatcher = outboxDispatcher;
+        this.webhookClient = webhookClient;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+
+        // ── BCrypt pool (login, registration) ──────────────────────────
+        gauge(registry, "ats.password.hasher.queue.depth", "Hashing tasks waiting for a thread",
+                passwordHasher, PasswordHasher::getQueueDepth);
+        gauge(registry, "ats.password.hasher.active.threads", "Threads currently hashing",
+                passwordHasher, PasswordHasher::getActiveCount);
+        counter(registry, "ats.password.hasher.rejected", "Hashing tasks rejected with 429",
+                passwordHasher, PasswordHasher::getRejectedCount);
+
+        // ── Resume text extraction ─────────────────────────────────────
+        gauge(registry, "ats.resume.indexer.queue.depth", "Resumes waiting for an extraction thread",
+                resumeTextIndexer, ResumeTextIndexer::getQueueDepth);
+        gauge(registry, "ats.resume.indexer.pending", "Resumes queued or being extracted",
+                resumeTextIndexer, ResumeTextIndexer::getPendingCount);
+        counter(registry, "ats.resume.indexer.indexed", "Resumes whose text was indexed",
+                resumeTextIndexer, ResumeTextIndexer::getIndexedCount);
+        counter(registry, "ats.resume.indexer.dropped", "Resumes not queued because the queue was full",
+                resumeTextIndexer, ResumeTextIndexer::getDroppedCount);
+        counter(registry, "ats.resume.indexer.failed", "Resumes whose text extraction failed",
+                resumeTextIndexer, ResumeTextIndexer::getFailedCount);
+
+        // ── Candidate status streams (SSE) ─────────────────────────────
+        gauge(registry, "ats.status.stream.connections", "Open status streams",
+                statusStream, ApplicationStatusStream::getConnectionCount);
+        counter(registry, "ats.status.stream.delivered", "Status events sent to candidates",
+                statusStream, ApplicationStatusStream::getDeliveredCount);
+        counter(registry, "ats.status.stream.rejected", "Status streams refused at a connection limit",
+                statusStream, ApplicationStatusStream::getRejectedCount);
+
+        // ── Notification outbox ────────────────────────────────────────
+        gauge(registry, "ats.outbox.backlog", "PENDING outbox messages (one COUNT query per scrape)",
+                outboxDispatcher, OutboxDispatcher::getBacklog);
+        gauge(registry, "ats.outbox.in.flight", "Claimed outbox messages whose outcome is not recorded yet",
+                outboxDispatcher, OutboxDispatcher::getInFlightCount);
+        counter(registry, "ats.outbox.delivered", "Outbox messages delivered to every sink",
+                outboxDispatcher, OutboxDispatcher::getDeliveredCount);
+        counter(registry, "ats.outbox.failed.attempts", "Outbox delivery attempts that failed",
+                outboxDispatcher, OutboxDispatcher::getFailedAttemptCount);
+        counter(registry, "ats.outbox.dead", "Outbox messages marked DEAD",
+                outboxDispatcher, OutboxDispatcher::getDeadCount);
+
+        // ── Recruiter webhooks ─────────────────────────────────────────
+        FunctionCounter.builder("ats.webhook.requests", webhookClient, WebhookClient::getSentCount)
+                .description("Webhook requests by result").tag("result", "success").register(registry);
+        FunctionCounter.builder("ats.webhook.requests", webhookClient, WebhookClient::getFailedCount)
+                .description("Webhook requests by result").tag("result", "failure").register(registry);
+        FunctionCounter.builder("ats.webhook.requests", webhookClient, WebhookClient::getShortCircuitedCount)
+                .description("Webhook requests by result").tag("result", "short_circuited").register(registry);
+        gauge(registry, "ats.webhook.open.circuits", "Webhook endpoints with an open circuit breaker",
+                webhookClient, WebhookClient::getOpenCircuitCount);
+    }
+
+    private static <T> void gauge(MeterRegistry registry, String name, String description,
+                                  T component, ToDoubleFunction<T> value) {
+        Gauge.builder(name, component, value).description(description).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, String description,
+                                    T component, ToDoubleFunction<T> value) {
+        FunctionCounter.builder(name, component, value).description(description).register(registry);
+    }
+}
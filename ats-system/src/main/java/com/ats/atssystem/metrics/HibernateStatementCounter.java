@@ -0,0 +1,99 @@
+package com.ats.atssystem.metrics;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Records the SQL statements Hibernate prepares per HTTP request, as
+ * ats.http.server.requests.statements tagged with the same method and uri
+ * as Spring's http.server.requests timer.
+ *
+ * Registered as Hibernate's statement inspector (it sees every statement
+ * before it is prepared, including native queries; a JDBC batch counts
+ * once) and as a handler of the server request observation. Counting is
+ * on only while that observation's scope is open on the current thread,
+ * so statements run by background jobs, or by work a request hands to a
+ * pool (BCrypt, text extraction), are not counted. Asynchronous requests
+ * (login, the status stream) are recorded when their response completes.
+ */
+@Component
+public class HibernateStatementCounter
+        implements StatementInspector, HibernatePropertiesCustomizer, ObservationHandler<ServerRequestObservationContext> {
+
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+
+    private final MeterRegistry meterRegistry;
+
+    public HibernateStatementCounter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    // ============================================================
+    // Request observation
+    // ============================================================
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof ServerRequestObservationContext;
+    }
+
+    @Override
+    public void onStart(ServerRequestObservationContext context) {
+        context.put(long[].class, new long[1]);
+    }
+
+    /** Request and async dispatch threads: count into this request's total */
+    @Override
+    public void onScopeOpened(ServerRequestObservationContext context) {
+        COUNT.set(context.get(long[].class));
+    }
+
+    @Override
+    public void onScopeClosed(ServerRequestObservationContext context) {
+        COUNT.remove();
+    }
+
+    @Override
+    public void onStop(ServerRequestObservationContext context) {
+        long[] count = context.get(long[].class);
+        if (count == null) {
+            return;
+        }
+        DistributionSummary.builder("ats.http.server.requests.statements")
+                .description("SQL statements prepared per request")
+                .tag("method", tagValue(context, "method"))
+                .tag("uri", tagValue(context, "uri"))
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 5000)
+                .register(meterRegistry)
+                .record(count[0]);
+    }
+
+    private static String tagValue(ServerRequestObservationContext context, String key) {
+        KeyValue keyValue = context.getLowCardinalityKeyValue(key);
+        return keyValue != null ? keyValue.getValue() : "UNKNOWN";
+    }
+}
@@ -12,8 +12,16 @@ import java.time.LocalDateTime;
  *   - candidate_id   BIGINT (FK → users.user_id)
  *   - status         ENUM   (ApplicationStatus — starts as APPLIED)
  *   - applied_at     TIMESTAMP (auto-set on creation)
+ *   - version        BIGINT (optimistic locking; bumped on every update)
+ *   - idempotency_key VARCHAR(64) (client's Idempotency-Key, NULL if none sent)
  *
- * Unique constraint: one application per (candidate, job) pair.
+ * Unique constraints:
+ *   - uk_candidate_job             one application per (candidate, job) pair
+ *   - uk_candidate_idempotency_key one application per (candidate, key) pair
+ *
+ * Indexes (recruiter applicant list, keyset-paginated):
+ *   - idx_applications_job_applied        (jobs_id, applied_at, application_id)
+ *   - idx_applications_job_status_applied (jobs_id, status, applied_at, application_id)
  */
 @Entity
 @Table(
@@ -22,7 +30,17 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(
                         name = "uk_candidate_job",
                         columnNames = {"candidate_id", "jobs_id"}
+                ),
+                @UniqueConstraint(
+                        name = "uk_candidate_idempotency_key",
+                        columnNames = {"candidate_id", "idempotency_key"}
                 )
+        },
+        indexes = {
+                @Index(name = "idx_applications_job_applied",
+                        columnList = "jobs_id, applied_at, application_id"),
+                @Index(name = "idx_applications_job_status_applied",
+                        columnList = "jobs_id, status, applied_at, application_id")
         }
 )
 public class Application {
@@ -51,6 +69,15 @@ public class Application {
     @Column(name = "applied_at", nullable = false, updatable = false)
     private LocalDateTime appliedAt;
 
+    // ---- Optimistic locking: concurrent status changes cannot both win ----
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    // ---- Idempotency-Key of the request that created the row (optional) ----
+    @Column(name = "idempotency_key", length = 64, updatable = false)
+    private String idempotencyKey;
+
     // ---- Pre-persist hook: set defaults before INSERT ----
     @PrePersist
     protected void onCreate() {
@@ -117,4 +144,16 @@ public class Application {
     public void setAppliedAt(LocalDateTime appliedAt) {
         this.appliedAt = appliedAt;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+}
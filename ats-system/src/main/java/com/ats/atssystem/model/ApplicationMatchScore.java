@@ -0,0 +1,60 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Cached fit between an application's resume and the job it was submitted to.
+ *
+ * Computed by MatchScoringService once the resume text is extracted, and
+ * joined into the recruiter applicant lists so they can be ranked by fit
+ * without re-reading any resume.
+ *
+ * Maps to the 'application_match_scores' table:
+ *   - application_id BIGINT    (PK, = applications.application_id)
+ *   - score          DOUBLE    (0 = no overlap, approaching 1 = covers the whole job text)
+ *   - scored_at      TIMESTAMP
+ */
+@Entity
+@Table(name = "application_match_scores")
+public class ApplicationMatchScore {
+
+    @Id
+    @Column(name = "application_id")
+    private Long applicationId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public ApplicationMatchScore() {
+    }
+
+    public ApplicationMatchScore(Long applicationId, double score, LocalDateTime scoredAt) {
+        this.applicationId = applicationId;
+        this.score = score;
+        this.scoredAt = scoredAt;
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
+}
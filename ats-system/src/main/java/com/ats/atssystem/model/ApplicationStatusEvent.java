@@ -0,0 +1,113 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry in the append-only application status log.
+ *
+ * Written in the same transaction as the status change it records, never
+ * updated or deleted. Rows are deliberately compact: ids, the two status
+ * names and a timestamp.
+ *
+ * Maps to the 'application_status_events' table:
+ *   - event_id       BIGINT   (PK, auto-increment; readers use it as an offset)
+ *   - application_id BIGINT
+ *   - jobs_id        BIGINT   (denormalized for per-job scans)
+ *   - actor_id       BIGINT   (user who made the change)
+ *   - from_status    VARCHAR  (ApplicationStatus name, NULL for the initial APPLIED)
+ *   - to_status      VARCHAR  (ApplicationStatus name)
+ *   - occurred_at    DATETIME
+ *
+ * Indexes:
+ *   - idx_status_events_occurred    (occurred_at, event_id)     → time-range scans
+ *   - idx_status_events_application (application_id, event_id) → one application's history
+ */
+@Entity
+@Immutable
+@Table(
+        name = "application_status_events",
+        indexes = {
+                @Index(name = "idx_status_events_occurred", columnList = "occurred_at, event_id"),
+                @Index(name = "idx_status_events_application", columnList = "application_id, event_id")
+        }
+)
+public class ApplicationStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    @Column(name = "jobs_id", nullable = false)
+    private Long jobsId;
+
+    @Column(name = "actor_id", nullable = false)
+    private Long actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private ApplicationStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private ApplicationStatus toStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public ApplicationStatusEvent() {
+    }
+
+    public ApplicationStatusEvent(Long applicationId, Long jobsId, Long actorId,
+                                  ApplicationStatus fromStatus, ApplicationStatus toStatus,
+                                  LocalDateTime occurredAt) {
+        this.applicationId = applicationId;
+        this.jobsId = jobsId;
+        this.actorId = actorId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Long getEventId() {
+        return eventId;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public Long getJobsId() {
+        return jobsId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public ApplicationStatus getFromStatus() {
+        return fromStatus;
+    }
+
+    public ApplicationStatus getToStatus() {
+        return toStatus;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
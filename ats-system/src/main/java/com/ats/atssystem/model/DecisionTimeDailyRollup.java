@@ -0,0 +1,120 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Daily histogram of time-to-decision (applied → HIRED/REJECTED) for one job.
+ *
+ * Each decision increments one bucket on the day it was made; bucket
+ * bounds are defined by DecisionTimeHistogram. Summing buckets over any
+ * date range gives a histogram from which percentiles are read.
+ *
+ * Maps to the 'application_decision_time_daily' table:
+ *   - activity_date DATE   (PK, day of the decision)
+ *   - jobs_id       BIGINT (PK)
+ *   - bucket        INT    (PK, index into DecisionTimeHistogram bounds)
+ *   - recruiter_id  BIGINT (job owner, denormalized)
+ *   - decisions     INT
+ *
+ * Indexes:
+ *   - idx_decision_daily_job       (jobs_id, activity_date)
+ *   - idx_decision_daily_recruiter (recruiter_id, activity_date)
+ */
+@Entity
+@Table(
+        name = "application_decision_time_daily",
+        indexes = {
+                @Index(name = "idx_decision_daily_job", columnList = "jobs_id, activity_date"),
+                @Index(name = "idx_decision_daily_recruiter", columnList = "recruiter_id, activity_date")
+        }
+)
+public class DecisionTimeDailyRollup {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "recruiter_id", nullable = false)
+    private Long recruiterId;
+
+    @Column(name = "decisions", nullable = false)
+    private int decisions;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public DecisionTimeDailyRollup() {
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Key getId() {
+        return id;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public int getDecisions() {
+        return decisions;
+    }
+
+    // ============================================================
+    // Primary key
+    // ============================================================
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "activity_date", nullable = false)
+        private LocalDate activityDate;
+
+        @Column(name = "jobs_id", nullable = false)
+        private Long jobsId;
+
+        @Column(name = "bucket", nullable = false)
+        private int bucket;
+
+        public Key() {
+        }
+
+        public Key(LocalDate activityDate, Long jobsId, int bucket) {
+            this.activityDate = activityDate;
+            this.jobsId = jobsId;
+            this.bucket = bucket;
+        }
+
+        public LocalDate getActivityDate() {
+            return activityDate;
+        }
+
+        public Long getJobsId() {
+            return jobsId;
+        }
+
+        public int getBucket() {
+            return bucket;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return bucket == key.bucket
+                    && Objects.equals(activityDate, key.activityDate)
+                    && Objects.equals(jobsId, key.jobsId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(activityDate, jobsId, bucket);
+        }
+    }
+}
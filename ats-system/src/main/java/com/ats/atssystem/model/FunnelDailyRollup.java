@@ -0,0 +1,130 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Daily hiring-funnel counters for one job.
+ *
+ * One row per (activity_date, jobs_id), incremented in the same transaction
+ * as the application change it counts; analytics sum these rows instead of
+ * scanning applications.
+ *
+ * Maps to the 'application_funnel_daily' table:
+ *   - activity_date DATE   (PK, day the event happened)
+ *   - jobs_id       BIGINT (PK)
+ *   - recruiter_id  BIGINT (job owner, denormalized for per-recruiter sums)
+ *   - applied, shortlisted, hired, rejected INT
+ *
+ * Indexes:
+ *   - idx_funnel_daily_job       (jobs_id, activity_date)
+ *   - idx_funnel_daily_recruiter (recruiter_id, activity_date)
+ */
+@Entity
+@Table(
+        name = "application_funnel_daily",
+        indexes = {
+                @Index(name = "idx_funnel_daily_job", columnList = "jobs_id, activity_date"),
+                @Index(name = "idx_funnel_daily_recruiter", columnList = "recruiter_id, activity_date")
+        }
+)
+public class FunnelDailyRollup {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "recruiter_id", nullable = false)
+    private Long recruiterId;
+
+    @Column(name = "applied", nullable = false)
+    private int applied;
+
+    @Column(name = "shortlisted", nullable = false)
+    private int shortlisted;
+
+    @Column(name = "hired", nullable = false)
+    private int hired;
+
+    @Column(name = "rejected", nullable = false)
+    private int rejected;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public FunnelDailyRollup() {
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Key getId() {
+        return id;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public int getShortlisted() {
+        return shortlisted;
+    }
+
+    public int getHired() {
+        return hired;
+    }
+
+    public int getRejected() {
+        return rejected;
+    }
+
+    // ============================================================
+    // Primary key
+    // ============================================================
+
+    @Embeddable
+    public static class Key implements Serializable {
+
+        @Column(name = "activity_date", nullable = false)
+        private LocalDate activityDate;
+
+        @Column(name = "jobs_id", nullable = false)
+        private Long jobsId;
+
+        public Key() {
+        }
+
+        public Key(LocalDate activityDate, Long jobsId) {
+            this.activityDate = activityDate;
+            this.jobsId = jobsId;
+        }
+
+        public LocalDate getActivityDate() {
+            return activityDate;
+        }
+
+        public Long getJobsId() {
+            return jobsId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key key)) return false;
+            return Objects.equals(activityDate, key.activityDate) && Objects.equals(jobsId, key.jobsId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(activityDate, jobsId);
+        }
+    }
+}
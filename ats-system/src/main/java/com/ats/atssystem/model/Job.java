@@ -1,10 +1,19 @@
 package com.ats.atssystem.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "jobs")
+@Table(
+        name = "jobs",
+        indexes = {
+                // Candidate browse: WHERE status = ? ORDER BY created_at DESC
+                @Index(name = "idx_jobs_status_created", columnList = "status, created_at"),
+                // Admin listing: title prefix filter
+                @Index(name = "idx_jobs_title", columnList = "title")
+        }
+)
 public class Job {
 
     @Id
@@ -32,6 +41,12 @@ public class Job {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // Optimistic locking; managed by Hibernate, never taken from request bodies
+    @Version
+    @Column(name = "version", nullable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private Long version;
+
     // ---- Constructors ----
 
     public Job() {
@@ -103,4 +118,8 @@ public class Job {
     public void setCreatedAt(LocalDateTime createdAt) {
         this.createdAt = createdAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
 }
@@ -0,0 +1,72 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * The resume corpus statistics a job's applicants are match-scored against.
+ *
+ * Captured from the resume search index when the job's first applicant is
+ * scored and never changed afterwards, so every later score of that job —
+ * on any node, after any restart — uses the same IDF and is on the same
+ * scale (see MatchScoringService).
+ *
+ * Maps to the 'job_match_statistics' table:
+ *   - job_id               BIGINT   (PK, = jobs.jobs_id)
+ *   - document_count       INT      (indexed resumes at capture time)
+ *   - average_length       DOUBLE   (average resume length in terms)
+ *   - document_frequencies LONGTEXT (one "term count" line per job term)
+ *   - captured_at          TIMESTAMP
+ */
+@Entity
+@Table(name = "job_match_statistics")
+public class JobMatchStatistics {
+
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Column(name = "document_count", nullable = false)
+    private int documentCount;
+
+    @Column(name = "average_length", nullable = false)
+    private double averageLength;
+
+    @Lob
+    @Column(name = "document_frequencies", nullable = false)
+    private String documentFrequencies;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public JobMatchStatistics() {
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public int getDocumentCount() {
+        return documentCount;
+    }
+
+    public double getAverageLength() {
+        return averageLength;
+    }
+
+    public String getDocumentFrequencies() {
+        return documentFrequencies;
+    }
+
+    public LocalDateTime getCapturedAt() {
+        return capturedAt;
+    }
+}
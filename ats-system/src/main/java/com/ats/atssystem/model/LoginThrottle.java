@@ -0,0 +1,71 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+
+/**
+ * Shared login-throttle state, one row per login key (email).
+ *
+ * Read and written only by JdbcLoginThrottleStore with plain SQL; it is
+ * mapped here so the schema is validated with the rest of the model.
+ *
+ * Maps to the 'login_throttles' table:
+ *   - throttle_key VARCHAR(255) (PK, login email)
+ *   - failures     INT          (failures in the current window)
+ *   - window_start BIGINT       (epoch millis of the first failure in the window)
+ *   - locked_until BIGINT       (epoch millis, 0 when not locked)
+ *   - expires_at   BIGINT       (epoch millis after which the row can be purged)
+ */
+@Entity
+@Table(
+        name = "login_throttles",
+        indexes = @Index(name = "idx_login_throttles_expires", columnList = "expires_at")
+)
+public class LoginThrottle {
+
+    @Id
+    @Column(name = "throttle_key", length = 255)
+    private String throttleKey;
+
+    @Column(name = "failures", nullable = false)
+    private int failures;
+
+    @Column(name = "window_start", nullable = false)
+    private long windowStart;
+
+    @Column(name = "locked_until", nullable = false)
+    private long lockedUntil;
+
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public LoginThrottle() {
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public String getThrottleKey() {
+        return throttleKey;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    public long getWindowStart() {
+        return windowStart;
+    }
+
+    public long getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public long getExpiresAt() {
+        return expiresAt;
+    }
+}
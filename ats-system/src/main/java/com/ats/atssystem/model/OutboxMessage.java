@@ -0,0 +1,149 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A notification waiting to leave the system (transactional outbox).
+ *
+ * Written in the same transaction as the change it announces, so a
+ * message exists if and only if the change committed. OutboxDispatcher
+ * delivers it afterwards, retrying with backoff until it succeeds or is
+ * marked DEAD.
+ *
+ * Maps to the 'outbox_messages' table:
+ *   - message_id      BIGINT       (PK, auto-increment; consumers can dedupe on it)
+ *   - event_type      VARCHAR(64)  (e.g. application.status-changed)
+ *   - aggregate_id    BIGINT       (the application or job the event is about)
+ *   - payload         LONGTEXT     (JSON)
+ *   - status          VARCHAR(20)  (OutboxStatus name)
+ *   - attempts        INT          (failed delivery attempts so far)
+ *   - next_attempt_at DATETIME     (due time; pushed forward while a dispatcher holds it)
+ *   - last_error      VARCHAR(500)
+ *   - created_at      DATETIME
+ *   - delivered_at    DATETIME     (NULL until delivered)
+ *
+ * Indexes:
+ *   - idx_outbox_due (status, next_attempt_at, message_id) → dispatcher claims, purge
+ */
+@Entity
+@Table(
+        name = "outbox_messages",
+        indexes = @Index(name = "idx_outbox_due", columnList = "status, next_attempt_at, message_id")
+)
+public class OutboxMessage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "message_id")
+    private Long messageId;
+
+    @Column(name = "event_type", nullable = false, length = 64)
+    private String eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Lob
+    @Column(name = "payload", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "delivered_at")
+    private LocalDateTime deliveredAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public OutboxMessage() {
+    }
+
+    public OutboxMessage(String eventType, Long aggregateId, String payload, LocalDateTime createdAt) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = createdAt;
+    }
+
+    // ============================================================
+    // Getters and Setters
+    // ============================================================
+
+    public Long getMessageId() {
+        return messageId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public Long getAggregateId() {
+        return aggregateId;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(OutboxStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getDeliveredAt() {
+        return deliveredAt;
+    }
+
+    public void setDeliveredAt(LocalDateTime deliveredAt) {
+        this.deliveredAt = deliveredAt;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ats.atssystem.model;
+
+/**
+ * Delivery state of an outbox message.
+ *
+ * PENDING   → waiting for (or between) delivery attempts
+ * DELIVERED → every sink accepted it
+ * DEAD      → gave up after the maximum number of attempts
+ */
+public enum OutboxStatus {
+    PENDING,
+    DELIVERED,
+    DEAD
+}
@@ -11,6 +11,8 @@ import java.time.LocalDateTime;
  *   - application_id BIGINT       (FK → applications.application_id)
  *   - file_name      VARCHAR(500)
  *   - file_path      VARCHAR(500) (server-side storage path)
+ *   - content_hash   VARCHAR(64)  (SHA-256 → resume_blobs.content_hash; NULL for
+ *                                  files stored before content addressing)
  *   - uploaded_at    TIMESTAMP
  *
  * ⚠️  Phase 3 STUB — file upload logic is deferred to Phase 4.
@@ -18,7 +20,10 @@ import java.time.LocalDateTime;
  *     the Application ↔ Resume relationship can be wired up.
  */
 @Entity
-@Table(name = "resumes")
+@Table(
+        name = "resumes",
+        indexes = @Index(name = "idx_resumes_content_hash", columnList = "content_hash")
+)
 public class Resume {
 
     @Id
@@ -37,6 +42,9 @@ public class Resume {
     @Column(name = "file_path", length = 500, nullable = false)
     private String filePath;
 
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "uploaded_at", nullable = false, updatable = false)
     private LocalDateTime uploadedAt;
 
@@ -95,6 +103,14 @@ public class Resume {
         this.filePath = filePath;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public LocalDateTime getUploadedAt() {
         return uploadedAt;
     }
@@ -0,0 +1,69 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one stored resume file, addressed by its content hash.
+ *
+ * Identical PDFs uploaded for different applications share a single blob;
+ * ref_count tracks how many Resume rows point at it.
+ *
+ * Maps to the 'resume_blobs' table:
+ *   - content_hash VARCHAR(64)  (PK, hex SHA-256 of the file)
+ *   - file_path    VARCHAR(500) (sharded path: blobs/ab/cd/<hash>.pdf)
+ *   - size_bytes   BIGINT
+ *   - ref_count    INT          (number of resumes referencing this blob)
+ *   - created_at   TIMESTAMP
+ */
+@Entity
+@Table(name = "resume_blobs")
+public class ResumeBlob {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "file_path", length = 500, nullable = false)
+    private String filePath;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public ResumeBlob() {
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getFilePath() {
+        return filePath;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
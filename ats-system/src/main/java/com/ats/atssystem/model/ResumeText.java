@@ -0,0 +1,77 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * Text extracted from a resume PDF, the source of the resume search index.
+ *
+ * Written by ResumeTextIndexer in the background after an application
+ * commits; on startup ResumeSearchIndex is rebuilt from these rows, so
+ * PDFs are never parsed twice. Other nodes pick up new rows by
+ * extracted_at (idx_resume_texts_extracted_at).
+ *
+ * Maps to the 'resume_texts' table:
+ *   - resume_id    BIGINT      (PK, = resumes.resume_id)
+ *   - content_hash VARCHAR(64) (resumes.content_hash; identical files reuse the text)
+ *   - content      LONGTEXT    (extracted text; empty if the PDF had none)
+ *   - extracted_at TIMESTAMP
+ */
+@Entity
+@Table(
+        name = "resume_texts",
+        indexes = {
+                @Index(name = "idx_resume_texts_content_hash", columnList = "content_hash"),
+                @Index(name = "idx_resume_texts_extracted_at", columnList = "extracted_at, resume_id")
+        }
+)
+public class ResumeText {
+
+    @Id
+    @Column(name = "resume_id")
+    private Long resumeId;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Lob
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Column(name = "extracted_at", nullable = false)
+    private LocalDateTime extractedAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public ResumeText() {
+    }
+
+    public ResumeText(Long resumeId, String contentHash, String content, LocalDateTime extractedAt) {
+        this.resumeId = resumeId;
+        this.contentHash = contentHash;
+        this.content = content;
+        this.extractedAt = extractedAt;
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getExtractedAt() {
+        return extractedAt;
+    }
+}
@@ -4,7 +4,14 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(
+        name = "users",
+        indexes = {
+                // Admin listing filters: role, and name prefix (email is already unique)
+                @Index(name = "idx_users_role", columnList = "role"),
+                @Index(name = "idx_users_name", columnList = "name")
+        }
+)
 public class User {
 
     @Id
@@ -0,0 +1,103 @@
+package com.ats.atssystem.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A recruiter's webhook registration: where to POST their events and the
+ * secret the payloads are signed with.
+ *
+ * Maps to the 'webhook_endpoints' table:
+ *   - endpoint_id  BIGINT       (PK, auto-increment)
+ *   - recruiter_id BIGINT       (owner; only their jobs' events are sent)
+ *   - url          VARCHAR(500)
+ *   - secret       VARCHAR(100) (HMAC-SHA256 key, shown once at registration)
+ *   - event_types  VARCHAR(255) (comma-separated; empty = every webhook event)
+ *   - created_at   DATETIME
+ *
+ * Indexes:
+ *   - idx_webhook_endpoints_recruiter (recruiter_id) → endpoints of the recruiters in a batch
+ */
+@Entity
+@Table(
+        name = "webhook_endpoints",
+        indexes = @Index(name = "idx_webhook_endpoints_recruiter", columnList = "recruiter_id")
+)
+public class WebhookEndpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "endpoint_id")
+    private Long endpointId;
+
+    @Column(name = "recruiter_id", nullable = false)
+    private Long recruiterId;
+
+    @Column(name = "url", nullable = false, length = 500)
+    private String url;
+
+    @Column(name = "secret", nullable = false, length = 100)
+    private String secret;
+
+    @Column(name = "event_types", nullable = false, length = 255)
+    private String eventTypes;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // ============================================================
+    // Constructors
+    // ============================================================
+
+    public WebhookEndpoint() {
+    }
+
+    public WebhookEndpoint(Long recruiterId, String url, String secret, List<String> eventTypes) {
+        this.recruiterId = recruiterId;
+        this.url = url;
+        this.secret = secret;
+        this.eventTypes = String.join(",", eventTypes);
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // ============================================================
+    // Subscriptions
+    // ============================================================
+
+    /** Whether events of this type go to the endpoint */
+    public boolean subscribesTo(String eventType) {
+        return eventTypes.isEmpty() || getEventTypes().contains(eventType);
+    }
+
+    /** The subscribed event types; empty means all */
+    public List<String> getEventTypes() {
+        return eventTypes.isEmpty() ? List.of() : Arrays.asList(eventTypes.split(","));
+    }
+
+    // ============================================================
+    // Getters
+    // ============================================================
+
+    public Long getEndpointId() {
+        return endpointId;
+    }
+
+    public Long getRecruiterId() {
+        return recruiterId;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getSecret() {
+        return secret;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
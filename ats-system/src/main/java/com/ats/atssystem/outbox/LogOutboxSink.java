@@ -0,0 +1,63 @@
+package com.ats.atssystem.outbox;
+
+import com.ats.atssystem.model.OutboxMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Local sink for development and testing: appends each message as one
+ * JSON line to app.outbox.log-sink.file, or logs it when no file is set.
+ *
+ * Enabled with app.outbox.log-sink.enabled=true.
+ */
+@Component
+@ConditionalOnProperty(name = "app.outbox.log-sink.enabled", havingValue = "true")
+public class LogOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(LogOutboxSink.class);
+
+    private final Path file;
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    public LogOutboxSink(@Value("${app.outbox.log-sink.file:}") String file) {
+        this.file = file.isBlank() ? null : Paths.get(file);
+    }
+
+    @Override
+    public String getName() {
+        return "log";
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) throws IOException {
+        // The payload is already JSON; event types are fixed identifiers
+        String line = "{\"messageId\":" + message.getMessageId()
+                + ",\"eventType\":\"" + message.getEventType() + "\""
+                + ",\"aggregateId\":" + message.getAggregateId()
+                + ",\"payload\":" + message.getPayload() + "}\n";
+
+        if (file == null) {
+            log.info("Outbox message: {}", line.strip());
+            return;
+        }
+        // A lock, not a monitor: the dispatcher may run on virtual threads
+        writeLock.lock();
+        try {
+            Files.writeString(file, line, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.ats.atssystem.outbox;
+
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.model.OutboxStatus;
+import com.ats.atssystem.repository.OutboxMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes notification messages to the transactional outbox.
+ *
+ * Every method runs in the caller's transaction: the message commits or
+ * rolls back with the change it announces, and nothing leaves the system
+ * from inside that transaction. OutboxDispatcher delivers the messages
+ * once they are committed.
+ *
+ * Writers:
+ *   - applyForJob                 → application.submitted
+ *   - updateApplicationStatus(es) → application.status-changed
+ *   - updateJobStatus to CLOSED   → job.closed
+ *
+ * Payloads are small JSON objects of ids, statuses and timestamps;
+ * consumers needing more look it up.
+ */
+@Service
+public class NotificationOutbox {
+
+    public static final String APPLICATION_SUBMITTED = "application.submitted";
+    public static final String APPLICATION_STATUS_CHANGED = "application.status-changed";
+    public static final String JOB_CLOSED = "job.closed";
+
+    /** Rows per JDBC batch for recordAll */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_MESSAGE =
+            "INSERT INTO outbox_messages "
+                    + "(event_type, aggregate_id, payload, status, attempts, next_attempt_at, created_at) "
+                    + "VALUES (?, ?, ?, ?, 0, ?, ?)";
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationOutbox(OutboxMessageRepository outboxMessageRepository,
+                              JdbcTemplate jdbcTemplate,
+                              ObjectMapper objectMapper) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    // ============================
+    // WRITE (caller's transaction)
+    // ============================
+
+    /** A candidate applied to a job */
+    public void applicationSubmitted(Application application) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("applicationId", application.getApplicationId());
+        payload.put("jobId", application.getJob().getJobsId());
+        payload.put("jobTitle", application.getJob().getTitle());
+        payload.put("recruiterId", application.getJob().getRecruiter().getUserId());
+        payload.put("candidateId", application.getCandidate().getUserId());
+        payload.put("candidateName", application.getCandidate().getName());
+        payload.put("appliedAt", application.getAppliedAt().toString());
+        outboxMessageRepository.save(message(APPLICATION_SUBMITTED, application.getApplicationId(),
+                payload, application.getAppliedAt()));
+    }
+
+    /** A recruiter changed one application's status */
+    public void statusChanged(Application application, ApplicationStatus from, ApplicationStatus to,
+                              Long actorId, LocalDateTime at) {
+        outboxMessageRepository.save(statusChangedMessage(
+                application.getApplicationId(),
+                application.getJob().getJobsId(),
+                application.getJob().getRecruiter().getUserId(),
+                application.getCandidate().getUserId(),
+                from, to, actorId, at));
+    }
+
+    /** A recruiter closed a job */
+    public void jobClosed(Job job, LocalDateTime at) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("jobId", job.getJobsId());
+        payload.put("jobTitle", job.getTitle());
+        payload.put("recruiterId", job.getRecruiter().getUserId());
+        payload.put("closedAt", at.toString());
+        outboxMessageRepository.save(message(JOB_CLOSED, job.getJobsId(), payload, at));
+    }
+
+    /**
+     * Builds (does not save) an application.status-changed message, for
+     * paths that write many at once with recordAll.
+     */
+    public OutboxMessage statusChangedMessage(Long applicationId, Long jobId, Long recruiterId, Long candidateId,
+                                              ApplicationStatus from, ApplicationStatus to,
+                                              Long actorId, LocalDateTime at) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("applicationId", applicationId);
+        payload.put("jobId", jobId);
+        payload.put("recruiterId", recruiterId);
+        payload.put("candidateId", candidateId);
+        payload.put("fromStatus", from);
+        payload.put("toStatus", to);
+        payload.put("actorId", actorId);
+        payload.put("occurredAt", at.toString());
+        return message(APPLICATION_STATUS_CHANGED, applicationId, payload, at);
+    }
+
+    /**
+     * Appends many messages with batched INSERTs (bulk updates), like
+     * ApplicationStatusLog.recordAll.
+     */
+    public void recordAll(List<OutboxMessage> messages) {
+        jdbcTemplate.batchUpdate(INSERT_MESSAGE, messages, BATCH_SIZE, (ps, message) -> {
+            ps.setString(1, message.getEventType());
+            ps.setLong(2, message.getAggregateId());
+            ps.setString(3, message.getPayload());
+            ps.setString(4, OutboxStatus.PENDING.name());
+            ps.setTimestamp(5, Timestamp.valueOf(message.getNextAttemptAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(message.getCreatedAt()));
+        });
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    private OutboxMessage message(String eventType, Long aggregateId, Map<String, Object> payload,
+                                  LocalDateTime at) {
+        try {
+            return new OutboxMessage(eventType, aggregateId, objectMapper.writeValueAsString(payload), at);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + eventType + " payload", e);
+        }
+    }
+}
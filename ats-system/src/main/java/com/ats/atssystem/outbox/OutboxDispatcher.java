@@ -0,0 +1,399 @@
+package com.ats.atssystem.outbox;
+
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.model.OutboxStatus;
+import com.ats.atssystem.repository.OutboxMessageRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Delivers committed outbox messages to the OutboxSink beans.
+ *
+ * Each poll (app.outbox.poll-interval) repeats, up to
+ * app.outbox.max-batches-per-poll times and while fewer than
+ * app.outbox.max-in-flight messages are awaiting their outcome:
+ *   1. Claim: in a short transaction, select up to app.outbox.batch-size
+ *      due PENDING messages FOR UPDATE SKIP LOCKED and push their
+ *      next_attempt_at forward by app.outbox.lease. Other dispatchers
+ *      (other instances) skip the locked rows while the claim runs and
+ *      find them not yet due afterwards.
+ *   2. Deliver: outside any transaction, hand the batch to every sink
+ *      (each gets the messages it accepts) and move on to the next claim
+ *      without waiting. Sinks may deliver asynchronously and in their own
+ *      batches (webhooks).
+ *   3. Record: as soon as every sink has finished with a message, or
+ *      app.outbox.delivery-timeout has passed, its outcome is queued for
+ *      a single recorder thread, which writes the outcomes that have
+ *      arrived together: one UPDATE marks the delivered messages; each
+ *      failed one is rescheduled with exponential backoff
+ *      (app.outbox.retry-backoff, doubling, capped at
+ *      app.outbox.max-retry-backoff, with jitter) or marked DEAD after
+ *      app.outbox.max-attempts.
+ * So a slow endpoint delays only its own messages, never the claim loop or
+ * the outcome of messages that went elsewhere.
+ *
+ * If a dispatcher dies mid-delivery its messages become due again when
+ * the lease runs out; the lease must therefore exceed the delivery
+ * timeout, or messages may be delivered twice (sinks already have to
+ * tolerate that, see OutboxSink). The lease end also serves as the claim
+ * token: outcomes are written only to rows that are still PENDING with
+ * next_attempt_at equal to it, so a dispatcher that lost its lease cannot
+ * overwrite what the new holder records.
+ *
+ * Delivered messages are purged after app.outbox.retention. DEAD messages
+ * are kept for inspection.
+ */
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    /** Longest error text kept on a message (column size) */
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final List<OutboxSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+    private final int maxInFlight;
+    private final Duration lease;
+    private final Duration deliveryTimeout;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+    private final Duration maxRetryBackoff;
+    private final Duration retention;
+
+    /** Writes delivery outcomes; one thread, so outcomes are recorded in batches */
+    private final ExecutorService recorder = new ThreadPoolExecutor(
+            1, 1,
+            0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            new RecorderThreadFactory());
+    private final Queue<Outcome> outcomes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean recording = new AtomicBoolean();
+
+    /** Claimed messages whose outcome is not recorded yet */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong failedAttemptCount = new AtomicLong();
+    private final AtomicLong deadCount = new AtomicLong();
+
+    public OutboxDispatcher(OutboxMessageRepository outboxMessageRepository,
+                            List<OutboxSink> sinks,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${app.outbox.batch-size:100}") int batchSize,
+                            @Value("${app.outbox.max-batches-per-poll:50}") int maxBatchesPerPoll,
+                            @Value("${app.outbox.max-in-flight:1000}") int maxInFlight,
+                            @Value("${app.outbox.lease:PT2M}") Duration lease,
+                            @Value("${app.outbox.delivery-timeout:PT30S}") Duration deliveryTimeout,
+                            @Value("${app.outbox.max-attempts:10}") int maxAttempts,
+                            @Value("${app.outbox.retry-backoff:PT5S}") Duration retryBackoff,
+                            @Value("${app.outbox.max-retry-backoff:PT1H}") Duration maxRetryBackoff,
+                            @Value("${app.outbox.retention:P7D}") Duration retention) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.sinks = List.copyOf(sinks);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.maxInFlight = maxInFlight;
+        this.lease = lease;
+        this.deliveryTimeout = deliveryTimeout;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoff = retryBackoff;
+        this.maxRetryBackoff = maxRetryBackoff;
+        this.retention = retention;
+    }
+
+    // ============================================================
+    // Polling
+    // ============================================================
+
+    /**
+     * Claims due messages and hands them to the sinks until none are left,
+     * the per-poll batch limit is reached or too many are in flight. Does
+     * not wait for deliveries; their outcomes are recorded as they complete.
+     *
+     * @return the number of messages handed to the sinks
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval:PT1S}",
+            initialDelayString = "${app.outbox.poll-interval:PT1S}")
+    public int dispatch() {
+        int claimed = 0;
+
+        for (int i = 0; i < maxBatchesPerPoll && inFlight.get() < maxInFlight; i++) {
+            List<OutboxMessage> batch = claim();
+            if (batch.isEmpty()) {
+                break;
+            }
+            claimed += batch.size();
+            inFlight.addAndGet(batch.size());
+            deliver(batch);
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (claimed > 0) {
+            log.debug("Outbox poll: {} claimed, {} in flight", claimed, inFlight.get());
+        }
+        return claimed;
+    }
+
+    /**
+     * Deletes delivered messages older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${app.outbox.purge-interval:PT1H}",
+            initialDelayString = "${app.outbox.purge-interval:PT1H}")
+    public void purgeDelivered() {
+        Integer purged = transactionTemplate.execute(tx ->
+                outboxMessageRepository.deleteDeliveredBefore(LocalDateTime.now().minus(retention)));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} delivered outbox messages", purged);
+        }
+    }
+
+    // ============================
+    // OUTBOX METRICS
+    // ============================
+
+    /** Messages delivered to every sink since startup */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /** Failed delivery attempts since startup (each one retried or dead) */
+    public long getFailedAttemptCount() {
+        return failedAttemptCount.get();
+    }
+
+    /** Messages given up on since startup */
+    public long getDeadCount() {
+        return deadCount.get();
+    }
+
+    /** Claimed messages still being delivered or waiting to be recorded */
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    /** PENDING messages, due or waiting for a retry (one COUNT query) */
+    public long getBacklog() {
+        return outboxMessageRepository.countByStatus(OutboxStatus.PENDING);
+    }
+
+    /** Lets queued outcomes be written; anything unrecorded is retried once its lease runs out */
+    @PreDestroy
+    public void shutdown() {
+        recorder.shutdown();
+    }
+
+    // ============================================================
+    // Claim / deliver / record
+    // ============================================================
+
+    /**
+     * Locks a batch of due messages and leases them to this dispatcher.
+     * The returned messages carry the lease end as their nextAttemptAt.
+     */
+    List<OutboxMessage> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        // Microseconds, as stored by DATETIME(6), so the lease end compares equal when recording
+        LocalDateTime leaseUntil = now.plus(lease).truncatedTo(ChronoUnit.MICROS);
+        List<OutboxMessage> batch = transactionTemplate.execute(tx -> {
+            List<OutboxMessage> due = outboxMessageRepository.findDueForUpdate(now, Limit.of(batchSize));
+            if (!due.isEmpty()) {
+                outboxMessageRepository.lease(due.stream().map(OutboxMessage::getMessageId).toList(), leaseUntil);
+            }
+            return due;
+        });
+        if (batch == null) {
+            return List.of();
+        }
+        // Detached now; the bulk lease UPDATE did not touch the loaded entities
+        batch.forEach(message -> message.setNextAttemptAt(leaseUntil));
+        return batch;
+    }
+
+    /**
+     * Hands a claimed batch to the sinks and arranges for each message's
+     * outcome to be recorded once all of its sinks are done with it.
+     */
+    private void deliver(List<OutboxMessage> batch) {
+        Map<OutboxMessage, List<CompletableFuture<Void>>> results = new LinkedHashMap<>();
+        batch.forEach(message -> results.put(message, new ArrayList<>()));
+
+        for (OutboxSink sink : sinks) {
+            List<OutboxMessage> accepted = batch.stream()
+                    .filter(message -> sink.accepts(message.getEventType()))
+                    .toList();
+            if (accepted.isEmpty()) {
+                continue;
+            }
+            List<CompletableFuture<Void>> delivered;
+            try {
+                delivered = sink.deliverAll(accepted);
+            } catch (RuntimeException e) {
+                delivered = accepted.stream().map(message -> CompletableFuture.<Void>failedFuture(e)).toList();
+            }
+            for (int i = 0; i < accepted.size(); i++) {
+                results.get(accepted.get(i)).add(delivered.get(i));
+            }
+        }
+
+        results.forEach((message, futures) -> CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .orTimeout(deliveryTimeout.toNanos(), TimeUnit.NANOSECONDS)
+                .whenComplete((ignored, error) -> completed(new Outcome(message, error))));
+    }
+
+    /** Queues an outcome and starts the recorder unless it is already running */
+    private void completed(Outcome outcome) {
+        outcomes.add(outcome);
+        if (recording.compareAndSet(false, true)) {
+            recorder.execute(this::recordOutcomes);
+        }
+    }
+
+    /** Runs on the recorder thread until no outcomes are left */
+    private void recordOutcomes() {
+        do {
+            List<Outcome> drained = new ArrayList<>();
+            for (Outcome outcome; (outcome = outcomes.poll()) != null; ) {
+                drained.add(outcome);
+            }
+            if (!drained.isEmpty()) {
+                record(drained);
+            }
+            recording.set(false);
+        } while (!outcomes.isEmpty() && recording.compareAndSet(false, true));
+    }
+
+    private void record(List<Outcome> drained) {
+        // Delivered message ids by lease; messages from one claim share a lease
+        Map<LocalDateTime, List<Long>> delivered = new HashMap<>();
+        List<Outcome> failed = new ArrayList<>();
+        for (Outcome outcome : drained) {
+            if (outcome.error() == null) {
+                delivered.computeIfAbsent(outcome.message().getNextAttemptAt(), lease -> new ArrayList<>())
+                        .add(outcome.message().getMessageId());
+            } else {
+                failed.add(outcome);
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int marked = transactionTemplate.execute(tx -> {
+                int count = 0;
+                for (Map.Entry<LocalDateTime, List<Long>> lease : delivered.entrySet()) {
+                    count += outboxMessageRepository.markDelivered(lease.getValue(), lease.getKey(), now);
+                }
+                for (Outcome outcome : failed) {
+                    recordFailure(outcome.message(), describeFailure(outcome.error()), now);
+                }
+                return count;
+            });
+            deliveredCount.addAndGet(marked);
+            int lost = drained.size() - failed.size() - marked;
+            if (lost > 0) {
+                log.warn("Dropped the delivery of {} outbox messages whose lease had run out", lost);
+            }
+        } catch (RuntimeException e) {
+            // Still leased: the messages become due again when the lease runs out
+            log.warn("Could not record the outcome of {} outbox messages", drained.size(), e);
+        } finally {
+            inFlight.addAndGet(-drained.size());
+        }
+    }
+
+    private void recordFailure(OutboxMessage message, String error, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        failedAttemptCount.incrementAndGet();
+
+        boolean dead = attempts >= maxAttempts;
+        int recorded = outboxMessageRepository.markFailed(message.getMessageId(), message.getNextAttemptAt(),
+                dead ? OutboxStatus.DEAD : OutboxStatus.PENDING, attempts,
+                dead ? now : now.plus(backoff(attempts)), error);
+        if (recorded == 0) {
+            log.warn("Dropped the failed attempt of outbox message {}: its lease had run out",
+                    message.getMessageId());
+            return;
+        }
+        if (dead) {
+            deadCount.incrementAndGet();
+            log.warn("Outbox message {} ({}) dead after {} attempts: {}",
+                    message.getMessageId(), message.getEventType(), attempts, error);
+        }
+    }
+
+    /**
+     * Delay before the next attempt after the given number of failures:
+     * retry-backoff doubled per failure, capped, then randomized to between
+     * half and all of it so failed batches do not retry in lockstep.
+     */
+    Duration backoff(int attempts) {
+        long base = retryBackoff.toMillis();
+        long cap = maxRetryBackoff.toMillis();
+        int doublings = Math.min(attempts - 1, 30);
+        long delay = Math.min(cap, base << doublings);
+        long half = delay / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(delay - half + 1));
+    }
+
+    private String describeFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error;
+        return cause instanceof TimeoutException
+                ? "Not delivered within " + deliveryTimeout
+                : describe(cause);
+    }
+
+    private static String describe(Throwable e) {
+        String text = e.getClass().getSimpleName() + (e.getMessage() != null ? ": " + e.getMessage() : "");
+        return text.length() > MAX_ERROR_LENGTH ? text.substring(0, MAX_ERROR_LENGTH) : text;
+    }
+
+    /** A message and how its delivery ended (error is null when every sink succeeded) */
+    private record Outcome(OutboxMessage message, Throwable error) {
+    }
+
+    private static final class RecorderThreadFactory implements ThreadFactory {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "outbox-recorder");
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
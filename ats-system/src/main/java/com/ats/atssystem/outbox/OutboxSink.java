@@ -0,0 +1,54 @@
+package com.ats.atssystem.outbox;
+
+import com.ats.atssystem.model.OutboxMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A destination for outbox messages (email, webhooks, a log file, ...).
+ *
+ * Every OutboxSink bean receives each message it accepts. Delivery is
+ * at-least-once: a message is retried when any sink fails, and a lease
+ * that runs out mid-delivery can hand it to another dispatcher, so sinks
+ * must tolerate seeing the same messageId again.
+ */
+public interface OutboxSink {
+
+    /** Short name for logs */
+    String getName();
+
+    /** Whether this sink wants messages of the given event type */
+    default boolean accepts(String eventType) {
+        return true;
+    }
+
+    /**
+     * Delivers one message. Any exception counts as a failed attempt and
+     * the message is retried with backoff.
+     */
+    void deliver(OutboxMessage message) throws Exception;
+
+    /**
+     * Delivers the messages of a claimed batch that this sink accepts.
+     * Returns one future per message, in order; a future that fails, or is
+     * not done within app.outbox.delivery-timeout, counts as a failed
+     * attempt for that message.
+     *
+     * Sinks that batch or send asynchronously override this; the default
+     * calls deliver() for each message in turn.
+     */
+    default List<CompletableFuture<Void>> deliverAll(List<OutboxMessage> messages) {
+        List<CompletableFuture<Void>> results = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            try {
+                deliver(message);
+                results.add(CompletableFuture.completedFuture(null));
+            } catch (Exception e) {
+                results.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        return results;
+    }
+}
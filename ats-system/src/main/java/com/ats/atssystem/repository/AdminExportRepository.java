@@ -0,0 +1,124 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.dto.AdminJobDTO;
+import com.ats.atssystem.dto.AdminUserDTO;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Reads the admin user and job exports on a small connection pool of its
+ * own (app.admin-export.*), separate from the application's DataSource.
+ *
+ * Streaming a large result from MySQL needs useCursorFetch=true on the
+ * connection URL; without it the driver buffers the whole result before
+ * the first row is returned. That flag also turns every prepared statement
+ * on the connection into a server-side one, so it is set only on this
+ * pool's URL and the main pool keeps client-side statements.
+ *
+ * Rows are read outside the application's transactions, so an export sees
+ * committed data only. Streams must be closed (try-with-resources); the
+ * connection is held until then.
+ */
+@Repository
+public class AdminExportRepository {
+
+    private static final String USER_ROWS =
+            "SELECT u.email, u.name, u.role FROM users u WHERE 1 = 1";
+
+    private static final String JOB_ROWS =
+            "SELECT j.jobs_id, j.title, r.email, r.name, j.status, j.location " +
+                    "FROM jobs j JOIN users r ON r.user_id = j.recruiter_id WHERE 1 = 1";
+
+    private final HikariDataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public AdminExportRepository(@Value("${app.admin-export.url:${spring.datasource.url}}") String url,
+                                 @Value("${spring.datasource.username:}") String username,
+                                 @Value("${spring.datasource.password:}") String password,
+                                 @Value("${app.admin-export.max-connections:2}") int maxConnections,
+                                 @Value("${app.admin-export.fetch-size:500}") int fetchSize,
+                                 @Value("${spring.datasource.hikari.connection-timeout:30000}") long connectionTimeout) {
+        this.dataSource = new HikariDataSource();
+        dataSource.setPoolName("admin-export");
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(maxConnections);
+        dataSource.setMinimumIdle(0);
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(connectionTimeout);
+
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Matching users in id order.
+     *
+     * @param role   only users with this role, or null for all
+     * @param prefix LIKE pattern ("abc%", already escaped) matched against email and name, or null
+     */
+    public Stream<AdminUserDTO> streamUsers(Role role, String prefix) {
+        StringBuilder sql = new StringBuilder(USER_ROWS);
+        List<Object> args = new ArrayList<>();
+        if (role != null) {
+            sql.append(" AND u.role = ?");
+            args.add(role.name());
+        }
+        if (prefix != null) {
+            sql.append(" AND (u.email LIKE ? ESCAPE '!' OR u.name LIKE ? ESCAPE '!')");
+            args.add(prefix);
+            args.add(prefix);
+        }
+        sql.append(" ORDER BY u.user_id");
+
+        return jdbcTemplate.queryForStream(sql.toString(), (rs, rowNum) -> new AdminUserDTO(
+                rs.getString(1),
+                rs.getString(2),
+                Role.valueOf(rs.getString(3))
+        ), args.toArray());
+    }
+
+    /**
+     * Matching jobs with their recruiter joined, in id order.
+     *
+     * @param status only jobs with this status, or null for all
+     * @param prefix LIKE pattern ("abc%", already escaped) matched against the title, or null
+     */
+    public Stream<AdminJobDTO> streamJobs(JobStatus status, String prefix) {
+        StringBuilder sql = new StringBuilder(JOB_ROWS);
+        List<Object> args = new ArrayList<>();
+        if (status != null) {
+            sql.append(" AND j.status = ?");
+            args.add(status.name());
+        }
+        if (prefix != null) {
+            sql.append(" AND j.title LIKE ? ESCAPE '!'");
+            args.add(prefix);
+        }
+        sql.append(" ORDER BY j.jobs_id");
+
+        return jdbcTemplate.queryForStream(sql.toString(), (rs, rowNum) -> new AdminJobDTO(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getString(4),
+                JobStatus.valueOf(rs.getString(5)),
+                rs.getString(6)
+        ), args.toArray());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dataSource.close();
+    }
+}
@@ -0,0 +1,11 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.ApplicationMatchScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository for cached application match scores.
+ * Scores are read through the applicant list queries in ApplicationRepository.
+ */
+public interface ApplicationMatchScoreRepository extends JpaRepository<ApplicationMatchScore, Long> {
+}
@@ -1,8 +1,16 @@
 package com.ats.atssystem.repository;
 
+import com.ats.atssystem.dto.ApplicantDTO;
+import com.ats.atssystem.dto.CandidateApplicationsResponse;
 import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,11 +21,17 @@ import java.util.Optional;
  *   - existsByCandidateUserIdAndJobJobsId
  *   - findByCandidateUserIdAndJobJobsId
  *
- * Phase 4 methods added:
- *   - findByCandidateUserId  → fetches all applications for the candidate dashboard
- *
  * Phase R3 methods added:
- *   - findByJobJobsId  → fetches all applications for a specific job (recruiter view)
+ *   - findApplicantsByJobId → applicant list rows projected in a single query
+ *   - findApplicantPageAscending / findApplicantPageDescending
+ *       → keyset-paginated applicant rows on (appliedAt, applicationId)
+ *
+ * Phase R4 methods added:
+ *   - findStatusAndOwnerByIds → status + job owner for bulk status updates
+ *   - findStatusAndVersionByIds → re-read of bulk updates with unreported counts
+ *
+ * Candidate dashboard:
+ *   - findDashboardRowsByCandidateId → dashboard cards projected in a single query
  */
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
 
@@ -43,29 +57,137 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
      */
     Optional<Application> findByCandidateUserIdAndJobJobsId(Long candidateUserId, Long jobsId);
 
+    /**
+     * Retrieves the application a candidate created with a given Idempotency-Key.
+     *
+     * @param candidateUserId the userId from the User entity
+     * @param idempotencyKey  the key sent with the original request
+     * @return Optional containing the application if that key was used
+     */
+    Optional<Application> findByCandidateUserIdAndIdempotencyKey(Long candidateUserId, String idempotencyKey);
+
     // ============================================================
-    // Phase 4 — Candidate Dashboard
+    // Phase R3 — View Applicants per Job
     // ============================================================
 
     /**
-     * Fetches all applications submitted by a specific candidate.
-     * Used to populate the candidate's dashboard.
+     * Fetches the recruiter's applicant list for a job as ready-made DTO rows.
+     *
+     * Application, candidate, the optional resume and its cached match score
+     * are joined in ONE query, so the number of statements stays constant no
+     * matter how many applicants the job has (previously 1 + 2N: one resume
+     * lookup and one lazy candidate load per application).
+     *
+     * @param jobsId the jobsId of the job
+     * @return applicant rows in application order (empty list if none)
+     */
+    @Query("SELECT new com.ats.atssystem.dto.ApplicantDTO(" +
+            "a.applicationId, c.userId, c.name, c.email, a.status, a.appliedAt, " +
+            "r.resumeId, r.fileName, CASE WHEN r.resumeId IS NOT NULL THEN true ELSE false END, a.version, " +
+            "ms.score) " +
+            "FROM Application a " +
+            "JOIN a.candidate c " +
+            "LEFT JOIN Resume r ON r.application = a " +
+            "LEFT JOIN ApplicationMatchScore ms ON ms.applicationId = a.applicationId " +
+            "WHERE a.job.jobsId = :jobsId " +
+            "ORDER BY a.applicationId")
+    List<ApplicantDTO> findApplicantsByJobId(@Param("jobsId") Long jobsId);
+
+    /**
+     * Keyset page of applicants, oldest first.
      *
-     * @param candidateUserId the userId of the authenticated candidate
-     * @return List of all applications by this candidate (empty list if none)
+     * Rows strictly after the (afterAppliedAt, afterId) cursor are returned, so
+     * the cost of a page does not depend on how deep into the list it is.
+     * Pass null cursor values for the first page and a null status to skip
+     * status filtering. Served by idx_applications_job_applied /
+     * idx_applications_job_status_applied.
      */
-    List<Application> findByCandidateUserId(Long candidateUserId);
+    @Query("SELECT new com.ats.atssystem.dto.ApplicantDTO(" +
+            "a.applicationId, c.userId, c.name, c.email, a.status, a.appliedAt, " +
+            "r.resumeId, r.fileName, CASE WHEN r.resumeId IS NOT NULL THEN true ELSE false END, a.version, " +
+            "ms.score) " +
+            "FROM Application a " +
+            "JOIN a.candidate c " +
+            "LEFT JOIN Resume r ON r.application = a " +
+            "LEFT JOIN ApplicationMatchScore ms ON ms.applicationId = a.applicationId " +
+            "WHERE a.job.jobsId = :jobsId " +
+            "AND (:status IS NULL OR a.status = :status) " +
+            "AND (:afterAppliedAt IS NULL OR a.appliedAt > :afterAppliedAt " +
+            "     OR (a.appliedAt = :afterAppliedAt AND a.applicationId > :afterId)) " +
+            "ORDER BY a.appliedAt ASC, a.applicationId ASC")
+    List<ApplicantDTO> findApplicantPageAscending(@Param("jobsId") Long jobsId,
+                                                  @Param("status") ApplicationStatus status,
+                                                  @Param("afterAppliedAt") LocalDateTime afterAppliedAt,
+                                                  @Param("afterId") Long afterId,
+                                                  Limit limit);
+
+    /**
+     * Keyset page of applicants, newest first. Mirror of
+     * {@link #findApplicantPageAscending} with the comparison reversed.
+     */
+    @Query("SELECT new com.ats.atssystem.dto.ApplicantDTO(" +
+            "a.applicationId, c.userId, c.name, c.email, a.status, a.appliedAt, " +
+            "r.resumeId, r.fileName, CASE WHEN r.resumeId IS NOT NULL THEN true ELSE false END, a.version, " +
+            "ms.score) " +
+            "FROM Application a " +
+            "JOIN a.candidate c " +
+            "LEFT JOIN Resume r ON r.application = a " +
+            "LEFT JOIN ApplicationMatchScore ms ON ms.applicationId = a.applicationId " +
+            "WHERE a.job.jobsId = :jobsId " +
+            "AND (:status IS NULL OR a.status = :status) " +
+            "AND (:afterAppliedAt IS NULL OR a.appliedAt < :afterAppliedAt " +
+            "     OR (a.appliedAt = :afterAppliedAt AND a.applicationId < :afterId)) " +
+            "ORDER BY a.appliedAt DESC, a.applicationId DESC")
+    List<ApplicantDTO> findApplicantPageDescending(@Param("jobsId") Long jobsId,
+                                                   @Param("status") ApplicationStatus status,
+                                                   @Param("afterAppliedAt") LocalDateTime afterAppliedAt,
+                                                   @Param("afterId") Long afterId,
+                                                   Limit limit);
 
     // ============================================================
-    // Phase R3 — View Applicants per Job
+    // Phase R4 — Bulk status updates
     // ============================================================
 
     /**
-     * Fetches all applications for a specific job.
-     * Used by recruiters to view all applicants for their job postings.
+     * Current status, applied time, job and job owner for a set of
+     * applications, in one query and without loading any entity.
+     * Ids that do not exist are simply absent from the result.
      *
-     * @param jobsId the jobsId of the job
-     * @return List of all applications for this job (empty list if none)
+     * @return rows of [applicationId, status, appliedAt, jobsId, recruiterId, candidateId, version]
+     */
+    @Query("SELECT a.applicationId, a.status, a.appliedAt, j.jobsId, j.recruiter.userId, a.candidate.userId, a.version " +
+            "FROM Application a JOIN a.job j " +
+            "WHERE a.applicationId IN :ids")
+    List<Object[]> findStatusAndOwnerByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Current status and version of a set of applications, without loading
+     * any entity (bulk updates re-read rows the driver reported no count for).
+     *
+     * @return rows of [applicationId, status, version]
+     */
+    @Query("SELECT a.applicationId, a.status, a.version FROM Application a WHERE a.applicationId IN :ids")
+    List<Object[]> findStatusAndVersionByIds(@Param("ids") Collection<Long> ids);
+
+    // ============================================================
+    // Candidate dashboard
+    // ============================================================
+
+    /**
+     * The candidate's applications as dashboard cards, oldest first.
+     *
+     * Job, recruiter and the optional resume are joined in ONE query
+     * (previously 1 + 3N: a resume lookup plus lazy job and recruiter loads
+     * per application).
      */
-    List<Application> findByJobJobsId(Long jobsId);
-}
\ No newline at end of file
+    @Query("SELECT new com.ats.atssystem.dto.CandidateApplicationsResponse(" +
+            "a.applicationId, j.jobsId, j.title, j.location, rec.name, a.status, " +
+            "CASE WHEN r.resumeId IS NOT NULL THEN true ELSE false END, a.appliedAt) " +
+            "FROM Application a " +
+            "JOIN a.job j " +
+            "JOIN j.recruiter rec " +
+            "LEFT JOIN Resume r ON r.application = a " +
+            "WHERE a.candidate.userId = :candidateId " +
+            "ORDER BY a.applicationId")
+    List<CandidateApplicationsResponse> findDashboardRowsByCandidateId(@Param("candidateId") Long candidateId);
+}
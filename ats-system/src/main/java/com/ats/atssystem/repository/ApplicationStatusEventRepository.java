@@ -0,0 +1,68 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.ApplicationStatusEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for the append-only application status log.
+ *
+ * Reads are keyset scans on event_id (incremental readers) or
+ * (occurred_at, event_id) (time ranges); neither touches applications.
+ * The per-candidate reads for the status stream join applications on
+ * (candidate_id) and then events on (application_id, event_id).
+ */
+public interface ApplicationStatusEventRepository extends JpaRepository<ApplicationStatusEvent, Long> {
+
+    /**
+     * Events after an offset, oldest first. Callers decide how much of the
+     * result has settled (see ApplicationStatusLog.settledPrefix).
+     */
+    @Query("SELECT e FROM ApplicationStatusEvent e " +
+            "WHERE e.eventId > :afterEventId " +
+            "ORDER BY e.eventId")
+    List<ApplicationStatusEvent> findAfter(@Param("afterEventId") long afterEventId, Limit limit);
+
+    /**
+     * Events in [from, to), keyset-paginated on (occurredAt, eventId).
+     * Pass the last row's values to continue; nulls start at the beginning.
+     */
+    @Query("SELECT e FROM ApplicationStatusEvent e " +
+            "WHERE e.occurredAt >= :from AND e.occurredAt < :to " +
+            "AND (:afterOccurredAt IS NULL OR e.occurredAt > :afterOccurredAt " +
+            "  OR (e.occurredAt = :afterOccurredAt AND e.eventId > :afterEventId)) " +
+            "ORDER BY e.occurredAt, e.eventId")
+    List<ApplicationStatusEvent> findInRange(@Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to,
+                                             @Param("afterOccurredAt") LocalDateTime afterOccurredAt,
+                                             @Param("afterEventId") Long afterEventId,
+                                             Limit limit);
+
+    /**
+     * Full history of one application, oldest first.
+     */
+    List<ApplicationStatusEvent> findByApplicationIdOrderByEventId(Long applicationId);
+
+    /**
+     * One candidate's events after an offset, oldest first.
+     */
+    @Query("SELECT e FROM ApplicationStatusEvent e, Application a " +
+            "WHERE a.applicationId = e.applicationId AND a.candidate.userId = :candidateId " +
+            "AND e.eventId > :afterEventId " +
+            "ORDER BY e.eventId")
+    List<ApplicationStatusEvent> findForCandidateAfter(@Param("candidateId") Long candidateId,
+                                                       @Param("afterEventId") long afterEventId,
+                                                       Limit limit);
+
+    /**
+     * The candidate's latest eventId, or null if they have no events.
+     */
+    @Query("SELECT MAX(e.eventId) FROM ApplicationStatusEvent e, Application a " +
+            "WHERE a.applicationId = e.applicationId AND a.candidate.userId = :candidateId")
+    Long findLatestEventIdForCandidate(@Param("candidateId") Long candidateId);
+}
@@ -0,0 +1,61 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.DecisionTimeDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the daily time-to-decision histogram.
+ */
+public interface DecisionTimeRollupRepository
+        extends JpaRepository<DecisionTimeDailyRollup, DecisionTimeDailyRollup.Key> {
+
+    /**
+     * Adds decisions to a job's bucket for one day (atomic upsert,
+     * caller's transaction).
+     */
+    @Modifying
+    @Query(value = "INSERT INTO application_decision_time_daily " +
+            "(activity_date, jobs_id, bucket, recruiter_id, decisions) " +
+            "VALUES (:date, :jobId, :bucket, :recruiterId, :decisions) " +
+            "ON DUPLICATE KEY UPDATE decisions = decisions + :decisions",
+            nativeQuery = true)
+    void increment(@Param("date") LocalDate date,
+                   @Param("jobId") Long jobId,
+                   @Param("recruiterId") Long recruiterId,
+                   @Param("bucket") int bucket,
+                   @Param("decisions") int decisions);
+
+    /**
+     * Histogram over a date range, optionally narrowed to one job and/or
+     * one recruiter (null = no filter).
+     *
+     * @return rows of [bucket, decisions]
+     */
+    @Query("SELECT d.id.bucket, SUM(d.decisions) FROM DecisionTimeDailyRollup d " +
+            "WHERE d.id.activityDate BETWEEN :from AND :to " +
+            "AND (:jobId IS NULL OR d.id.jobsId = :jobId) " +
+            "AND (:recruiterId IS NULL OR d.recruiterId = :recruiterId) " +
+            "GROUP BY d.id.bucket")
+    List<Object[]> sumBuckets(@Param("from") LocalDate from,
+                              @Param("to") LocalDate to,
+                              @Param("jobId") Long jobId,
+                              @Param("recruiterId") Long recruiterId);
+
+    /**
+     * Per-job histograms for one recruiter over a date range.
+     *
+     * @return rows of [jobsId, bucket, decisions]
+     */
+    @Query("SELECT d.id.jobsId, d.id.bucket, SUM(d.decisions) FROM DecisionTimeDailyRollup d " +
+            "WHERE d.recruiterId = :recruiterId AND d.id.activityDate BETWEEN :from AND :to " +
+            "GROUP BY d.id.jobsId, d.id.bucket")
+    List<Object[]> sumBucketsByJob(@Param("recruiterId") Long recruiterId,
+                                   @Param("from") LocalDate from,
+                                   @Param("to") LocalDate to);
+}
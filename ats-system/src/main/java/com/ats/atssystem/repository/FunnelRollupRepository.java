@@ -0,0 +1,70 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.FunnelDailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for the daily hiring-funnel rollup.
+ *
+ * Writes are single-statement upserts so concurrent status changes on the
+ * same job and day never lose an increment. Reads sum rows over a date
+ * range; a year of one job is at most 365 rows.
+ */
+public interface FunnelRollupRepository extends JpaRepository<FunnelDailyRollup, FunnelDailyRollup.Key> {
+
+    /**
+     * Adds the given deltas to a job's row for one day, creating it on first
+     * use. Runs in the caller's transaction, so the counts commit or roll
+     * back with the change they describe.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO application_funnel_daily " +
+            "(activity_date, jobs_id, recruiter_id, applied, shortlisted, hired, rejected) " +
+            "VALUES (:date, :jobId, :recruiterId, :applied, :shortlisted, :hired, :rejected) " +
+            "ON DUPLICATE KEY UPDATE applied = applied + :applied, shortlisted = shortlisted + :shortlisted, " +
+            "hired = hired + :hired, rejected = rejected + :rejected",
+            nativeQuery = true)
+    void increment(@Param("date") LocalDate date,
+                   @Param("jobId") Long jobId,
+                   @Param("recruiterId") Long recruiterId,
+                   @Param("applied") int applied,
+                   @Param("shortlisted") int shortlisted,
+                   @Param("hired") int hired,
+                   @Param("rejected") int rejected);
+
+    /**
+     * Totals over a date range, optionally narrowed to one job and/or one
+     * recruiter (null = no filter).
+     *
+     * @return a single row: [applied, shortlisted, hired, rejected] as Long
+     */
+    @Query("SELECT COALESCE(SUM(f.applied), 0), COALESCE(SUM(f.shortlisted), 0), " +
+            "COALESCE(SUM(f.hired), 0), COALESCE(SUM(f.rejected), 0) " +
+            "FROM FunnelDailyRollup f " +
+            "WHERE f.id.activityDate BETWEEN :from AND :to " +
+            "AND (:jobId IS NULL OR f.id.jobsId = :jobId) " +
+            "AND (:recruiterId IS NULL OR f.recruiterId = :recruiterId)")
+    List<Object[]> sumCounts(@Param("from") LocalDate from,
+                             @Param("to") LocalDate to,
+                             @Param("jobId") Long jobId,
+                             @Param("recruiterId") Long recruiterId);
+
+    /**
+     * Per-job totals for one recruiter over a date range.
+     *
+     * @return rows of [jobsId, applied, shortlisted, hired, rejected]
+     */
+    @Query("SELECT f.id.jobsId, SUM(f.applied), SUM(f.shortlisted), SUM(f.hired), SUM(f.rejected) " +
+            "FROM FunnelDailyRollup f " +
+            "WHERE f.recruiterId = :recruiterId AND f.id.activityDate BETWEEN :from AND :to " +
+            "GROUP BY f.id.jobsId ORDER BY f.id.jobsId")
+    List<Object[]> sumCountsByJob(@Param("recruiterId") Long recruiterId,
+                                  @Param("from") LocalDate from,
+                                  @Param("to") LocalDate to);
+}
@@ -0,0 +1,31 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.JobMatchStatistics;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Repository for the per-job corpus statistics used by match scoring.
+ */
+public interface JobMatchStatisticsRepository extends JpaRepository<JobMatchStatistics, Long> {
+
+    /**
+     * Stores a job's statistics unless a row already exists. When two nodes
+     * score the job's first applicants at once, the first insert wins and
+     * both read it back, so neither scores on its own snapshot.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO job_match_statistics " +
+            "(job_id, document_count, average_length, document_frequencies, captured_at) " +
+            "VALUES (:jobId, :documentCount, :averageLength, :documentFrequencies, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE job_id = job_id",
+            nativeQuery = true)
+    void insertIfAbsent(@Param("jobId") Long jobId,
+                        @Param("documentCount") int documentCount,
+                        @Param("averageLength") double averageLength,
+                        @Param("documentFrequencies") String documentFrequencies);
+}
@@ -1,12 +1,22 @@
 package com.ats.atssystem.repository;
 
+import com.ats.atssystem.dto.AdminJobDTO;
+import com.ats.atssystem.dto.JobSummaryResponse;
 import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
 import com.ats.atssystem.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository for Job entity operations.
@@ -25,15 +35,82 @@ public interface JobRepository extends JpaRepository<Job, Long> {
      */
     List<Job> findByRecruiter(User recruiter);
 
+    /**
+     * Find all jobs posted by a recruiter, by the recruiter's user ID
+     * (avoids loading the recruiter first when only the ID is known)
+     */
+    List<Job> findByRecruiterUserId(Long recruiterId);
+
     /**
      * Find all jobs with a specific status
      * Used for filtering open/closed jobs
      */
     List<Job> findByStatus(JobStatus status);
 
+    /**
+     * Id and version of every job with the given status: rows of [Long, Long].
+     * Used to reconcile the in-memory job search index with jobs changed on
+     * other nodes (a changed version means the job was edited).
+     */
+    @Query("SELECT j.jobsId, j.version FROM Job j WHERE j.status = :status")
+    List<Object[]> findIdsAndVersionsByStatus(@Param("status") JobStatus status);
+
     /**
      * Count jobs by status (for admin dashboard statistics)
      * Used in Phase A1
      */
     Long countByStatus(JobStatus status);
-}
\ No newline at end of file
+
+    /**
+     * Job counts for every status in one query: rows of [JobStatus, Long].
+     * Used to reconcile the in-memory dashboard counters.
+     */
+    @Query("SELECT j.status, COUNT(j) FROM Job j GROUP BY j.status")
+    List<Object[]> countGroupedByStatus();
+
+    /**
+     * Lean, newest-first job cards with the given status (candidate browse).
+     *
+     * Filters in the database via idx_jobs_status_created and projects only
+     * the list columns: the TEXT description is never read and the recruiter
+     * is joined for its name instead of being loaded as an entity.
+     */
+    @Query("SELECT new com.ats.atssystem.dto.JobSummaryResponse(" +
+            "j.jobsId, j.title, j.location, j.status, r.name, j.createdAt) " +
+            "FROM Job j JOIN j.recruiter r " +
+            "WHERE j.status = :status " +
+            "ORDER BY j.createdAt DESC, j.jobsId DESC")
+    Slice<JobSummaryResponse> findSummariesByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    // ============================================================
+    // Admin listings (Phase A3) — recruiter joined, not loaded per row
+    // ============================================================
+
+    String ADMIN_JOB_ROWS = "SELECT new com.ats.atssystem.dto.AdminJobDTO(" +
+            "j.jobsId, j.title, r.email, r.name, j.status, j.location) " +
+            "FROM Job j JOIN j.recruiter r " +
+            "WHERE (:status IS NULL OR j.status = :status) " +
+            "AND (:prefix IS NULL OR j.title LIKE :prefix ESCAPE '!') " +
+            "ORDER BY j.jobsId";
+
+    /**
+     * One page of admin job rows.
+     *
+     * @param status only jobs with this status, or null for all
+     * @param prefix LIKE pattern ("abc%", already escaped) matched against the title, or null
+     */
+    @Query(ADMIN_JOB_ROWS)
+    Slice<AdminJobDTO> findAdminJobPage(@Param("status") JobStatus status,
+                                        @Param("prefix") String prefix,
+                                        Pageable pageable);
+
+    /**
+     * All matching admin job rows as a stream (full dashboard list).
+     * Must be consumed inside a read-only transaction and closed. Exports
+     * read through AdminExportRepository instead.
+     */
+    @Query(ADMIN_JOB_ROWS)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Stream<AdminJobDTO> streamAdminJobs(@Param("status") JobStatus status,
+                                        @Param("prefix") String prefix);
+}
@@ -0,0 +1,90 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.model.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the notification outbox.
+ *
+ * Claims and purges walk idx_outbox_due (status, next_attempt_at,
+ * message_id), so neither scans delivered history.
+ */
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Due PENDING messages, oldest due first, locked FOR UPDATE SKIP LOCKED:
+     * rows another dispatcher has locked are passed over instead of waited
+     * on. (A lock timeout of -2 is Hibernate's SKIP LOCKED; dialects without
+     * it fall back to a plain FOR UPDATE.) Caller's transaction.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT m FROM OutboxMessage m " +
+            "WHERE m.status = com.ats.atssystem.model.OutboxStatus.PENDING AND m.nextAttemptAt <= :now " +
+            "ORDER BY m.nextAttemptAt, m.messageId")
+    List<OutboxMessage> findDueForUpdate(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Pushes claimed messages' due time past the lease, in the claiming
+     * transaction, so they are not claimed again while being delivered.
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.nextAttemptAt = :until WHERE m.messageId IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    /**
+     * Marks messages delivered in one statement. Only rows still held under
+     * the given lease (PENDING, due at leaseUntil) are updated, so a
+     * dispatcher whose lease ran out cannot overwrite the outcome of the one
+     * that claimed the message after it.
+     *
+     * @return the number of messages marked
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = com.ats.atssystem.model.OutboxStatus.DELIVERED, " +
+            "m.deliveredAt = :at, m.lastError = NULL WHERE m.messageId IN :ids " +
+            "AND m.status = com.ats.atssystem.model.OutboxStatus.PENDING AND m.nextAttemptAt = :leaseUntil")
+    int markDelivered(@Param("ids") Collection<Long> ids,
+                      @Param("leaseUntil") LocalDateTime leaseUntil,
+                      @Param("at") LocalDateTime at);
+
+    /**
+     * Records a failed attempt: back to PENDING at the given time, or DEAD.
+     * Guarded by the lease like markDelivered.
+     *
+     * @return 1 if recorded, 0 if the lease was lost
+     */
+    @Modifying
+    @Query("UPDATE OutboxMessage m SET m.status = :status, m.attempts = :attempts, " +
+            "m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.messageId = :id " +
+            "AND m.status = com.ats.atssystem.model.OutboxStatus.PENDING AND m.nextAttemptAt = :leaseUntil")
+    int markFailed(@Param("id") Long id,
+                   @Param("leaseUntil") LocalDateTime leaseUntil,
+                   @Param("status") OutboxStatus status,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    /**
+     * Deletes delivered messages whose delivery is older than the cutoff.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxMessage m " +
+            "WHERE m.status = com.ats.atssystem.model.OutboxStatus.DELIVERED AND m.deliveredAt < :before")
+    int deleteDeliveredBefore(@Param("before") LocalDateTime before);
+
+    long countByStatus(OutboxStatus status);
+}
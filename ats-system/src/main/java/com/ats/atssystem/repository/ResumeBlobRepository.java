@@ -0,0 +1,71 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.ResumeBlob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Repository for content-addressed resume blobs.
+ *
+ * Reference counts are changed with single atomic statements so concurrent
+ * uploads of the same file never lose an increment. Counts only go up at
+ * runtime; the garbage collector recomputes them from the resumes table.
+ */
+public interface ResumeBlobRepository extends JpaRepository<ResumeBlob, String> {
+
+    /**
+     * Registers one more reference to a blob, creating its row on first use.
+     * Runs in the caller's transaction, so the increment commits or rolls
+     * back together with the Resume row that holds the reference.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resume_blobs (content_hash, file_path, size_bytes, ref_count, created_at) " +
+            "VALUES (:contentHash, :filePath, :sizeBytes, 1, CURRENT_TIMESTAMP) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1",
+            nativeQuery = true)
+    void acquire(@Param("contentHash") String contentHash,
+                 @Param("filePath") String filePath,
+                 @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * Recomputes every reference count from the resumes table, repairing
+     * any drift (e.g. rows removed outside the application).
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE resume_blobs SET ref_count = " +
+            "(SELECT COUNT(*) FROM resumes r WHERE r.content_hash = resume_blobs.content_hash)",
+            nativeQuery = true)
+    int reconcileRefCounts();
+
+    /**
+     * Blobs no resume references any more.
+     */
+    List<ResumeBlob> findByRefCount(int refCount);
+
+    /**
+     * Deletes a blob row only if it is still unreferenced: its count is zero
+     * and no resume row points at it. A concurrent upload that re-acquired
+     * it in the meantime keeps it alive.
+     *
+     * @return 1 if the row was deleted, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM resume_blobs WHERE content_hash = :contentHash AND ref_count = 0 " +
+            "AND NOT EXISTS (SELECT 1 FROM resumes r WHERE r.content_hash = :contentHash)",
+            nativeQuery = true)
+    int deleteIfUnreferenced(@Param("contentHash") String contentHash);
+
+    /**
+     * Whether any resume row references the given content hash.
+     */
+    @Query(value = "SELECT COUNT(*) > 0 FROM resumes r WHERE r.content_hash = :contentHash",
+            nativeQuery = true)
+    boolean isReferencedByResume(@Param("contentHash") String contentHash);
+}
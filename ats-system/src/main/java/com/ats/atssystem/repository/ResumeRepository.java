@@ -2,6 +2,8 @@ package com.ats.atssystem.repository;
 
 import com.ats.atssystem.model.Resume;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -10,6 +12,7 @@ import java.util.Optional;
  *
  * Phase 4 methods:
  *   - findByApplicationApplicationId  → checks if a resume exists for an application
+ *   - findWithJobOwnerById            → resume + application + job + recruiter in one query (downloads)
  */
 public interface ResumeRepository extends JpaRepository<Resume, Long> {
 
@@ -20,4 +23,18 @@ public interface ResumeRepository extends JpaRepository<Resume, Long> {
      * @return Optional containing the Resume if one has been uploaded
      */
     Optional<Resume> findByApplicationApplicationId(Long applicationId);
-}
\ No newline at end of file
+
+    /**
+     * Load a resume together with its application, job and the job's
+     * recruiter, so the download ownership check needs a single query.
+     *
+     * @param resumeId the resume_id to look up
+     * @return Optional containing the Resume with its ownership chain initialised
+     */
+    @Query("SELECT r FROM Resume r " +
+            "JOIN FETCH r.application a " +
+            "JOIN FETCH a.job j " +
+            "JOIN FETCH j.recruiter " +
+            "WHERE r.resumeId = :resumeId")
+    Optional<Resume> findWithJobOwnerById(@Param("resumeId") Long resumeId);
+}
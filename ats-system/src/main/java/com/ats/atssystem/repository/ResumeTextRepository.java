@@ -0,0 +1,76 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.ResumeText;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository for extracted resume text.
+ *
+ * The index queries return the fields the search index stores per resume,
+ * as Object[]:
+ *   [resumeId, applicationId, jobsId, recruiterId, candidateName, fileName, ...]
+ */
+public interface ResumeTextRepository extends JpaRepository<ResumeText, Long> {
+
+    /**
+     * Text already extracted from an identical file (same content hash).
+     */
+    Optional<ResumeText> findFirstByContentHash(String contentHash);
+
+    /**
+     * What the extractor needs per resume, in ONE query:
+     * [resumeId, applicationId, jobsId, recruiterId, candidateName, fileName, filePath, contentHash]
+     */
+    @Query("SELECT r.resumeId, a.applicationId, j.jobsId, j.recruiter.userId, c.name, " +
+            "r.fileName, r.filePath, r.contentHash " +
+            "FROM Resume r JOIN r.application a JOIN a.job j JOIN a.candidate c " +
+            "WHERE r.resumeId IN :resumeIds")
+    List<Object[]> findExtractionSources(@Param("resumeIds") Collection<Long> resumeIds);
+
+    /**
+     * Every extracted resume with its index fields, streamed for the startup rebuild:
+     * [resumeId, applicationId, jobsId, recruiterId, candidateName, fileName, content]
+     */
+    @Query("SELECT r.resumeId, a.applicationId, j.jobsId, j.recruiter.userId, c.name, " +
+            "r.fileName, t.content " +
+            "FROM ResumeText t, Resume r JOIN r.application a JOIN a.job j JOIN a.candidate c " +
+            "WHERE r.resumeId = t.resumeId")
+    Stream<Object[]> streamIndexRows();
+
+    /**
+     * Resumes extracted after a watermark, keyset-paginated on
+     * (extractedAt, resumeId), for the periodic catch-up with extractions
+     * made on other nodes:
+     * [resumeId, applicationId, jobsId, recruiterId, candidateName, fileName, content, extractedAt]
+     */
+    @Query("SELECT r.resumeId, a.applicationId, j.jobsId, j.recruiter.userId, c.name, " +
+            "r.fileName, t.content, t.extractedAt " +
+            "FROM ResumeText t, Resume r JOIN r.application a JOIN a.job j JOIN a.candidate c " +
+            "WHERE r.resumeId = t.resumeId " +
+            "AND (t.extractedAt > :afterExtractedAt " +
+            "  OR (t.extractedAt = :afterExtractedAt AND t.resumeId > :afterResumeId)) " +
+            "ORDER BY t.extractedAt, t.resumeId")
+    List<Object[]> findIndexRowsAfter(@Param("afterExtractedAt") LocalDateTime afterExtractedAt,
+                                      @Param("afterResumeId") long afterResumeId,
+                                      Limit limit);
+
+    /**
+     * Resumes with no extracted text or no match score yet (missed by the
+     * after-commit trigger, e.g. the queue was full or the node restarted),
+     * oldest first.
+     */
+    @Query("SELECT r.resumeId FROM Resume r " +
+            "WHERE NOT EXISTS (SELECT 1 FROM ResumeText t WHERE t.resumeId = r.resumeId) " +
+            "OR NOT EXISTS (SELECT 1 FROM ApplicationMatchScore s WHERE s.applicationId = r.application.applicationId) " +
+            "ORDER BY r.resumeId")
+    List<Long> findResumeIdsPendingIndexing(Limit limit);
+}
@@ -1,11 +1,21 @@
 package com.ats.atssystem.repository;
 
+import com.ats.atssystem.dto.AdminUserDTO;
 import com.ats.atssystem.model.Role;
 import com.ats.atssystem.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for User entity operations.
@@ -33,4 +43,42 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * Used in Phase A1
      */
     Long countByRole(Role role);
-}
\ No newline at end of file
+
+    /**
+     * User counts for every role in one query: rows of [Role, Long].
+     * Used to reconcile the in-memory dashboard counters.
+     */
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
+
+    // ============================================================
+    // Admin listings (Phase A2) — lean rows, optional filters
+    // ============================================================
+
+    String ADMIN_USER_ROWS = "SELECT new com.ats.atssystem.dto.AdminUserDTO(u.email, u.name, u.role) " +
+            "FROM User u " +
+            "WHERE (:role IS NULL OR u.role = :role) " +
+            "AND (:prefix IS NULL OR u.email LIKE :prefix ESCAPE '!' OR u.name LIKE :prefix ESCAPE '!') " +
+            "ORDER BY u.userId";
+
+    /**
+     * One page of admin user rows.
+     *
+     * @param role   only users with this role, or null for all
+     * @param prefix LIKE pattern ("abc%", already escaped) matched against email and name, or null
+     */
+    @Query(ADMIN_USER_ROWS)
+    Slice<AdminUserDTO> findAdminUserPage(@Param("role") Role role,
+                                          @Param("prefix") String prefix,
+                                          Pageable pageable);
+
+    /**
+     * All matching admin user rows as a stream (full dashboard list).
+     * Must be consumed inside a read-only transaction and closed. Exports
+     * read through AdminExportRepository instead.
+     */
+    @Query(ADMIN_USER_ROWS)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    Stream<AdminUserDTO> streamAdminUsers(@Param("role") Role role,
+                                          @Param("prefix") String prefix);
+}
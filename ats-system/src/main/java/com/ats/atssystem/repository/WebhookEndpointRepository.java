@@ -0,0 +1,23 @@
+package com.ats.atssystem.repository;
+
+import com.ats.atssystem.model.WebhookEndpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for recruiter webhook registrations.
+ */
+public interface WebhookEndpointRepository extends JpaRepository<WebhookEndpoint, Long> {
+
+    List<WebhookEndpoint> findByRecruiterIdOrderByEndpointId(Long recruiterId);
+
+    /** Endpoints of every recruiter in a delivery batch, in one query */
+    List<WebhookEndpoint> findByRecruiterIdIn(Collection<Long> recruiterIds);
+
+    Optional<WebhookEndpoint> findByEndpointIdAndRecruiterId(Long endpointId, Long recruiterId);
+
+    long countByRecruiterId(Long recruiterId);
+}
@@ -0,0 +1,155 @@
+package com.ats.atssystem.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+/**
+ * Minimal in-memory inverted index with BM25 ranking.
+ *
+ * Documents are identified by a long id and supplied as weighted term
+ * frequencies (field boosts are folded into the weights by the caller).
+ * Supports incremental add/replace/remove, so callers never need a full
+ * rebuild after the initial load.
+ *
+ * NOT thread-safe: owners guard access with their own lock.
+ */
+public class InvertedIndex {
+
+    /** BM25 tuning constants (standard defaults) */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** term → (docId → weighted term frequency) */
+    private final Map<String, Map<Long, Float>> postings = new HashMap<>();
+
+    /** docId → terms of that document (needed to remove it again) */
+    private final Map<Long, Set<String>> documentTerms = new HashMap<>();
+
+    /** docId → weighted document length */
+    private final Map<Long, Float> documentLengths = new HashMap<>();
+
+    private double totalLength;
+
+    /**
+     * A matching document and its relevance score.
+     */
+    public record ScoredDocument(long docId, double score) {
+    }
+
+    /**
+     * Adds a document, replacing any previous version with the same id.
+     *
+     * @param docId       document id
+     * @param termWeights weighted term frequencies of the document
+     */
+    public void put(long docId, Map<String, Float> termWeights) {
+        remove(docId);
+
+        float length = 0f;
+        for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(docId, entry.getValue());
+            length += entry.getValue();
+        }
+
+        documentTerms.put(docId, Set.copyOf(termWeights.keySet()));
+        documentLengths.put(docId, length);
+        totalLength += length;
+    }
+
+    /**
+     * Removes a document if present.
+     *
+     * @param docId document id
+     */
+    public void remove(long docId) {
+        Set<String> terms = documentTerms.remove(docId);
+        if (terms == null) {
+            return;
+        }
+
+        for (String term : terms) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs != null) {
+                docs.remove(docId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(docId);
+    }
+
+    /**
+     * Scores every document that contains at least one query term.
+     *
+     * @param queryTerms analyzed query terms (duplicates are ignored)
+     * @param filter     only documents accepted by this predicate are scored
+     * @return matches, unsorted
+     */
+    public List<ScoredDocument> search(Set<String> queryTerms, LongPredicate filter) {
+        int documentCount = documentTerms.size();
+        if (documentCount == 0) {
+            return List.of();
+        }
+        double averageLength = totalLength / documentCount;
+
+        Map<Long, Double> scores = new HashMap<>();
+        for (String term : queryTerms) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs == null) {
+                continue;
+            }
+
+            double idf = Math.log(1 + (documentCount - docs.size() + 0.5) / (docs.size() + 0.5));
+            for (Map.Entry<Long, Float> posting : docs.entrySet()) {
+                long docId = posting.getKey();
+                if (!filter.test(docId)) {
+                    continue;
+                }
+                double tf = posting.getValue();
+                double norm = K1 * (1 - B + B * documentLengths.get(docId) / averageLength);
+                scores.merge(docId, idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+            }
+        }
+
+        List<ScoredDocument> results = new ArrayList<>(scores.size());
+        scores.forEach((docId, score) -> results.add(new ScoredDocument(docId, score)));
+        return results;
+    }
+
+    /**
+     * @param term an analyzed term
+     * @return number of documents containing the term
+     */
+    public int documentFrequency(String term) {
+        Map<Long, Float> docs = postings.get(term);
+        return docs == null ? 0 : docs.size();
+    }
+
+    /** @return average weighted document length (0 if empty) */
+    public double averageLength() {
+        return documentTerms.isEmpty() ? 0 : totalLength / documentTerms.size();
+    }
+
+    /** @return number of indexed documents */
+    public int size() {
+        return documentTerms.size();
+    }
+
+    /** @return true if the document is indexed */
+    public boolean contains(long docId) {
+        return documentTerms.containsKey(docId);
+    }
+
+    /** Removes every document. */
+    public void clear() {
+        postings.clear();
+        documentTerms.clear();
+        documentLengths.clear();
+        totalLength = 0;
+    }
+}
@@ -0,0 +1,169 @@
+package com.ats.atssystem.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A job's text as a BM25 query vector, for scoring how well a resume fits it.
+ *
+ * The job's distinct terms (title × 2, description × 1) are assigned
+ * dense slots 0..n-1 once; each slot carries the term's query weight times
+ * its IDF over the resume corpus. Scoring a resume is one pass over its
+ * terms into an int[] of term frequencies plus one pass over the slots, so
+ * nothing is boxed or allocated per term and thousands of resumes score in
+ * milliseconds.
+ *
+ * Scores are normalized by the best possible score for the job, giving a
+ * value in [0, 1) that is comparable across applicants of the same job as
+ * long as they are scored against the same corpus statistics: corpus()
+ * returns the ones a profile was built from, so they can be stored and the
+ * identical profile rebuilt later or on another node.
+ *
+ * Immutable and thread-safe.
+ */
+public final class JobMatchProfile {
+
+    /** BM25 tuning constants (same defaults as InvertedIndex) */
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final float TITLE_BOOST = 2f;
+    private static final float DESCRIPTION_BOOST = 1f;
+
+    /** Used as the average resume length until the corpus has any resumes */
+    private static final double DEFAULT_AVERAGE_LENGTH = 400;
+
+    /** term → slot; only consulted while counting a resume's terms */
+    private final Map<String, Integer> slots;
+
+    /** slot → query weight × IDF */
+    private final double[] weights;
+
+    private final double averageLength;
+    private final double maxScore;
+    private final CorpusSnapshot corpus;
+
+    private JobMatchProfile(Map<String, Integer> slots, double[] weights, double averageLength,
+                            CorpusSnapshot corpus) {
+        this.slots = slots;
+        this.weights = weights;
+        this.averageLength = averageLength;
+        this.corpus = corpus;
+
+        double max = 0;
+        for (double weight : weights) {
+            max += weight * (K1 + 1);
+        }
+        this.maxScore = max;
+    }
+
+    /**
+     * Per-term document frequencies of the resume corpus the IDF is taken from.
+     */
+    public interface CorpusStatistics {
+
+        /** @return number of documents in the corpus */
+        int documentCount();
+
+        /** @return average document length in terms */
+        double averageLength();
+
+        /** @return documents containing each of the terms, in order */
+        int[] documentFrequencies(List<String> terms);
+    }
+
+    /**
+     * Fixed corpus statistics for one job's terms; terms not listed have a
+     * document frequency of 0.
+     */
+    public record CorpusSnapshot(int documentCount, double averageLength,
+                                 Map<String, Integer> frequencies) implements CorpusStatistics {
+
+        public CorpusSnapshot {
+            frequencies = Map.copyOf(frequencies);
+        }
+
+        @Override
+        public int[] documentFrequencies(List<String> terms) {
+            return terms.stream().mapToInt(term -> frequencies.getOrDefault(term, 0)).toArray();
+        }
+    }
+
+    /**
+     * Builds the profile of a job.
+     *
+     * @param title       job title
+     * @param description job description
+     * @param corpus      resume corpus statistics for IDF and length normalization
+     * @return the profile (scores 0 for every resume if the job has no terms)
+     */
+    public static JobMatchProfile of(String title, String description, CorpusStatistics corpus) {
+        Map<String, Float> queryWeights = new HashMap<>();
+        for (String term : TextAnalyzer.tokenize(title)) {
+            queryWeights.merge(term, TITLE_BOOST, Float::sum);
+        }
+        for (String term : TextAnalyzer.tokenize(description)) {
+            queryWeights.merge(term, DESCRIPTION_BOOST, Float::sum);
+        }
+
+        List<String> terms = List.copyOf(queryWeights.keySet());
+        int[] documentFrequencies = corpus.documentFrequencies(terms);
+        int documentCount = corpus.documentCount();
+
+        Map<String, Integer> slots = new HashMap<>(terms.size() * 2);
+        Map<String, Integer> frequencies = new HashMap<>(terms.size() * 2);
+        double[] weights = new double[terms.size()];
+        for (int slot = 0; slot < terms.size(); slot++) {
+            String term = terms.get(slot);
+            double df = documentFrequencies[slot];
+            double idf = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            slots.put(term, slot);
+            frequencies.put(term, documentFrequencies[slot]);
+            weights[slot] = queryWeights.get(term) * idf;
+        }
+
+        double averageLength = corpus.documentCount() > 0 && corpus.averageLength() > 0
+                ? corpus.averageLength() : DEFAULT_AVERAGE_LENGTH;
+        return new JobMatchProfile(slots, weights, averageLength,
+                new CorpusSnapshot(documentCount, corpus.averageLength(), frequencies));
+    }
+
+    /**
+     * @param resumeTerms the resume's analyzed terms (TextAnalyzer.tokenize), duplicates kept
+     * @return fit in [0, 1); 0 if nothing matches
+     */
+    public double score(List<String> resumeTerms) {
+        if (maxScore == 0 || resumeTerms.isEmpty()) {
+            return 0;
+        }
+
+        int[] termFrequencies = new int[weights.length];
+        for (String term : resumeTerms) {
+            Integer slot = slots.get(term);
+            if (slot != null) {
+                termFrequencies[slot]++;
+            }
+        }
+
+        double norm = K1 * (1 - B + B * resumeTerms.size() / averageLength);
+        double score = 0;
+        for (int slot = 0; slot < weights.length; slot++) {
+            int tf = termFrequencies[slot];
+            if (tf > 0) {
+                score += weights[slot] * tf * (K1 + 1) / (tf + norm);
+            }
+        }
+        return score / maxScore;
+    }
+
+    /** @return number of distinct job terms */
+    public int termCount() {
+        return weights.length;
+    }
+
+    /** @return the corpus statistics this profile was built from, restricted to the job's terms */
+    public CorpusSnapshot corpus() {
+        return corpus;
+    }
+}
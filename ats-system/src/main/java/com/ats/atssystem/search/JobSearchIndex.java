@@ -0,0 +1,342 @@
+package com.ats.atssystem.search;
+
+import com.ats.atssystem.dto.JobSearchHit;
+import com.ats.atssystem.dto.JobSearchResponse;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.repository.JobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Embedded full-text index over OPEN jobs for the candidate search.
+ *
+ * Indexed fields and boosts:
+ *   - title       × 3
+ *   - location    × 2
+ *   - description × 1
+ *
+ * Lifecycle:
+ *   - Loaded once from the database when the application is ready
+ *   - Kept current incrementally by JobServiceImpl (createJob / updateJobStatus)
+ *   - Reconciled periodically (app.job-search.reconcile-interval) against the
+ *     ids and versions of OPEN jobs, which picks up jobs created, edited or
+ *     closed on other nodes
+ *
+ * Searches are served entirely from memory; they never query the jobs table.
+ * A read/write lock lets many searches run concurrently while updates are
+ * applied atomically.
+ */
+@Component
+public class JobSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(JobSearchIndex.class);
+
+    private static final float TITLE_BOOST = 3f;
+    private static final float LOCATION_BOOST = 2f;
+    private static final float DESCRIPTION_BOOST = 1f;
+
+    private final JobRepository jobRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<Long, IndexedJob> jobs = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public JobSearchIndex(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    // ============================================================
+    // Index maintenance
+    // ============================================================
+
+    /**
+     * (Re)builds the index from all OPEN jobs. Runs once on startup.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Job> openJobs = jobRepository.findByStatus(JobStatus.OPEN);
+
+        lock.writeLock().lock();
+        try {
+            index.clear();
+            jobs.clear();
+            openJobs.forEach(this::putUnlocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job search index built with {} open jobs", openJobs.size());
+    }
+
+    /**
+     * Brings the index in line with the jobs table: one query for the ids
+     * and versions of OPEN jobs, then only new or changed jobs are loaded.
+     * Entries indexed locally after the query ran are left alone: they are
+     * newer than anything the query could see.
+     *
+     * @return number of jobs added, refreshed or removed
+     */
+    @Scheduled(fixedDelayString = "${app.job-search.reconcile-interval:PT1M}",
+            initialDelayString = "${app.job-search.reconcile-interval:PT1M}")
+    public int reconcile() {
+        long queryStarted = System.nanoTime();
+        Map<Long, Long> openVersions = new HashMap<>();
+        for (Object[] row : jobRepository.findIdsAndVersionsByStatus(JobStatus.OPEN)) {
+            openVersions.put((Long) row[0], (Long) row[1]);
+        }
+
+        List<Long> stale = new ArrayList<>();
+        List<Long> gone = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            openVersions.forEach((jobId, version) -> {
+                IndexedJob indexed = jobs.get(jobId);
+                if (indexed == null || !Objects.equals(indexed.version, version)) {
+                    stale.add(jobId);
+                }
+            });
+            jobs.forEach((jobId, indexed) -> {
+                if (!openVersions.containsKey(jobId) && indexed.indexedAt - queryStarted < 0) {
+                    gone.add(jobId);
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (stale.isEmpty() && gone.isEmpty()) {
+            return 0;
+        }
+
+        List<Job> changed = stale.isEmpty() ? List.of() : jobRepository.findAllById(stale);
+
+        lock.writeLock().lock();
+        try {
+            for (Long jobId : gone) {
+                if (!indexedSince(jobId, queryStarted)) {
+                    index.remove(jobId);
+                    jobs.remove(jobId);
+                }
+            }
+            for (Job job : changed) {
+                if (indexedSince(job.getJobsId(), queryStarted)) {
+                    continue;   // changed locally meanwhile; the local update is newer
+                }
+                if (job.getStatus() == JobStatus.OPEN) {
+                    putUnlocked(job);
+                } else {
+                    index.remove(job.getJobsId());
+                    jobs.remove(job.getJobsId());
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Job search index reconciled: {} refreshed, {} removed", changed.size(), gone.size());
+        return changed.size() + gone.size();
+    }
+
+    /**
+     * Adds or refreshes a job. CLOSED jobs are removed instead, so callers
+     * can pass any job after a change.
+     *
+     * @param job the saved job entity
+     */
+    public void index(Job job) {
+        if (job.getStatus() != JobStatus.OPEN) {
+            remove(job.getJobsId());
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            putUnlocked(job);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a job from the index (no-op if absent).
+     *
+     * @param jobId the job ID
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            index.remove(jobId);
+            jobs.remove(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ============================================================
+    // Search
+    // ============================================================
+
+    /**
+     * Ranked keyword search with an optional location filter.
+     *
+     * An empty query, or one made only of stop words, matches every open job
+     * (newest first), which makes the location facets usable for plain
+     * browsing.
+     *
+     * @param query    free-text keywords (OR semantics, BM25-ranked)
+     * @param location optional exact location filter (case-insensitive)
+     * @param page     zero-based page number
+     * @param size     page size
+     * @return one page of hits plus location facet counts
+     */
+    public JobSearchResponse search(String query, String location, int page, int size) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+        boolean matchAll = terms.isEmpty();
+        String locationKey = normalizeLocation(location);
+
+        lock.readLock().lock();
+        try {
+            List<InvertedIndex.ScoredDocument> matches;
+            if (matchAll) {
+                matches = new ArrayList<>(jobs.size());
+                for (Long jobId : jobs.keySet()) {
+                    matches.add(new InvertedIndex.ScoredDocument(jobId, 0));
+                }
+            } else {
+                matches = index.search(terms, jobId -> true);
+            }
+
+            // Facets over every keyword match, before the location filter
+            Map<String, Long> facetCounts = new HashMap<>();
+            Map<String, String> facetLabels = new HashMap<>();
+            List<InvertedIndex.ScoredDocument> filtered = new ArrayList<>();
+            for (InvertedIndex.ScoredDocument match : matches) {
+                IndexedJob job = jobs.get(match.docId());
+                if (job.locationKey != null) {
+                    facetCounts.merge(job.locationKey, 1L, Long::sum);
+                    facetLabels.putIfAbsent(job.locationKey, job.location.trim());
+                }
+                if (locationKey == null || locationKey.equals(job.locationKey)) {
+                    filtered.add(match);
+                }
+            }
+
+            filtered.sort(Comparator
+                    .comparingDouble(InvertedIndex.ScoredDocument::score).reversed()
+                    .thenComparing(match -> jobs.get(match.docId()).createdAt,
+                            Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(InvertedIndex.ScoredDocument::docId, Comparator.reverseOrder()));
+
+            int from = (int) Math.min((long) page * size, filtered.size());
+            int to = Math.min(from + size, filtered.size());
+            List<JobSearchHit> hits = new ArrayList<>(to - from);
+            for (InvertedIndex.ScoredDocument match : filtered.subList(from, to)) {
+                IndexedJob job = jobs.get(match.docId());
+                hits.add(new JobSearchHit(match.docId(), job.title, job.location, job.recruiterName,
+                        job.createdAt, match.score()));
+            }
+
+            return new JobSearchResponse(query, filtered.size(), page, size, hits,
+                    sortFacets(facetCounts, facetLabels));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return number of indexed (open) jobs */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return jobs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ============================================================
+    // Private helpers
+    // ============================================================
+
+    private void putUnlocked(Job job) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, job.getTitle(), TITLE_BOOST);
+        addField(weights, job.getLocation(), LOCATION_BOOST);
+        addField(weights, job.getDescription(), DESCRIPTION_BOOST);
+
+        index.put(job.getJobsId(), weights);
+        jobs.put(job.getJobsId(), new IndexedJob(
+                job.getTitle(),
+                job.getLocation(),
+                normalizeLocation(job.getLocation()),
+                job.getRecruiter() != null ? job.getRecruiter().getName() : null,
+                job.getCreatedAt(),
+                job.getVersion(),
+                System.nanoTime()
+        ));
+    }
+
+    private boolean indexedSince(Long jobId, long nanoTime) {
+        IndexedJob indexed = jobs.get(jobId);
+        return indexed != null && indexed.indexedAt - nanoTime >= 0;
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float boost) {
+        for (String term : TextAnalyzer.tokenize(text)) {
+            weights.merge(term, boost, Float::sum);
+        }
+    }
+
+    private static String normalizeLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        return location.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Long> sortFacets(Map<String, Long> counts, Map<String, String> labels) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> sorted.put(labels.get(entry.getKey()), entry.getValue()));
+        return sorted;
+    }
+
+    /** Stored fields needed to render a hit without touching the database */
+    private static final class IndexedJob {
+        private final String title;
+        private final String location;
+        private final String locationKey;
+        private final String recruiterName;
+        private final LocalDateTime createdAt;
+        private final Long version;
+        // System.nanoTime() when indexed; reconcile only removes entries older than its query
+        private final long indexedAt;
+
+        private IndexedJob(String title, String location, String locationKey,
+                           String recruiterName, LocalDateTime createdAt, Long version, long indexedAt) {
+            this.title = title;
+            this.location = location;
+            this.locationKey = locationKey;
+            this.recruiterName = recruiterName;
+            this.createdAt = createdAt;
+            this.version = version;
+            this.indexedAt = indexedAt;
+        }
+    }
+}
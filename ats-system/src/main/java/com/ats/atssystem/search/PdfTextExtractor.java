@@ -0,0 +1,438 @@
+package com.ats.atssystem.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Pulls the visible text out of a PDF, well enough for keyword search.
+ *
+ * Walks every stream in the file, inflates FlateDecode (or reads
+ * unfiltered) content streams, and collects the strings drawn by the text
+ * operators Tj, TJ, ' and " between BT and ET. Glyph codes are read as
+ * Latin-1, which matches the simple fonts most word processors emit.
+ *
+ * Limits, by design:
+ *   - no font decoding: CID fonts without Latin-1 glyph codes and scanned
+ *     (image-only) PDFs give little or no text
+ *   - inflated data and extracted text are capped, so a crafted file
+ *     (e.g. a deflate bomb) cannot exhaust memory
+ */
+public final class PdfTextExtractor {
+
+    /** Upper bound on inflated bytes per file (all streams together) */
+    private static final int MAX_INFLATED_BYTES = 32 * 1024 * 1024;
+
+    /** Extracted text is truncated here; enough for any real resume */
+    private static final int MAX_TEXT_CHARS = 200_000;
+
+    /** TJ offsets more negative than this (thousandths of an em) read as a space */
+    private static final double WORD_GAP = -200;
+
+    private static final byte[] STREAM = ascii("stream");
+    private static final byte[] END_STREAM = ascii("endstream");
+    private static final byte[] OBJ = ascii("obj");
+
+    private PdfTextExtractor() {
+    }
+
+    /**
+     * @param pdf path of a PDF file
+     * @return the extracted text (empty if none could be found)
+     * @throws IOException if the file cannot be read
+     */
+    public static String extract(Path pdf) throws IOException {
+        return extract(Files.readAllBytes(pdf));
+    }
+
+    /**
+     * @param pdf the bytes of a PDF file
+     * @return the extracted text (empty if none could be found)
+     */
+    public static String extract(byte[] pdf) {
+        StringBuilder text = new StringBuilder();
+        int inflatedBudget = MAX_INFLATED_BYTES;
+
+        int from = 0;
+        while (text.length() < MAX_TEXT_CHARS && inflatedBudget > 0) {
+            int keyword = indexOf(pdf, STREAM, from);
+            if (keyword < 0) {
+                break;
+            }
+            int dataStart = skipEol(pdf, keyword + STREAM.length);
+            int dataEnd = indexOf(pdf, END_STREAM, dataStart);
+            if (dataEnd < 0) {
+                break;
+            }
+            from = dataEnd + END_STREAM.length;
+
+            // "endstream" also contains "stream": skip keywords that are part of it
+            if (keyword >= 3 && pdf[keyword - 1] == 'd' && pdf[keyword - 2] == 'n' && pdf[keyword - 3] == 'e') {
+                from = keyword + STREAM.length;
+                continue;
+            }
+
+            String dictionary = dictionaryBefore(pdf, keyword);
+            byte[] content;
+            if (dictionary.contains("/FlateDecode")) {
+                content = inflate(pdf, dataStart, dataEnd - dataStart, inflatedBudget);
+            } else if (!dictionary.contains("/Filter")) {
+                content = Arrays.copyOfRange(pdf, dataStart, dataEnd);
+            } else {
+                continue;   // images and other encodings carry no text operators
+            }
+            if (content == null) {
+                continue;
+            }
+            inflatedBudget -= content.length;
+            readContentStream(content, text);
+        }
+
+        if (text.length() > MAX_TEXT_CHARS) {
+            text.setLength(MAX_TEXT_CHARS);
+        }
+        return text.toString().strip();
+    }
+
+    // ============================================================
+    // Content stream interpretation
+    // ============================================================
+
+    /** Appends the strings drawn by text operators in one content stream */
+    private static void readContentStream(byte[] content, StringBuilder text) {
+        List<Object> operands = new ArrayList<>();
+        int i = 0;
+        int n = content.length;
+
+        while (i < n && text.length() < MAX_TEXT_CHARS) {
+            int c = content[i] & 0xff;
+            if (isWhitespace(c)) {
+                i++;
+            } else if (c == '%') {
+                while (i < n && content[i] != '\n' && content[i] != '\r') {
+                    i++;
+                }
+            } else if (c == '(') {
+                StringBuilder literal = new StringBuilder();
+                i = readLiteral(content, i, literal);
+                operands.add(literal.toString());
+            } else if (c == '<' && i + 1 < n && content[i + 1] == '<') {
+                i = skipDictionary(content, i);
+            } else if (c == '<') {
+                StringBuilder hex = new StringBuilder();
+                i = readHex(content, i, hex);
+                operands.add(hex.toString());
+            } else if (c == '/') {
+                // Names (fonts, tags) are never drawn; skip without ending the operand list
+                i++;
+                while (i < n && !isWhitespace(content[i] & 0xff) && !isDelimiter(content[i] & 0xff)) {
+                    i++;
+                }
+            } else if (c == '[') {
+                operands.add(new ArrayList<>());
+                i++;
+            } else if (c == ']') {
+                // Fold everything since the matching '[' into one array operand
+                int open = operands.size() - 1;
+                while (open >= 0 && !(operands.get(open) instanceof List)) {
+                    open--;
+                }
+                if (open >= 0) {
+                    @SuppressWarnings("unchecked")
+                    List<Object> array = (List<Object>) operands.get(open);
+                    array.addAll(operands.subList(open + 1, operands.size()));
+                    operands.subList(open + 1, operands.size()).clear();
+                }
+                i++;
+            } else {
+                int start = i;
+                while (i < n && !isWhitespace(content[i] & 0xff) && !isDelimiter(content[i] & 0xff)) {
+                    i++;
+                }
+                if (i == start) {
+                    i++;    // stray delimiter such as ')' or '>'
+                    continue;
+                }
+                String token = new String(content, start, i - start, StandardCharsets.ISO_8859_1);
+                if (isNumber(token)) {
+                    operands.add(Double.valueOf(token));
+                    continue;
+                }
+                if (token.equals("ID")) {
+                    i = skipInlineImage(content, i);
+                }
+                applyOperator(token, operands, text);
+                operands.clear();
+            }
+        }
+        endLine(text);
+    }
+
+    private static void applyOperator(String operator, List<Object> operands, StringBuilder text) {
+        switch (operator) {
+            case "Tj" -> appendString(lastOperand(operands), text);
+            case "'", "\"" -> {
+                endLine(text);
+                appendString(lastOperand(operands), text);
+            }
+            case "TJ" -> {
+                if (lastOperand(operands) instanceof List<?> array) {
+                    for (Object element : array) {
+                        if (element instanceof Double offset && offset < WORD_GAP) {
+                            appendSpace(text);
+                        } else {
+                            appendString(element, text);
+                        }
+                    }
+                }
+            }
+            case "Td", "TD", "T*", "Tm" -> appendSpace(text);
+            case "ET" -> endLine(text);
+            default -> {
+            }
+        }
+    }
+
+    private static Object lastOperand(List<Object> operands) {
+        return operands.isEmpty() ? null : operands.get(operands.size() - 1);
+    }
+
+    private static void appendString(Object operand, StringBuilder text) {
+        if (!(operand instanceof String string)) {
+            return;
+        }
+        for (int k = 0; k < string.length(); k++) {
+            char ch = string.charAt(k);
+            // Drop control characters: they are glyph ids of non-Latin-1 fonts, not text
+            if (ch >= 0x20 && ch != 0x7f && !(ch >= 0x80 && ch < 0xa0)) {
+                text.append(ch);
+            }
+        }
+    }
+
+    private static void appendSpace(StringBuilder text) {
+        if (!text.isEmpty() && !Character.isWhitespace(text.charAt(text.length() - 1))) {
+            text.append(' ');
+        }
+    }
+
+    private static void endLine(StringBuilder text) {
+        if (!text.isEmpty() && text.charAt(text.length() - 1) != '\n') {
+            if (text.charAt(text.length() - 1) == ' ') {
+                text.setLength(text.length() - 1);
+            }
+            text.append('\n');
+        }
+    }
+
+    // ============================================================
+    // Lexical helpers
+    // ============================================================
+
+    /** Reads a (literal string) with escapes and balanced parentheses; returns the index after it */
+    private static int readLiteral(byte[] content, int i, StringBuilder out) {
+        int depth = 0;
+        int n = content.length;
+        for (i++; i < n; i++) {
+            int c = content[i] & 0xff;
+            if (c == '\\' && i + 1 < n) {
+                int e = content[++i] & 0xff;
+                switch (e) {
+                    case 'n' -> out.append('\n');
+                    case 'r' -> out.append('\r');
+                    case 't' -> out.append('\t');
+                    case 'b', 'f' -> {
+                    }
+                    case '\r', '\n' -> {
+                        if (e == '\r' && i + 1 < n && content[i + 1] == '\n') {
+                            i++;
+                        }
+                    }
+                    default -> {
+                        if (e >= '0' && e <= '7') {
+                            int value = e - '0';
+                            for (int d = 0; d < 2 && i + 1 < n && content[i + 1] >= '0' && content[i + 1] <= '7'; d++) {
+                                value = value * 8 + (content[++i] - '0');
+                            }
+                            out.append((char) (value & 0xff));
+                        } else {
+                            out.append((char) e);
+                        }
+                    }
+                }
+            } else if (c == '(') {
+                depth++;
+                out.append('(');
+            } else if (c == ')') {
+                if (depth == 0) {
+                    return i + 1;
+                }
+                depth--;
+                out.append(')');
+            } else {
+                out.append((char) c);
+            }
+        }
+        return n;
+    }
+
+    /** Reads a <hex string>; returns the index after it */
+    private static int readHex(byte[] content, int i, StringBuilder out) {
+        int n = content.length;
+        int high = -1;
+        for (i++; i < n && content[i] != '>'; i++) {
+            int digit = Character.digit(content[i], 16);
+            if (digit < 0) {
+                continue;
+            }
+            if (high < 0) {
+                high = digit;
+            } else {
+                out.append((char) (high * 16 + digit));
+                high = -1;
+            }
+        }
+        if (high >= 0) {
+            out.append((char) (high * 16));
+        }
+        return Math.min(i + 1, n);
+    }
+
+    /** Skips an inline << dictionary >> (nested ones included) */
+    private static int skipDictionary(byte[] content, int i) {
+        int depth = 0;
+        int n = content.length;
+        while (i < n) {
+            if (content[i] == '<' && i + 1 < n && content[i + 1] == '<') {
+                depth++;
+                i += 2;
+            } else if (content[i] == '>' && i + 1 < n && content[i + 1] == '>') {
+                depth--;
+                i += 2;
+                if (depth == 0) {
+                    return i;
+                }
+            } else if (content[i] == '(') {
+                i = readLiteral(content, i, new StringBuilder());
+            } else {
+                i++;
+            }
+        }
+        return n;
+    }
+
+    /** Skips inline image data up to the closing EI operator */
+    private static int skipInlineImage(byte[] content, int i) {
+        int n = content.length;
+        for (; i + 2 < n; i++) {
+            if (isWhitespace(content[i] & 0xff) && content[i + 1] == 'E' && content[i + 2] == 'I'
+                    && (i + 3 == n || isWhitespace(content[i + 3] & 0xff))) {
+                return i + 3;
+            }
+        }
+        return n;
+    }
+
+    /** The object's dictionary text between the preceding "obj" and the stream keyword */
+    private static String dictionaryBefore(byte[] pdf, int keyword) {
+        int start = Math.max(0, keyword - 2048);
+        int obj = lastIndexOf(pdf, OBJ, start, keyword);
+        if (obj >= 0) {
+            start = obj;
+        }
+        return new String(pdf, start, keyword - start, StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] inflate(byte[] pdf, int offset, int length, int budget) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(pdf, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(length * 4, budget));
+            byte[] buffer = new byte[16 * 1024];
+            while (!inflater.finished() && !inflater.needsInput() && !inflater.needsDictionary()) {
+                int inflated = inflater.inflate(buffer);
+                if (inflated == 0 && inflater.needsInput()) {
+                    break;
+                }
+                if (out.size() + inflated > budget) {
+                    return null;
+                }
+                out.write(buffer, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int skipEol(byte[] pdf, int i) {
+        if (i < pdf.length && pdf[i] == '\r') {
+            i++;
+        }
+        if (i < pdf.length && pdf[i] == '\n') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern, int from) {
+        outer:
+        for (int i = Math.max(from, 0); i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(byte[] data, byte[] pattern, int from, int to) {
+        outer:
+        for (int i = to - pattern.length; i >= from; i--) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    private static boolean isNumber(String token) {
+        char first = token.charAt(0);
+        if (!(Character.isDigit(first) || first == '-' || first == '+' || first == '.')) {
+            return false;
+        }
+        try {
+            Double.parseDouble(token);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == '\f' || c == 0;
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == '(' || c == ')' || c == '<' || c == '>' || c == '[' || c == ']'
+                || c == '{' || c == '}' || c == '/' || c == '%';
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,308 @@
+package com.ats.atssystem.search;
+
+import com.ats.atssystem.dto.ResumeSearchHit;
+import com.ats.atssystem.dto.ResumeSearchResponse;
+import com.ats.atssystem.repository.ResumeTextRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Embedded full-text index over extracted resume text, keyed by resumeId,
+ * for the recruiter resume search.
+ *
+ * Every resume is stored with the recruiter who owns the job it was
+ * submitted to; searches only ever score that recruiter's resumes.
+ *
+ * Lifecycle:
+ *   - Loaded from the resume_texts table when the application is ready
+ *   - Kept current by ResumeTextIndexer as new resumes are extracted
+ *   - Reloaded incrementally (app.resume-text.reload-interval) from rows
+ *     extracted after an (extracted_at, resume_id) watermark, which picks
+ *     up resumes extracted on other nodes
+ *
+ * Resumes are never deleted, so nothing is ever removed from the index.
+ *
+ * Same locking model as JobSearchIndex: concurrent searches, atomic updates.
+ */
+@Component
+public class ResumeSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeSearchIndex.class);
+
+    /** The file name often carries the candidate's name or role */
+    private static final float FILE_NAME_BOOST = 2f;
+    private static final float CONTENT_BOOST = 1f;
+
+    /** Rows read per reload query */
+    private static final int RELOAD_BATCH = 500;
+
+    /**
+     * extracted_at is set before the row commits. The watermark stays this
+     * far behind the clock so a row committing late is still read; rows in
+     * that window are read again and simply replaced.
+     */
+    private static final Duration WATERMARK_LAG = Duration.ofMinutes(1);
+
+    private final ResumeTextRepository resumeTextRepository;
+
+    private final InvertedIndex index = new InvertedIndex();
+    private final Map<Long, IndexedResume> resumes = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Reload position: rows after (extractedAt, resumeId) are read next
+    private LocalDateTime watermarkExtractedAt = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private long watermarkResumeId;
+
+    public ResumeSearchIndex(ResumeTextRepository resumeTextRepository) {
+        this.resumeTextRepository = resumeTextRepository;
+    }
+
+    // ============================================================
+    // Index maintenance
+    // ============================================================
+
+    /**
+     * (Re)builds the index from every extracted resume. Runs once on startup.
+     * Rows are streamed, so resume text is never held in memory all at once.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        LocalDateTime started = LocalDateTime.now();
+        lock.writeLock().lock();
+        try (Stream<Object[]> rows = resumeTextRepository.streamIndexRows()) {
+            index.clear();
+            resumes.clear();
+            rows.forEach(row -> putUnlocked(
+                    (Long) row[0], (Long) row[1], (Long) row[2], (Long) row[3],
+                    (String) row[4], (String) row[5], (String) row[6]));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        watermarkExtractedAt = started.minus(WATERMARK_LAG);
+        watermarkResumeId = 0;
+        log.info("Resume search index built with {} resumes", size());
+    }
+
+    /**
+     * Adds resumes extracted since the last reload, oldest first, in
+     * batches. Rows already indexed locally are replaced with the same
+     * content.
+     *
+     * @return number of resumes (re)indexed
+     */
+    @Scheduled(fixedDelayString = "${app.resume-text.reload-interval:PT1M}",
+            initialDelayString = "${app.resume-text.reload-interval:PT1M}")
+    @Transactional(readOnly = true)
+    public synchronized int reload() {
+        LocalDateTime settled = LocalDateTime.now().minus(WATERMARK_LAG);
+        LocalDateTime afterExtractedAt = watermarkExtractedAt;
+        long afterResumeId = watermarkResumeId;
+        int loaded = 0;
+
+        List<Object[]> rows;
+        do {
+            rows = resumeTextRepository.findIndexRowsAfter(afterExtractedAt, afterResumeId, Limit.of(RELOAD_BATCH));
+            lock.writeLock().lock();
+            try {
+                for (Object[] row : rows) {
+                    putUnlocked((Long) row[0], (Long) row[1], (Long) row[2], (Long) row[3],
+                            (String) row[4], (String) row[5], (String) row[6]);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            for (Object[] row : rows) {
+                afterExtractedAt = (LocalDateTime) row[7];
+                afterResumeId = (Long) row[0];
+                // Only settled rows move the watermark; younger ones are read again next time
+                if (!afterExtractedAt.isAfter(settled)) {
+                    watermarkExtractedAt = afterExtractedAt;
+                    watermarkResumeId = afterResumeId;
+                }
+            }
+            loaded += rows.size();
+        } while (rows.size() == RELOAD_BATCH);
+
+        if (loaded > 0) {
+            log.debug("Resume search index reloaded {} resumes", loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Adds or replaces a resume.
+     *
+     * @param resumeId      the resume ID (document key)
+     * @param applicationId the application the resume belongs to
+     * @param jobId         the job applied to
+     * @param recruiterId   owner of the job; only they can find this resume
+     * @param candidateName shown in hits
+     * @param fileName      original file name (indexed and shown in hits)
+     * @param content       extracted text
+     */
+    public void put(Long resumeId, Long applicationId, Long jobId, Long recruiterId,
+                    String candidateName, String fileName, String content) {
+        lock.writeLock().lock();
+        try {
+            putUnlocked(resumeId, applicationId, jobId, recruiterId, candidateName, fileName, content);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ============================================================
+    // Search
+    // ============================================================
+
+    /**
+     * Ranked keyword search over one recruiter's resumes.
+     *
+     * @param recruiterId the calling recruiter; other recruiters' resumes are never scored
+     * @param query       free-text keywords (OR semantics, BM25-ranked)
+     * @param jobId       optional: only resumes submitted to this job
+     * @param page        zero-based page number
+     * @param size        page size
+     * @return one page of hits, best first (ties: newest resume first)
+     */
+    public ResumeSearchResponse search(Long recruiterId, String query, Long jobId, int page, int size) {
+        LinkedHashSet<String> terms = new LinkedHashSet<>(TextAnalyzer.tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            List<InvertedIndex.ScoredDocument> matches = index.search(terms, resumeId -> {
+                IndexedResume resume = resumes.get(resumeId);
+                return resume.recruiterId.equals(recruiterId) && (jobId == null || resume.jobId.equals(jobId));
+            });
+
+            matches.sort(Comparator
+                    .comparingDouble(InvertedIndex.ScoredDocument::score).reversed()
+                    .thenComparing(InvertedIndex.ScoredDocument::docId, Comparator.reverseOrder()));
+
+            int from = (int) Math.min((long) page * size, matches.size());
+            int to = Math.min(from + size, matches.size());
+            List<ResumeSearchHit> hits = matches.subList(from, to).stream()
+                    .map(match -> {
+                        IndexedResume resume = resumes.get(match.docId());
+                        return new ResumeSearchHit(match.docId(), resume.applicationId, resume.jobId,
+                                resume.candidateName, resume.fileName, match.score());
+                    })
+                    .toList();
+
+            return new ResumeSearchResponse(query, matches.size(), page, size, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Builds a job's match profile with IDF weights taken from the resumes
+     * indexed right now.
+     *
+     * @param title       job title
+     * @param description job description
+     * @return the profile, for scoring resumes against the job
+     */
+    public JobMatchProfile matchProfile(String title, String description) {
+        lock.readLock().lock();
+        try {
+            return JobMatchProfile.of(title, description, new JobMatchProfile.CorpusStatistics() {
+                @Override
+                public int documentCount() {
+                    return index.size();
+                }
+
+                @Override
+                public double averageLength() {
+                    return index.averageLength();
+                }
+
+                @Override
+                public int[] documentFrequencies(List<String> terms) {
+                    int[] frequencies = new int[terms.size()];
+                    for (int i = 0; i < frequencies.length; i++) {
+                        frequencies[i] = index.documentFrequency(terms.get(i));
+                    }
+                    return frequencies;
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return true if the resume is indexed */
+    public boolean contains(Long resumeId) {
+        lock.readLock().lock();
+        try {
+            return resumes.containsKey(resumeId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** @return number of indexed resumes */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return resumes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ============================================================
+    // Private helpers
+    // ============================================================
+
+    private void putUnlocked(Long resumeId, Long applicationId, Long jobId, Long recruiterId,
+                             String candidateName, String fileName, String content) {
+        Map<String, Float> weights = new HashMap<>();
+        addField(weights, fileName, FILE_NAME_BOOST);
+        addField(weights, content, CONTENT_BOOST);
+
+        index.put(resumeId, weights);
+        resumes.put(resumeId, new IndexedResume(applicationId, jobId, recruiterId, candidateName, fileName));
+    }
+
+    private static void addField(Map<String, Float> weights, String text, float boost) {
+        for (String term : TextAnalyzer.tokenize(text)) {
+            weights.merge(term, boost, Float::sum);
+        }
+    }
+
+    /** Stored fields needed to scope a search and render a hit */
+    private static final class IndexedResume {
+        private final Long applicationId;
+        private final Long jobId;
+        private final Long recruiterId;
+        private final String candidateName;
+        private final String fileName;
+
+        private IndexedResume(Long applicationId, Long jobId, Long recruiterId,
+                              String candidateName, String fileName) {
+            this.applicationId = applicationId;
+            this.jobId = jobId;
+            this.recruiterId = recruiterId;
+            this.candidateName = candidateName;
+            this.fileName = fileName;
+        }
+    }
+}
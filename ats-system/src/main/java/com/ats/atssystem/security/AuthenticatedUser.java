@@ -0,0 +1,66 @@
+package com.ats.atssystem.security;
+
+import com.ats.atssystem.model.Role;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.security.Principal;
+
+/**
+ * Principal placed in the SecurityContext by JwtFilter.
+ *
+ * Carries the caller's userId, email and role straight from the verified
+ * JWT, so services can identify the caller without a database round-trip.
+ *
+ * Implements Principal so Authentication.getName() keeps returning the
+ * email, as it did when the principal was a plain email string.
+ */
+public final class AuthenticatedUser implements Principal {
+
+    private final Long userId;
+    private final String email;
+    private final Role role;
+
+    public AuthenticatedUser(Long userId, String email, Role role) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+    }
+
+    /**
+     * Returns the principal of the current request.
+     *
+     * @return the authenticated user
+     * @throws RuntimeException if the request is not authenticated with a JWT
+     */
+    public static AuthenticatedUser current() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            throw new RuntimeException("User is not authenticated");
+        }
+        return user;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Role getRole() {
+        return role;
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,140 @@
+package com.ats.atssystem.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-node login throttle with bounded memory.
+ *
+ * Entries expire once their failure window and any lockout have passed,
+ * and the map never holds more than max-entries keys: when full, the least
+ * recently touched key is evicted. A flood of logins for random emails
+ * therefore costs at most max-entries small entries.
+ *
+ * The trade-off is that a flood large enough to cycle the whole map can
+ * evict a real lockout early. Deployments that need hard guarantees (or
+ * run several nodes) should use JdbcLoginThrottleStore.
+ */
+@Component
+@ConditionalOnProperty(name = "app.login-throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryLoginThrottleStore implements LoginThrottleStore {
+
+    private final int maxAttempts;
+    private final long lockoutMillis;
+    private final int maxEntries;
+    private final Clock clock;
+
+    // Access-ordered: the head is always the least recently touched key
+    private final LinkedHashMap<String, Entry> entries;
+    private long evicted;
+
+    @Autowired
+    public InMemoryLoginThrottleStore(@Value("${app.login-throttle.max-attempts:5}") int maxAttempts,
+                                      @Value("${app.login-throttle.lockout-duration:15m}") Duration lockoutDuration,
+                                      @Value("${app.login-throttle.max-entries:50000}") int maxEntries) {
+        this(maxAttempts, lockoutDuration, maxEntries, Clock.systemUTC());
+    }
+
+    public InMemoryLoginThrottleStore(int maxAttempts, Duration lockoutDuration, int maxEntries, Clock clock) {
+        if (maxAttempts < 1 || maxEntries < 1) {
+            throw new IllegalArgumentException("max-attempts and max-entries must be positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.lockoutMillis = lockoutDuration.toMillis();
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= InMemoryLoginThrottleStore.this.maxEntries) {
+                    return false;
+                }
+                evicted++;
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public synchronized long lockedForMillis(String key) {
+        long now = clock.millis();
+        purgeExpired(now);
+
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return 0;
+        }
+        return Math.max(0, entry.lockedUntil - now);
+    }
+
+    @Override
+    public synchronized void recordFailure(String key) {
+        long now = clock.millis();
+        purgeExpired(now);
+
+        Entry entry = entries.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            // Failures are counted within one lockout-length window
+            entry = new Entry(now);
+            entries.put(key, entry);
+        }
+
+        entry.failures++;
+
+        if (entry.failures >= maxAttempts) {
+            entry.lockedUntil = now + lockoutMillis;
+            entry.failures = 0;
+        }
+    }
+
+    @Override
+    public synchronized void reset(String key) {
+        entries.remove(key);
+    }
+
+    /** Number of keys currently held (for tests and monitoring) */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /** Live keys dropped to stay within max-entries (for tests and monitoring) */
+    public synchronized long evictedCount() {
+        return evicted;
+    }
+
+    /**
+     * Drops expired entries from the head of the map. Stops at the first
+     * live entry, so the cost is proportional to what is removed.
+     */
+    private void purgeExpired(long now) {
+        Iterator<Entry> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (!it.next().isExpired(now)) {
+                return;
+            }
+            it.remove();
+        }
+    }
+
+    private final class Entry {
+        private final long windowStart;
+        private long lockedUntil;
+        private int failures;
+
+        private Entry(long windowStart) {
+            this.windowStart = windowStart;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= lockedUntil && now - windowStart >= lockoutMillis;
+        }
+    }
+}
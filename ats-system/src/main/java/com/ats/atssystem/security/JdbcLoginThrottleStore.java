@@ -0,0 +1,138 @@
+package com.ats.atssystem.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Login throttle shared by every node through the login_throttles table.
+ *
+ * Each failure is recorded in one short transaction: the row is created if
+ * missing, locked with SELECT ... FOR UPDATE and updated, so concurrent
+ * failures for the same email on different nodes are all counted.
+ *
+ * Expired rows are deleted periodically by purgeExpired(); the delete is
+ * idempotent, so it is safe for every node to run it.
+ */
+@Component
+@ConditionalOnProperty(name = "app.login-throttle.store", havingValue = "jdbc")
+public class JdbcLoginThrottleStore implements LoginThrottleStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcLoginThrottleStore.class);
+
+    private static final String INSERT_IF_ABSENT =
+            "INSERT INTO login_throttles (throttle_key, failures, window_start, locked_until, expires_at) "
+                    + "VALUES (?, 0, ?, 0, ?) ON DUPLICATE KEY UPDATE throttle_key = throttle_key";
+
+    private static final String SELECT_FOR_UPDATE =
+            "SELECT failures, window_start, locked_until FROM login_throttles "
+                    + "WHERE throttle_key = ? FOR UPDATE";
+
+    private static final String UPDATE =
+            "UPDATE login_throttles SET failures = ?, window_start = ?, locked_until = ?, expires_at = ? "
+                    + "WHERE throttle_key = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long lockoutMillis;
+    private final Clock clock;
+
+    @Autowired
+    public JdbcLoginThrottleStore(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${app.login-throttle.max-attempts:5}") int maxAttempts,
+                                  @Value("${app.login-throttle.lockout-duration:15m}") Duration lockoutDuration) {
+        this(jdbcTemplate, transactionManager, maxAttempts, lockoutDuration, Clock.systemUTC());
+    }
+
+    public JdbcLoginThrottleStore(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  int maxAttempts,
+                                  Duration lockoutDuration,
+                                  Clock clock) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("max-attempts must be positive");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+        this.lockoutMillis = lockoutDuration.toMillis();
+        this.clock = clock;
+    }
+
+    @Override
+    public long lockedForMillis(String key) {
+        Long lockedUntil = jdbcTemplate.query(
+                "SELECT locked_until FROM login_throttles WHERE throttle_key = ?",
+                rs -> rs.next() ? rs.getLong(1) : null,
+                key);
+
+        if (lockedUntil == null) {
+            return 0;
+        }
+        return Math.max(0, lockedUntil - clock.millis());
+    }
+
+    @Override
+    public void recordFailure(String key) {
+        transactionTemplate.executeWithoutResult(status -> {
+            long now = clock.millis();
+
+            jdbcTemplate.update(INSERT_IF_ABSENT, key, now, now + lockoutMillis);
+
+            long[] row = jdbcTemplate.queryForObject(SELECT_FOR_UPDATE,
+                    (rs, rowNum) -> new long[]{rs.getInt(1), rs.getLong(2), rs.getLong(3)},
+                    key);
+
+            int failures = (int) row[0];
+            long windowStart = row[1];
+            long lockedUntil = row[2];
+
+            // Failures are counted within one lockout-length window
+            boolean expired = now >= lockedUntil && now - windowStart >= lockoutMillis;
+            if (expired) {
+                failures = 0;
+                windowStart = now;
+            }
+
+            failures++;
+            if (failures >= maxAttempts) {
+                lockedUntil = now + lockoutMillis;
+                failures = 0;
+            }
+
+            long expiresAt = Math.max(windowStart + lockoutMillis, lockedUntil);
+            jdbcTemplate.update(UPDATE, failures, windowStart, lockedUntil, expiresAt, key);
+        });
+    }
+
+    @Override
+    public void reset(String key) {
+        jdbcTemplate.update("DELETE FROM login_throttles WHERE throttle_key = ?", key);
+    }
+
+    /**
+     * Deletes rows whose window and lockout have both passed.
+     *
+     * @return number of rows removed
+     */
+    @Scheduled(fixedDelayString = "${app.login-throttle.purge-interval:PT5M}")
+    public int purgeExpired() {
+        int removed = jdbcTemplate.update("DELETE FROM login_throttles WHERE expires_at <= ?", clock.millis());
+        if (removed > 0) {
+            log.debug("Purged {} expired login throttle rows", removed);
+        }
+        return removed;
+    }
+}
@@ -1,5 +1,9 @@
 package com.ats.atssystem.security;
 
+import com.ats.atssystem.model.Role;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -13,14 +17,30 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final WebAuthenticationDetailsSource detailsSource = new WebAuthenticationDetailsSource();
 
-    public JwtFilter(JwtUtil jwtUtil) {
+    // Signature verification time, by whether the token was accepted
+    private final Timer validParseTime;
+    private final Timer invalidParseTime;
+
+    public JwtFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry) {
         this.jwtUtil = jwtUtil;
+        this.validParseTime = parseTimer(meterRegistry, "valid");
+        this.invalidParseTime = parseTimer(meterRegistry, "invalid");
+    }
+
+    private static Timer parseTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("ats.jwt.parse")
+                .description("JWT parse and signature check time")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     @Override
@@ -36,20 +56,28 @@ public class JwtFilter extends OncePerRequestFilter {
 
             String token = authHeader.substring(7);
 
-            if (jwtUtil.validateToken(token)) {
+            // One signature verification per request; claims are reused below
+            long start = System.nanoTime();
+            Claims claims = jwtUtil.parseToken(token);
+            (claims != null ? validParseTime : invalidParseTime).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+            // Tokens issued before userId was embedded are not accepted (users log in again)
+            Long userId = claims != null ? claims.get("uid", Long.class) : null;
+
+            if (userId != null) {
 
-                String email = jwtUtil.extractEmail(token);
-                String role = jwtUtil.extractRole(token);
+                String email = claims.getSubject();
+                Role role = Role.valueOf(claims.get("role", String.class));
 
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
-                                email,
+                                new AuthenticatedUser(userId, email, role),
                                 null,
-                                List.of(new SimpleGrantedAuthority("ROLE_" + role))
+                                List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
                         );
 
                 authentication.setDetails(
-                        new WebAuthenticationDetailsSource().buildDetails(request)
+                        detailsSource.buildDetails(request)
                 );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -2,6 +2,7 @@ package com.ats.atssystem.security;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -14,37 +15,63 @@ import java.util.Date;
 @Component
 public class JwtUtil {
 
-    // CRITICAL: Load from environment variables, NOT hardcoded
-    @Value("${jwt.secret}")
-    private String SECRET;
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final long expiration;
 
-    @Value("${jwt.expiration:86400000}") // Default 24 hours in milliseconds
-    private long EXPIRATION;
+    // CRITICAL: Load from environment variables, NOT hardcoded
+    public JwtUtil(@Value("${jwt.secret}") String secret,
+                   @Value("${jwt.expiration:86400000}") long expiration) { // Default 24 hours in milliseconds
 
-    private SecretKey getKey() {
-        // Validate secret is long enough for HS256 (minimum 32 characters)
-        if (SECRET == null || SECRET.length() < 32) {
+        // Validate secret is long enough for HS256 (minimum 32 characters).
+        // Checked once at startup so a bad secret fails fast instead of on the first request.
+        if (secret == null || secret.length() < 32) {
             throw new IllegalStateException(
                     "JWT secret must be at least 32 characters. " +
                             "Set 'jwt.secret' property in application.properties or environment variables"
             );
         }
-        return Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        // The signing key and parser are immutable and thread-safe: build them once
+        this.key = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+        this.expiration = expiration;
     }
 
     // =========================
     // TOKEN GENERATION
     // =========================
-    public String generateToken(String email, String role) {
+    public String generateToken(Long userId, String email, String role) {
         return Jwts.builder()
                 .setSubject(email)
+                .claim("uid", userId)
                 .claim("role", role)
                 .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION))
-                .signWith(getKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
+    // =========================
+    // TOKEN PARSING
+    // =========================
+
+    /**
+     * Verifies the token signature and expiry ONCE and returns its claims.
+     * Callers that need several claims should use this instead of the
+     * individual extract methods, which each re-verify the token.
+     *
+     * @param token the compact JWT
+     * @return the verified claims, or null if the token is invalid or expired
+     */
+    public Claims parseToken(String token) {
+        try {
+            return getClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     // =========================
     // TOKEN EXTRACTION
     // =========================
@@ -56,25 +83,21 @@ public class JwtUtil {
         return getClaims(token).get("role", String.class);
     }
 
+    public Long extractUserId(String token) {
+        return getClaims(token).get("uid", Long.class);
+    }
+
     // =========================
     // TOKEN VALIDATION
     // =========================
     public boolean validateToken(String token) {
-        try {
-            getClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return parseToken(token) != null;
     }
 
     // =========================
     // INTERNAL
     // =========================
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getKey())
-                .parseClaimsJws(token)
-                .getBody();
+        return parser.parseClaimsJws(token).getBody();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,29 @@
+package com.ats.atssystem.security;
+
+/**
+ * Tracks failed logins per key (the login email) and decides lockouts.
+ *
+ * Implementations:
+ *   - InMemoryLoginThrottleStore: size-bounded, time-expiring, per node (default)
+ *   - JdbcLoginThrottleStore:     shared table, throttles across all nodes
+ *
+ * Selected with app.login-throttle.store=memory|jdbc.
+ */
+public interface LoginThrottleStore {
+
+    /**
+     * @return milliseconds until the key is unlocked, or 0 if it is not locked
+     */
+    long lockedForMillis(String key);
+
+    /**
+     * Records one failed login. The failure that reaches the attempt limit
+     * locks the key for the lockout duration.
+     */
+    void recordFailure(String key);
+
+    /**
+     * Forgets all failures and any lockout for the key (successful login).
+     */
+    void reset(String key);
+}
@@ -0,0 +1,139 @@
+package com.ats.atssystem.security;
+
+import com.ats.atssystem.exception.TooManyRequestsException;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs BCrypt hashing and verification on a dedicated, bounded pool.
+ *
+ * BCrypt is deliberately CPU-expensive. Running it on Tomcat request
+ * threads lets a login storm occupy every worker, so cheap endpoints queue
+ * behind it. Here it gets a fixed number of threads and a bounded queue;
+ * when both are full the call is rejected immediately with
+ * TooManyRequestsException (HTTP 429) rather than waiting.
+ *
+ * Pool state (queue depth, active threads, rejections) is exposed through
+ * the getters below for monitoring.
+ */
+@Component
+public class PasswordHasher {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+
+    /** Suggested client back-off when the pool is saturated */
+    private static final long RETRY_AFTER_SECONDS = 1;
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @Autowired
+    public PasswordHasher(@Value("${app.password-hashing.threads:0}") int threads,
+                          @Value("${app.password-hashing.queue-capacity:32}") int queueCapacity) {
+        this(new BCryptPasswordEncoder(), threads, queueCapacity);
+    }
+
+    public PasswordHasher(BCryptPasswordEncoder encoder, int threads, int queueCapacity) {
+        // 0 (the default) sizes the pool to the CPU count; BCrypt is CPU-bound
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+
+        this.encoder = encoder;
+        this.queueCapacity = queueCapacity;
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @throws TooManyRequestsException if the pool and its queue are full
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Verifies a raw password against a stored hash on the hashing pool.
+     *
+     * @throws TooManyRequestsException if the pool and its queue are full
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> encoder.matches(rawPassword, encodedPassword));
+    }
+
+    // ============================
+    // POOL METRICS
+    // ============================
+
+    /** Tasks waiting for a hashing thread */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /** Threads currently hashing */
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    public int getPoolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    /** Calls rejected with 429 since startup */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            long rejected = rejectedCount.incrementAndGet();
+            log.warn("Password hashing pool saturated (queue {}/{}, rejected {} so far)",
+                    getQueueDepth(), queueCapacity, rejected);
+            throw new TooManyRequestsException(
+                    "Too many authentication requests. Please try again shortly.", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    private static final class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -1,92 +1,154 @@
 package com.ats.atssystem.service;
 
 import com.ats.atssystem.dto.*;
-import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
 import com.ats.atssystem.model.Role;
 import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.AdminExportRepository;
 import com.ats.atssystem.repository.JobRepository;
 import com.ats.atssystem.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Service for Admin operations.
  *
  * Phases:
  * - A1: Dashboard statistics
- * - A2: View all users
- * - A3: View all jobs
+ * - A2: View all users (full list, paged + filtered, streamed export)
+ * - A3: View all jobs  (full list, paged + filtered, streamed export)
  * - A4: View and edit admin profile
+ *
+ * Listings read lean DTO projections (recruiter joined in SQL, never loaded
+ * per row). Exports stream rows from a forward-only cursor straight to the
+ * response, so memory stays constant whatever the table size; they read
+ * through AdminExportRepository, whose own pool has cursor fetching on.
  */
 @Service
 public class AdminService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
+    /** Rows written between flushes of a streamed export */
+    private static final int EXPORT_FLUSH_EVERY = 1000;
+
+    /** Leading characters that make a spreadsheet evaluate a CSV cell as a formula */
+    private static final String CSV_FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final String[] USER_COLUMNS = {"email", "name", "role"};
+    private static final String[] JOB_COLUMNS = {"jobId", "title", "recruiterEmail", "recruiterName", "status", "location"};
+
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
+    private final AdminExportRepository exportRepository;
+    private final DashboardStatistics dashboardStatistics;
+    private final ObjectMapper objectMapper;
 
-    public AdminService(UserRepository userRepository, JobRepository jobRepository) {
+    public AdminService(UserRepository userRepository,
+                        JobRepository jobRepository,
+                        AdminExportRepository exportRepository,
+                        DashboardStatistics dashboardStatistics,
+                        ObjectMapper objectMapper) {
         this.userRepository = userRepository;
         this.jobRepository = jobRepository;
+        this.exportRepository = exportRepository;
+        this.dashboardStatistics = dashboardStatistics;
+        this.objectMapper = objectMapper;
     }
 
     /**
      * PHASE A1: Get Dashboard Statistics
+     *
+     * Served from precomputed in-memory counters (no COUNT queries).
      */
     public AdminDashboardStatsDTO getDashboardStats() {
-        Long totalUsers = userRepository.count();
-        Long recruiters = userRepository.countByRole(Role.RECRUITER);
-        Long candidates = userRepository.countByRole(Role.CANDIDATE);
-
-        Long totalJobs = jobRepository.count();
-        Long openJobs = jobRepository.countByStatus(JobStatus.OPEN);
-        Long closedJobs = jobRepository.countByStatus(JobStatus.CLOSED);
-
-        return new AdminDashboardStatsDTO(
-                totalUsers,
-                recruiters,
-                candidates,
-                totalJobs,
-                openJobs != null ? openJobs : 0L,
-                closedJobs != null ? closedJobs : 0L
-        );
+        return dashboardStatistics.snapshot();
     }
 
     /**
      * PHASE A2: Get All Users
+     *
+     * Kept for the existing dashboard; prefer getUsersPage / exportUsers
+     * for large tables.
      */
+    @Transactional(readOnly = true)
     public List<AdminUserDTO> getAllUsers() {
-        List<User> users = userRepository.findAll();
-
-        return users.stream()
-                .map(user -> new AdminUserDTO(
-                        user.getEmail(),
-                        user.getName(),
-                        user.getRole()
-                ))
-                .collect(Collectors.toList());
+        try (Stream<AdminUserDTO> rows = userRepository.streamAdminUsers(null, null)) {
+            return rows.toList();
+        }
+    }
+
+    /**
+     * PHASE A2: One page of users, optionally filtered by role and by a
+     * prefix of email or name. The prefix is matched with LIKE, so case
+     * follows the column collation: case-insensitive under MySQL's default
+     * (utf8mb4_0900_ai_ci).
+     */
+    public PageResponse<AdminUserDTO> getUsersPage(Role role, String prefix, int page, int size) {
+        return PageResponse.of(userRepository.findAdminUserPage(role, likePrefix(prefix), pageRequest(page, size)));
+    }
+
+    /**
+     * PHASE A2: Streams every matching user to the output as NDJSON or CSV.
+     *
+     * Holds an export-pool connection (not a transaction of the main pool)
+     * until the last row is written, so it can be called from a
+     * StreamingResponseBody.
+     */
+    public void exportUsers(Role role, String prefix, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AdminUserDTO> rows = exportRepository.streamUsers(role, likePrefix(prefix))) {
+            writeExport(rows, format, USER_COLUMNS,
+                    user -> new Object[]{user.getEmail(), user.getName(), user.getRole()},
+                    out);
+        }
     }
 
     /**
      * PHASE A3: Get All Jobs
+     *
+     * Kept for the existing dashboard; prefer getJobsPage / exportJobs
+     * for large tables.
      */
+    @Transactional(readOnly = true)
     public List<AdminJobDTO> getAllJobs() {
-        List<Job> jobs = jobRepository.findAll();
-
-        return jobs.stream()
-                .map(job -> new AdminJobDTO(
-                        job.getJobsId(),
-                        job.getTitle(),
-                        job.getRecruiter().getEmail(),
-                        job.getRecruiter().getName(),
-                        job.getStatus(),
-                        job.getLocation()
-                ))
-                .collect(Collectors.toList());
+        try (Stream<AdminJobDTO> rows = jobRepository.streamAdminJobs(null, null)) {
+            return rows.toList();
+        }
+    }
+
+    /**
+     * PHASE A3: One page of jobs, optionally filtered by status and by a
+     * title prefix (LIKE, case-insensitive under the default collation).
+     */
+    public PageResponse<AdminJobDTO> getJobsPage(JobStatus status, String prefix, int page, int size) {
+        return PageResponse.of(jobRepository.findAdminJobPage(status, likePrefix(prefix), pageRequest(page, size)));
+    }
+
+    /**
+     * PHASE A3: Streams every matching job to the output as NDJSON or CSV.
+     */
+    public void exportJobs(JobStatus status, String prefix, ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<AdminJobDTO> rows = exportRepository.streamJobs(status, likePrefix(prefix))) {
+            writeExport(rows, format, JOB_COLUMNS,
+                    job -> new Object[]{job.getJobId(), job.getTitle(), job.getRecruiterEmail(),
+                            job.getRecruiterName(), job.getStatus(), job.getLocation()},
+                    out);
+        }
     }
 
     /**
@@ -132,4 +194,81 @@ public class AdminService {
                 admin.getCreatedAt()
         );
     }
-}
\ No newline at end of file
+
+    // ============================
+    // LISTING / EXPORT HELPERS
+    // ============================
+
+    private static PageRequest pageRequest(int page, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return PageRequest.of(Math.max(page, 0), pageSize);
+    }
+
+    /** "ab_c" → "ab!_c%" for LIKE ... ESCAPE '!'; blank → null (no filter) */
+    private static String likePrefix(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String escaped = prefix.trim()
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return escaped + "%";
+    }
+
+    private <T> void writeExport(Stream<T> rows, ExportFormat format, String[] columns,
+                                 Function<T, Object[]> values, OutputStream out) throws IOException {
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+
+        if (format == ExportFormat.CSV) {
+            writeCsvRow(writer, columns);
+        }
+
+        int written = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, values.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+
+            if (++written % EXPORT_FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * RFC 4180: quote fields containing comma, quote or line breaks; double
+     * inner quotes. A field that would open as a formula (user-supplied names
+     * such as "=HYPERLINK(...)") is prefixed with ' so it stays text.
+     */
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && CSV_FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
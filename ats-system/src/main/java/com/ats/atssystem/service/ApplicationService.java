@@ -1,7 +1,11 @@
 package com.ats.atssystem.service;
 
+import com.ats.atssystem.dto.ApplicationStatusEventDTO;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse;
 import com.ats.atssystem.model.ApplicationStatus;
 
+import java.util.List;
+
 /**
  * Service for managing job applications.
  *
@@ -16,10 +20,38 @@ public interface ApplicationService {
      * - Application exists
      * - Recruiter owns the job
      * - Status transition is valid
+     * - Nobody else changed the application meanwhile (optimistic locking)
      *
      * @param applicationId the ID of the application to update
      * @param newStatus the new status to set
+     * @param expectedVersion the version the caller last saw, or null to skip that check
+     * @throws com.ats.atssystem.exception.ConcurrentUpdateException if the application
+     *         changed concurrently or expectedVersion is out of date
      * @throws RuntimeException if application not found, access denied, or invalid transition
      */
-    void updateApplicationStatus(Long applicationId, ApplicationStatus newStatus);
+    void updateApplicationStatus(Long applicationId, ApplicationStatus newStatus, Long expectedVersion);
+
+    /**
+     * Moves many applications to the same status in one transaction.
+     *
+     * Ownership of all applications is checked with one query, each
+     * transition is validated individually, and the valid ones are written
+     * with batched statements. Invalid entries are reported, not fatal.
+     *
+     * @param applicationIds the applications to update (duplicates ignored)
+     * @param newStatus      the target status
+     * @return one result per distinct id, in request order
+     * @throws IllegalArgumentException if no ids, no status, or too many ids
+     */
+    BulkStatusUpdateResponse updateApplicationStatuses(List<Long> applicationIds, ApplicationStatus newStatus);
+
+    /**
+     * Status history of an application, oldest first, including the time
+     * spent in each previous status.
+     *
+     * @param applicationId the ID of the application
+     * @return the application's status events
+     * @throws RuntimeException if application not found or access denied
+     */
+    List<ApplicationStatusEventDTO> getStatusHistory(Long applicationId);
 }
\ No newline at end of file
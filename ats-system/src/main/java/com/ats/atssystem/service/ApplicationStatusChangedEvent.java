@@ -0,0 +1,25 @@
+package com.ats.atssystem.service;
+
+import java.util.Set;
+
+/**
+ * In-process event: the status of one or more applications changed.
+ *
+ * Published by ApplicationServiceImpl inside the status-change transaction
+ * and handled after commit (ApplicationStatusStream). It only names the
+ * affected candidates; listeners read the committed changes from the
+ * status log, so they see exactly what was written, with its event ids.
+ */
+public final class ApplicationStatusChangedEvent {
+
+    private final Set<Long> candidateIds;
+
+    public ApplicationStatusChangedEvent(Set<Long> candidateIds) {
+        this.candidateIds = Set.copyOf(candidateIds);
+    }
+
+    /** Candidates whose applications changed */
+    public Set<Long> getCandidateIds() {
+        return candidateIds;
+    }
+}
@@ -0,0 +1,261 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.ApplicationStatusEventDTO;
+import com.ats.atssystem.dto.StatusEventPageDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.ApplicationStatusEvent;
+import com.ats.atssystem.repository.ApplicationStatusEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Append-only log of application status changes (application_status_events).
+ *
+ * Writers: applyForJob records the initial APPLIED event and
+ * updateApplicationStatus records each transition, both inside their own
+ * transaction, so the log never disagrees with applications.status.
+ *
+ * Readers:
+ *   - readAfter: incremental consumers keep the last eventId they handled
+ *     and ask for what follows (notifications, exports, analytics).
+ *   - readRange: time-range scans on (occurred_at, event_id).
+ *   - getHistory: one application's transitions with time spent per stage.
+ *
+ * Event ids are allocated at insert but become visible at commit, so a
+ * slow transaction can expose a lower id after a higher one was read.
+ * Offset readers therefore stop at the first event younger than a short
+ * settle lag (app.status-events.read-lag) and never move their offset past
+ * it: anything still committing behind it has a lower id and is picked up
+ * on a later read.
+ */
+@Service
+public class ApplicationStatusLog {
+
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    /** Rows per JDBC batch for recordAll */
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO application_status_events "
+                    + "(application_id, jobs_id, actor_id, from_status, to_status, occurred_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final ApplicationStatusEventRepository eventRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration readLag;
+
+    public ApplicationStatusLog(ApplicationStatusEventRepository eventRepository,
+                                JdbcTemplate jdbcTemplate,
+                                @Value("${app.status-events.read-lag:PT5S}") Duration readLag) {
+        this.eventRepository = eventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.readLag = readLag;
+    }
+
+    // ============================
+    // WRITE (caller's transaction)
+    // ============================
+
+    /**
+     * Appends one status change.
+     *
+     * @param from    previous status, or null for a new application
+     * @param actorId the user who made the change
+     */
+    public void record(Application application, ApplicationStatus from, ApplicationStatus to,
+                       Long actorId, LocalDateTime at) {
+        eventRepository.save(new ApplicationStatusEvent(
+                application.getApplicationId(),
+                application.getJob().getJobsId(),
+                actorId,
+                from,
+                to,
+                at
+        ));
+    }
+
+    /**
+     * Appends many status changes with batched INSERTs (bulk updates).
+     * Plain JDBC: identity-generated entities cannot be batch-inserted by
+     * Hibernate, and nothing needs the generated ids here.
+     */
+    public void recordAll(List<ApplicationStatusEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events, BATCH_SIZE, (ps, event) -> {
+            ps.setLong(1, event.getApplicationId());
+            ps.setLong(2, event.getJobsId());
+            ps.setLong(3, event.getActorId());
+            if (event.getFromStatus() == null) {
+                ps.setNull(4, Types.VARCHAR);
+            } else {
+                ps.setString(4, event.getFromStatus().name());
+            }
+            ps.setString(5, event.getToStatus().name());
+            ps.setTimestamp(6, Timestamp.valueOf(event.getOccurredAt()));
+        });
+    }
+
+    // ============================
+    // READ
+    // ============================
+
+    /**
+     * Events after the given offset (an eventId; 0 for the beginning),
+     * oldest first. The page ends before the first unsettled event, so
+     * nextOffset never passes it; hasMore is false once the reader has
+     * caught up with the settled part of the log.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public StatusEventPageDTO readAfter(long afterEventId, int limit) {
+        int pageSize = pageSize(limit);
+
+        List<ApplicationStatusEvent> rows = eventRepository.findAfter(afterEventId, Limit.of(pageSize + 1));
+        int settled = settledPrefix(rows, settledBefore());
+
+        boolean hasMore = settled > pageSize;
+        List<ApplicationStatusEvent> page = rows.subList(0, Math.min(settled, pageSize));
+
+        long nextOffset = page.isEmpty() ? afterEventId : page.get(page.size() - 1).getEventId();
+        return new StatusEventPageDTO(toDtos(page), nextOffset, null, hasMore, pageSize);
+    }
+
+    /**
+     * Events that occurred in [from, to), keyset-paginated.
+     *
+     * @param cursor opaque token from the previous page (null → first page)
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public StatusEventPageDTO readRange(LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        int pageSize = pageSize(limit);
+
+        LocalDateTime afterOccurredAt = null;
+        Long afterEventId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterOccurredAt = LocalDateTime.parse(parts[0]);
+            afterEventId = Long.parseLong(parts[1]);
+        }
+
+        List<ApplicationStatusEvent> rows = eventRepository.findInRange(
+                from, to, afterOccurredAt, afterEventId, Limit.of(pageSize + 1));
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ApplicationStatusEvent> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicationStatusEvent last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getOccurredAt(), last.getEventId());
+        }
+        return new StatusEventPageDTO(toDtos(page), null, nextCursor, hasMore, pageSize);
+    }
+
+    /**
+     * One application's status history, oldest first, with the time spent
+     * in the previous status on each change. Access checks are the
+     * caller's responsibility.
+     */
+    public List<ApplicationStatusEventDTO> getHistory(Long applicationId) {
+        List<ApplicationStatusEventDTO> history = new ArrayList<>();
+        LocalDateTime previous = null;
+
+        for (ApplicationStatusEvent event : eventRepository.findByApplicationIdOrderByEventId(applicationId)) {
+            ApplicationStatusEventDTO dto = toDto(event);
+            if (previous != null) {
+                dto.setSecondsInPreviousStatus(Duration.between(previous, event.getOccurredAt()).toSeconds());
+            }
+            previous = event.getOccurredAt();
+            history.add(dto);
+        }
+        return history;
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    /** Events that occurred at or before this instant have settled */
+    private LocalDateTime settledBefore() {
+        return LocalDateTime.now().minus(readLag);
+    }
+
+    /**
+     * Number of leading events (in eventId order) that occurred at or
+     * before the cutoff. Readers must stop there even if later rows are
+     * older: a transaction holding a lower id may still be committing.
+     */
+    static int settledPrefix(List<ApplicationStatusEvent> events, LocalDateTime cutoff) {
+        int settled = 0;
+        while (settled < events.size() && !events.get(settled).getOccurredAt().isAfter(cutoff)) {
+            settled++;
+        }
+        return settled;
+    }
+
+    private static int pageSize(int limit) {
+        return limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    private static List<ApplicationStatusEventDTO> toDtos(List<ApplicationStatusEvent> events) {
+        List<ApplicationStatusEventDTO> dtos = new ArrayList<>(events.size());
+        for (ApplicationStatusEvent event : events) {
+            dtos.add(toDto(event));
+        }
+        return dtos;
+    }
+
+    static ApplicationStatusEventDTO toDto(ApplicationStatusEvent event) {
+        return new ApplicationStatusEventDTO(
+                event.getEventId(),
+                event.getApplicationId(),
+                event.getJobsId(),
+                event.getActorId(),
+                event.getFromStatus(),
+                event.getToStatus(),
+                event.getOccurredAt()
+        );
+    }
+
+    /** Cursor format: base64url("<occurredAt ISO>|<eventId>") */
+    private static String encodeCursor(LocalDateTime occurredAt, Long eventId) {
+        String raw = occurredAt + "|" + eventId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.exception.TooManyRequestsException;
+import com.ats.atssystem.model.ApplicationStatusEvent;
+import com.ats.atssystem.repository.ApplicationStatusEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Pushes application status changes to candidates over Server-Sent Events
+ * (GET /candidate/applications/stream), replacing dashboard polling.
+ *
+ * Flow:
+ *   1. ApplicationServiceImpl publishes an ApplicationStatusChangedEvent
+ *      inside the status-change transaction
+ *   2. After commit, each open connection of an affected candidate is
+ *      scheduled for delivery on a small bounded pool (the recruiter's
+ *      request never writes to candidate sockets)
+ *   3. Delivery reads the candidate's events after the connection's cursor
+ *      from the status log and sends them as "status" events, with the
+ *      eventId as the SSE id
+ *
+ * Resuming: EventSource clients send the last id they saw as Last-Event-ID
+ * when they reconnect; delivery starts after it, so nothing committed in
+ * between is lost. A connection without Last-Event-ID starts at the
+ * candidate's latest event.
+ *
+ * Connections are async servlet requests (SseEmitter): an idle stream
+ * holds a socket, not a thread. They are capped overall and per candidate
+ * (429 beyond that), time out after app.status-stream.timeout (clients
+ * reconnect and resume), and get a comment heartbeat so proxies keep them
+ * open and dead ones are noticed.
+ *
+ * Ordering: ids are allocated at insert, so two changes for the same
+ * candidate can commit in reverse id order. Like ApplicationStatusLog.readAfter,
+ * delivery stops at the first event younger than app.status-events.read-lag
+ * and retries once it has settled, so the cursor (and the SSE id a client
+ * resumes from) never passes an id that may still appear. Pushes therefore
+ * trail the change by up to that lag.
+ */
+@Service
+public class ApplicationStatusStream {
+
+    private static final Logger log = LoggerFactory.getLogger(ApplicationStatusStream.class);
+
+    /** Events read from the log per query while catching a connection up */
+    private static final int DELIVERY_BATCH = 500;
+
+    /** Suggested EventSource reconnect delay */
+    private static final long RECONNECT_MILLIS = 3_000;
+
+    /** Suggested client back-off when the stream is at capacity */
+    private static final long RETRY_AFTER_SECONDS = 30;
+
+    private final ApplicationStatusEventRepository eventRepository;
+    private final Duration timeout;
+    private final int maxConnections;
+    private final int maxConnectionsPerCandidate;
+    private final Duration readLag;
+    private final ThreadPoolExecutor executor;
+    // Re-schedules deliveries that stopped at an unsettled event
+    private final ScheduledExecutorService settleTimer;
+
+    /** candidateId → open connections */
+    private final Map<Long, Set<Connection>> connections = new ConcurrentHashMap<>();
+
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicLong deliveredCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    public ApplicationStatusStream(ApplicationStatusEventRepository eventRepository,
+                                   @Value("${app.status-stream.timeout:PT30M}") Duration timeout,
+                                   @Value("${app.status-stream.max-connections:10000}") int maxConnections,
+                                   @Value("${app.status-stream.max-connections-per-candidate:5}") int maxConnectionsPerCandidate,
+                                   @Value("${app.status-stream.threads:2}") int threads,
+                                   @Value("${app.status-events.read-lag:PT5S}") Duration readLag) {
+        this.eventRepository = eventRepository;
+        this.readLag = readLag;
+        this.timeout = timeout;
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerCandidate = maxConnectionsPerCandidate;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxConnections),
+                new StreamThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.settleTimer = Executors.newSingleThreadScheduledExecutor(new StreamThreadFactory());
+    }
+
+    // ============================================================
+    // Connections
+    // ============================================================
+
+    /**
+     * Opens a status stream for a candidate.
+     *
+     * @param candidateId the authenticated candidate
+     * @param lastEventId the Last-Event-ID sent by a reconnecting client, or null
+     * @return the emitter to return from the controller
+     * @throws TooManyRequestsException if the stream is at capacity
+     */
+    public SseEmitter subscribe(Long candidateId, Long lastEventId) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw rejected("Too many open status streams. Please try again later.");
+        }
+
+        long cursor;
+        try {
+            cursor = lastEventId != null ? lastEventId : latestEventId(candidateId);
+        } catch (RuntimeException e) {
+            connectionCount.decrementAndGet();
+            throw e;
+        }
+
+        Connection connection = new Connection(candidateId, new SseEmitter(timeout.toMillis()), cursor);
+        AtomicBoolean added = new AtomicBoolean();
+        connections.compute(candidateId, (id, open) -> {
+            Set<Connection> set = open != null ? open : ConcurrentHashMap.newKeySet();
+            if (set.size() < maxConnectionsPerCandidate) {
+                set.add(connection);
+                added.set(true);
+            }
+            return set;
+        });
+        if (!added.get()) {
+            connectionCount.decrementAndGet();
+            throw rejected("Too many open status streams for this account. Close another tab and retry.");
+        }
+
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> close(connection));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> close(connection));
+
+        // Opening comment (tells the client the reconnect delay), then catch up from the cursor
+        connection.lock.lock();
+        try {
+            send(connection, SseEmitter.event().reconnectTime(RECONNECT_MILLIS).comment("connected"));
+        } finally {
+            connection.lock.unlock();
+        }
+        deliver(connection);
+        return emitter;
+    }
+
+    /**
+     * Schedules delivery to every open connection of the affected candidates
+     * once the status change has committed.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatusChanged(ApplicationStatusChangedEvent event) {
+        for (Long candidateId : event.getCandidateIds()) {
+            Set<Connection> open = connections.get(candidateId);
+            if (open != null) {
+                open.forEach(this::schedule);
+            }
+        }
+    }
+
+    /**
+     * Comment heartbeat on every connection; also detects dead ones.
+     */
+    @Scheduled(fixedDelayString = "${app.status-stream.heartbeat-interval:PT25S}",
+            initialDelayString = "${app.status-stream.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        try {
+            executor.execute(() -> connections.values().forEach(open -> open.forEach(connection -> {
+                connection.lock.lock();
+                try {
+                    send(connection, SseEmitter.event().comment("keep-alive"));
+                } finally {
+                    connection.lock.unlock();
+                }
+            })));
+        } catch (RejectedExecutionException e) {
+            log.debug("Status stream heartbeat skipped: delivery queue full");
+        }
+    }
+
+    // ============================
+    // STREAM METRICS
+    // ============================
+
+    /** Open status streams */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /** Status events sent since startup */
+    public long getDeliveredCount() {
+        return deliveredCount.get();
+    }
+
+    /** Connections refused with 429 since startup */
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        settleTimer.shutdownNow();
+        executor.shutdownNow();
+        connections.values().forEach(open -> open.forEach(connection -> connection.emitter.complete()));
+    }
+
+    // ============================================================
+    // Private helpers
+    // ============================================================
+
+    private long latestEventId(Long candidateId) {
+        Long latest = eventRepository.findLatestEventIdForCandidate(candidateId);
+        return latest != null ? latest : 0L;
+    }
+
+    /** Queues a delivery unless one is already pending (it will pick this change up too) */
+    private void schedule(Connection connection) {
+        if (!connection.deliveryPending.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                connection.deliveryPending.set(false);
+                deliver(connection);
+            });
+        } catch (RejectedExecutionException e) {
+            connection.deliveryPending.set(false);
+            log.warn("Status stream delivery queue full; candidate {} catches up on the next change",
+                    connection.candidateId);
+        }
+    }
+
+    /**
+     * Sends the settled events after the connection's cursor, oldest first.
+     * Stops at the first unsettled one and retries when it has settled.
+     */
+    private void deliver(Connection connection) {
+        connection.lock.lock();
+        try {
+            while (!connection.closed.get()) {
+                List<ApplicationStatusEvent> events = eventRepository.findForCandidateAfter(
+                        connection.candidateId, connection.cursor, Limit.of(DELIVERY_BATCH));
+                int settled = ApplicationStatusLog.settledPrefix(events, LocalDateTime.now().minus(readLag));
+                for (ApplicationStatusEvent event : events.subList(0, settled)) {
+                    boolean sent = send(connection, SseEmitter.event()
+                            .id(String.valueOf(event.getEventId()))
+                            .name("status")
+                            .data(ApplicationStatusLog.toDto(event), MediaType.APPLICATION_JSON));
+                    if (!sent) {
+                        return;
+                    }
+                    connection.cursor = event.getEventId();
+                    deliveredCount.incrementAndGet();
+                }
+                if (settled < events.size()) {
+                    scheduleWhenSettled(connection, events.get(settled));
+                    return;
+                }
+                if (events.size() < DELIVERY_BATCH) {
+                    return;
+                }
+            }
+        } finally {
+            connection.lock.unlock();
+        }
+    }
+
+    /** Delivers again once the event is older than the settle lag */
+    private void scheduleWhenSettled(Connection connection, ApplicationStatusEvent unsettled) {
+        if (!connection.settlePending.compareAndSet(false, true)) {
+            return;
+        }
+        long delayMillis = Math.max(1, Duration.between(
+                LocalDateTime.now(), unsettled.getOccurredAt().plus(readLag)).toMillis() + 1);
+        try {
+            settleTimer.schedule(() -> {
+                connection.settlePending.set(false);
+                schedule(connection);
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+            connection.settlePending.set(false);
+        }
+    }
+
+    /** @return false if the client is gone (the connection is closed) */
+    private boolean send(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed.get()) {
+            return false;
+        }
+        try {
+            connection.emitter.send(event);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            close(connection);
+            return false;
+        }
+    }
+
+    private void close(Connection connection) {
+        if (!connection.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connections.computeIfPresent(connection.candidateId, (id, open) -> {
+            open.remove(connection);
+            return open.isEmpty() ? null : open;
+        });
+        connectionCount.decrementAndGet();
+        try {
+            connection.emitter.complete();
+        } catch (RuntimeException ignored) {
+            // Already completed by the container
+        }
+    }
+
+    private TooManyRequestsException rejected(String message) {
+        rejectedCount.incrementAndGet();
+        return new TooManyRequestsException(message, RETRY_AFTER_SECONDS);
+    }
+
+    /**
+     * One open stream; sends to it are serialized by its lock. A lock rather
+     * than a monitor: sends block on the socket, and a virtual thread that
+     * blocks while holding a monitor pins its carrier thread.
+     */
+    private static final class Connection {
+        private final Long candidateId;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final AtomicBoolean deliveryPending = new AtomicBoolean();
+        private final AtomicBoolean settlePending = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /** Last eventId sent (guarded by lock) */
+        private long cursor;
+
+        private Connection(Long candidateId, SseEmitter emitter, long cursor) {
+            this.candidateId = candidateId;
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+
+    private static final class StreamThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "status-stream-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
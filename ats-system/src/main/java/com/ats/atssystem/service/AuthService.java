@@ -5,36 +5,69 @@ import com.ats.atssystem.dto.RegisterRequest;
 import com.ats.atssystem.model.User;
 import com.ats.atssystem.repository.UserRepository;
 import com.ats.atssystem.security.JwtUtil;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.ats.atssystem.security.LoginThrottleStore;
+import com.ats.atssystem.security.PasswordHasher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class AuthService {
 
+    // Compared against for unknown emails, so they cost the same BCrypt check as a wrong password
+    private static final String UNKNOWN_USER_HASH =
+            "$2a$10$LiM9tsZ86CPaSqH8q4zwseYrx3XdXi//t0eiiz39Q4BAdHsCVL69G";
+
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
-    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
 
-    // Rate limiting: Track failed login attempts
-    private final Map<String, Integer> loginAttempts = new ConcurrentHashMap<>();
-    private final Map<String, Long> lockoutTime = new ConcurrentHashMap<>();
+    // BCrypt runs on its own bounded pool, never on the request thread
+    private final PasswordHasher passwordHasher;
+
+    // Database work after the hash (save user, throttle writes) continues here, so a
+    // slow database never holds a hashing thread or triggers the pool's 429
+    private final Executor completionExecutor;
+
+    // Rate limiting: failed attempts and lockouts (bounded in-memory or shared JDBC store)
+    private final LoginThrottleStore throttleStore;
+
+    private final DashboardStatistics dashboardStatistics;
 
-    // Configuration
-    private static final int MAX_ATTEMPTS = 5;
-    private static final long LOCKOUT_DURATION = 15 * 60 * 1000; // 15 minutes in milliseconds
+    private final MeterRegistry meterRegistry;
 
-    public AuthService(UserRepository userRepository, JwtUtil jwtUtil) {
+    public AuthService(UserRepository userRepository,
+                       JwtUtil jwtUtil,
+                       PasswordHasher passwordHasher,
+                       @Qualifier("applicationTaskExecutor") Executor completionExecutor,
+                       LoginThrottleStore throttleStore,
+                       DashboardStatistics dashboardStatistics,
+                       MeterRegistry meterRegistry) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
+        this.passwordHasher = passwordHasher;
+        this.completionExecutor = completionExecutor;
+        this.throttleStore = throttleStore;
+        this.dashboardStatistics = dashboardStatistics;
+        this.meterRegistry = meterRegistry;
     }
 
     // =========================
     // REGISTRATION
     // =========================
-    public void register(RegisterRequest request) {
+
+    /**
+     * Validates the request on the calling thread, then hashes the password
+     * on the hashing pool and saves the user once the hash is ready (on the
+     * completion executor, not the hashing pool).
+     *
+     * @throws com.ats.atssystem.exception.TooManyRequestsException if the hashing pool is full
+     */
+    public CompletableFuture<Void> register(RegisterRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new RuntimeException("Email already exists");
@@ -43,41 +76,65 @@ public class AuthService {
         // Validate password strength
         validatePasswordStrength(request.getPassword());
 
-        // Create and save user
-        User user = new User(
-                request.getName(),
-                request.getEmail(),
-                encoder.encode(request.getPassword()),
-                request.getRole()
-        );
-
-        userRepository.save(user);
+        // Hash off the request thread, then create and save user
+        return passwordHasher.encode(request.getPassword())
+                .thenAcceptAsync(hash -> {
+                    userRepository.save(new User(
+                            request.getName(),
+                            request.getEmail(),
+                            hash,
+                            request.getRole()
+                    ));
+                    dashboardStatistics.userRegistered(request.getRole());
+                }, completionExecutor);
     }
 
     // =========================
     // LOGIN WITH RATE LIMITING
     // =========================
-    public String login(LoginRequest request) {
+
+    /**
+     * Lockout check and user lookup run on the calling thread; the BCrypt
+     * comparison runs on the hashing pool. The throttle-store update and
+     * token issue then continue on the completion executor.
+     *
+     * An unknown email is checked against a fixed dummy hash and fails in
+     * the same stage as a wrong password, so response time does not reveal
+     * which accounts exist.
+     *
+     * Each attempt is counted and timed by outcome (success, failure,
+     * lockout); attempts refused because the hashing pool is full are
+     * counted by PasswordHasher instead.
+     *
+     * @throws com.ats.atssystem.exception.TooManyRequestsException if the hashing pool is full
+     */
+    public CompletableFuture<String> login(LoginRequest request) {
         String email = request.getEmail();
+        long start = System.nanoTime();
 
         // Check if account is locked due to too many failed attempts
-        checkAndEnforceLockout(email);
+        checkAndEnforceLockout(email, start);
 
-        // Find user by email
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Invalid credentials"));
+        // Find user by email (unknown emails count as failures too, so they are throttled alike)
+        User user = userRepository.findByEmail(email).orElse(null);
+        String storedHash = user != null ? user.getPassword() : UNKNOWN_USER_HASH;
 
         // Validate password
-        if (!encoder.matches(request.getPassword(), user.getPassword())) {
-            recordFailedLoginAttempt(email);
-            throw new RuntimeException("Invalid credentials");
-        }
-
-        // Clear failed attempts on successful login
-        clearFailedAttempts(email);
-
-        // Generate and return JWT token
-        return jwtUtil.generateToken(user.getEmail(), user.getRole().name());
+        return passwordHasher.matches(request.getPassword(), storedHash)
+                .thenApplyAsync(matched -> {
+                    if (user == null || !matched) {
+                        recordFailedLoginAttempt(email);
+                        recordLogin("failure", start);
+                        throw new RuntimeException("Invalid credentials");
+                    }
+
+                    // Clear failed attempts on successful login
+                    clearFailedAttempts(email);
+                    recordLogin("success", start);
+
+                    // Generate and return JWT token
+                    return jwtUtil.generateToken(user.getUserId(), user.getEmail(), user.getRole().name());
+                }, completionExecutor);
     }
 
     // =========================
@@ -112,35 +169,35 @@ public class AuthService {
     // =========================
     // RATE LIMITING HELPERS
     // =========================
-    private void checkAndEnforceLockout(String email) {
-        if (lockoutTime.containsKey(email)) {
-            long timeLeft = lockoutTime.get(email) - System.currentTimeMillis();
-            if (timeLeft > 0) {
-                long minutesLeft = (timeLeft / 60000) + 1;
-                throw new RuntimeException(
-                        "Account temporarily locked. Try again in " + minutesLeft + " minutes"
-                );
-            } else {
-                // Lockout period expired, clear it
-                lockoutTime.remove(email);
-                loginAttempts.remove(email);
-            }
+    private void checkAndEnforceLockout(String email, long start) {
+        long timeLeft = throttleStore.lockedForMillis(email);
+        if (timeLeft > 0) {
+            recordLogin("lockout", start);
+            long minutesLeft = (timeLeft / 60000) + 1;
+            throw new RuntimeException(
+                    "Account temporarily locked. Try again in " + minutesLeft + " minutes"
+            );
         }
     }
 
     private void recordFailedLoginAttempt(String email) {
-        int attempts = loginAttempts.getOrDefault(email, 0) + 1;
-        loginAttempts.put(email, attempts);
-
-        if (attempts >= MAX_ATTEMPTS) {
-            // Lock the account
-            lockoutTime.put(email, System.currentTimeMillis() + LOCKOUT_DURATION);
-            loginAttempts.remove(email);
-        }
+        throttleStore.recordFailure(email);
     }
 
     private void clearFailedAttempts(String email) {
-        loginAttempts.remove(email);
-        lockoutTime.remove(email);
+        throttleStore.reset(email);
+    }
+
+    // =========================
+    // METRICS
+    // =========================
+    // ats.auth.login by outcome; the timer's count is the number of attempts
+    private void recordLogin(String outcome, long startNanos) {
+        Timer.builder("ats.auth.login")
+                .description("Login duration by outcome, including the BCrypt check")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
-}
\ No newline at end of file
+}
@@ -4,56 +4,106 @@ import com.ats.atssystem.dto.ApplicationRequest;
 import com.ats.atssystem.dto.ApplicationResponse;
 import com.ats.atssystem.dto.CandidateApplicationsResponse;
 import com.ats.atssystem.exception.DuplicateApplicationException;
+import com.ats.atssystem.exception.IdempotencyKeyReusedException;
 import com.ats.atssystem.exception.JobNotAvailableException;
 import com.ats.atssystem.exception.JobNotFoundException;
 import com.ats.atssystem.exception.RecruitersCannotApplyException;
 import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
 import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
 import com.ats.atssystem.model.Resume;
 import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
 import com.ats.atssystem.repository.ApplicationRepository;
 import com.ats.atssystem.repository.JobRepository;
 import com.ats.atssystem.repository.ResumeRepository;
 import com.ats.atssystem.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service layer for candidate-facing application features.
  *
  * Phase 3 → Phase 4 change:
- *   applyForJob() now accepts a MultipartFile alongside the jobId.
+ *   applyForJob() now accepts the resume upload alongside the jobId.
  *   The application and resume are created together in a single transaction.
  *   If the file save fails, the application row is also rolled back.
  *
+ * Double submits are safe: the application row is claimed (and the unique
+ * constraint checked) before the resume is written, and an optional
+ * Idempotency-Key lets clients retry and get the original response back.
+ *
  * Endpoints served:
  *   POST /candidate/applications          → apply + upload resume (one request)
  *   GET  /candidate/applications          → dashboard (all my applications)
+ *   GET  /candidate/applications/stream   → live status changes (ApplicationStatusStream)
  */
 @Service
 public class CandidateApplicationService {
 
+    /** Longest accepted Idempotency-Key (matches applications.idempotency_key) */
+    private static final int MAX_IDEMPOTENCY_KEY_LENGTH = 64;
+
     private final ApplicationRepository applicationRepository;
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final ResumeRepository resumeRepository;
     private final ResumeStorageService resumeStorageService;
+    private final FunnelAnalyticsService funnelAnalyticsService;
+    private final ApplicationStatusLog applicationStatusLog;
+    private final ResumeTextIndexer resumeTextIndexer;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Time spent in each phase of applyForJob (see its Javadoc)
+    private final Timer validationTime;
+    private final Timer fileWriteTime;
+    private final Timer dbInsertTime;
 
     public CandidateApplicationService(ApplicationRepository applicationRepository,
                                        JobRepository jobRepository,
                                        UserRepository userRepository,
                                        ResumeRepository resumeRepository,
-                                       ResumeStorageService resumeStorageService) {
+                                       ResumeStorageService resumeStorageService,
+                                       FunnelAnalyticsService funnelAnalyticsService,
+                                       ApplicationStatusLog applicationStatusLog,
+                                       ResumeTextIndexer resumeTextIndexer,
+                                       NotificationOutbox notificationOutbox,
+                                       PlatformTransactionManager transactionManager,
+                                       MeterRegistry meterRegistry) {
         this.applicationRepository = applicationRepository;
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.resumeRepository = resumeRepository;
         this.resumeStorageService = resumeStorageService;
+        this.funnelAnalyticsService = funnelAnalyticsService;
+        this.applicationStatusLog = applicationStatusLog;
+        this.resumeTextIndexer = resumeTextIndexer;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.validationTime = applyPhaseTimer(meterRegistry, "validation");
+        this.fileWriteTime = applyPhaseTimer(meterRegistry, "file_write");
+        this.dbInsertTime = applyPhaseTimer(meterRegistry, "db_insert");
+    }
+
+    private static Timer applyPhaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("ats.apply.phase")
+                .description("applyForJob time by phase")
+                .tag("phase", phase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     // ============================================================
@@ -62,61 +112,146 @@ public class CandidateApplicationService {
 
     /**
      * Applies the authenticated candidate to a job AND uploads their resume.
-     * Both happen in one transaction — if anything fails, both roll back.
+     * The application and resume rows are written in one transaction — if
+     * anything fails, both roll back.
      *
-     * Validation order (fail-fast):
-     *   1. Resolve the candidate User entity
-     *   2. Resolve the Job entity                      → 404 if missing
-     *   3. Job must be OPEN                            → 403 if CLOSED
-     *   4. Candidate must NOT be the recruiter         → 403 if they are
+     * Order (fail-fast):
+     *   1. Resolve the Job entity                      → 404 if missing
+     *   2. Job must be OPEN                            → 403 if CLOSED
+     *   3. Candidate must NOT be the recruiter         → 403 if they are
+     *   4. Idempotency-Key seen before                 → replay the original (422 if for another job)
      *   5. No duplicate application                    → 409 if already applied
-     *   6. Validate and save the resume file to disk
-     *   7. Persist the Application row
-     *   8. Persist the Resume row linked to that application
+     *   6. Stream the resume to a temp file            → 400 if not a PDF, 413 if too large
+     *   7. Claim the Application row (INSERT flushed)  → 409 if a concurrent request won;
+     *      the outbox message announcing it is written in the same transaction
+     *   8. Move the resume onto its blob path (content-addressed, deduplicated)
+     *   9. Persist the Resume row linked to that application
+     *  10. After commit: queue the resume for text extraction (search index)
+     *
+     * Steps 1-5 run before the upload is read, so rejected requests cost no
+     * I/O. Step 6 runs outside the transaction (a slow upload holds no
+     * connection or lock). The file only reaches blob storage after the row
+     * is claimed; a request that loses a double-submit race discards its
+     * temp file, and a blob written by a transaction that later rolls back
+     * is removed by ResumeStorageService. Step 10 only hands the resume id
+     * to ResumeTextIndexer's pool; the PDF is parsed after the response.
      *
-     * @param request     DTO containing the jobId
-     * @param file        the resume PDF file
+     * Each phase is timed (ats.apply.phase): validation (steps 1-5),
+     * file_write (step 6) and db_insert (steps 7-9, including the blob move
+     * and commit). Phases that throw are timed too.
+     *
+     * @param request     DTO containing the jobId and optional idempotency key
+     * @param upload      the resume PDF, streamed from the request
      * @param candidateId the user_id extracted from the JWT token
      * @return ApplicationResponse confirming both the application and resume
      */
-    @Transactional
-    public ApplicationResponse applyForJob(ApplicationRequest request, MultipartFile file, Long candidateId) {
+    public ApplicationResponse applyForJob(ApplicationRequest request, ResumeUpload upload, Long candidateId) {
 
-        // ── Step 1: Resolve the candidate ──────────────────────────────
-        User candidate = userRepository.findById(candidateId)
-                .orElseThrow(() -> new RuntimeException("Authenticated user not found. Token may be stale."));
+        String idempotencyKey = normalizeIdempotencyKey(request.getIdempotencyKey());
+        Long jobId = request.getJobId();
 
-        // ── Step 2: Resolve the job (404 if not found) ─────────────────
-        Job job = jobRepository.findById(request.getJobId())
-                .orElseThrow(() -> new JobNotFoundException(request.getJobId()));
+        // ── Steps 1-5: checks that need no upload ──────────────────────
+        long start = System.nanoTime();
+        ApplicationResponse original;
+        try {
+            original = readOnlyTransaction.execute(status ->
+                    checkCanApply(jobId, idempotencyKey, candidateId));
+        } finally {
+            validationTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (original != null) {
+            return original;
+        }
 
-        // ── Step 3: Job must be OPEN (403 if CLOSED) ────────────────────
-        if (job.getStatus() != JobStatus.OPEN) {
-            throw new JobNotAvailableException(request.getJobId());
+        // ── Step 6: Stream the resume to disk, validated on the fly ────
+        try (ResumeStorageService.StagedResume staged = stage(upload)) {
+            long insertStart = System.nanoTime();
+            try {
+                return transactionTemplate.execute(status ->
+                        apply(jobId, idempotencyKey, staged, upload.getFileName(), candidateId));
+            } finally {
+                dbInsertTime.record(System.nanoTime() - insertStart, TimeUnit.NANOSECONDS);
+            }
+        } catch (DuplicateApplicationException e) {
+            // A concurrent retry with the same key may have won: answer as it did
+            if (idempotencyKey != null) {
+                original = readOnlyTransaction.execute(status ->
+                        findByIdempotencyKey(candidateId, idempotencyKey, jobId));
+                if (original != null) {
+                    return original;
+                }
+            }
+            throw e;
         }
+    }
 
-        // ── Step 4: Recruiter cannot apply to own job (403) ─────────────
-        if (job.getRecruiter().getUserId().equals(candidateId)) {
-            throw new RecruitersCannotApplyException(request.getJobId());
+    /** Step 6, timed as the file_write phase */
+    private ResumeStorageService.StagedResume stage(ResumeUpload upload) {
+        long start = System.nanoTime();
+        try {
+            return resumeStorageService.stage(upload);
+        } finally {
+            fileWriteTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Steps 1-5: the original response for a retried key, null if the
+     * candidate may apply, or an exception.
+     */
+    private ApplicationResponse checkCanApply(Long jobId, String idempotencyKey, Long candidateId) {
+
+        loadOpenJob(jobId, candidateId);
+
+        // ── Step 4: Retry of a request that already succeeded ──────────
+        if (idempotencyKey != null) {
+            ApplicationResponse original = findByIdempotencyKey(candidateId, idempotencyKey, jobId);
+            if (original != null) {
+                return original;
+            }
         }
 
         // ── Step 5: Duplicate application check (409) ───────────────────
-        if (applicationRepository.existsByCandidateUserIdAndJobJobsId(candidateId, request.getJobId())) {
-            throw new DuplicateApplicationException(request.getJobId());
+        if (applicationRepository.existsByCandidateUserIdAndJobJobsId(candidateId, jobId)) {
+            throw new DuplicateApplicationException(jobId);
         }
+        return null;
+    }
 
-        // ── Step 6: Validate and save resume file to disk ───────────────
-        String filePath = resumeStorageService.saveResume(file);
+    /** Steps 7-10, in the write transaction */
+    private ApplicationResponse apply(Long jobId, String idempotencyKey, ResumeStorageService.StagedResume staged,
+                                      String fileName, Long candidateId) {
 
-        // ── Step 7: Persist the Application ─────────────────────────────
+        User candidate = userRepository.findById(candidateId)
+                .orElseThrow(() -> new RuntimeException("Authenticated user not found. Token may be stale."));
+        Job job = loadOpenJob(jobId, candidateId);
+
+        // ── Step 7: Claim the Application row, log, count and announce it
+        // Flushed now so uk_candidate_job decides a race before the file is placed
         Application application = new Application(job, candidate);
-        Application savedApplication = applicationRepository.save(application);
+        application.setIdempotencyKey(idempotencyKey);
+        Application savedApplication;
+        try {
+            savedApplication = applicationRepository.saveAndFlush(application);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateApplicationException(jobId);
+        }
+        applicationStatusLog.record(savedApplication, null, ApplicationStatus.APPLIED,
+                candidateId, savedApplication.getAppliedAt());
+        funnelAnalyticsService.applicationReceived(savedApplication);
+        notificationOutbox.applicationSubmitted(savedApplication);
+
+        // ── Step 8: Store the resume (deduplicated blob) ───────────────
+        ResumeStorageService.StoredResume stored = resumeStorageService.store(staged);
 
-        // ── Step 8: Persist the Resume linked to the application ─────────
-        Resume resume = new Resume(savedApplication, file.getOriginalFilename(), filePath);
+        // ── Step 9: Persist the Resume linked to the application ─────────
+        Resume resume = new Resume(savedApplication, fileName, stored.getFilePath());
+        resume.setContentHash(stored.getContentHash());
         Resume savedResume = resumeRepository.save(resume);
 
-        // ── Step 9: Map to response DTO ─────────────────────────────────
+        // ── Step 10: Index the resume text once this commits ───────────
+        resumeTextIndexer.enqueueAfterCommit(savedResume.getResumeId());
+
         return convertToApplicationResponse(savedApplication, savedResume);
     }
 
@@ -133,17 +268,68 @@ public class CandidateApplicationService {
      */
     @Transactional(readOnly = true)
     public List<CandidateApplicationsResponse> getAllApplications(Long candidateId) {
-        List<Application> applications = applicationRepository.findByCandidateUserId(candidateId);
-
-        return applications.stream()
-                .map(this::convertToDashboardResponse)
-                .collect(Collectors.toList());
+        // Application + job + recruiter + resume flag in one projection query (no N+1)
+        return applicationRepository.findDashboardRowsByCandidateId(candidateId);
     }
 
     // ============================================================
     // Private helpers
     // ============================================================
 
+    /**
+     * Steps 1-3: the job must exist, be OPEN and not belong to the candidate.
+     */
+    private Job loadOpenJob(Long jobId, Long candidateId) {
+
+        // ── Step 1: Resolve the job (404 if not found) ─────────────────
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new JobNotFoundException(jobId));
+
+        // ── Step 2: Job must be OPEN (403 if CLOSED) ────────────────────
+        if (job.getStatus() != JobStatus.OPEN) {
+            throw new JobNotAvailableException(jobId);
+        }
+
+        // ── Step 3: Recruiter cannot apply to own job (403) ─────────────
+        if (job.getRecruiter().getUserId().equals(candidateId)) {
+            throw new RecruitersCannotApplyException(jobId);
+        }
+        return job;
+    }
+
+    /**
+     * The response for the application created earlier with this key, or null
+     * if the key is new.
+     *
+     * @throws IdempotencyKeyReusedException if the key was used for another job
+     */
+    private ApplicationResponse findByIdempotencyKey(Long candidateId, String idempotencyKey, Long jobId) {
+        Application original = applicationRepository
+                .findByCandidateUserIdAndIdempotencyKey(candidateId, idempotencyKey)
+                .orElse(null);
+        if (original == null) {
+            return null;
+        }
+        if (!original.getJob().getJobsId().equals(jobId)) {
+            throw new IdempotencyKeyReusedException(original.getJob().getJobsId());
+        }
+        Resume resume = resumeRepository.findByApplicationApplicationId(original.getApplicationId())
+                .orElseThrow(() -> new IllegalStateException("Application " + original.getApplicationId() + " has no resume"));
+        return convertToApplicationResponse(original, resume);
+    }
+
+    private static String normalizeIdempotencyKey(String idempotencyKey) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return null;
+        }
+        String key = idempotencyKey.strip();
+        if (key.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+            throw new IllegalArgumentException(
+                    "Idempotency-Key must be at most " + MAX_IDEMPOTENCY_KEY_LENGTH + " characters");
+        }
+        return key;
+    }
+
     /** Maps Application + Resume to the apply response DTO */
     private ApplicationResponse convertToApplicationResponse(Application application, Resume resume) {
         return new ApplicationResponse(
@@ -157,22 +343,4 @@ public class CandidateApplicationService {
                 resume.getFileName()
         );
     }
-
-    /** Maps Application to the dashboard card DTO */
-    private CandidateApplicationsResponse convertToDashboardResponse(Application application) {
-        boolean resumeUploaded = resumeRepository
-                .findByApplicationApplicationId(application.getApplicationId())
-                .isPresent();
-
-        return new CandidateApplicationsResponse(
-                application.getApplicationId(),
-                application.getJob().getJobsId(),
-                application.getJob().getTitle(),
-                application.getJob().getLocation(),
-                application.getJob().getRecruiter().getName(),
-                application.getStatus(),
-                resumeUploaded,
-                application.getAppliedAt()
-        );
-    }
 }
\ No newline at end of file
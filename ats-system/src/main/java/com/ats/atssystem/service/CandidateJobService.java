@@ -1,11 +1,16 @@
 package com.ats.atssystem.service;
 
 import com.ats.atssystem.dto.JobResponse;
+import com.ats.atssystem.dto.JobSearchResponse;
+import com.ats.atssystem.dto.JobSummaryResponse;
+import com.ats.atssystem.dto.PageResponse;
 import com.ats.atssystem.exception.JobNotAvailableException;
 import com.ats.atssystem.exception.JobNotFoundException;
 import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
 import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.search.JobSearchIndex;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,27 +25,63 @@ import java.util.stream.Collectors;
 @Service
 public class CandidateJobService {
 
+    /** Page size bounds for the browse endpoint */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final JobRepository jobRepository;
+    private final JobSearchIndex jobSearchIndex;
 
-    public CandidateJobService(JobRepository jobRepository) {
+    public CandidateJobService(JobRepository jobRepository, JobSearchIndex jobSearchIndex) {
         this.jobRepository = jobRepository;
+        this.jobSearchIndex = jobSearchIndex;
     }
 
     /**
      * Get all OPEN jobs for candidates to browse
-     * Filters out CLOSED jobs automatically
+     * CLOSED jobs are filtered out by the database query
      *
      * @return List of JobResponse containing only OPEN jobs
      */
     @Transactional(readOnly = true)
     public List<JobResponse> getAllOpenJobs() {
-        return jobRepository.findAll()
+        return jobRepository.findByStatus(JobStatus.OPEN)
                 .stream()
-                .filter(job -> job.getStatus() == JobStatus.OPEN)
                 .map(this::convertToJobResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Browse OPEN jobs one page at a time, newest first.
+     * Returns lean cards without the description (see getJobById for details).
+     *
+     * @param page zero-based page number
+     * @param size page size, clamped to 1..100
+     * @return one page of JobSummaryResponse
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<JobSummaryResponse> browseOpenJobs(int page, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), pageSize);
+
+        return PageResponse.of(jobRepository.findSummariesByStatus(JobStatus.OPEN, pageRequest));
+    }
+
+    /**
+     * Full-text search over OPEN jobs (title, description, location).
+     * Served from the in-memory JobSearchIndex — no database query.
+     *
+     * @param query    keywords (blank = all open jobs, newest first)
+     * @param location optional location filter
+     * @param page     zero-based page number
+     * @param size     page size, clamped to 1..100
+     * @return ranked hits with location facets
+     */
+    public JobSearchResponse searchOpenJobs(String query, String location, int page, int size) {
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return jobSearchIndex.search(query, location, Math.max(page, 0), pageSize);
+    }
+
     /**
      * Get a specific job by ID
      * Only returns if the job status is OPEN
@@ -3,9 +3,8 @@ package com.ats.atssystem.service;
 import com.ats.atssystem.dto.CandidateProfileResponse;
 import com.ats.atssystem.model.User;
 import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.AuthenticatedUser;
 import com.ats.atssystem.security.JwtUtil;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -23,9 +22,9 @@ public class CandidateService {
      * Get current logged-in candidate profile from JWT
      */
     public CandidateProfileResponse getCandidateProfile() {
-        String email = getCurrentUserEmail();
+        Long userId = getCurrentUserId();
 
-        User candidate = userRepository.findByEmail(email)
+        User candidate = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Candidate not found"));
 
         return new CandidateProfileResponse(
@@ -50,9 +49,9 @@ public class CandidateService {
             throw new IllegalArgumentException("Name must be between 2 and 100 characters");
         }
 
-        String email = getCurrentUserEmail();
+        Long userId = getCurrentUserId();
 
-        User candidate = userRepository.findByEmail(email)
+        User candidate = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Candidate not found"));
 
         // Update name
@@ -69,16 +68,9 @@ public class CandidateService {
     }
 
     /**
-     * Helper: Get current user's email from Spring Security context
+     * Helper: Get current user's ID from the JWT principal (set in JwtFilter)
      */
-    private String getCurrentUserEmail() {
-        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-
-        if (authentication == null || !authentication.isAuthenticated()) {
-            throw new RuntimeException("User is not authenticated");
-        }
-
-        // The principal contains the email (set in JwtFilter)
-        return authentication.getPrincipal().toString();
+    private Long getCurrentUserId() {
+        return AuthenticatedUser.current().getUserId();
     }
 }
\ No newline at end of file
@@ -0,0 +1,151 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.AdminDashboardStatsDTO;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory counters behind the admin dashboard (Phase A1).
+ *
+ * Counts are loaded from the database at startup, then kept current
+ * incrementally by the services that change them:
+ *   - AuthService.register           → userRegistered
+ *   - JobServiceImpl.createJob       → jobCreated
+ *   - JobServiceImpl.updateJobStatus → jobStatusChanged
+ *
+ * Updates made inside a transaction are applied after it commits, so a
+ * rolled-back change never shows up. A periodic reconcile (two GROUP BY
+ * queries) corrects any drift, e.g. rows changed outside the application
+ * or by another node.
+ *
+ * Reading the stats touches only these counters; no query is run.
+ */
+@Component
+public class DashboardStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardStatistics.class);
+
+    private final UserRepository userRepository;
+    private final JobRepository jobRepository;
+
+    private final Map<Role, AtomicLong> usersByRole = new EnumMap<>(Role.class);
+    private final Map<JobStatus, AtomicLong> jobsByStatus = new EnumMap<>(JobStatus.class);
+
+    public DashboardStatistics(UserRepository userRepository, JobRepository jobRepository) {
+        this.userRepository = userRepository;
+        this.jobRepository = jobRepository;
+
+        for (Role role : Role.values()) {
+            usersByRole.put(role, new AtomicLong());
+        }
+        for (JobStatus status : JobStatus.values()) {
+            jobsByStatus.put(status, new AtomicLong());
+        }
+    }
+
+    // ============================
+    // READ
+    // ============================
+
+    public AdminDashboardStatsDTO snapshot() {
+        long totalUsers = 0;
+        for (AtomicLong count : usersByRole.values()) {
+            totalUsers += count.get();
+        }
+
+        long totalJobs = 0;
+        for (AtomicLong count : jobsByStatus.values()) {
+            totalJobs += count.get();
+        }
+
+        return new AdminDashboardStatsDTO(
+                totalUsers,
+                usersByRole.get(Role.RECRUITER).get(),
+                usersByRole.get(Role.CANDIDATE).get(),
+                totalJobs,
+                jobsByStatus.get(JobStatus.OPEN).get(),
+                jobsByStatus.get(JobStatus.CLOSED).get()
+        );
+    }
+
+    // ============================
+    // INCREMENTAL UPDATES
+    // ============================
+
+    public void userRegistered(Role role) {
+        afterCommit(() -> usersByRole.get(role).incrementAndGet());
+    }
+
+    public void jobCreated(JobStatus status) {
+        afterCommit(() -> jobsByStatus.get(status).incrementAndGet());
+    }
+
+    public void jobStatusChanged(JobStatus from, JobStatus to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit(() -> {
+            jobsByStatus.get(from).decrementAndGet();
+            jobsByStatus.get(to).incrementAndGet();
+        });
+    }
+
+    // ============================
+    // RECONCILE
+    // ============================
+
+    /**
+     * Reloads every counter from the database.
+     *
+     * An update that commits while this runs may be counted twice or not
+     * at all until the next pass; the dashboard tolerates that briefly.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.dashboard.reconcile-interval:PT5M}",
+            initialDelayString = "${app.dashboard.reconcile-interval:PT5M}")
+    public void reconcile() {
+        Map<Role, Long> users = toCounts(Role.class, userRepository.countGroupedByRole());
+        Map<JobStatus, Long> jobs = toCounts(JobStatus.class, jobRepository.countGroupedByStatus());
+
+        usersByRole.forEach((role, count) -> count.set(users.getOrDefault(role, 0L)));
+        jobsByStatus.forEach((status, count) -> count.set(jobs.getOrDefault(status, 0L)));
+
+        log.debug("Dashboard counters reconciled: users={}, jobs={}", users, jobs);
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> toCounts(Class<E> type, List<Object[]> rows) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (Object[] row : rows) {
+            counts.put(type.cast(row[0]), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
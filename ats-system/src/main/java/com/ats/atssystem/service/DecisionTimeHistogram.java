@@ -0,0 +1,68 @@
+package com.ats.atssystem.service;
+
+import java.time.Duration;
+
+/**
+ * Fixed log-scale buckets for time-to-decision, in hours.
+ *
+ * Bucket i holds decisions taken in [BOUNDS[i-1], BOUNDS[i]) hours
+ * (bucket 0 starts at zero); the last bucket holds everything from
+ * 90 days on. Percentiles interpolate linearly inside a bucket, so the
+ * error is at most one bucket width — under an hour for same-day
+ * decisions, a few days for decisions that take months.
+ */
+final class DecisionTimeHistogram {
+
+    /** Upper bounds (exclusive) of every bucket but the last, in hours */
+    private static final long[] BOUNDS = {
+            1, 2, 4, 8, 12, 24, 36, 48, 72, 96, 120, 168, 240, 336, 504, 720, 1080, 1440, 2160
+    };
+
+    static final int BUCKETS = BOUNDS.length + 1;
+
+    private DecisionTimeHistogram() {
+    }
+
+    static int bucketOf(Duration timeToDecision) {
+        double hours = Math.max(timeToDecision.toSeconds(), 0) / 3600.0;
+        for (int i = 0; i < BOUNDS.length; i++) {
+            if (hours < BOUNDS[i]) {
+                return i;
+            }
+        }
+        return BOUNDS.length;
+    }
+
+    /**
+     * Estimates the q-quantile (0 &lt; q &le; 1) from bucket counts.
+     *
+     * @return hours, or null when there are no decisions
+     */
+    static Double percentile(long[] counts, double q) {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        double rank = q * total;
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == 0) {
+                continue;
+            }
+            if (seen + counts[i] >= rank) {
+                double lower = i == 0 ? 0 : BOUNDS[i - 1];
+                if (i == BOUNDS.length) {
+                    return lower; // open-ended bucket: report its lower bound
+                }
+                double fraction = (rank - seen) / counts[i];
+                return lower + fraction * (BOUNDS[i] - lower);
+            }
+            seen += counts[i];
+        }
+        return (double) BOUNDS[BOUNDS.length - 1];
+    }
+}
@@ -0,0 +1,271 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.FunnelStatsDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.repository.DecisionTimeRollupRepository;
+import com.ats.atssystem.repository.FunnelRollupRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.security.AuthenticatedUser;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hiring funnel analytics: APPLIED → SHORTLISTED → HIRED/REJECTED counts,
+ * conversion rates and time-to-decision percentiles, system-wide, per
+ * recruiter and per job.
+ *
+ * Write side: the services that change applications call
+ * applicationReceived / statusChanged inside their own transaction; each
+ * call is one or two upserts into the daily rollup tables
+ * (application_funnel_daily, application_decision_time_daily).
+ *
+ * Read side: a funnel is two aggregate queries over those rollups, so its
+ * cost depends on the number of days (and jobs) in range, never on the
+ * number of applications.
+ */
+@Service
+public class FunnelAnalyticsService {
+
+    /** Range used when the caller gives no dates: the last 30 days */
+    private static final int DEFAULT_RANGE_DAYS = 30;
+
+    private final FunnelRollupRepository funnelRollupRepository;
+    private final DecisionTimeRollupRepository decisionTimeRollupRepository;
+    private final JobRepository jobRepository;
+
+    public FunnelAnalyticsService(FunnelRollupRepository funnelRollupRepository,
+                                  DecisionTimeRollupRepository decisionTimeRollupRepository,
+                                  JobRepository jobRepository) {
+        this.funnelRollupRepository = funnelRollupRepository;
+        this.decisionTimeRollupRepository = decisionTimeRollupRepository;
+        this.jobRepository = jobRepository;
+    }
+
+    // ============================
+    // RECORDING (caller's transaction)
+    // ============================
+
+    /**
+     * Counts a new application on the day it was made.
+     */
+    public void applicationReceived(Application application) {
+        Job job = application.getJob();
+        funnelRollupRepository.increment(application.getAppliedAt().toLocalDate(),
+                job.getJobsId(), job.getRecruiter().getUserId(), 1, 0, 0, 0);
+    }
+
+    /**
+     * Counts a status change made at the given time. Final decisions
+     * (HIRED, REJECTED) also add their time since applying to the histogram.
+     */
+    public void statusChanged(Application application, ApplicationStatus newStatus, LocalDateTime at) {
+        int shortlisted = newStatus == ApplicationStatus.SHORTLISTED ? 1 : 0;
+        int hired = newStatus == ApplicationStatus.HIRED ? 1 : 0;
+        int rejected = newStatus == ApplicationStatus.REJECTED ? 1 : 0;
+        if (shortlisted + hired + rejected == 0) {
+            return;
+        }
+
+        Job job = application.getJob();
+        Long jobId = job.getJobsId();
+        Long recruiterId = job.getRecruiter().getUserId();
+        LocalDate day = at.toLocalDate();
+
+        funnelRollupRepository.increment(day, jobId, recruiterId, 0, shortlisted, hired, rejected);
+
+        if (hired + rejected > 0) {
+            Duration timeToDecision = Duration.between(application.getAppliedAt(), at);
+            decisionTimeRollupRepository.increment(day, jobId, recruiterId,
+                    DecisionTimeHistogram.bucketOf(timeToDecision), 1);
+        }
+    }
+
+    /**
+     * Counts many status changes to the same status, made at the same time
+     * by one recruiter (bulk updates). Changes are aggregated first, so this
+     * issues one upsert per job plus one per (job, histogram bucket),
+     * however many applications changed.
+     *
+     * @param appliedAtByJob applied time of each changed application, by job id
+     */
+    public void statusesChanged(Long recruiterId, Map<Long, List<LocalDateTime>> appliedAtByJob,
+                                ApplicationStatus newStatus, LocalDateTime at) {
+        boolean decision = newStatus == ApplicationStatus.HIRED || newStatus == ApplicationStatus.REJECTED;
+        if (!decision && newStatus != ApplicationStatus.SHORTLISTED) {
+            return;
+        }
+        LocalDate day = at.toLocalDate();
+
+        appliedAtByJob.forEach((jobId, appliedTimes) -> {
+            int changed = appliedTimes.size();
+            funnelRollupRepository.increment(day, jobId, recruiterId, 0,
+                    newStatus == ApplicationStatus.SHORTLISTED ? changed : 0,
+                    newStatus == ApplicationStatus.HIRED ? changed : 0,
+                    newStatus == ApplicationStatus.REJECTED ? changed : 0);
+
+            if (decision) {
+                int[] buckets = new int[DecisionTimeHistogram.BUCKETS];
+                for (LocalDateTime appliedAt : appliedTimes) {
+                    buckets[DecisionTimeHistogram.bucketOf(Duration.between(appliedAt, at))]++;
+                }
+                for (int bucket = 0; bucket < buckets.length; bucket++) {
+                    if (buckets[bucket] > 0) {
+                        decisionTimeRollupRepository.increment(day, jobId, recruiterId, bucket, buckets[bucket]);
+                    }
+                }
+            }
+        });
+    }
+
+    // ============================
+    // ADMIN QUERIES
+    // ============================
+
+    /**
+     * Funnel for any scope: system-wide, or narrowed to a recruiter and/or
+     * a job (null = no filter). Dates default to the last 30 days.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @Transactional(readOnly = true)
+    public FunnelStatsDTO getFunnel(Long recruiterId, Long jobId, LocalDate from, LocalDate to) {
+        LocalDate[] range = resolveRange(from, to);
+        return funnel(recruiterId, jobId, range[0], range[1]);
+    }
+
+    // ============================
+    // RECRUITER QUERIES
+    // ============================
+
+    /**
+     * The authenticated recruiter's funnel across all their jobs, or for
+     * one of their jobs.
+     */
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional(readOnly = true)
+    public FunnelStatsDTO getMyFunnel(Long jobId, LocalDate from, LocalDate to) {
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+
+        if (jobId != null) {
+            Job job = jobRepository.findById(jobId)
+                    .orElseThrow(() -> new RuntimeException("Job not found"));
+
+            // 🔒 Ownership check
+            if (!job.getRecruiter().getUserId().equals(recruiterId)) {
+                throw new RuntimeException("Access denied: You can only view analytics for your own jobs");
+            }
+        }
+
+        LocalDate[] range = resolveRange(from, to);
+        return funnel(recruiterId, jobId, range[0], range[1]);
+    }
+
+    /**
+     * One funnel per job of the authenticated recruiter (jobs with activity
+     * in the range only), from two grouped queries.
+     */
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional(readOnly = true)
+    public List<FunnelStatsDTO> getMyFunnelsByJob(LocalDate from, LocalDate to) {
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+        LocalDate[] range = resolveRange(from, to);
+
+        Map<Long, long[]> histograms = new HashMap<>();
+        for (Object[] row : decisionTimeRollupRepository.sumBucketsByJob(recruiterId, range[0], range[1])) {
+            long[] buckets = histograms.computeIfAbsent((Long) row[0], id -> new long[DecisionTimeHistogram.BUCKETS]);
+            addBucket(buckets, row[1], row[2]);
+        }
+
+        List<FunnelStatsDTO> funnels = new ArrayList<>();
+        for (Object[] row : funnelRollupRepository.sumCountsByJob(recruiterId, range[0], range[1])) {
+            Long jobId = (Long) row[0];
+            long[] counts = {toLong(row[1]), toLong(row[2]), toLong(row[3]), toLong(row[4])};
+            long[] buckets = histograms.getOrDefault(jobId, new long[DecisionTimeHistogram.BUCKETS]);
+            funnels.add(toDto(recruiterId, jobId, range[0], range[1], counts, buckets));
+        }
+        return funnels;
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    private FunnelStatsDTO funnel(Long recruiterId, Long jobId, LocalDate from, LocalDate to) {
+        Object[] totals = funnelRollupRepository.sumCounts(from, to, jobId, recruiterId).get(0);
+        long[] counts = {toLong(totals[0]), toLong(totals[1]), toLong(totals[2]), toLong(totals[3])};
+
+        long[] buckets = new long[DecisionTimeHistogram.BUCKETS];
+        for (Object[] row : decisionTimeRollupRepository.sumBuckets(from, to, jobId, recruiterId)) {
+            addBucket(buckets, row[0], row[1]);
+        }
+
+        return toDto(recruiterId, jobId, from, to, counts, buckets);
+    }
+
+    /** counts = [applied, shortlisted, hired, rejected] */
+    private static FunnelStatsDTO toDto(Long recruiterId, Long jobId, LocalDate from, LocalDate to,
+                                        long[] counts, long[] buckets) {
+        long applied = counts[0];
+        long shortlisted = counts[1];
+        long hired = counts[2];
+        long rejected = counts[3];
+
+        long decisions = 0;
+        for (long bucket : buckets) {
+            decisions += bucket;
+        }
+
+        FunnelStatsDTO dto = new FunnelStatsDTO();
+        dto.setRecruiterId(recruiterId);
+        dto.setJobId(jobId);
+        dto.setFrom(from);
+        dto.setTo(to);
+        dto.setApplied(applied);
+        dto.setShortlisted(shortlisted);
+        dto.setHired(hired);
+        dto.setRejected(rejected);
+        dto.setShortlistRate(rate(shortlisted, applied));
+        dto.setHireRate(rate(hired, applied));
+        dto.setShortlistToHireRate(rate(hired, shortlisted));
+        dto.setRejectionRate(rate(rejected, applied));
+        dto.setDecisions(decisions);
+        dto.setTimeToDecisionP50Hours(DecisionTimeHistogram.percentile(buckets, 0.50));
+        dto.setTimeToDecisionP90Hours(DecisionTimeHistogram.percentile(buckets, 0.90));
+        dto.setTimeToDecisionP99Hours(DecisionTimeHistogram.percentile(buckets, 0.99));
+        return dto;
+    }
+
+    private static LocalDate[] resolveRange(LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(DEFAULT_RANGE_DAYS - 1);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        return new LocalDate[]{start, end};
+    }
+
+    private static void addBucket(long[] buckets, Object bucket, Object decisions) {
+        int index = ((Number) bucket).intValue();
+        if (index >= 0 && index < buckets.length) {
+            buckets[index] += toLong(decisions);
+        }
+    }
+
+    private static double rate(long numerator, long denominator) {
+        return denominator == 0 ? 0.0 : (double) numerator / denominator;
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+}
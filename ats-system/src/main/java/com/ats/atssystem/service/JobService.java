@@ -1,9 +1,14 @@
 package com.ats.atssystem.service;
 
 import com.ats.atssystem.dto.ApplicantDTO;
+import com.ats.atssystem.dto.ApplicantPageDTO;
+import com.ats.atssystem.dto.ApplicantSort;
+import com.ats.atssystem.model.ApplicationStatus;
 import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
 
+import org.springframework.data.domain.Sort;
+
 import java.util.List;
 
 public interface JobService {
@@ -23,4 +28,31 @@ public interface JobService {
      * @throws RuntimeException if job not found or access denied
      */
     List<ApplicantDTO> getApplicantsForJob(Long jobId);
-}
\ No newline at end of file
+
+    /**
+     * Get all applicants for a specific job in the requested order.
+     * Only the job owner (recruiter) can view applicants.
+     *
+     * @param jobId the ID of the job
+     * @param sort  APPLIED (application order) or SCORE (best match first,
+     *              unscored applicants last in application order)
+     * @return List of ApplicantDTO including each applicant's match score
+     * @throws RuntimeException if job not found or access denied
+     */
+    List<ApplicantDTO> getApplicantsForJob(Long jobId, ApplicantSort sort);
+
+    /**
+     * Get one keyset-paginated page of applicants for a job.
+     * Only the job owner (recruiter) can view applicants.
+     *
+     * @param jobId     the ID of the job
+     * @param status    optional status filter (null = all statuses)
+     * @param cursor    opaque cursor from a previous page (null = first page)
+     * @param limit     page size, clamped to 1..100
+     * @param direction sort direction on appliedAt (ties broken by applicationId)
+     * @return the page plus the cursor for the next one
+     * @throws RuntimeException if job not found, access denied, or cursor malformed
+     */
+    ApplicantPageDTO getApplicantsPage(Long jobId, ApplicationStatus status, String cursor,
+                                       int limit, Sort.Direction direction);
+}
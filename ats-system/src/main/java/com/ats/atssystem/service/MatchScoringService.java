@@ -0,0 +1,131 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.model.ApplicationMatchScore;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobMatchStatistics;
+import com.ats.atssystem.repository.ApplicationMatchScoreRepository;
+import com.ats.atssystem.repository.JobMatchStatisticsRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.search.JobMatchProfile;
+import com.ats.atssystem.search.JobMatchProfile.CorpusSnapshot;
+import com.ats.atssystem.search.ResumeSearchIndex;
+import com.ats.atssystem.search.TextAnalyzer;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Scores how well a resume fits the job it was submitted to and caches the
+ * result per application (application_match_scores).
+ *
+ * The score is BM25 relevance of the resume text to the job title and
+ * description (see JobMatchProfile), with IDF taken from every indexed
+ * resume. It is computed once, off the request path, by ResumeTextIndexer
+ * right after the resume text is extracted; the applicant lists only read
+ * the cached value.
+ *
+ * All of a job's applicants must be scored against the same corpus
+ * statistics to be comparable, but the in-memory index differs between
+ * nodes and grows over time. So the statistics are captured once per job,
+ * when its first applicant is scored, and stored (job_match_statistics);
+ * every node rebuilds the job's profile from that row. Profiles are cached
+ * (LRU) because one job is typically scored against many resumes; an
+ * evicted profile is rebuilt identically from the stored row.
+ */
+@Service
+public class MatchScoringService {
+
+    /** Upper bound on cached job profiles */
+    private static final int MAX_CACHED_PROFILES = 1_000;
+
+    private final ApplicationMatchScoreRepository matchScoreRepository;
+    private final JobMatchStatisticsRepository statisticsRepository;
+    private final JobRepository jobRepository;
+    private final ResumeSearchIndex resumeSearchIndex;
+
+    // Access-ordered LRU: jobId → profile
+    private final Map<Long, JobMatchProfile> profiles = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, JobMatchProfile> eldest) {
+            return size() > MAX_CACHED_PROFILES;
+        }
+    };
+
+    public MatchScoringService(ApplicationMatchScoreRepository matchScoreRepository,
+                               JobMatchStatisticsRepository statisticsRepository,
+                               JobRepository jobRepository,
+                               ResumeSearchIndex resumeSearchIndex) {
+        this.matchScoreRepository = matchScoreRepository;
+        this.statisticsRepository = statisticsRepository;
+        this.jobRepository = jobRepository;
+        this.resumeSearchIndex = resumeSearchIndex;
+    }
+
+    /**
+     * Scores an application's resume text against its job and stores the score.
+     *
+     * @param applicationId the application
+     * @param jobId         the job applied to
+     * @param resumeText    extracted resume text (may be empty)
+     * @return the score in [0, 1)
+     */
+    public double scoreApplication(Long applicationId, Long jobId, String resumeText) {
+        double score = profile(jobId).score(TextAnalyzer.tokenize(resumeText));
+        matchScoreRepository.save(new ApplicationMatchScore(applicationId, score, LocalDateTime.now()));
+        return score;
+    }
+
+    private JobMatchProfile profile(Long jobId) {
+        synchronized (profiles) {
+            JobMatchProfile profile = profiles.get(jobId);
+            if (profile != null) {
+                return profile;
+            }
+        }
+
+        // Built outside the lock; concurrent builds read the same stored statistics
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalStateException("Job " + jobId + " not found"));
+        JobMatchProfile built = JobMatchProfile.of(job.getTitle(), job.getDescription(), storedCorpus(job));
+
+        synchronized (profiles) {
+            return profiles.computeIfAbsent(jobId, id -> built);
+        }
+    }
+
+    /** The job's stored statistics, capturing them from the local index if it has none yet */
+    private CorpusSnapshot storedCorpus(Job job) {
+        JobMatchStatistics stored = statisticsRepository.findById(job.getJobsId()).orElse(null);
+        if (stored == null) {
+            CorpusSnapshot local = resumeSearchIndex.matchProfile(job.getTitle(), job.getDescription()).corpus();
+            statisticsRepository.insertIfAbsent(job.getJobsId(), local.documentCount(), local.averageLength(),
+                    encode(local.frequencies()));
+            // Another node may have inserted first: score against whatever row won
+            stored = statisticsRepository.findById(job.getJobsId()).orElseThrow();
+        }
+        return new CorpusSnapshot(stored.getDocumentCount(), stored.getAverageLength(),
+                decode(stored.getDocumentFrequencies()));
+    }
+
+    /** One "term count" line per term; analyzed terms contain only letters and digits */
+    static String encode(Map<String, Integer> frequencies) {
+        return frequencies.entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue())
+                .collect(Collectors.joining("\n"));
+    }
+
+    static Map<String, Integer> decode(String encoded) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        for (String line : encoded.split("\n")) {
+            int space = line.indexOf(' ');
+            if (space > 0) {
+                frequencies.put(line.substring(0, space), Integer.parseInt(line.substring(space + 1)));
+            }
+        }
+        return frequencies;
+    }
+}
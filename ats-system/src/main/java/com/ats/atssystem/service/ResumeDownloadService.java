@@ -1,113 +1,185 @@
 package com.ats.atssystem.service;
 
 import com.ats.atssystem.model.Resume;
-import com.ats.atssystem.model.User;
 import com.ats.atssystem.repository.ResumeRepository;
-import com.ats.atssystem.repository.UserRepository;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import com.ats.atssystem.security.AuthenticatedUser;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Service for downloading resume files.
  *
  * Responsibilities:
- * - Verify recruiter owns the job associated with the resume
- * - Load the file from disk
- * - Return it as a Resource for download
+ * - Verify recruiter owns the job associated with the resume (one query)
+ * - Locate the file on disk and describe it (size, last modified)
+ * - Provide a strong ETag derived from the file's SHA-256 content hash
+ *
+ * Resumes stored as content-addressed blobs already carry their hash.
+ * Older files are hashed on first download and cached per
+ * (path, size, last-modified), so repeat downloads only stat them.
  */
 @Service
 public class ResumeDownloadService {
 
+    /** Upper bound on cached content hashes */
+    private static final int MAX_CACHED_HASHES = 10_000;
+
     private final ResumeRepository resumeRepository;
-    private final UserRepository userRepository;
 
-    public ResumeDownloadService(ResumeRepository resumeRepository,
-                                 UserRepository userRepository) {
+    // Access-ordered LRU: "<path>|<size>|<lastModified>" → hex SHA-256
+    private final Map<String, String> contentHashes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+            return size() > MAX_CACHED_HASHES;
+        }
+    };
+
+    public ResumeDownloadService(ResumeRepository resumeRepository) {
         this.resumeRepository = resumeRepository;
-        this.userRepository = userRepository;
     }
 
     /**
-     * Get the resume file as a downloadable resource.
+     * Get the resume file for download.
      *
      * Security: Only the job owner (recruiter) can download.
      *
      * @param resumeId the ID of the resume
-     * @return Resource containing the file
+     * @return description of the file on disk, including its ETag
      * @throws RuntimeException if resume not found, access denied, or file not readable
      */
     @PreAuthorize("hasRole('RECRUITER')")
-    public Resource getResumeFile(Long resumeId) {
-
-        // Get authenticated recruiter
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
+    public ResumeFile getResumeFile(Long resumeId) {
 
-        User recruiter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Recruiter not found"));
+        // Get authenticated recruiter (from the JWT principal, no lookup)
+        Long recruiterId = AuthenticatedUser.current().getUserId();
 
-        // Fetch the resume
-        Resume resume = resumeRepository.findById(resumeId)
+        // Fetch the resume with application → job → recruiter in one query
+        Resume resume = resumeRepository.findWithJobOwnerById(resumeId)
                 .orElseThrow(() -> new RuntimeException("Resume not found"));
 
         // 🔒 Ownership check - recruiter must own the job
         Long jobOwnerId = resume.getApplication().getJob().getRecruiter().getUserId();
-        if (!jobOwnerId.equals(recruiter.getUserId())) {
+        if (!jobOwnerId.equals(recruiterId)) {
             throw new RuntimeException("Access denied: You can only download resumes for your own job applications");
         }
 
-        // Load file from disk
+        // Describe the file on disk
+        Path filePath = Paths.get(resume.getFilePath()).normalize();
+        if (!Files.isRegularFile(filePath) || !Files.isReadable(filePath)) {
+            throw new RuntimeException("Resume file not found or not readable: " + resume.getFileName());
+        }
+
         try {
-            Path filePath = Paths.get(resume.getFilePath()).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+            long length = Files.size(filePath);
+            long lastModified = Files.getLastModifiedTime(filePath).toMillis();
+            String contentHash = resume.getContentHash() != null
+                    ? resume.getContentHash()
+                    : contentHash(filePath, length, lastModified);
+
+            return new ResumeFile(filePath, resume.getFileName(), length, lastModified, "\"" + contentHash + "\"");
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to load resume file: " + resume.getFileName(), e);
+        }
+    }
+
+    // ============================
+    // CONTENT HASH
+    // ============================
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new RuntimeException("Resume file not found or not readable: " + resume.getFileName());
+    private String contentHash(Path path, long length, long lastModified) throws IOException {
+        String key = path + "|" + length + "|" + lastModified;
+
+        synchronized (contentHashes) {
+            String cached = contentHashes.get(key);
+            if (cached != null) {
+                return cached;
             }
-        } catch (Exception e) {
-            throw new RuntimeException("Failed to load resume file: " + resume.getFileName(), e);
         }
+
+        // Hash outside the lock; two concurrent first downloads just hash twice
+        String hash = sha256(path);
+        synchronized (contentHashes) {
+            contentHashes.put(key, hash);
+        }
+        return hash;
     }
 
+    private static String sha256(Path path) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // ============================
+    // RESULT TYPE
+    // ============================
+
     /**
-     * Get the original file name for the resume.
-     * Used to set the download filename in the HTTP response.
-     *
-     * @param resumeId the ID of the resume
-     * @return the original file name
+     * A resume file ready to be served: where it is, what to call it, and
+     * the validators (ETag, Last-Modified) for conditional requests.
      */
-    @PreAuthorize("hasRole('RECRUITER')")
-    public String getResumeFileName(Long resumeId) {
+    public static final class ResumeFile {
+
+        private final Path path;
+        private final String fileName;
+        private final long length;
+        private final long lastModified;
+        private final String etag;
+
+        public ResumeFile(Path path, String fileName, long length, long lastModified, String etag) {
+            this.path = path;
+            this.fileName = fileName;
+            this.length = length;
+            this.lastModified = lastModified;
+            this.etag = etag;
+        }
 
-        // Get authenticated recruiter
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
+        public Path getPath() {
+            return path;
+        }
 
-        User recruiter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Recruiter not found"));
+        public String getFileName() {
+            return fileName;
+        }
 
-        // Fetch the resume
-        Resume resume = resumeRepository.findById(resumeId)
-                .orElseThrow(() -> new RuntimeException("Resume not found"));
+        public long getLength() {
+            return length;
+        }
 
-        // 🔒 Ownership check
-        Long jobOwnerId = resume.getApplication().getJob().getRecruiter().getUserId();
-        if (!jobOwnerId.equals(recruiter.getUserId())) {
-            throw new RuntimeException("Access denied");
+        /** Last-modified time in epoch milliseconds */
+        public long getLastModified() {
+            return lastModified;
         }
 
-        return resume.getFileName();
+        /** Strong, quoted ETag: the file's SHA-256 in hex */
+        public String getEtag() {
+            return etag;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,43 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.ResumeSearchResponse;
+import com.ats.atssystem.search.ResumeSearchIndex;
+import com.ats.atssystem.security.AuthenticatedUser;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+
+/**
+ * Full-text search over the resumes submitted to a recruiter's own jobs.
+ *
+ * Served from the in-memory ResumeSearchIndex — no database query.
+ * Resume text is extracted in the background (ResumeTextIndexer), so a
+ * resume becomes searchable shortly after its application commits.
+ */
+@Service
+public class ResumeSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ResumeSearchIndex resumeSearchIndex;
+
+    public ResumeSearchService(ResumeSearchIndex resumeSearchIndex) {
+        this.resumeSearchIndex = resumeSearchIndex;
+    }
+
+    /**
+     * Searches the authenticated recruiter's resumes.
+     *
+     * @param query keywords (blank = no hits)
+     * @param jobId optional: only resumes submitted to this job
+     * @param page  zero-based page number
+     * @param size  page size, clamped to 1..100
+     * @return ranked hits
+     */
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ResumeSearchResponse searchMyResumes(String query, Long jobId, int page, int size) {
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+        int pageSize = size <= 0 ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        return resumeSearchIndex.search(recruiterId, query, jobId, Math.max(page, 0), pageSize);
+    }
+}
@@ -1,30 +1,62 @@
 package com.ats.atssystem.service;
 
+import com.ats.atssystem.exception.ResumeTooLargeException;
+import com.ats.atssystem.model.ResumeBlob;
+import com.ats.atssystem.repository.ResumeBlobRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.multipart.MultipartFile;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * Handles physical file validation and storage for resume uploads.
  *
  * Responsibilities:
- *   - Validate file type (PDF only) and size limit
- *   - Generate a unique file name to prevent collisions
- *   - Write the file to the local upload directory
- *   - Return the saved file path as a string for the Resume entity
+ *   - Validate file type (PDF signature) and size limit while the upload streams in
+ *   - Store each distinct file once, addressed by its SHA-256 content hash
+ *   - Reference-count blobs from Resume rows (resume_blobs.ref_count)
+ *   - Garbage-collect orphaned blobs
  *
- * The upload directory is configured via application.properties:
- *   app.resume.upload-dir=uploads/resumes
+ * Layout under app.resume.upload-dir:
+ *   tmp/<uuid>.part              → upload in progress
+ *   blobs/ab/cd/<hash>.pdf       → stored blob (two levels of 256-way sharding)
+ *
+ * Uploads are staged first (stage: streamed from the request to tmp/,
+ * checked and hashed in one pass, no transaction) and then stored (store:
+ * renamed onto the blob path inside the caller's transaction). Each byte is
+ * read and written exactly once; nothing is buffered in memory.
+ * Disk usage and directory sizes scale with unique resumes, not applications.
+ * A blob file first created by a transaction that rolls back is deleted.
  *
  * This service is intentionally isolated so that swapping to S3 or
  * another cloud storage in the future only requires changing this class.
@@ -32,85 +64,371 @@ import java.util.UUID;
 @Service
 public class ResumeStorageService {
 
+    private static final Logger log = LoggerFactory.getLogger(ResumeStorageService.class);
+
     /** Allowed MIME types for resume uploads */
     private static final Set<String> ALLOWED_CONTENT_TYPES = new HashSet<>(
             Arrays.asList("application/pdf")
     );
 
     /** Max file size: 5 MB */
-    private static final long MAX_FILE_SIZE_BYTES = 5 * 1024 * 1024;
+    public static final long MAX_FILE_SIZE_BYTES = 5 * 1024 * 1024;
+
+    /** Every PDF starts with "%PDF-" */
+    private static final byte[] PDF_SIGNATURE = "%PDF-".getBytes(StandardCharsets.US_ASCII);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Files younger than this are never garbage-collected, so uploads whose
+     * transaction has not committed yet are left alone.
+     */
+    private static final Duration GC_GRACE_PERIOD = Duration.ofHours(1);
 
-    /** Directory where resume files are saved (from application.properties) */
+    /** Root directory for resume storage (from application.properties) */
     private final Path uploadDirectory;
+    private final Path blobDirectory;
+    private final Path tempDirectory;
 
-    public ResumeStorageService(@Value("${app.resume.upload-dir:uploads/resumes}") String uploadDir) {
+    private final ResumeBlobRepository resumeBlobRepository;
+
+    // Accepted uploads: size and time to receive
+    private final DistributionSummary uploadBytes;
+    private final Timer uploadTime;
+
+    public ResumeStorageService(@Value("${app.resume.upload-dir:uploads/resumes}") String uploadDir,
+                                ResumeBlobRepository resumeBlobRepository,
+                                MeterRegistry meterRegistry) {
         this.uploadDirectory = Paths.get(uploadDir).toAbsolutePath().normalize();
+        this.blobDirectory = uploadDirectory.resolve("blobs");
+        this.tempDirectory = uploadDirectory.resolve("tmp");
+        this.resumeBlobRepository = resumeBlobRepository;
+        this.uploadBytes = DistributionSummary.builder("ats.resume.upload.size")
+                .description("Size of accepted resume uploads")
+                .baseUnit("bytes")
+                // 16 KB to the 5 MB resume limit
+                .serviceLevelObjectives(16_384, 65_536, 262_144, 524_288, 1_048_576, 2_097_152, 5_242_880)
+                .register(meterRegistry);
+        this.uploadTime = Timer.builder("ats.resume.upload")
+                .description("Time to receive, check and hash an accepted resume upload")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
     }
 
     /**
-     * Validates and saves a resume file to disk.
+     * Streams an upload into tmp/, validating it on the way.
+     *
+     * The first bytes must be the PDF signature and the size is counted as
+     * bytes arrive, so a non-PDF is refused after a few bytes and an
+     * oversized upload is cut off at the limit instead of being received
+     * in full. The content is hashed in the same pass. Runs outside any
+     * transaction: a slow client never holds a connection or row lock.
+     * Accepted uploads are measured (ats.resume.upload.size, ats.resume.upload);
+     * rejected ones are not, as they stop early by design.
      *
-     * @param file the uploaded MultipartFile
-     * @return the full file path where the resume was saved
-     * @throws IllegalArgumentException if file is empty, wrong type, or too large
-     * @throws RuntimeException         if writing to disk fails
+     * @param upload the resume as it arrives from the client
+     * @return the staged file; close it to discard it if it is not stored
+     * @throws IllegalArgumentException if the upload is empty, not a PDF, or not declared as one
+     * @throws ResumeTooLargeException  once the upload passes the size limit
+     * @throws RuntimeException         if reading the upload or writing to disk fails
      */
-    public String saveResume(MultipartFile file) {
+    public StagedResume stage(ResumeUpload upload) {
+        long start = System.nanoTime();
 
-        // ── Validation ─────────────────────────────────────────────────
-        validateFile(file);
-
-        // ── Generate a unique filename ─────────────────────────────────
-        // Format: <UUID>_<originalFileName>
-        // Example: a1b2c3d4-..._JohnDoe_Resume.pdf
-        String originalName = file.getOriginalFilename();
-        String uniqueFileName = UUID.randomUUID() + "_" + originalName;
+        // ── Declared type (the content itself is checked below) ────────
+        String contentType = upload.getContentType();
+        if (contentType != null && !ALLOWED_CONTENT_TYPES.contains(contentType)) {
+            throw new IllegalArgumentException("Only PDF files are allowed for resume upload.");
+        }
 
-        // ── Ensure the upload directory exists ─────────────────────────
+        // ── Ensure the storage directories exist ───────────────────────
         try {
-            Files.createDirectories(uploadDirectory);
+            Files.createDirectories(tempDirectory);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to create upload directory: " + uploadDirectory, e);
+            throw new RuntimeException("Failed to create upload directory: " + tempDirectory, e);
         }
 
-        // ── Write file to disk ─────────────────────────────────────────
-        Path targetPath = uploadDirectory.resolve(uniqueFileName).normalize();
+        // ── Stream to a temp file: check, count and hash on the way ────
+        Path tempPath = tempDirectory.resolve(UUID.randomUUID() + ".part");
+        MessageDigest digest = sha256();
+        long size;
+
+        try (InputStream in = upload.getContent();
+             OutputStream out = Files.newOutputStream(tempPath, StandardOpenOption.CREATE_NEW)) {
+
+            byte[] head = in.readNBytes(PDF_SIGNATURE.length);
+            if (head.length == 0) {
+                throw new IllegalArgumentException("Resume file cannot be empty.");
+            }
+            if (!Arrays.equals(head, PDF_SIGNATURE)) {
+                throw new IllegalArgumentException("Only PDF files are allowed for resume upload.");
+            }
+            digest.update(head);
+            out.write(head);
+            size = head.length;
+
+            byte[] buffer = new byte[BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (size > MAX_FILE_SIZE_BYTES) {
+                    throw new ResumeTooLargeException(MAX_FILE_SIZE_BYTES);
+                }
+                digest.update(buffer, 0, read);
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            deleteQuietly(tempPath);
+            throw new RuntimeException("Failed to save resume file: " + upload.getFileName(), e);
+        } catch (RuntimeException e) {
+            deleteQuietly(tempPath);
+            throw e;
+        }
+
+        uploadTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        uploadBytes.record(size);
+        return new StagedResume(tempPath, HexFormat.of().formatHex(digest.digest()), size);
+    }
+
+    /**
+     * Moves a staged upload onto its blob path, deduplicating by content.
+     *
+     * Must run inside the transaction that saves the Resume row: the blob's
+     * reference count is incremented in that transaction, and a blob file
+     * this call creates is removed again if it rolls back.
+     *
+     * @param staged a file returned by {@link #stage}
+     * @return the stored blob (content hash, path, size)
+     * @throws RuntimeException if moving the file fails
+     */
+    @Transactional
+    public StoredResume store(StagedResume staged) {
 
+        String contentHash = staged.getContentHash();
+        Path blobPath = blobPath(contentHash);
+
+        // ── Take the reference first (row lock held until commit) ──────
+        resumeBlobRepository.acquire(contentHash, blobPath.toString(), staged.getSizeBytes());
+
+        // ── Move onto the blob path ────────────────────────────────────
+        // A rename within the upload directory: no second copy of the bytes.
+        // Always rename, even when the blob exists: identical content, and
+        // the fresh mtime keeps a concurrent GC pass from deleting it.
+        boolean created = !Files.exists(blobPath);
         try {
-            Files.copy(file.getInputStream(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+            Files.createDirectories(blobPath.getParent());
+            Files.move(staged.getTempPath(), blobPath,
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
-            throw new RuntimeException("Failed to save resume file: " + uniqueFileName, e);
+            throw new RuntimeException("Failed to save resume file: " + blobPath.getFileName(), e);
+        }
+        if (created) {
+            deleteOnRollback(blobPath);
         }
 
-        return targetPath.toString();
+        return new StoredResume(contentHash, blobPath.toString(), staged.getSizeBytes());
     }
 
     // ============================================================
-    // Private helpers
+    // Garbage collection
     // ============================================================
 
     /**
-     * Validates the uploaded file against size and type constraints.
+     * Deletes orphaned blobs.
+     *
+     * The application never deletes Resume rows, so nothing decrements a
+     * reference count at runtime. A blob is orphaned only when its resumes
+     * were removed outside the application, or when the upload that would
+     * have referenced it rolled back.
+     *
+     * 1. Reference counts are recomputed from the resumes table.
+     * 2. Unreferenced blob rows are deleted (only if still unreferenced),
+     *    then their files, unless the file was rewritten recently.
+     * 3. Leftover files with no blob row (rolled-back uploads) and stale
+     *    temp files older than the grace period are removed.
      *
-     * @param file the MultipartFile to validate
-     * @throws IllegalArgumentException if any check fails
+     * @return number of files deleted
      */
-    private void validateFile(MultipartFile file) {
+    @Scheduled(cron = "${app.resume.blob-gc-cron:0 30 3 * * *}")
+    public int collectGarbage() {
+        Instant cutoff = Instant.now().minus(GC_GRACE_PERIOD);
+        int deleted = 0;
 
-        // Empty file check
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("Resume file cannot be empty.");
+        resumeBlobRepository.reconcileRefCounts();
+
+        List<ResumeBlob> unreferenced = resumeBlobRepository.findByRefCount(0);
+        for (ResumeBlob blob : unreferenced) {
+            if (resumeBlobRepository.deleteIfUnreferenced(blob.getContentHash()) == 1
+                    && deleteIfOlderThan(Paths.get(blob.getFilePath()), cutoff)) {
+                deleted++;
+            }
+        }
+
+        deleted += sweepOrphans(blobDirectory, cutoff, true);
+        deleted += sweepOrphans(tempDirectory, cutoff, false);
+
+        if (deleted > 0) {
+            log.info("Resume storage GC removed {} files", deleted);
         }
+        return deleted;
+    }
 
-        // File size check (max 5 MB)
-        if (file.getSize() > MAX_FILE_SIZE_BYTES) {
-            throw new IllegalArgumentException("Resume file exceeds the maximum allowed size of 5 MB.");
+    private int sweepOrphans(Path directory, Instant cutoff, boolean onlyWithoutRow) {
+        if (!Files.isDirectory(directory)) {
+            return 0;
         }
 
-        // Content type check (PDF only)
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType)) {
-            throw new IllegalArgumentException("Only PDF files are allowed for resume upload.");
+        int deleted = 0;
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                String hash = hashOf(path);
+                if (onlyWithoutRow && (resumeBlobRepository.existsById(hash)
+                        || resumeBlobRepository.isReferencedByResume(hash))) {
+                    continue;
+                }
+                if (deleteIfOlderThan(path, cutoff)) {
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Resume storage GC could not scan {}", directory, e);
+        }
+        return deleted;
+    }
+
+    // ============================================================
+    // Private helpers
+    // ============================================================
+
+    /** blobs/ab/cd/<hash>.pdf — keeps every directory small */
+    private Path blobPath(String contentHash) {
+        return blobDirectory
+                .resolve(contentHash.substring(0, 2))
+                .resolve(contentHash.substring(2, 4))
+                .resolve(contentHash + ".pdf");
+    }
+
+    private static String hashOf(Path blobPath) {
+        String name = blobPath.getFileName().toString();
+        int dot = name.indexOf('.');
+        return dot < 0 ? name : name.substring(0, dot);
+    }
+
+    private static boolean deleteIfOlderThan(Path path, Instant cutoff) {
+        try {
+            FileTime modified = Files.getLastModifiedTime(path);
+            return modified.toInstant().isBefore(cutoff) && Files.deleteIfExists(path);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes a blob file this transaction created if the transaction rolls
+     * back. Runs in beforeCompletion, while the row lock taken by acquire()
+     * is still held, so no concurrent upload of the same content can have
+     * moved its own copy onto the path yet.
+     */
+    private static void deleteOnRollback(Path blobPath) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean committing;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                committing = true;
+            }
+
+            @Override
+            public void beforeCompletion() {
+                if (!committing) {
+                    deleteQuietly(blobPath);
+                }
+            }
+        });
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // Best effort; the GC sweep removes stale temp files
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // ============================================================
+    // Result types
+    // ============================================================
+
+    /**
+     * An upload streamed to tmp/ and checked, not yet stored as a blob.
+     * Closing it deletes the temp file unless {@link #store} moved it.
+     */
+    public static final class StagedResume implements AutoCloseable {
+
+        private final Path tempPath;
+        private final String contentHash;
+        private final long sizeBytes;
+
+        StagedResume(Path tempPath, String contentHash, long sizeBytes) {
+            this.tempPath = tempPath;
+            this.contentHash = contentHash;
+            this.sizeBytes = sizeBytes;
+        }
+
+        Path getTempPath() {
+            return tempPath;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
+        }
+
+        @Override
+        public void close() {
+            deleteQuietly(tempPath);
+        }
+    }
+
+    /**
+     * A stored resume blob: its content hash, location on disk and size.
+     */
+    public static final class StoredResume {
+
+        private final String contentHash;
+        private final String filePath;
+        private final long sizeBytes;
+
+        public StoredResume(String contentHash, String filePath, long sizeBytes) {
+            this.contentHash = contentHash;
+            this.filePath = filePath;
+            this.sizeBytes = sizeBytes;
+        }
+
+        public String getContentHash() {
+            return contentHash;
+        }
+
+        public String getFilePath() {
+            return filePath;
+        }
+
+        public long getSizeBytes() {
+            return sizeBytes;
         }
     }
-}
\ No newline at end of file
+}
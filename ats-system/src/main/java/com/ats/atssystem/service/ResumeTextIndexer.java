@@ -0,0 +1,259 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.model.ResumeText;
+import com.ats.atssystem.repository.ResumeTextRepository;
+import com.ats.atssystem.search.PdfTextExtractor;
+import com.ats.atssystem.search.ResumeSearchIndex;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Extracts text from resume PDFs in the background and feeds the resume
+ * search index.
+ *
+ * Pipeline per resume:
+ *   1. CandidateApplicationService calls enqueueAfterCommit() while applying;
+ *      the task is queued only once the transaction commits (never for a
+ *      rolled-back application)
+ *   2. A worker on the bounded extraction pool loads the resume's index
+ *      fields, reuses text already extracted from an identical file (same
+ *      content hash) or parses the PDF
+ *   3. The text is saved to resume_texts
+ *   4. The resume is scored against its job (MatchScoringService), so
+ *      applicant lists can be ranked by fit
+ *   5. The text is put into ResumeSearchIndex
+ *
+ * The apply request only pays for a queue offer. When the queue is full the
+ * resume is skipped, not waited for: the periodic backfill picks up every
+ * resume that still has no text or no match score, which also covers
+ * restarts and resumes uploaded before this pipeline existed.
+ *
+ * A PDF that cannot be parsed is stored with empty text, so it is not
+ * retried forever; its file name is still searchable.
+ */
+@Service
+public class ResumeTextIndexer {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeTextIndexer.class);
+
+    private final ResumeTextRepository resumeTextRepository;
+    private final ResumeSearchIndex resumeSearchIndex;
+    private final MatchScoringService matchScoringService;
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final int backfillBatchSize;
+
+    /** Resumes queued or being extracted; an id is never queued twice */
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    private final AtomicLong indexedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    public ResumeTextIndexer(ResumeTextRepository resumeTextRepository,
+                             ResumeSearchIndex resumeSearchIndex,
+                             MatchScoringService matchScoringService,
+                             @Value("${app.resume-text.threads:2}") int threads,
+                             @Value("${app.resume-text.queue-capacity:256}") int queueCapacity,
+                             @Value("${app.resume-text.backfill-batch:100}") int backfillBatchSize) {
+        this.resumeTextRepository = resumeTextRepository;
+        this.resumeSearchIndex = resumeSearchIndex;
+        this.matchScoringService = matchScoringService;
+        this.queueCapacity = queueCapacity;
+        this.backfillBatchSize = backfillBatchSize;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new ExtractionThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // ============================================================
+    // Triggers
+    // ============================================================
+
+    /**
+     * Queues a resume for extraction once the current transaction commits.
+     * Without an active transaction it is queued immediately.
+     *
+     * @param resumeId the saved resume
+     */
+    public void enqueueAfterCommit(Long resumeId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(resumeId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(resumeId);
+            }
+        });
+    }
+
+    /**
+     * Queues a resume for extraction; never blocks.
+     *
+     * @param resumeId the resume
+     * @return false if it was already pending or the queue is full
+     */
+    public boolean enqueue(Long resumeId) {
+        if (!pending.add(resumeId)) {
+            return false;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    extractAndIndex(resumeId);
+                } finally {
+                    pending.remove(resumeId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(resumeId);
+            long dropped = droppedCount.incrementAndGet();
+            log.warn("Resume text queue full ({}/{}); resume {} left for the backfill ({} dropped so far)",
+                    getQueueDepth(), queueCapacity, resumeId, dropped);
+            return false;
+        }
+    }
+
+    /**
+     * Queues resumes that have no extracted text or match score yet, a batch per run.
+     */
+    @Scheduled(fixedDelayString = "${app.resume-text.backfill-interval:PT1M}",
+            initialDelayString = "${app.resume-text.backfill-interval:PT1M}")
+    public void backfill() {
+        int room = executor.getQueue().remainingCapacity();
+        if (room == 0) {
+            return;
+        }
+        List<Long> missing = resumeTextRepository.findResumeIdsPendingIndexing(
+                Limit.of(Math.min(room, backfillBatchSize)));
+        missing.forEach(this::enqueue);
+        if (!missing.isEmpty()) {
+            log.debug("Resume text backfill queued {} resumes", missing.size());
+        }
+    }
+
+    // ============================================================
+    // POOL METRICS
+    // ============================================================
+
+    /** Resumes waiting for an extraction thread */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /** Resumes queued or being extracted right now */
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    /** Resumes extracted and indexed since startup */
+    public long getIndexedCount() {
+        return indexedCount.get();
+    }
+
+    /** Resumes skipped because the queue was full (picked up by the backfill) */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /** Extractions that failed with an unexpected error (retried by the backfill) */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ============================================================
+    // Private helpers
+    // ============================================================
+
+    /** Runs on an extraction thread; each repository call is its own short transaction. */
+    private void extractAndIndex(Long resumeId) {
+        try {
+            // [resumeId, applicationId, jobsId, recruiterId, candidateName, fileName, filePath, contentHash]
+            List<Object[]> sources = resumeTextRepository.findExtractionSources(List.of(resumeId));
+            if (sources.isEmpty()) {
+                return;   // deleted since it was queued
+            }
+            Object[] source = sources.get(0);
+            String fileName = (String) source[5];
+            String filePath = (String) source[6];
+            String contentHash = (String) source[7];
+
+            ResumeText text = resumeTextRepository.findById(resumeId).orElse(null);
+            if (text == null) {
+                text = resumeTextRepository.save(
+                        new ResumeText(resumeId, contentHash, extract(contentHash, filePath), LocalDateTime.now()));
+            }
+
+            matchScoringService.scoreApplication((Long) source[1], (Long) source[2], text.getContent());
+            resumeSearchIndex.put(resumeId, (Long) source[1], (Long) source[2], (Long) source[3],
+                    (String) source[4], fileName, text.getContent());
+            indexedCount.incrementAndGet();
+        } catch (RuntimeException e) {
+            failedCount.incrementAndGet();
+            log.warn("Resume text extraction failed for resume {}", resumeId, e);
+        }
+    }
+
+    /** Text of an identical, already extracted file, or else parsed from the PDF */
+    private String extract(String contentHash, String filePath) {
+        if (contentHash != null) {
+            ResumeText same = resumeTextRepository.findFirstByContentHash(contentHash).orElse(null);
+            if (same != null) {
+                return same.getContent();
+            }
+        }
+        try {
+            return PdfTextExtractor.extract(Paths.get(filePath));
+        } catch (IOException e) {
+            log.warn("Could not extract text from resume file {}: {}", filePath, e.getMessage());
+            return "";
+        }
+    }
+
+    private static final class ExtractionThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "resume-text-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
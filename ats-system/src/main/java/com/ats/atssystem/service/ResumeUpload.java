@@ -0,0 +1,33 @@
+package com.ats.atssystem.service;
+
+import java.io.InputStream;
+
+/**
+ * A resume as it arrives from the client: the declared file name and
+ * content type, and the body as a stream that is read exactly once
+ * (by {@link ResumeStorageService#stage}).
+ */
+public final class ResumeUpload {
+
+    private final String fileName;
+    private final String contentType;
+    private final InputStream content;
+
+    public ResumeUpload(String fileName, String contentType, InputStream content) {
+        this.fileName = fileName;
+        this.contentType = contentType;
+        this.content = content;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public InputStream getContent() {
+        return content;
+    }
+}
@@ -0,0 +1,139 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.WebhookEndpointDTO;
+import com.ats.atssystem.dto.WebhookRegistrationRequest;
+import com.ats.atssystem.model.WebhookEndpoint;
+import com.ats.atssystem.repository.WebhookEndpointRepository;
+import com.ats.atssystem.security.AuthenticatedUser;
+import com.ats.atssystem.webhook.WebhookClient;
+import com.ats.atssystem.webhook.WebhookOutboxSink;
+import com.ats.atssystem.webhook.WebhookTargetPolicy;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Recruiter webhook registrations.
+ *
+ * A recruiter registers URLs that receive their jobs' application events
+ * (delivered by WebhookOutboxSink). Registration returns the endpoint's
+ * signing secret once; later listings do not include it. URLs must pass
+ * WebhookTargetPolicy (https, public addresses only).
+ */
+@Service
+public class WebhookService {
+
+    private static final int MAX_ENDPOINTS_PER_RECRUITER = 10;
+    private static final int MAX_URL_LENGTH = 500;
+    private static final int SECRET_BYTES = 32;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookClient webhookClient;
+    private final WebhookTargetPolicy webhookTargetPolicy;
+
+    public WebhookService(WebhookEndpointRepository webhookEndpointRepository, WebhookClient webhookClient,
+                          WebhookTargetPolicy webhookTargetPolicy) {
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.webhookClient = webhookClient;
+        this.webhookTargetPolicy = webhookTargetPolicy;
+    }
+
+    /**
+     * Registers an endpoint for the authenticated recruiter.
+     *
+     * @return the endpoint, including its signing secret
+     */
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional
+    public WebhookEndpointDTO register(WebhookRegistrationRequest request) {
+
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+
+        String url = validateUrl(request.getUrl());
+        List<String> events = validateEvents(request.getEvents());
+        if (webhookEndpointRepository.countByRecruiterId(recruiterId) >= MAX_ENDPOINTS_PER_RECRUITER) {
+            throw new IllegalArgumentException(
+                    "At most " + MAX_ENDPOINTS_PER_RECRUITER + " webhooks can be registered");
+        }
+
+        WebhookEndpoint endpoint = webhookEndpointRepository.save(
+                new WebhookEndpoint(recruiterId, url, newSecret(), events));
+        return toDto(endpoint, endpoint.getSecret());
+    }
+
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional(readOnly = true)
+    public List<WebhookEndpointDTO> getMyWebhooks() {
+
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+
+        return webhookEndpointRepository.findByRecruiterIdOrderByEndpointId(recruiterId).stream()
+                .map(endpoint -> toDto(endpoint, null))
+                .toList();
+    }
+
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional
+    public void deleteWebhook(Long endpointId) {
+
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+
+        // 🔒 Someone else's endpoint is reported as missing
+        WebhookEndpoint endpoint = webhookEndpointRepository.findByEndpointIdAndRecruiterId(endpointId, recruiterId)
+                .orElseThrow(() -> new RuntimeException("Webhook not found"));
+        webhookEndpointRepository.delete(endpoint);
+        webhookClient.forget(endpointId);
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    private String validateUrl(String url) {
+        if (url == null || url.isBlank()) {
+            throw new IllegalArgumentException("Webhook url is required");
+        }
+        url = url.strip();
+        if (url.length() > MAX_URL_LENGTH) {
+            throw new IllegalArgumentException("Webhook url must be at most " + MAX_URL_LENGTH + " characters");
+        }
+        webhookTargetPolicy.check(url);
+        return url;
+    }
+
+    private static List<String> validateEvents(List<String> events) {
+        if (events == null || events.isEmpty()) {
+            return List.of();
+        }
+        Set<String> unique = new LinkedHashSet<>();
+        for (String event : events) {
+            String type = event == null ? "" : event.strip();
+            if (!WebhookOutboxSink.EVENT_TYPES.contains(type)) {
+                throw new IllegalArgumentException("Unknown webhook event '" + event
+                        + "'. Supported: " + new TreeSet<>(WebhookOutboxSink.EVENT_TYPES));
+            }
+            unique.add(type);
+        }
+        return List.copyOf(unique);
+    }
+
+    private static String newSecret() {
+        byte[] bytes = new byte[SECRET_BYTES];
+        RANDOM.nextBytes(bytes);
+        return "whsec_" + Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static WebhookEndpointDTO toDto(WebhookEndpoint endpoint, String secret) {
+        return new WebhookEndpointDTO(endpoint.getEndpointId(), endpoint.getUrl(), endpoint.getEventTypes(),
+                endpoint.getCreatedAt(), secret);
+    }
+}
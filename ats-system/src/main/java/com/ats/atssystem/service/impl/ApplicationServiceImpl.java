@@ -1,51 +1,106 @@
 package com.ats.atssystem.service.impl;
 
+import com.ats.atssystem.dto.ApplicationStatusEventDTO;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse.Outcome;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse.Result;
+import com.ats.atssystem.exception.ConcurrentUpdateException;
 import com.ats.atssystem.model.Application;
 import com.ats.atssystem.model.ApplicationStatus;
-import com.ats.atssystem.model.User;
+import com.ats.atssystem.model.ApplicationStatusEvent;
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.outbox.NotificationOutbox;
 import com.ats.atssystem.repository.ApplicationRepository;
-import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.AuthenticatedUser;
 import com.ats.atssystem.service.ApplicationService;
+import com.ats.atssystem.service.ApplicationStatusChangedEvent;
+import com.ats.atssystem.service.ApplicationStatusLog;
+import com.ats.atssystem.service.FunnelAnalyticsService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ApplicationServiceImpl implements ApplicationService {
 
+    /** Upper bound on application ids per bulk request */
+    private static final int MAX_BULK_SIZE = 5000;
+
+    /** Rows per JDBC batch for bulk status updates */
+    private static final int BATCH_SIZE = 500;
+
+    // Compare-and-set: only applies if the row is still at the version checked;
+    // bumps the @Version column like a Hibernate update would
+    private static final String UPDATE_STATUS_IF_UNCHANGED =
+            "UPDATE applications SET status = ?, version = version + 1 WHERE application_id = ? AND version = ?";
+
     private final ApplicationRepository applicationRepository;
-    private final UserRepository userRepository;
+    private final FunnelAnalyticsService funnelAnalyticsService;
+    private final ApplicationStatusLog applicationStatusLog;
+    private final NotificationOutbox notificationOutbox;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readCommittedState;
 
     public ApplicationServiceImpl(ApplicationRepository applicationRepository,
-                                  UserRepository userRepository) {
+                                  FunnelAnalyticsService funnelAnalyticsService,
+                                  ApplicationStatusLog applicationStatusLog,
+                                  NotificationOutbox notificationOutbox,
+                                  JdbcTemplate jdbcTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PlatformTransactionManager transactionManager) {
         this.applicationRepository = applicationRepository;
-        this.userRepository = userRepository;
+        this.funnelAnalyticsService = funnelAnalyticsService;
+        this.applicationStatusLog = applicationStatusLog;
+        this.notificationOutbox = notificationOutbox;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+
+        // Fresh read-only transaction, used after the current one lost a race
+        this.readCommittedState = new TransactionTemplate(transactionManager);
+        this.readCommittedState.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readCommittedState.setReadOnly(true);
     }
 
     @Override
     @PreAuthorize("hasRole('RECRUITER')")
     @Transactional
-    public void updateApplicationStatus(Long applicationId, ApplicationStatus newStatus) {
-
-        // Get authenticated recruiter
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
+    public void updateApplicationStatus(Long applicationId, ApplicationStatus newStatus, Long expectedVersion) {
 
-        User recruiter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Recruiter not found"));
+        // Get authenticated recruiter (from the JWT principal, no lookup)
+        Long recruiterId = AuthenticatedUser.current().getUserId();
 
         // Fetch the application
         Application application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new RuntimeException("Application not found"));
 
         // 🔒 Ownership check - recruiter must own the job
-        if (!application.getJob().getRecruiter().getUserId().equals(recruiter.getUserId())) {
+        if (!application.getJob().getRecruiter().getUserId().equals(recruiterId)) {
             throw new RuntimeException("Access denied: You can only update applications for your own jobs");
         }
 
+        // ⚡ The caller decided based on a version that is no longer current
+        if (expectedVersion != null && !expectedVersion.equals(application.getVersion())) {
+            throw conflict(application);
+        }
+
         // ✅ Validate status transition
         ApplicationStatus currentStatus = application.getStatus();
         if (!ApplicationStatus.isValidTransition(currentStatus, newStatus)) {
@@ -55,8 +110,199 @@ public class ApplicationServiceImpl implements ApplicationService {
             );
         }
 
-        // Update and save
+        // Update and flush now: UPDATE ... WHERE version = ? matches nothing
+        // if another transaction changed the row since it was read
         application.setStatus(newStatus);
-        applicationRepository.save(application);
+        try {
+            applicationRepository.saveAndFlush(application);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            Application committed = readCommittedState.execute(tx ->
+                    applicationRepository.findById(applicationId).orElse(null));
+            throw conflict(committed != null ? committed : application);
+        }
+
+        // Status log + funnel rollups + outbox message (same transaction)
+        LocalDateTime now = LocalDateTime.now();
+        applicationStatusLog.record(application, currentStatus, newStatus, recruiterId, now);
+        funnelAnalyticsService.statusChanged(application, newStatus, now);
+        notificationOutbox.statusChanged(application, currentStatus, newStatus, recruiterId, now);
+
+        // Live push to the candidate, delivered after commit
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(Set.of(application.getCandidate().getUserId())));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional
+    public BulkStatusUpdateResponse updateApplicationStatuses(List<Long> applicationIds, ApplicationStatus newStatus) {
+
+        if (newStatus == null) {
+            throw new IllegalArgumentException("Target status is required");
+        }
+        if (applicationIds == null || applicationIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one application id is required");
+        }
+
+        // Request order, duplicates collapsed
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        ids.remove(null);
+        if (ids.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " applications can be updated at once");
+        }
+
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+
+        // 🔒 Status + owner of every application in ONE query
+        Map<Long, Object[]> found = new HashMap<>();
+        for (Object[] row : applicationRepository.findStatusAndOwnerByIds(ids)) {
+            found.put((Long) row[0], row);
+        }
+
+        // ✅ Ownership and transition checks per row
+        Map<Long, Result> results = new LinkedHashMap<>();
+        List<Object[]> candidates = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] row = found.get(id);
+            if (row == null) {
+                results.put(id, new Result(id, Outcome.NOT_FOUND, null));
+                continue;
+            }
+            if (!recruiterId.equals(row[4])) {
+                results.put(id, new Result(id, Outcome.ACCESS_DENIED, null));
+                continue;
+            }
+            ApplicationStatus currentStatus = (ApplicationStatus) row[1];
+            if (!ApplicationStatus.isValidTransition(currentStatus, newStatus)) {
+                results.put(id, new Result(id, Outcome.INVALID_TRANSITION, currentStatus));
+                continue;
+            }
+            results.put(id, null); // decided after the update
+            candidates.add(row);
+        }
+
+        // Batched compare-and-set UPDATEs
+        int[][] batchCounts = jdbcTemplate.batchUpdate(UPDATE_STATUS_IF_UNCHANGED, candidates, BATCH_SIZE,
+                (ps, row) -> {
+                    ps.setString(1, newStatus.name());
+                    ps.setLong(2, (Long) row[0]);
+                    ps.setLong(3, (Long) row[6]);
+                });
+
+        // Decide every row before any side effect. SUCCESS_NO_INFO (the driver
+        // rewrote the batch) says nothing about the row: re-read those
+        List<Object[]> updated = new ArrayList<>();
+        List<Object[]> unreported = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : batchCounts) {
+            for (int count : batch) {
+                Object[] row = candidates.get(index++);
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    unreported.add(row);
+                } else if (count > 0) {
+                    updated.add(row);
+                } else {
+                    // 0 rows: changed since the check
+                    results.put((Long) row[0], new Result((Long) row[0], Outcome.CONFLICT, (ApplicationStatus) row[1]));
+                }
+            }
+        }
+        if (!unreported.isEmpty()) {
+            confirmUpdates(unreported, newStatus, updated, results);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<ApplicationStatusEvent> events = new ArrayList<>();
+        List<OutboxMessage> messages = new ArrayList<>();
+        Map<Long, List<LocalDateTime>> appliedAtByJob = new HashMap<>();
+        Set<Long> candidateIds = new HashSet<>();
+
+        for (Object[] row : updated) {
+            Long id = (Long) row[0];
+            ApplicationStatus previous = (ApplicationStatus) row[1];
+            Long jobId = (Long) row[3];
+
+            results.put(id, new Result(id, Outcome.UPDATED, previous));
+            events.add(new ApplicationStatusEvent(id, jobId, recruiterId, previous, newStatus, now));
+            messages.add(notificationOutbox.statusChangedMessage(id, jobId, recruiterId, (Long) row[5],
+                    previous, newStatus, recruiterId, now));
+            appliedAtByJob.computeIfAbsent(jobId, j -> new ArrayList<>()).add((LocalDateTime) row[2]);
+            candidateIds.add((Long) row[5]);
+        }
+
+        // Status log + funnel rollups + outbox messages (same transaction, batched/aggregated)
+        applicationStatusLog.recordAll(events);
+        funnelAnalyticsService.statusesChanged(recruiterId, appliedAtByJob, newStatus, now);
+        notificationOutbox.recordAll(messages);
+        if (!candidateIds.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(candidateIds));
+        }
+
+        return new BulkStatusUpdateResponse(newStatus, new ArrayList<>(results.values()));
+    }
+
+    @Override
+    @PreAuthorize("hasRole('RECRUITER')")
+    @Transactional(readOnly = true)
+    public List<ApplicationStatusEventDTO> getStatusHistory(Long applicationId) {
+
+        Long recruiterId = AuthenticatedUser.current().getUserId();
+
+        Application application = applicationRepository.findById(applicationId)
+                .orElseThrow(() -> new RuntimeException("Application not found"));
+
+        // 🔒 Ownership check - recruiter must own the job
+        if (!application.getJob().getRecruiter().getUserId().equals(recruiterId)) {
+            throw new RuntimeException("Access denied: You can only view applications for your own jobs");
+        }
+
+        return applicationStatusLog.getHistory(applicationId);
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    /**
+     * Sorts rows whose UPDATE count was not reported into updated and
+     * CONFLICT by re-reading them in the current transaction: the row is
+     * ours if it now has the target status at exactly the next version.
+     *
+     * The re-read is a plain (snapshot) read. Under MySQL's default
+     * REPEATABLE READ it sees this transaction's own write, or else the row
+     * as it was at the first read, so a concurrent writer that made the
+     * same change is reported as a conflict rather than counted twice.
+     */
+    private void confirmUpdates(List<Object[]> unreported, ApplicationStatus newStatus,
+                                List<Object[]> updated, Map<Long, Result> results) {
+        Map<Long, Object[]> current = new HashMap<>();
+        for (Object[] row : applicationRepository.findStatusAndVersionByIds(
+                unreported.stream().map(row -> (Long) row[0]).toList())) {
+            current.put((Long) row[0], row);
+        }
+
+        for (Object[] row : unreported) {
+            Long id = (Long) row[0];
+            Object[] now = current.get(id);
+            boolean applied = now != null
+                    && now[1] == newStatus
+                    && ((Long) now[2]) == ((Long) row[6]) + 1;
+            if (applied) {
+                updated.add(row);
+            } else {
+                results.put(id, new Result(id, Outcome.CONFLICT, (ApplicationStatus) row[1]));
+            }
+        }
+    }
+
+    /** 409 carrying the application's current status and version */
+    private static ConcurrentUpdateException conflict(Application current) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("applicationId", current.getApplicationId());
+        state.put("status", current.getStatus());
+        state.put("version", current.getVersion());
+        return new ConcurrentUpdateException(
+                "Application " + current.getApplicationId() + " was changed by someone else; "
+                        + "current status is " + current.getStatus(),
+                state);
     }
-}
\ No newline at end of file
+}
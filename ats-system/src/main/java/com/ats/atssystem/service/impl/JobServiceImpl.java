@@ -1,143 +1,258 @@
 package com.ats.atssystem.service.impl;
 
 import com.ats.atssystem.dto.ApplicantDTO;
-import com.ats.atssystem.model.Application;
+import com.ats.atssystem.dto.ApplicantPageDTO;
+import com.ats.atssystem.dto.ApplicantSort;
+import com.ats.atssystem.exception.ConcurrentUpdateException;
+import com.ats.atssystem.model.ApplicationStatus;
 import com.ats.atssystem.model.Job;
 import com.ats.atssystem.model.JobStatus;
-import com.ats.atssystem.model.Resume;
 import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
 import com.ats.atssystem.repository.ApplicationRepository;
 import com.ats.atssystem.repository.JobRepository;
-import com.ats.atssystem.repository.ResumeRepository;
 import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.search.JobSearchIndex;
+import com.ats.atssystem.security.AuthenticatedUser;
+import com.ats.atssystem.service.DashboardStatistics;
 import com.ats.atssystem.service.JobService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class JobServiceImpl implements JobService {
 
+    /** Page size bounds for the keyset-paginated applicant list */
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    /** Highest match score first; unscored applicants last, in application order */
+    private static final Comparator<ApplicantDTO> BEST_MATCH_FIRST = Comparator
+            .comparing(ApplicantDTO::getMatchScore, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(ApplicantDTO::getApplicationId);
+
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final ApplicationRepository applicationRepository;
-    private final ResumeRepository resumeRepository;
+    private final JobSearchIndex jobSearchIndex;
+    private final DashboardStatistics dashboardStatistics;
+    private final NotificationOutbox notificationOutbox;
+    private final TransactionTemplate transactionTemplate;
+
+    // Rows returned by the unpaged applicant listing
+    private final DistributionSummary applicantRows;
 
     public JobServiceImpl(JobRepository jobRepository,
                           UserRepository userRepository,
                           ApplicationRepository applicationRepository,
-                          ResumeRepository resumeRepository) {
+                          JobSearchIndex jobSearchIndex,
+                          DashboardStatistics dashboardStatistics,
+                          NotificationOutbox notificationOutbox,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry) {
         this.jobRepository = jobRepository;
         this.userRepository = userRepository;
         this.applicationRepository = applicationRepository;
-        this.resumeRepository = resumeRepository;
+        this.jobSearchIndex = jobSearchIndex;
+        this.dashboardStatistics = dashboardStatistics;
+        this.notificationOutbox = notificationOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicantRows = DistributionSummary.builder("ats.applicants.rows")
+                .description("Rows returned by getApplicantsForJob")
+                .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100, 200, 500, 1000, 5000)
+                .register(meterRegistry);
     }
 
     @Override
     @PreAuthorize("hasRole('RECRUITER')")
     public Job createJob(Job job) {
 
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
-
-        User recruiter = userRepository.findByEmail(email)
+        // The recruiter entity is needed for the association (and the response body)
+        User recruiter = userRepository.findById(AuthenticatedUser.current().getUserId())
                 .orElseThrow(() -> new RuntimeException("Recruiter not found"));
 
         job.setRecruiter(recruiter);
         job.setStatus(JobStatus.OPEN);
+        if (job.getCreatedAt() == null) {
+            job.setCreatedAt(LocalDateTime.now());
+        }
 
-        return jobRepository.save(job);
+        Job saved = jobRepository.save(job);
+        jobSearchIndex.index(saved);
+        dashboardStatistics.jobCreated(saved.getStatus());
+        return saved;
     }
 
     @Override
     @PreAuthorize("hasRole('RECRUITER')")
     public List<Job> getMyJobs() {
 
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
-
-        User recruiter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Recruiter not found"));
-
-        return jobRepository.findByRecruiter(recruiter);
+        return jobRepository.findByRecruiterUserId(AuthenticatedUser.current().getUserId());
     }
 
     @Override
     @PreAuthorize("hasRole('RECRUITER')")
     public void updateJobStatus(Long jobId, JobStatus status) {
 
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
-
-        User recruiter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Recruiter not found"));
+        Long recruiterId = AuthenticatedUser.current().getUserId();
 
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
         // 🔒 Ownership check
-        if (!job.getRecruiter().getUserId().equals(recruiter.getUserId())) {
+        if (!job.getRecruiter().getUserId().equals(recruiterId)) {
             throw new RuntimeException("Access denied");
         }
 
+        JobStatus previous = job.getStatus();
         job.setStatus(status);
-        jobRepository.save(job);
+        Job changed = job;
+        try {
+            // The closure announcement commits (or not) with the change itself
+            job = transactionTemplate.execute(tx -> {
+                Job saved = jobRepository.save(changed);
+                if (status == JobStatus.CLOSED && previous != JobStatus.CLOSED) {
+                    notificationOutbox.jobClosed(saved, LocalDateTime.now());
+                }
+                return saved;
+            });
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Someone else changed the job since it was read: report what is there now
+            Job current = jobRepository.findById(jobId).orElse(job);
+            Map<String, Object> state = new LinkedHashMap<>();
+            state.put("jobId", current.getJobsId());
+            state.put("status", current.getStatus());
+            state.put("version", current.getVersion());
+            throw new ConcurrentUpdateException(
+                    "Job " + jobId + " was changed by someone else; current status is " + current.getStatus(),
+                    state);
+        }
+        dashboardStatistics.jobStatusChanged(previous, status);
+
+        // Keep the candidate search index in step (CLOSED jobs are dropped)
+        jobSearchIndex.index(job);
     }
 
     @Override
     @PreAuthorize("hasRole('RECRUITER')")
     public List<ApplicantDTO> getApplicantsForJob(Long jobId) {
 
-        // Get authenticated recruiter
-        String email = SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
+        return getApplicantsForJob(jobId, ApplicantSort.APPLIED);
+    }
 
-        User recruiter = userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("Recruiter not found"));
+    @Override
+    @PreAuthorize("hasRole('RECRUITER')")
+    public List<ApplicantDTO> getApplicantsForJob(Long jobId, ApplicantSort sort) {
+
+        verifyJobOwnership(jobId);
+
+        // Application + candidate + resume + match score in one projection query (no N+1)
+        List<ApplicantDTO> applicants = applicationRepository.findApplicantsByJobId(jobId);
+        applicantRows.record(applicants.size());
+
+        // Scores are cached per application, so ranking is an in-memory sort
+        if (sort == ApplicantSort.SCORE) {
+            applicants = new ArrayList<>(applicants);
+            applicants.sort(BEST_MATCH_FIRST);
+        }
+        return applicants;
+    }
+
+    @Override
+    @PreAuthorize("hasRole('RECRUITER')")
+    public ApplicantPageDTO getApplicantsPage(Long jobId, ApplicationStatus status, String cursor,
+                                              int limit, Sort.Direction direction) {
+
+        verifyJobOwnership(jobId);
+
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+
+        // Decode the cursor (null → first page)
+        LocalDateTime afterAppliedAt = null;
+        Long afterId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            afterAppliedAt = LocalDateTime.parse(parts[0]);
+            afterId = Long.parseLong(parts[1]);
+        }
+
+        // Fetch one extra row to know whether another page exists
+        Limit fetchLimit = Limit.of(pageSize + 1);
+        List<ApplicantDTO> rows = direction == Sort.Direction.DESC
+                ? applicationRepository.findApplicantPageDescending(jobId, status, afterAppliedAt, afterId, fetchLimit)
+                : applicationRepository.findApplicantPageAscending(jobId, status, afterAppliedAt, afterId, fetchLimit);
+
+        boolean hasMore = rows.size() > pageSize;
+        List<ApplicantDTO> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ApplicantDTO last = page.get(page.size() - 1);
+            nextCursor = encodeCursor(last.getAppliedAt(), last.getApplicationId());
+        }
+
+        return new ApplicantPageDTO(List.copyOf(page), nextCursor, hasMore, pageSize);
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    /**
+     * Ensures the job exists and belongs to the authenticated recruiter.
+     */
+    private void verifyJobOwnership(Long jobId) {
+
+        // Authenticated recruiter, straight from the JWT principal
+        Long recruiterId = AuthenticatedUser.current().getUserId();
 
         // Fetch the job
         Job job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new RuntimeException("Job not found"));
 
         // 🔒 Ownership check - recruiter can only view applicants for their own jobs
-        if (!job.getRecruiter().getUserId().equals(recruiter.getUserId())) {
+        if (!job.getRecruiter().getUserId().equals(recruiterId)) {
             throw new RuntimeException("Access denied: You can only view applicants for your own jobs");
         }
+    }
 
-        // Fetch all applications for this job
-        List<Application> applications = applicationRepository.findByJobJobsId(jobId);
-
-        // Map to DTOs with resume information
-        return applications.stream()
-                .map(app -> {
-                    // Fetch resume for this application
-                    Resume resume = resumeRepository
-                            .findByApplicationApplicationId(app.getApplicationId())
-                            .orElse(null);
-
-                    return new ApplicantDTO(
-                            app.getApplicationId(),
-                            app.getCandidate().getUserId(),
-                            app.getCandidate().getName(),
-                            app.getCandidate().getEmail(),
-                            app.getStatus(),
-                            app.getAppliedAt(),
-                            resume != null ? resume.getResumeId() : null,
-                            resume != null ? resume.getFileName() : null,
-                            resume != null
-                    );
-                })
-                .collect(Collectors.toList());
+    /** Cursor format: base64url("<appliedAt ISO>|<applicationId>") */
+    private static String encodeCursor(LocalDateTime appliedAt, Long applicationId) {
+        String raw = appliedAt + "|" + applicationId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            // Validate both halves eagerly so callers get one clear error
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
-}
\ No newline at end of file
+}
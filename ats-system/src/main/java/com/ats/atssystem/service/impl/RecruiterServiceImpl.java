@@ -4,9 +4,9 @@ import com.ats.atssystem.dto.RecruiterProfileResponse;
 import com.ats.atssystem.model.Role;
 import com.ats.atssystem.model.User;
 import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.AuthenticatedUser;
 import com.ats.atssystem.service.RecruiterService;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -25,9 +25,9 @@ public class RecruiterServiceImpl implements RecruiterService {
     @PreAuthorize("hasRole('RECRUITER')")
     public RecruiterProfileResponse getMyProfile() {
 
-        String email = getLoggedInEmail();
+        Long userId = getLoggedInUserId();
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Recruiter not found"));
 
         if (user.getRole() != Role.RECRUITER) {
@@ -49,9 +49,9 @@ public class RecruiterServiceImpl implements RecruiterService {
     @PreAuthorize("hasRole('RECRUITER')")
     public void updateMyName(String name) {
 
-        String email = getLoggedInEmail();
+        Long userId = getLoggedInUserId();
 
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("Recruiter not found"));
 
         if (user.getRole() != Role.RECRUITER) {
@@ -65,10 +65,7 @@ public class RecruiterServiceImpl implements RecruiterService {
     // ============================
     // INTERNAL HELPER
     // ============================
-    private String getLoggedInEmail() {
-        return SecurityContextHolder
-                .getContext()
-                .getAuthentication()
-                .getName();
+    private Long getLoggedInUserId() {
+        return AuthenticatedUser.current().getUserId();
     }
 }
\ No newline at end of file
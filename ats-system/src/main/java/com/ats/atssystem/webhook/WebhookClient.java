@@ -0,0 +1,274 @@
+package com.ats.atssystem.webhook;
+
+import com.ats.atssystem.model.WebhookEndpoint;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Sends signed webhook requests without letting one endpoint hold up the
+ * others.
+ *
+ * - One shared java.net.http.HttpClient: pooled keep-alive connections,
+ *   non-blocking sends, responses handled on a small pool
+ *   (app.webhooks.threads).
+ * - Per endpoint, at most app.webhooks.max-concurrency-per-endpoint
+ *   requests in flight; further requests wait in a per-endpoint queue of
+ *   app.webhooks.max-queued-per-endpoint and fail fast beyond it.
+ * - Per endpoint, a CircuitBreaker: after
+ *   app.webhooks.breaker-failure-threshold consecutive failures (non-2xx,
+ *   I/O error or app.webhooks.request-timeout) requests fail immediately
+ *   for app.webhooks.breaker-open-duration, then one trial is let through.
+ *
+ * - Before every send the URL is checked against WebhookTargetPolicy on
+ *   the response pool (it resolves the host), and redirects are never
+ *   followed, so a registered endpoint cannot later point the request at
+ *   an internal address.
+ *
+ * A failed send only fails the returned future; retrying is left to the
+ * outbox, which backs off per message.
+ */
+@Component
+public class WebhookClient {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookClient.class);
+
+    private final WebhookTargetPolicy targetPolicy;
+    private final HttpClient httpClient;
+    private final ExecutorService executor;
+    private final Duration requestTimeout;
+    private final int maxConcurrencyPerEndpoint;
+    private final int maxQueuedPerEndpoint;
+    private final int breakerFailureThreshold;
+    private final Duration breakerOpenDuration;
+
+    /** endpointId → concurrency limit, queue and breaker */
+    private final Map<Long, Destination> destinations = new ConcurrentHashMap<>();
+
+    private final AtomicLong sentCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong shortCircuitedCount = new AtomicLong();
+
+    public WebhookClient(WebhookTargetPolicy targetPolicy,
+                         @Value("${app.webhooks.threads:4}") int threads,
+                         @Value("${app.webhooks.connect-timeout:PT2S}") Duration connectTimeout,
+                         @Value("${app.webhooks.request-timeout:PT10S}") Duration requestTimeout,
+                         @Value("${app.webhooks.max-concurrency-per-endpoint:2}") int maxConcurrencyPerEndpoint,
+                         @Value("${app.webhooks.max-queued-per-endpoint:50}") int maxQueuedPerEndpoint,
+                         @Value("${app.webhooks.breaker-failure-threshold:5}") int breakerFailureThreshold,
+                         @Value("${app.webhooks.breaker-open-duration:PT1M}") Duration breakerOpenDuration) {
+        this.targetPolicy = targetPolicy;
+        // Target checks and response handling only (sends are non-blocking)
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new WebhookThreadFactory());
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .executor(executor)
+                .build();
+        this.requestTimeout = requestTimeout;
+        this.maxConcurrencyPerEndpoint = maxConcurrencyPerEndpoint;
+        this.maxQueuedPerEndpoint = maxQueuedPerEndpoint;
+        this.breakerFailureThreshold = breakerFailureThreshold;
+        this.breakerOpenDuration = breakerOpenDuration;
+    }
+
+    /**
+     * POSTs a JSON body to an endpoint, signed with its secret.
+     *
+     * @return completes when the endpoint answered 2xx; fails otherwise,
+     *         immediately if the circuit is open or the endpoint's queue is full
+     */
+    public CompletableFuture<Void> send(WebhookEndpoint endpoint, String body) {
+        Destination destination = destinations.computeIfAbsent(endpoint.getEndpointId(),
+                id -> new Destination(id, new CircuitBreaker(breakerFailureThreshold, breakerOpenDuration)));
+        return destination.submit(new Send(endpoint.getUrl(), endpoint.getSecret(), body));
+    }
+
+    /** Drops the state kept for a deleted endpoint */
+    public void forget(Long endpointId) {
+        destinations.remove(endpointId);
+    }
+
+    // ============================
+    // WEBHOOK METRICS
+    // ============================
+
+    /** Requests answered with 2xx since startup */
+    public long getSentCount() {
+        return sentCount.get();
+    }
+
+    /** Requests that failed (status, I/O, timeout) since startup */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /** Requests refused without sending (open circuit, full queue) since startup */
+    public long getShortCircuitedCount() {
+        return shortCircuitedCount.get();
+    }
+
+    /** Endpoints whose circuit is currently not closed */
+    public long getOpenCircuitCount() {
+        return destinations.values().stream()
+                .filter(destination -> destination.breaker.getState() != CircuitBreaker.State.CLOSED)
+                .count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ============================================================
+    // Per-endpoint limits
+    // ============================================================
+
+    private final class Destination {
+        private final Long endpointId;
+        private final CircuitBreaker breaker;
+        private final Semaphore permits = new Semaphore(maxConcurrencyPerEndpoint);
+        private final Queue<Send> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queued = new AtomicInteger();
+
+        private Destination(Long endpointId, CircuitBreaker breaker) {
+            this.endpointId = endpointId;
+            this.breaker = breaker;
+        }
+
+        CompletableFuture<Void> submit(Send send) {
+            if (!breaker.allowRequest()) {
+                return refuse("circuit open for webhook endpoint " + endpointId);
+            }
+            if (queued.incrementAndGet() > maxQueuedPerEndpoint) {
+                queued.decrementAndGet();
+                return refuse("send queue full for webhook endpoint " + endpointId);
+            }
+            queue.add(send);
+            drain();
+            return send.result;
+        }
+
+        /** Starts queued sends while permits are free */
+        private void drain() {
+            while (!queue.isEmpty() && permits.tryAcquire()) {
+                Send send = queue.poll();
+                if (send == null) {
+                    permits.release();
+                    return;
+                }
+                queued.decrementAndGet();
+                start(send).whenComplete((ignored, error) -> {
+                    permits.release();
+                    drain();
+                });
+            }
+        }
+
+        private CompletableFuture<Void> start(Send send) {
+            CompletableFuture<HttpResponse<Void>> response;
+            try {
+                // The address check resolves the host, so it runs off the caller's thread
+                response = CompletableFuture.supplyAsync(() -> targetPolicy.check(send.url), executor)
+                        .thenCompose(uri -> httpClient.sendAsync(request(uri, send),
+                                HttpResponse.BodyHandlers.discarding()));
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            return response.handle((reply, error) -> {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                if (cause == null && reply.statusCode() / 100 != 2) {
+                    cause = new DeliveryException("HTTP " + reply.statusCode() + " from webhook endpoint " + endpointId);
+                }
+                if (cause == null) {
+                    breaker.recordSuccess();
+                    sentCount.incrementAndGet();
+                    send.result.complete(null);
+                } else {
+                    breaker.recordFailure();
+                    failedCount.incrementAndGet();
+                    log.debug("Webhook endpoint {} failed: {}", endpointId, cause.toString());
+                    send.result.completeExceptionally(cause);
+                }
+                return null;
+            });
+        }
+
+        private HttpRequest request(URI uri, Send send) {
+            return HttpRequest.newBuilder(uri)
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .header("User-Agent", "ats-webhooks")
+                    .header("X-Ats-Delivery", UUID.randomUUID().toString())
+                    .header(WebhookSigner.SIGNATURE_HEADER,
+                            WebhookSigner.signatureHeader(send.secret, Instant.now().getEpochSecond(), send.body))
+                    .POST(HttpRequest.BodyPublishers.ofString(send.body))
+                    .build();
+        }
+
+        private CompletableFuture<Void> refuse(String reason) {
+            shortCircuitedCount.incrementAndGet();
+            return CompletableFuture.failedFuture(new DeliveryException(reason));
+        }
+    }
+
+    private static final class Send {
+        private final String url;
+        private final String secret;
+        private final String body;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Send(String url, String secret, String body) {
+            this.url = url;
+            this.secret = secret;
+            this.body = body;
+        }
+    }
+
+    /** A webhook request that was refused or not answered with 2xx */
+    public static final class DeliveryException extends RuntimeException {
+        public DeliveryException(String message) {
+            super(message);
+        }
+    }
+
+    private static final class WebhookThreadFactory implements ThreadFactory {
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "webhook-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.ats.atssystem.webhook;
+
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.model.WebhookEndpoint;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.outbox.OutboxSink;
+import com.ats.atssystem.repository.WebhookEndpointRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Delivers outbox messages to recruiters' webhook endpoints.
+ *
+ * For each claimed outbox batch:
+ *   1. The messages are grouped by the recruiter in their payload, and
+ *      the endpoints of all those recruiters are loaded in one query
+ *   2. Each endpoint gets its subscribed events in as few requests as
+ *      possible (up to app.webhooks.max-batch-size events per POST):
+ *        {"deliveryId": "...", "events": [{"id", "type", "createdAt", "data"}, ...]}
+ *   3. WebhookClient signs and sends the requests asynchronously
+ *   4. A message counts as delivered once every request carrying it got a
+ *      2xx; otherwise the outbox retries it with backoff
+ *
+ * Retries resend the whole message to every endpoint of the recruiter, so
+ * receivers should dedupe on the event id (the outbox messageId).
+ */
+@Component
+public class WebhookOutboxSink implements OutboxSink {
+
+    private static final Logger log = LoggerFactory.getLogger(WebhookOutboxSink.class);
+
+    /** Event types recruiters can subscribe to */
+    public static final Set<String> EVENT_TYPES = Set.of(
+            NotificationOutbox.APPLICATION_SUBMITTED,
+            NotificationOutbox.APPLICATION_STATUS_CHANGED);
+
+    private final WebhookEndpointRepository webhookEndpointRepository;
+    private final WebhookClient webhookClient;
+    private final ObjectMapper objectMapper;
+    private final int maxBatchSize;
+
+    public WebhookOutboxSink(WebhookEndpointRepository webhookEndpointRepository,
+                             WebhookClient webhookClient,
+                             ObjectMapper objectMapper,
+                             @Value("${app.webhooks.max-batch-size:50}") int maxBatchSize) {
+        this.webhookEndpointRepository = webhookEndpointRepository;
+        this.webhookClient = webhookClient;
+        this.objectMapper = objectMapper;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Override
+    public String getName() {
+        return "webhooks";
+    }
+
+    @Override
+    public boolean accepts(String eventType) {
+        return EVENT_TYPES.contains(eventType);
+    }
+
+    @Override
+    public void deliver(OutboxMessage message) {
+        try {
+            deliverAll(List.of(message)).get(0).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public List<CompletableFuture<Void>> deliverAll(List<OutboxMessage> messages) {
+
+        // Payloads parsed once; messages grouped by the recruiter they concern
+        Map<Long, JsonNode> payloads = new HashMap<>();
+        Map<Long, List<OutboxMessage>> byRecruiter = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            JsonNode payload = parse(message);
+            if (payload == null || !payload.hasNonNull("recruiterId")) {
+                continue;
+            }
+            payloads.put(message.getMessageId(), payload);
+            byRecruiter.computeIfAbsent(payload.get("recruiterId").asLong(), id -> new ArrayList<>()).add(message);
+        }
+
+        Map<Long, List<CompletableFuture<Void>>> requestsByMessage = new HashMap<>();
+        if (!byRecruiter.isEmpty()) {
+            for (WebhookEndpoint endpoint : webhookEndpointRepository.findByRecruiterIdIn(byRecruiter.keySet())) {
+                List<OutboxMessage> events = byRecruiter.get(endpoint.getRecruiterId()).stream()
+                        .filter(message -> endpoint.subscribesTo(message.getEventType()))
+                        .toList();
+                for (int from = 0; from < events.size(); from += maxBatchSize) {
+                    List<OutboxMessage> chunk = events.subList(from, Math.min(from + maxBatchSize, events.size()));
+                    CompletableFuture<Void> request = webhookClient.send(endpoint, body(chunk, payloads));
+                    for (OutboxMessage message : chunk) {
+                        requestsByMessage.computeIfAbsent(message.getMessageId(), id -> new ArrayList<>()).add(request);
+                    }
+                }
+            }
+        }
+
+        List<CompletableFuture<Void>> results = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            List<CompletableFuture<Void>> requests = requestsByMessage.get(message.getMessageId());
+            results.add(requests == null
+                    ? CompletableFuture.completedFuture(null) // nobody subscribed
+                    : CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)));
+        }
+        return results;
+    }
+
+    // ============================
+    // INTERNAL HELPERS
+    // ============================
+
+    private String body(List<OutboxMessage> chunk, Map<Long, JsonNode> payloads) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("deliveryId", UUID.randomUUID().toString());
+        ArrayNode events = body.putArray("events");
+        for (OutboxMessage message : chunk) {
+            ObjectNode event = events.addObject();
+            event.put("id", message.getMessageId());
+            event.put("type", message.getEventType());
+            event.put("createdAt", message.getCreatedAt().toString());
+            event.set("data", payloads.get(message.getMessageId()));
+        }
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize webhook body", e);
+        }
+    }
+
+    private JsonNode parse(OutboxMessage message) {
+        try {
+            return objectMapper.readTree(message.getPayload());
+        } catch (JsonProcessingException e) {
+            log.warn("Outbox message {} has an unreadable payload; not sent to webhooks", message.getMessageId());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.ats.atssystem.webhook;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+
+/**
+ * HMAC-SHA256 signatures for webhook payloads.
+ *
+ * Header format: X-Ats-Signature: t=<unix seconds>,v1=<hex HMAC>
+ * where the HMAC is computed with the endpoint's secret over
+ * "<t>.<request body>". Receivers recompute it over the raw body, compare
+ * in constant time, and reject stale timestamps to stop replays.
+ */
+public final class WebhookSigner {
+
+    public static final String SIGNATURE_HEADER = "X-Ats-Signature";
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private WebhookSigner() {
+    }
+
+    /**
+     * @param secret    the endpoint's signing secret
+     * @param timestamp unix seconds at sending time
+     * @param body      the exact request body
+     * @return the X-Ats-Signature header value
+     */
+    public static String signatureHeader(String secret, long timestamp, String body) {
+        return "t=" + timestamp + ",v1=" + hmacHex(secret, timestamp + "." + body);
+    }
+
+    static String hmacHex(String secret, String message) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return HexFormat.of().formatHex(mac.doFinal(message.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.ats.atssystem.webhook;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.util.Locale;
+
+/**
+ * Decides which URLs webhook requests may be sent to, so a recruiter
+ * cannot make the server call into its own network (SSRF).
+ *
+ * A target must be an absolute https URL whose host resolves only to
+ * public addresses: loopback, link-local (including cloud metadata at
+ * 169.254.169.254), site-local and unique-local, wildcard and multicast
+ * addresses are refused. WebhookService checks a URL when it is
+ * registered and WebhookClient checks it again right before every send,
+ * because the host's DNS records can change after registration. The
+ * client's own lookup follows immediately and is normally answered from
+ * the JVM's address cache, so it connects to the address that was checked.
+ *
+ * app.webhooks.allow-private-targets=true lifts both rules (plain http to
+ * a local stub); for development and tests only.
+ */
+@Component
+public class WebhookTargetPolicy {
+
+    private final boolean allowPrivateTargets;
+
+    public WebhookTargetPolicy(@Value("${app.webhooks.allow-private-targets:false}") boolean allowPrivateTargets) {
+        this.allowPrivateTargets = allowPrivateTargets;
+    }
+
+    /**
+     * Validates a webhook URL, resolving its host (blocking DNS lookup).
+     *
+     * @param url the endpoint URL
+     * @return the parsed URL
+     * @throws IllegalArgumentException if the URL is not https, its host
+     *         does not resolve, or any of its addresses is not public
+     */
+    public URI check(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Webhook url must be an absolute https URL");
+        }
+        String scheme = uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT);
+        boolean allowedScheme = scheme.equals("https") || (allowPrivateTargets && scheme.equals("http"));
+        if (!allowedScheme || uri.getHost() == null) {
+            throw new IllegalArgumentException("Webhook url must be an absolute https URL");
+        }
+        if (allowPrivateTargets) {
+            return uri;
+        }
+
+        InetAddress[] addresses;
+        try {
+            addresses = InetAddress.getAllByName(uri.getHost());
+        } catch (UnknownHostException e) {
+            throw new IllegalArgumentException("Webhook host " + uri.getHost() + " could not be resolved");
+        }
+        for (InetAddress address : addresses) {
+            if (!isPublic(address)) {
+                throw new IllegalArgumentException(
+                        "Webhook host " + uri.getHost() + " resolves to a non-public address");
+            }
+        }
+        return uri;
+    }
+
+    static boolean isPublic(InetAddress address) {
+        if (address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress()
+                || address.isAnyLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        // IPv6 unique local fc00::/7; isSiteLocalAddress only covers the deprecated fec0::/10
+        return !(address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc);
+    }
+}
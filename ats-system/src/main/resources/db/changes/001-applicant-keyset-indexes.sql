@@ -0,0 +1,17 @@
+-- ============================================================
+-- 001: Indexes for the keyset-paginated recruiter applicant list
+--
+-- GET /recruiter/jobs/{jobId}/applicants/page seeks on
+-- (jobs_id, [status,] applied_at, application_id). These composite
+-- indexes let MySQL start each page directly at the cursor instead of
+-- scanning and sorting every application of the job.
+--
+-- Apply manually (spring.jpa.hibernate.ddl-auto=validate does not
+-- create indexes).
+-- ============================================================
+
+CREATE INDEX idx_applications_job_applied
+    ON applications (jobs_id, applied_at, application_id);
+
+CREATE INDEX idx_applications_job_status_applied
+    ON applications (jobs_id, status, applied_at, application_id);
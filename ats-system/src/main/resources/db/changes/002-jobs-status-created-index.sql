@@ -0,0 +1,11 @@
+-- ============================================================
+-- 002: Index for the candidate job browse list
+--
+-- GET /candidate/jobs/browse runs
+--   WHERE status = 'OPEN' ORDER BY created_at DESC, jobs_id DESC
+-- This index lets MySQL read OPEN jobs in order without touching
+-- CLOSED rows or sorting.
+-- ============================================================
+
+CREATE INDEX idx_jobs_status_created
+    ON jobs (status, created_at);
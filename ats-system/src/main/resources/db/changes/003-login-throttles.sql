@@ -0,0 +1,19 @@
+-- ============================================================
+-- 003: Shared login throttle state
+--
+-- Used by JdbcLoginThrottleStore (app.login-throttle.store=jdbc) so
+-- failed-login counts and lockouts are shared by every node. Rows are
+-- purged once expires_at has passed.
+-- ============================================================
+
+CREATE TABLE login_throttles (
+    throttle_key VARCHAR(255) NOT NULL,
+    failures     INT          NOT NULL,
+    window_start BIGINT       NOT NULL,
+    locked_until BIGINT       NOT NULL,
+    expires_at   BIGINT       NOT NULL,
+    PRIMARY KEY (throttle_key)
+);
+
+CREATE INDEX idx_login_throttles_expires
+    ON login_throttles (expires_at);
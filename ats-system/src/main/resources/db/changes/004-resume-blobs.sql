@@ -0,0 +1,25 @@
+-- ============================================================
+-- 004: Content-addressed resume storage
+--
+-- Each distinct resume file is stored once, named by its SHA-256, and
+-- referenced from resumes.content_hash. ref_count is the number of
+-- resumes pointing at the blob; unreferenced blobs are garbage-collected.
+--
+-- Existing resumes keep content_hash = NULL and their original
+-- file_path; they continue to download as before.
+-- ============================================================
+
+CREATE TABLE resume_blobs (
+    content_hash VARCHAR(64)  NOT NULL,
+    file_path    VARCHAR(500) NOT NULL,
+    size_bytes   BIGINT       NOT NULL,
+    ref_count    INT          NOT NULL,
+    created_at   TIMESTAMP    NOT NULL,
+    PRIMARY KEY (content_hash)
+);
+
+ALTER TABLE resumes
+    ADD COLUMN content_hash VARCHAR(64) NULL;
+
+CREATE INDEX idx_resumes_content_hash
+    ON resumes (content_hash);
@@ -0,0 +1,22 @@
+-- ============================================================
+-- 005: Indexes for the admin user/job listings and exports
+--
+-- GET /admin/users/page and /admin/users/export run
+--   WHERE role = ? ORDER BY user_id
+--   WHERE email LIKE 'abc%' OR name LIKE 'abc%' ORDER BY user_id
+-- GET /admin/jobs/page and /admin/jobs/export run
+--   WHERE title LIKE 'abc%' ORDER BY jobs_id
+--
+-- InnoDB secondary indexes carry the primary key, so idx_users_role
+-- returns one role's rows already in user_id order. Email already has
+-- a unique index; name and title get their own for prefix matches.
+-- ============================================================
+
+CREATE INDEX idx_users_role
+    ON users (role);
+
+CREATE INDEX idx_users_name
+    ON users (name);
+
+CREATE INDEX idx_jobs_title
+    ON jobs (title);
@@ -0,0 +1,54 @@
+-- ============================================================
+-- 006: Daily rollups for hiring-funnel analytics
+--
+-- application_funnel_daily counts, per job and day, applications
+-- received and transitions to SHORTLISTED / HIRED / REJECTED.
+-- application_decision_time_daily holds, per job and day, a histogram
+-- of time from applying to a final decision (buckets defined in
+-- DecisionTimeHistogram).
+--
+-- Both are maintained incrementally by the application (upserts in the
+-- same transaction as the change) and read by summing rows over a date
+-- range, so analytics cost scales with days and jobs, not applications.
+-- ============================================================
+
+CREATE TABLE application_funnel_daily (
+    activity_date DATE   NOT NULL,
+    jobs_id       BIGINT NOT NULL,
+    recruiter_id  BIGINT NOT NULL,
+    applied       INT    NOT NULL DEFAULT 0,
+    shortlisted   INT    NOT NULL DEFAULT 0,
+    hired         INT    NOT NULL DEFAULT 0,
+    rejected      INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (activity_date, jobs_id)
+);
+
+CREATE INDEX idx_funnel_daily_job
+    ON application_funnel_daily (jobs_id, activity_date);
+
+CREATE INDEX idx_funnel_daily_recruiter
+    ON application_funnel_daily (recruiter_id, activity_date);
+
+CREATE TABLE application_decision_time_daily (
+    activity_date DATE   NOT NULL,
+    jobs_id       BIGINT NOT NULL,
+    bucket        INT    NOT NULL,
+    recruiter_id  BIGINT NOT NULL,
+    decisions     INT    NOT NULL DEFAULT 0,
+    PRIMARY KEY (activity_date, jobs_id, bucket)
+);
+
+CREATE INDEX idx_decision_daily_job
+    ON application_decision_time_daily (jobs_id, activity_date);
+
+CREATE INDEX idx_decision_daily_recruiter
+    ON application_decision_time_daily (recruiter_id, activity_date);
+
+-- Backfill: applications received so far, by the day they were made.
+-- Past status changes carry no timestamp, so shortlist/hire/reject
+-- counts and decision times start accumulating from this release.
+INSERT INTO application_funnel_daily (activity_date, jobs_id, recruiter_id, applied)
+SELECT DATE(a.applied_at), a.jobs_id, j.recruiter_id, COUNT(*)
+FROM applications a
+JOIN jobs j ON j.jobs_id = a.jobs_id
+GROUP BY DATE(a.applied_at), a.jobs_id, j.recruiter_id;
@@ -0,0 +1,37 @@
+-- ============================================================
+-- 007: Append-only application status log
+--
+-- One row per status change (and one APPLIED row per new application),
+-- written in the same transaction as the change. Statuses are stored as
+-- ApplicationStatus names, like applications.status.
+--
+-- Readers scan by event_id (incremental offset) or by
+-- (occurred_at, event_id) (time ranges), or fetch one application's
+-- history by (application_id, event_id).
+--
+-- Existing applications get their APPLIED event backfilled; earlier
+-- transitions were not recorded and cannot be reconstructed.
+-- ============================================================
+
+CREATE TABLE application_status_events (
+    event_id       BIGINT      NOT NULL AUTO_INCREMENT,
+    application_id BIGINT      NOT NULL,
+    jobs_id        BIGINT      NOT NULL,
+    actor_id       BIGINT      NOT NULL,
+    from_status    VARCHAR(20) NULL,
+    to_status      VARCHAR(20) NOT NULL,
+    occurred_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id)
+);
+
+CREATE INDEX idx_status_events_occurred
+    ON application_status_events (occurred_at, event_id);
+
+CREATE INDEX idx_status_events_application
+    ON application_status_events (application_id, event_id);
+
+-- Backfill: APPLIED for every existing application
+INSERT INTO application_status_events (application_id, jobs_id, actor_id, from_status, to_status, occurred_at)
+SELECT a.application_id, a.jobs_id, a.candidate_id, NULL, 'APPLIED', a.applied_at
+FROM applications a
+ORDER BY a.applied_at, a.application_id;
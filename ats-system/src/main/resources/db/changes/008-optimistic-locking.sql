@@ -0,0 +1,14 @@
+-- ============================================================
+-- 008: Optimistic locking on applications and jobs
+--
+-- Hibernate now updates these rows with
+--   UPDATE ... SET ..., version = version + 1 WHERE id = ? AND version = ?
+-- and treats zero affected rows as a concurrent modification (409).
+-- Existing rows start at version 0.
+-- ============================================================
+
+ALTER TABLE applications
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE jobs
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,15 @@
+-- ============================================================
+-- 009: Idempotency keys for POST /candidate/applications
+--
+-- The optional Idempotency-Key header is stored on the application it
+-- created. A retry with the same key finds that row and gets the original
+-- response back; two concurrent requests with the same key cannot both
+-- insert. Rows created without a key keep NULL, which the unique index
+-- does not compare.
+-- ============================================================
+
+ALTER TABLE applications
+    ADD COLUMN idempotency_key VARCHAR(64) NULL;
+
+ALTER TABLE applications
+    ADD CONSTRAINT uk_candidate_idempotency_key UNIQUE (candidate_id, idempotency_key);
@@ -0,0 +1,19 @@
+-- ============================================================
+-- 010: Extracted resume text for the recruiter resume search
+--
+-- One row per resume, written in the background after the application
+-- commits. The in-memory search index is rebuilt from this table on
+-- startup; resumes without a row are picked up by the periodic backfill,
+-- so existing resumes get indexed without a separate migration step.
+-- ============================================================
+
+CREATE TABLE resume_texts (
+    resume_id    BIGINT      NOT NULL,
+    content_hash VARCHAR(64) NULL,
+    content      LONGTEXT    NOT NULL,
+    extracted_at TIMESTAMP   NOT NULL,
+    PRIMARY KEY (resume_id)
+);
+
+CREATE INDEX idx_resume_texts_content_hash
+    ON resume_texts (content_hash);
@@ -0,0 +1,15 @@
+-- ============================================================
+-- 011: Cached resume-to-job match scores
+--
+-- One row per application, written in the background once the resume
+-- text is extracted (see 010). The applicant lists LEFT JOIN this table
+-- on its primary key and can sort by score. Applications without a row
+-- are scored by the periodic resume text backfill.
+-- ============================================================
+
+CREATE TABLE application_match_scores (
+    application_id BIGINT    NOT NULL,
+    score          DOUBLE    NOT NULL,
+    scored_at      TIMESTAMP NOT NULL,
+    PRIMARY KEY (application_id)
+);
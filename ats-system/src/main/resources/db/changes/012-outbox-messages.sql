@@ -0,0 +1,28 @@
+-- ============================================================
+-- 012: Transactional outbox for notifications
+--
+-- Status changes, new applications and job closures write a message
+-- here in the same transaction as the change. OutboxDispatcher claims
+-- due rows (FOR UPDATE SKIP LOCKED), hands them to the configured
+-- sinks and marks them DELIVERED, or reschedules them with backoff
+-- and eventually marks them DEAD. Statuses are OutboxStatus names.
+--
+-- Delivered rows are purged after app.outbox.retention.
+-- ============================================================
+
+CREATE TABLE outbox_messages (
+    message_id      BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type      VARCHAR(64)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    payload         LONGTEXT     NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    last_error      VARCHAR(500) NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    delivered_at    DATETIME(6)  NULL,
+    PRIMARY KEY (message_id)
+);
+
+CREATE INDEX idx_outbox_due
+    ON outbox_messages (status, next_attempt_at, message_id);
@@ -0,0 +1,24 @@
+-- ============================================================
+-- 013: Recruiter webhook registrations
+--
+-- Each row is one HTTP endpoint a recruiter wants their
+-- application.submitted / application.status-changed events POSTed to,
+-- with the secret used to sign the payloads (HMAC-SHA256). An empty
+-- event_types means every webhook event.
+--
+-- Events are delivered from the notification outbox (012); no
+-- per-delivery state is stored here.
+-- ============================================================
+
+CREATE TABLE webhook_endpoints (
+    endpoint_id  BIGINT       NOT NULL AUTO_INCREMENT,
+    recruiter_id BIGINT       NOT NULL,
+    url          VARCHAR(500) NOT NULL,
+    secret       VARCHAR(100) NOT NULL,
+    event_types  VARCHAR(255) NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (endpoint_id)
+);
+
+CREATE INDEX idx_webhook_endpoints_recruiter
+    ON webhook_endpoints (recruiter_id);
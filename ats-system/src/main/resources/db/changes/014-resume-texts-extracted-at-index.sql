@@ -0,0 +1,11 @@
+-- ============================================================
+-- 014: Keyset index for the resume search index reload
+--
+-- Every node periodically reads the resume_texts rows extracted after
+-- its (extracted_at, resume_id) watermark, so text extracted on another
+-- node becomes searchable without a restart. This index serves that
+-- range scan in order.
+-- ============================================================
+
+CREATE INDEX idx_resume_texts_extracted_at
+    ON resume_texts (extracted_at, resume_id);
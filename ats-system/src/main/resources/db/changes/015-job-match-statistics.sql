@@ -0,0 +1,23 @@
+-- ============================================================
+-- 015: Corpus statistics behind each job's match scores
+--
+-- The resume corpus (document count, average length and the document
+-- frequency of each job term) as it was when the job's first applicant
+-- was scored. Every node scores the job's applicants against this row,
+-- so their cached scores (011) stay comparable.
+--
+-- Scores cached before this table existed were taken against per-node
+-- snapshots; they are dropped so the resume text backfill rescores every
+-- application against the stored statistics.
+-- ============================================================
+
+CREATE TABLE job_match_statistics (
+    job_id               BIGINT    NOT NULL,
+    document_count       INT       NOT NULL,
+    average_length       DOUBLE    NOT NULL,
+    document_frequencies LONGTEXT  NOT NULL,
+    captured_at          TIMESTAMP NOT NULL,
+    PRIMARY KEY (job_id)
+);
+
+DELETE FROM application_match_scores;
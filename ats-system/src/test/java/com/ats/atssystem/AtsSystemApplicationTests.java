@@ -1,13 +1,32 @@
 package com.ats.atssystem;
 
+import com.ats.atssystem.security.PasswordHasher;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * Boots the full application context (every bean, on the H2 test
+ * profile), so wiring errors such as an ambiguous constructor fail the
+ * build instead of the first deployment.
+ *
+ * The context stays cached for the rest of the run and shares the H2
+ * database with the other tests, so its outbox dispatcher must not poll
+ * and claim their messages.
+ */
+@SpringBootTest(properties = "app.outbox.poll-interval=PT1H")
+@ActiveProfiles("test")
 class AtsSystemApplicationTests {
 
+    @Autowired
+    private PasswordHasher passwordHasher;
+
     @Test
     void contextLoads() {
+        assertNotNull(passwordHasher);
     }
 
 }
@@ -0,0 +1,415 @@
+package com.ats.atssystem;
+
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.JwtUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reproducible load test for the request execution mode (see ExecutionMode):
+ * boots the application once per mode on an in-memory database and drives
+ * the same request mix through real HTTP, reporting throughput and latency
+ * percentiles.
+ *
+ *   - 80% resume downloads (recruiter): DB read + file read
+ *   - 20% applications (candidates): streamed resume upload + DB writes
+ *
+ * H2 and a local disk answer in microseconds, so waiting is simulated
+ * where production waits: every JDBC execute/commit sleeps
+ * load.db-latency-ms (a MySQL round trip) and each upload body is sent
+ * over load.upload-ms (a client on a slow link). The request plan comes
+ * from a fixed seed and both modes use the same settings; only
+ * spring.threads.virtual.enabled changes.
+ *
+ * Not part of the unit test run. To execute:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *        com.ats.atssystem.ExecutionModeLoadBenchmark [platform|virtual|both]
+ *
+ * The virtual mode needs a Java 21+ runtime and is skipped on older ones.
+ * Clients and server share the host, so use one with spare cores: on a
+ * single core both modes are CPU-bound and the comparison says nothing.
+ * Tunables (-D): load.concurrency (400), load.requests (20000),
+ * load.warmup (2000), load.db-latency-ms (2), load.upload-ms (200),
+ * load.db-pool-size (20).
+ */
+public class ExecutionModeLoadBenchmark {
+
+    private static final long SEED = 42;
+    private static final double UPLOAD_SHARE = 0.2;
+    private static final int SEEDED_RESUMES = 200;
+    /** Applications are spread over jobs: one job would make its funnel rollup row the bottleneck */
+    private static final int JOBS = 50;
+    private static final int RESUME_BYTES = 32 * 1024;
+    private static final String BOUNDARY = "ats-load-boundary";
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 400);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+    private static final int WARMUP = Integer.getInteger("load.warmup", 2_000);
+    private static final long DB_LATENCY_MILLIS = Long.getLong("load.db-latency-ms", 2);
+    private static final long UPLOAD_MILLIS = Long.getLong("load.upload-ms", 200);
+    private static final int DB_POOL_SIZE = Integer.getInteger("load.db-pool-size", 20);
+
+    public static void main(String[] args) throws Exception {
+        String modes = args.length > 0 ? args[0] : "both";
+        System.out.printf("concurrency=%d requests=%d warmup=%d db-latency=%dms upload=%dms db-pool=%d java=%d%n",
+                CONCURRENCY, REQUESTS, WARMUP, DB_LATENCY_MILLIS, UPLOAD_MILLIS, DB_POOL_SIZE,
+                Runtime.version().feature());
+
+        List<Result> results = new ArrayList<>();
+        if (!modes.equals("virtual")) {
+            results.add(run(false));
+        }
+        if (!modes.equals("platform")) {
+            if (JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+                results.add(run(true));
+            } else {
+                System.out.println("virtual: skipped (needs a Java 21+ runtime)");
+            }
+        }
+
+        System.out.printf("%n%-9s %10s %9s %9s %9s %7s%n", "mode", "req/s", "p50 ms", "p99 ms", "max ms", "errors");
+        for (Result result : results) {
+            System.out.printf("%-9s %10.1f %9.1f %9.1f %9.1f %7d%n", result.mode, result.throughput,
+                    result.p50Millis, result.p99Millis, result.maxMillis, result.errors);
+        }
+        // HttpClient selector threads are not daemons
+        System.exit(0);
+    }
+
+    // ============================================================
+    // One mode
+    // ============================================================
+
+    private static Result run(boolean virtualThreads) throws Exception {
+        String mode = virtualThreads ? "virtual" : "platform";
+        Path uploadDir = Files.createTempDirectory("ats-load-" + mode);
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(AtsSystemApplication.class)
+                .profiles("test")
+                .initializers(ctx -> ctx.getBeanFactory().addBeanPostProcessor(new StatementLatency()))
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:load-" + mode
+                                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + DB_POOL_SIZE,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--app.resume.upload-dir=" + uploadDir,
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.ats.atssystem=ERROR")) {
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Workload workload = new Workload(context, port);
+
+            // Resumes to download, then warm-up, then the measured run (same plan every time)
+            Random random = new Random(SEED);
+            List<Call> seed = new ArrayList<>();
+            for (int i = 0; i < SEEDED_RESUMES; i++) {
+                seed.add(workload::seedResume);
+            }
+            drive(mode + "-seed", seed, 20);
+            drive(mode + "-warmup", workload.plan(random, WARMUP), CONCURRENCY);
+            Result result = drive(mode, workload.plan(random, REQUESTS), CONCURRENCY);
+            System.out.printf("%s: %.1f req/s, p99 %.1f ms%n", mode, result.throughput, result.p99Millis);
+            return result;
+        } finally {
+            FileSystemUtils.deleteRecursively(uploadDir);
+        }
+    }
+
+    /** Runs the calls on a closed loop of the given number of clients */
+    private static Result drive(String mode, List<Call> calls, int concurrency) throws InterruptedException {
+        long[] latencies = new long[calls.size()];
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        ExecutorService clients = Executors.newFixedThreadPool(concurrency);
+
+        long started = System.nanoTime();
+        for (int c = 0; c < concurrency; c++) {
+            clients.execute(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < calls.size()) {
+                    long begin = System.nanoTime();
+                    try {
+                        if (!calls.get(i).call()) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[i] = System.nanoTime() - begin;
+                    }
+                }
+            });
+        }
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.HOURS);
+        long elapsed = System.nanoTime() - started;
+
+        Arrays.sort(latencies);
+        return new Result(mode, calls.size() * 1e9 / elapsed, percentile(latencies, 0.50),
+                percentile(latencies, 0.99), latencies[latencies.length - 1] / 1e6, errors.get());
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    // ============================================================
+    // Workload
+    // ============================================================
+
+    /** One request; true if it got the expected 2xx */
+    private interface Call {
+        boolean call() throws Exception;
+    }
+
+    /** Seeded users and jobs, and the requests made against them */
+    private static final class Workload {
+
+        private final HttpClient http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        private final ObjectMapper objectMapper = new ObjectMapper();
+        private final String baseUrl;
+        private final List<Long> jobIds = new ArrayList<>();
+        private final String recruiterToken;
+        private final List<String> candidateTokens = new ArrayList<>();
+        private final AtomicInteger nextCandidate = new AtomicInteger();
+        private final List<Long> resumeIds = new ArrayList<>();
+
+        Workload(ConfigurableApplicationContext context, int port) {
+            UserRepository users = context.getBean(UserRepository.class);
+            JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+            this.baseUrl = "http://127.0.0.1:" + port;
+
+            User recruiter = users.save(new User("Load Recruiter", "recruiter@load.test", "hash", Role.RECRUITER));
+            this.recruiterToken = jwtUtil.generateToken(recruiter.getUserId(), recruiter.getEmail(), "RECRUITER");
+            JobRepository jobs = context.getBean(JobRepository.class);
+            for (int i = 0; i < JOBS; i++) {
+                jobIds.add(jobs.save(new Job("Engineer " + i, "Java, SQL", "Remote", JobStatus.OPEN, recruiter))
+                        .getJobsId());
+            }
+
+            // Upper bound on applications: every seeded resume plus every planned request
+            List<User> candidates = new ArrayList<>();
+            for (int i = 0; i < SEEDED_RESUMES + WARMUP + REQUESTS; i++) {
+                candidates.add(new User("Candidate " + i, "candidate" + i + "@load.test", "hash", Role.CANDIDATE));
+            }
+            for (User candidate : users.saveAll(candidates)) {
+                candidateTokens.add(jwtUtil.generateToken(candidate.getUserId(), candidate.getEmail(), "CANDIDATE"));
+            }
+        }
+
+        List<Call> plan(Random random, int requests) {
+            List<Call> calls = new ArrayList<>(requests);
+            for (int i = 0; i < requests; i++) {
+                if (random.nextDouble() < UPLOAD_SHARE) {
+                    calls.add(() -> apply(UPLOAD_MILLIS) != null);
+                } else {
+                    Long resumeId = resumeIds.get(random.nextInt(resumeIds.size()));
+                    calls.add(() -> download(resumeId));
+                }
+            }
+            return calls;
+        }
+
+        boolean seedResume() throws Exception {
+            Long resumeId = apply(0);
+            if (resumeId == null) {
+                return false;
+            }
+            synchronized (resumeIds) {
+                resumeIds.add(resumeId);
+            }
+            return true;
+        }
+
+        /** @return the new resume's id, or null if the application was not created */
+        private Long apply(long uploadMillis) throws Exception {
+            int candidate = nextCandidate.getAndIncrement();
+            byte[] body = multipartBody(candidate);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/candidate/applications"))
+                    .header("Authorization", "Bearer " + candidateTokens.get(candidate))
+                    .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                    .POST(HttpRequest.BodyPublishers.ofInputStream(() -> new SlowInputStream(body, uploadMillis)))
+                    .build();
+
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 201) {
+                return null;
+            }
+            return objectMapper.readTree(response.body()).get("resumeId").asLong();
+        }
+
+        private boolean download(Long resumeId) throws Exception {
+            HttpRequest request = HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/recruiter/resumes/" + resumeId + "/download"))
+                    .header("Authorization", "Bearer " + recruiterToken)
+                    .build();
+            return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        }
+
+        /** jobId field, then the file part; each candidate's resume is distinct content */
+        private byte[] multipartBody(int candidate) throws IOException {
+            byte[] resume = new byte[RESUME_BYTES];
+            byte[] head = ("%PDF-1.4\n% candidate " + candidate + "\n").getBytes(StandardCharsets.US_ASCII);
+            new Random(candidate).nextBytes(resume);
+            System.arraycopy(head, 0, resume, 0, head.length);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(RESUME_BYTES + 512);
+            out.write(("--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"jobId\"\r\n\r\n"
+                    + jobIds.get(candidate % JOBS) + "\r\n"
+                    + "--" + BOUNDARY + "\r\n"
+                    + "Content-Disposition: form-data; name=\"file\"; filename=\"resume.pdf\"\r\n"
+                    + "Content-Type: application/pdf\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(resume);
+            out.write(("\r\n--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+            return out.toByteArray();
+        }
+    }
+
+    /** Hands out a body in chunks spread over the given time, like a slow uplink */
+    private static final class SlowInputStream extends InputStream {
+
+        private static final int CHUNK = 4096;
+
+        private final byte[] data;
+        private final long pauseMillis;
+        private int position;
+
+        SlowInputStream(byte[] data, long totalMillis) {
+            this.data = data;
+            this.pauseMillis = totalMillis / ((data.length + CHUNK - 1) / CHUNK);
+        }
+
+        @Override
+        public int read() {
+            byte[] one = new byte[1];
+            return read(one, 0, 1) == -1 ? -1 : one[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (position == data.length) {
+                return -1;
+            }
+            if (pauseMillis > 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            int count = Math.min(Math.min(length, CHUNK), data.length - position);
+            System.arraycopy(data, position, buffer, offset, count);
+            position += count;
+            return count;
+        }
+    }
+
+    // ============================================================
+    // Simulated database round trips
+    // ============================================================
+
+    /** Wraps the DataSource so statement executions and commits wait like a MySQL round trip */
+    private static final class StatementLatency implements BeanPostProcessor {
+
+        private static final Set<Class<?>> STATEMENT_TYPES =
+                Set.of(Statement.class, PreparedStatement.class, CallableStatement.class);
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (!(bean instanceof DataSource dataSource) || DB_LATENCY_MILLIS == 0) {
+                return bean;
+            }
+            return new DelegatingDataSource(dataSource) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return withLatency(Connection.class, super.getConnection());
+                }
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T withLatency(Class<T> type, T target) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("execute") || name.equals("commit") || name.equals("rollback")) {
+                    Thread.sleep(DB_LATENCY_MILLIS);
+                }
+                Object result;
+                try {
+                    result = method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                Class<?> returned = method.getReturnType();
+                return result != null && STATEMENT_TYPES.contains(returned)
+                        ? withLatency((Class<Object>) returned, result)
+                        : result;
+            });
+        }
+    }
+
+    // ============================================================
+    // Result type
+    // ============================================================
+
+    private static final class Result {
+        private final String mode;
+        private final double throughput;
+        private final double p50Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        private final int errors;
+
+        Result(String mode, double throughput, double p50Millis, double p99Millis, double maxMillis, int errors) {
+            this.mode = mode;
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+            this.errors = errors;
+        }
+    }
+}
@@ -0,0 +1,209 @@
+package com.ats.atssystem.controller;
+
+import com.ats.atssystem.exception.GlobalExceptionHandler;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.InMemoryLoginThrottleStore;
+import com.ats.atssystem.security.JwtUtil;
+import com.ats.atssystem.security.PasswordHasher;
+import com.ats.atssystem.service.AuthService;
+import com.ats.atssystem.service.DashboardStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * POST /auth/login with BCrypt on the bounded hashing pool: the request
+ * completes asynchronously, and a saturated pool answers 429 at once.
+ * Attempts are counted by outcome, and the throttle-store writes after
+ * the hash never run on the hashing pool.
+ */
+class AuthLoginBackpressureTest {
+
+    private static final String PASSWORD = "Secret#123";
+
+    private final CountDownLatch hashingStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseHashing = new CountDownLatch(1);
+    private final GatedEncoder encoder = new GatedEncoder(hashingStarted, releaseHashing);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService completionExecutor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "auth-completion"));
+    private final List<String> throttleWriteThreads = new CopyOnWriteArrayList<>();
+
+    private PasswordHasher passwordHasher;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        UserRepository userRepository = mock(UserRepository.class);
+        User user = new User("Rita", "rita@test.com", new BCryptPasswordEncoder(4).encode(PASSWORD), Role.RECRUITER);
+        user.setUserId(1L);
+        when(userRepository.findByEmail("rita@test.com")).thenReturn(Optional.of(user));
+
+        passwordHasher = new PasswordHasher(encoder, 1, 1);
+        AuthService authService = new AuthService(
+                userRepository,
+                new JwtUtil("test-secret-key-that-is-at-least-32-chars", 60_000),
+                passwordHasher,
+                completionExecutor,
+                new InMemoryLoginThrottleStore(5, Duration.ofMinutes(15), 100, Clock.systemUTC()) {
+                    @Override
+                    public void recordFailure(String key) {
+                        throttleWriteThreads.add(Thread.currentThread().getName());
+                        super.recordFailure(key);
+                    }
+
+                    @Override
+                    public void reset(String key) {
+                        throttleWriteThreads.add(Thread.currentThread().getName());
+                        super.reset(key);
+                    }
+                },
+                mock(DashboardStatistics.class),
+                meterRegistry);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new AuthController(authService))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseHashing.countDown();
+        passwordHasher.shutdown();
+        completionExecutor.shutdownNow();
+    }
+
+    @Test
+    void validLogin_completesAsynchronouslyWithToken() throws Exception {
+        releaseHashing.countDown();
+
+        MvcResult pending = mockMvc.perform(login(PASSWORD))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+    }
+
+    @Test
+    void wrongPassword_isReportedAsInvalidCredentials() throws Exception {
+        releaseHashing.countDown();
+
+        MvcResult pending = mockMvc.perform(login("Wrong#1234"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid credentials"));
+    }
+
+    @Test
+    void saturatedHashingPool_failsFastWith429() throws Exception {
+        // Occupy the single hashing thread and the single queue slot
+        mockMvc.perform(login(PASSWORD)).andExpect(request().asyncStarted());
+        assertTrue(hashingStarted.await(5, TimeUnit.SECONDS));
+        mockMvc.perform(login(PASSWORD)).andExpect(request().asyncStarted());
+
+        mockMvc.perform(login(PASSWORD))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
+    @Test
+    void loginOutcomes_areCountedSeparately() throws Exception {
+        releaseHashing.countDown();
+
+        completeLogin(PASSWORD);
+        for (int i = 0; i < 5; i++) {
+            completeLogin("Wrong#1234");
+        }
+        mockMvc.perform(login(PASSWORD))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value(startsWith("Account temporarily locked")));
+
+        assertEquals(1, loginCount("success"));
+        assertEquals(5, loginCount("failure"));
+        assertEquals(1, loginCount("lockout"));
+    }
+
+    @Test
+    void throttleWrites_runOffTheHashingPool() throws Exception {
+        releaseHashing.countDown();
+
+        completeLogin("Wrong#1234");
+        completeLogin(PASSWORD);
+
+        assertEquals(List.of("auth-completion", "auth-completion"), throttleWriteThreads);
+    }
+
+    private void completeLogin(String password) throws Exception {
+        MvcResult pending = mockMvc.perform(login(password))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(pending));
+    }
+
+    private long loginCount(String outcome) {
+        return meterRegistry.get("ats.auth.login").tag("outcome", outcome).timer().count();
+    }
+
+    private static RequestBuilder login(String password) {
+        return post("/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\":\"rita@test.com\",\"password\":\"" + password + "\"}");
+    }
+
+    /** Cheap BCrypt whose first match waits for the test to release it */
+    private static final class GatedEncoder extends BCryptPasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private GatedEncoder(CountDownLatch started, CountDownLatch release) {
+            super(4);
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.matches(rawPassword, encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.ats.atssystem.controller;
+
+import com.ats.atssystem.exception.ResumeTooLargeException;
+import com.ats.atssystem.service.ResumeUpload;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streaming multipart parsing for the apply endpoint: fields before the
+ * file are available when the handler runs, and the file is a live stream.
+ */
+class MultipartResumeReaderTest {
+
+    private static final String BOUNDARY = "----boundary42";
+
+    @Test
+    void fieldsBeforeTheFile_areHandedOverWithTheFileStream() throws IOException {
+        MockHttpServletRequest request = multipart(
+                field("jobId", "17"),
+                file("cv.pdf", "application/pdf", "%PDF-1.4 body"));
+
+        String result = MultipartResumeReader.read(request, (fields, resume) ->
+                fields.get("jobId") + "|" + resume.getFileName() + "|" + resume.getContentType() + "|" + body(resume));
+
+        assertEquals("17|cv.pdf|application/pdf|%PDF-1.4 body", result);
+    }
+
+    @Test
+    void fieldsAfterTheFile_areNotSeen() throws IOException {
+        MockHttpServletRequest request = multipart(
+                file("cv.pdf", "application/pdf", "%PDF-1.4"),
+                field("jobId", "17"));
+
+        Map<String, String> fields = MultipartResumeReader.read(request, (f, resume) -> Map.copyOf(f));
+
+        assertTrue(fields.isEmpty());
+    }
+
+    @Test
+    void missingFilePart_isRejected() {
+        MockHttpServletRequest request = multipart(field("jobId", "17"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MultipartResumeReader.read(request, (fields, resume) -> "unreachable"));
+    }
+
+    @Test
+    void overlongField_isRejected() {
+        MockHttpServletRequest request = multipart(
+                field("jobId", "9".repeat(5000)),
+                file("cv.pdf", "application/pdf", "%PDF-1.4"));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MultipartResumeReader.read(request, (fields, resume) -> "unreachable"));
+    }
+
+    @Test
+    void oversizedPartTheHandlerNeverReads_isRejected() {
+        // No Content-Length to check up front: the parser stops while draining the extra file
+        MockHttpServletRequest request = chunked(multipart(
+                part("attachment", "video.bin", "x".repeat(6 * 1024 * 1024)),
+                file("cv.pdf", "application/pdf", "%PDF-1.4")));
+
+        assertThrows(ResumeTooLargeException.class,
+                () -> MultipartResumeReader.read(request, (fields, resume) -> "unreachable"));
+    }
+
+    @Test
+    void oversizedBody_isRejectedBeforeItIsRead() {
+        MockHttpServletRequest request = multipart(
+                file("cv.pdf", "application/pdf", "%PDF-1.4" + " ".repeat(6 * 1024 * 1024)));
+
+        assertThrows(ResumeTooLargeException.class,
+                () -> MultipartResumeReader.read(request, (fields, resume) -> "unreachable"));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private static MockHttpServletRequest multipart(String... parts) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/candidate/applications");
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent((String.join("", parts) + "--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    /** The same body without a Content-Length, as a chunked upload arrives */
+    private static MockHttpServletRequest chunked(MockHttpServletRequest sized) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", sized.getRequestURI()) {
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+        };
+        request.setContentType(sized.getContentType());
+        request.setContent(sized.getContentAsByteArray());
+        return request;
+    }
+
+    private static String field(String name, String value) {
+        return "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n"
+                + value + "\r\n";
+    }
+
+    private static String file(String fileName, String contentType, String content) {
+        return "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"file\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n\r\n"
+                + content + "\r\n";
+    }
+
+    private static String part(String name, String fileName, String content) {
+        return "--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: application/octet-stream\r\n\r\n"
+                + content + "\r\n";
+    }
+
+    private static String body(ResumeUpload resume) {
+        try {
+            return new String(resume.getContent().readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.ats.atssystem.controller;
+
+import com.ats.atssystem.exception.GlobalExceptionHandler;
+import com.ats.atssystem.service.ResumeDownloadService;
+import com.ats.atssystem.service.ResumeDownloadService.ResumeFile;
+import com.ats.atssystem.service.ResumeSearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GET /recruiter/resumes/{id}/download: validators, 304, byte ranges and
+ * the sendfile hand-off.
+ */
+class RecruiterResumeDownloadTest {
+
+    private static final String ETAG = "\"0123abcd\"";
+    private static final long LAST_MODIFIED = 1_700_000_000_000L;
+
+    @TempDir
+    Path tempDir;
+
+    private byte[] content;
+    private Path pdf;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        content = new byte[100 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        pdf = Files.write(tempDir.resolve("resume.pdf"), content);
+
+        ResumeDownloadService service = mock(ResumeDownloadService.class);
+        when(service.getResumeFile(7L))
+                .thenReturn(new ResumeFile(pdf, "Jane Doe.pdf", content.length, LAST_MODIFIED, ETAG));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new RecruiterResumeController(service, mock(ResumeSearchService.class)))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void fullDownload_carriesValidatorsAndWholeFile() throws Exception {
+        MvcResult result = mockMvc.perform(get("/recruiter/resumes/7/download"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/pdf"))
+                .andReturn();
+
+        assertArrayEquals(content, result.getResponse().getContentAsByteArray());
+        assertTrue(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION).startsWith("attachment"));
+    }
+
+    @Test
+    void matchingIfNoneMatch_returns304WithoutBody() throws Exception {
+        MvcResult result = mockMvc.perform(get("/recruiter/resumes/7/download")
+                        .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andExpect(status().isNotModified())
+                .andReturn();
+
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+
+    @Test
+    void singleRange_returns206WithSlice() throws Exception {
+        MvcResult result = mockMvc.perform(get("/recruiter/resumes/7/download")
+                        .header(HttpHeaders.RANGE, "bytes=1000-1999"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 1000-1999/" + content.length))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 1000))
+                .andReturn();
+
+        assertArrayEquals(Arrays.copyOfRange(content, 1000, 2000), result.getResponse().getContentAsByteArray());
+    }
+
+    @Test
+    void staleIfRange_ignoresRangeAndSendsWholeFile() throws Exception {
+        mockMvc.perform(get("/recruiter/resumes/7/download")
+                        .header(HttpHeaders.RANGE, "bytes=0-9")
+                        .header(HttpHeaders.IF_RANGE, "\"stale\""))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length));
+    }
+
+    @Test
+    void unsatisfiableRange_returns416() throws Exception {
+        mockMvc.perform(get("/recruiter/resumes/7/download")
+                        .header(HttpHeaders.RANGE, "bytes=" + content.length + "-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + content.length));
+    }
+
+    @Test
+    void sendfileCapableConnector_getsFileHandOffInsteadOfBody() throws Exception {
+        MvcResult result = mockMvc.perform(get("/recruiter/resumes/7/download")
+                        .requestAttr(FileDownloadResponder.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE)
+                        .header(HttpHeaders.RANGE, "bytes=0-65535"))
+                .andExpect(status().isPartialContent())
+                .andReturn();
+
+        assertEquals(pdf.toAbsolutePath().toString(),
+                result.getRequest().getAttribute(FileDownloadResponder.SENDFILE_FILENAME_ATTR));
+        assertEquals(0L, result.getRequest().getAttribute(FileDownloadResponder.SENDFILE_START_ATTR));
+        assertEquals(65536L, result.getRequest().getAttribute(FileDownloadResponder.SENDFILE_END_ATTR));
+        assertEquals(0, result.getResponse().getContentAsByteArray().length);
+    }
+}
@@ -0,0 +1,116 @@
+package com.ats.atssystem.metrics;
+
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.security.JwtUtil;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Per-request Hibernate statement counts (HibernateStatementCounter) and
+ * the Prometheus scrape on /actuator/prometheus. Metrics export is off in
+ * tests unless observability is auto-configured, so this has its own context.
+ */
+@SpringBootTest(properties = "app.outbox.poll-interval=PT1H")
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class RequestMetricsTest {
+
+    private static final String STATEMENTS = "ats.http.server.requests.statements";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    private User recruiter;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        recruiter = userRepository.save(recruiter("Metrics Recruiter", "metrics-recruiter@test.com"));
+        token = jwtUtil.generateToken(recruiter.getUserId(), recruiter.getEmail(), "RECRUITER");
+    }
+
+    @AfterEach
+    void cleanUp() {
+        userRepository.delete(recruiter);
+    }
+
+    @Test
+    void statementsAreRecordedPerRequestAndRoute() throws Exception {
+        // The registry is shared by the tests in this context: compare before and after
+        long requestsBefore = requestCount("/recruiter/jobs");
+        double statementsBefore = statementCount("/recruiter/jobs");
+
+        mockMvc.perform(get("/recruiter/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/recruiter/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // At least the job lookup per request
+        assertEquals(2, requestCount("/recruiter/jobs") - requestsBefore);
+        assertTrue(statementCount("/recruiter/jobs") - statementsBefore >= 2);
+    }
+
+    @Test
+    void pathVariables_doNotCreateSeries() throws Exception {
+        mockMvc.perform(get("/recruiter/jobs/41/applicants").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+        mockMvc.perform(get("/recruiter/jobs/42/applicants").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        assertTrue(requestCount("/recruiter/jobs/{jobId}/applicants") >= 2);
+        assertTrue(meterRegistry.find(STATEMENTS).summaries().stream()
+                .noneMatch(summary -> summary.getId().getTag("uri").contains("/41")));
+    }
+
+    @Test
+    void prometheusScrape_exposesApplicationMeters() throws Exception {
+        mockMvc.perform(get("/recruiter/jobs").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "ats_http_server_requests_statements_count{method=\"GET\",uri=\"/recruiter/jobs\"")))
+                .andExpect(content().string(containsString("ats_jwt_parse_seconds_count{result=\"valid\"")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")))
+                .andExpect(content().string(containsString("ats_outbox_backlog")));
+    }
+
+    private long requestCount(String uri) {
+        DistributionSummary summary = statements(uri);
+        return summary != null ? summary.count() : 0;
+    }
+
+    private double statementCount(String uri) {
+        DistributionSummary summary = statements(uri);
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    private DistributionSummary statements(String uri) {
+        return meterRegistry.find(STATEMENTS).tag("method", "GET").tag("uri", uri).summary();
+    }
+}
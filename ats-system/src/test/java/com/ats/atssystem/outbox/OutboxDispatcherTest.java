@@ -0,0 +1,326 @@
+package com.ats.atssystem.outbox;
+
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.model.OutboxStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.ApplicationRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.OutboxMessageRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.service.ApplicationStatusLog;
+import com.ats.atssystem.service.FunnelAnalyticsService;
+import com.ats.atssystem.service.impl.ApplicationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Notification outbox: messages written with the change, claimed in
+ * batches, delivered to the sinks, and retried with backoff until dead.
+ * Runs without a test transaction so claims and deliveries commit.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({NotificationOutbox.class, OutboxDispatcher.class, OutboxDispatcherTest.RecordingSink.class,
+        ApplicationServiceImpl.class, ApplicationStatusLog.class, FunnelAnalyticsService.class,
+        JacksonAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "app.outbox.poll-interval=PT1H",
+        "app.outbox.batch-size=2",
+        "app.outbox.max-attempts=3",
+        "app.outbox.retry-backoff=PT0S",
+        "app.outbox.delivery-timeout=PT1S"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxDispatcherTest {
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private RecordingSink sink;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        sink.reset();
+        for (String table : List.of("outbox_messages", "application_status_events", "application_funnel_daily",
+                "application_decision_time_daily", "applications", "jobs", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void statusChanges_writeOneMessageEachInTheirTransaction() {
+        User recruiter = userRepository.save(recruiter());
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        List<Application> applications = List.of(apply(job, "c1@test.com"), apply(job, "c2@test.com"),
+                apply(job, "c3@test.com"));
+        authenticateAs(recruiter);
+
+        applicationService.updateApplicationStatus(applications.get(0).getApplicationId(),
+                ApplicationStatus.SHORTLISTED, null);
+        applicationService.updateApplicationStatuses(
+                List.of(applications.get(1).getApplicationId(), applications.get(2).getApplicationId()),
+                ApplicationStatus.REJECTED);
+        // Refused transition: rolled back, nothing announced
+        assertThrows(RuntimeException.class, () -> applicationService.updateApplicationStatus(
+                applications.get(1).getApplicationId(), ApplicationStatus.HIRED, null));
+
+        List<OutboxMessage> messages = outboxMessageRepository.findAll();
+        assertEquals(3, messages.size());
+        assertTrue(messages.stream().allMatch(m ->
+                NotificationOutbox.APPLICATION_STATUS_CHANGED.equals(m.getEventType())
+                        && m.getStatus() == OutboxStatus.PENDING));
+        OutboxMessage single = messages.stream()
+                .filter(m -> m.getAggregateId().equals(applications.get(0).getApplicationId()))
+                .findFirst().orElseThrow();
+        assertTrue(single.getPayload().contains("\"toStatus\":\"SHORTLISTED\""));
+        assertTrue(single.getPayload().contains("\"recruiterId\":" + recruiter.getUserId()));
+    }
+
+    @Test
+    void dispatch_deliversEveryDueMessageInBatchesAndMarksThemDelivered() {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= 5; id++) {
+            outboxMessageRepository.save(new OutboxMessage("test.event", id, "{\"n\":" + id + "}", now.minusSeconds(1)));
+        }
+        long deliveredBefore = dispatcher.getDeliveredCount();
+
+        assertEquals(5, dispatcher.dispatch());
+        awaitOutcomes(dispatcher);
+
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), sink.aggregateIds());
+        assertEquals(5, dispatcher.getDeliveredCount() - deliveredBefore);
+        assertEquals(0, dispatcher.getBacklog());
+        assertTrue(outboxMessageRepository.findAll().stream().allMatch(m ->
+                m.getStatus() == OutboxStatus.DELIVERED && m.getDeliveredAt() != null));
+
+        assertEquals(0, dispatcher.dispatch(), "delivered messages are not sent again");
+    }
+
+    @Test
+    void claim_leasesMessagesSoTheyAreNotClaimedTwice() {
+        LocalDateTime now = LocalDateTime.now();
+        outboxMessageRepository.save(new OutboxMessage("test.event", 1L, "{}", now.minusSeconds(1)));
+        outboxMessageRepository.save(new OutboxMessage("test.event", 2L, "{}", now.minusSeconds(1)));
+        outboxMessageRepository.save(new OutboxMessage("test.event", 3L, "{}", now.plusHours(1)));
+
+        List<OutboxMessage> first = dispatcher.claim();
+        List<OutboxMessage> second = dispatcher.claim();
+
+        assertEquals(2, first.size());
+        assertTrue(second.isEmpty(), "leased and not-yet-due messages are skipped");
+        assertTrue(outboxMessageRepository.findAll().stream()
+                .allMatch(m -> m.getNextAttemptAt().isAfter(now)));
+    }
+
+    @Test
+    void failingSink_retriesThenMarksTheMessageDead() {
+        OutboxMessage message = outboxMessageRepository.save(
+                new OutboxMessage("test.event", 42L, "{}", LocalDateTime.now().minusSeconds(1)));
+        sink.failFor(42L);
+        long deadBefore = dispatcher.getDeadCount();
+
+        for (int attempt = 1; attempt <= 3; attempt++) {
+            assertEquals(1, dispatcher.dispatch());
+            awaitOutcomes(dispatcher);
+            OutboxMessage stored = outboxMessageRepository.findById(message.getMessageId()).orElseThrow();
+            assertEquals(attempt, stored.getAttempts());
+            assertTrue(stored.getLastError().contains("endpoint down"));
+            assertEquals(attempt < 3 ? OutboxStatus.PENDING : OutboxStatus.DEAD, stored.getStatus());
+        }
+
+        assertEquals(deadBefore + 1, dispatcher.getDeadCount());
+        assertEquals(0, dispatcher.dispatch(), "dead messages are not retried");
+        assertEquals(3, sink.aggregateIds().size());
+    }
+
+    @Test
+    void hangingDelivery_holdsUpNeitherTheClaimLoopNorOtherOutcomes() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> messageIds = new ConcurrentHashMap<>();
+        for (long id = 1; id <= 3; id++) {
+            OutboxMessage saved = outboxMessageRepository.save(
+                    new OutboxMessage("test.event", id, "{}", now.minusSeconds(1)));
+            messageIds.put(id, saved.getMessageId());
+        }
+        sink.hangFor(1L);
+
+        long started = System.nanoTime();
+        assertEquals(3, dispatcher.dispatch());
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        assertTrue(elapsedMillis < 1_000, "returned before the 1 s delivery timeout, took " + elapsedMillis + " ms");
+
+        // The others are recorded while the hanging one is still in flight
+        awaitInFlight(dispatcher, 1);
+        assertEquals(OutboxStatus.DELIVERED, outboxMessageRepository.findById(messageIds.get(2L)).orElseThrow().getStatus());
+        assertEquals(OutboxStatus.DELIVERED, outboxMessageRepository.findById(messageIds.get(3L)).orElseThrow().getStatus());
+
+        awaitOutcomes(dispatcher);
+        OutboxMessage timedOut = outboxMessageRepository.findById(messageIds.get(1L)).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, timedOut.getStatus());
+        assertEquals(1, timedOut.getAttempts());
+        assertTrue(timedOut.getLastError().contains("Not delivered within PT1S"), timedOut.getLastError());
+    }
+
+    @Test
+    void lateOutcomes_afterTheLeasePassedToAnotherDispatcher_areDropped() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxMessage delivered = outboxMessageRepository.save(
+                new OutboxMessage("test.event", 1L, "{}", now.minusSeconds(1)));
+        OutboxMessage timedOut = outboxMessageRepository.save(
+                new OutboxMessage("test.event", 2L, "{}", now.minusSeconds(1)));
+        sink.hangFor(1L);
+        sink.hangFor(2L);
+        long deliveredBefore = dispatcher.getDeliveredCount();
+
+        assertEquals(2, dispatcher.dispatch());
+        // The lease runs out and another dispatcher claims both messages
+        LocalDateTime otherLease = LocalDateTime.of(2030, 1, 1, 0, 0);
+        jdbcTemplate.update("UPDATE outbox_messages SET next_attempt_at = ?", otherLease);
+        sink.completeHanging(1L);
+        awaitOutcomes(dispatcher);
+
+        assertEquals(deliveredBefore, dispatcher.getDeliveredCount());
+        for (OutboxMessage message : List.of(delivered, timedOut)) {
+            OutboxMessage stored = outboxMessageRepository.findById(message.getMessageId()).orElseThrow();
+            assertEquals(OutboxStatus.PENDING, stored.getStatus());
+            assertEquals(0, stored.getAttempts());
+            assertEquals(otherLease, stored.getNextAttemptAt());
+            assertNull(stored.getLastError());
+        }
+    }
+
+    @Test
+    void backoff_doublesPerAttemptWithJitterAndIsCapped() {
+        OutboxDispatcher configured = new OutboxDispatcher(outboxMessageRepository, List.of(), null,
+                10, 1, 100, Duration.ofMinutes(1), Duration.ofSeconds(30),
+                10, Duration.ofSeconds(5), Duration.ofMinutes(10), Duration.ofDays(1));
+
+        for (int i = 0; i < 20; i++) {
+            assertBetween(configured.backoff(1), Duration.ofMillis(2500), Duration.ofSeconds(5));
+            assertBetween(configured.backoff(3), Duration.ofSeconds(10), Duration.ofSeconds(20));
+            assertBetween(configured.backoff(40), Duration.ofMinutes(5), Duration.ofMinutes(10));
+        }
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private static void assertBetween(Duration actual, Duration min, Duration max) {
+        assertTrue(actual.compareTo(min) >= 0 && actual.compareTo(max) <= 0,
+                actual + " not in [" + min + ", " + max + "]");
+    }
+
+    private Application apply(Job job, String candidateEmail) {
+        User candidate = userRepository.save(candidate("Candidate", candidateEmail));
+        return applicationRepository.save(new Application(job, candidate));
+    }
+
+    /** Records every delivery; fails or hangs (until completed) for configured aggregate ids */
+    static class RecordingSink implements OutboxSink {
+
+        private final List<Long> delivered = new CopyOnWriteArrayList<>();
+        private final Set<Long> failing = ConcurrentHashMap.newKeySet();
+        private final Set<Long> hanging = ConcurrentHashMap.newKeySet();
+        private final Map<Long, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void deliver(OutboxMessage message) {
+            delivered.add(message.getAggregateId());
+            if (failing.contains(message.getAggregateId())) {
+                throw new IllegalStateException("endpoint down");
+            }
+        }
+
+        @Override
+        public List<CompletableFuture<Void>> deliverAll(List<OutboxMessage> messages) {
+            List<CompletableFuture<Void>> results = new ArrayList<>(OutboxSink.super.deliverAll(messages));
+            for (int i = 0; i < messages.size(); i++) {
+                if (hanging.contains(messages.get(i).getAggregateId())) {
+                    CompletableFuture<Void> result = new CompletableFuture<>();
+                    pending.put(messages.get(i).getAggregateId(), result);
+                    results.set(i, result);
+                }
+            }
+            return results;
+        }
+
+        void failFor(Long aggregateId) {
+            failing.add(aggregateId);
+        }
+
+        void hangFor(Long aggregateId) {
+            hanging.add(aggregateId);
+        }
+
+        /** Lets a hanging delivery succeed after all */
+        void completeHanging(Long aggregateId) {
+            pending.get(aggregateId).complete(null);
+        }
+
+        List<Long> aggregateIds() {
+            return List.copyOf(delivered);
+        }
+
+        void reset() {
+            delivered.clear();
+            failing.clear();
+            hanging.clear();
+            pending.clear();
+        }
+    }
+}
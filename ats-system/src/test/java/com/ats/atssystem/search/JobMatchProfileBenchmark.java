@@ -0,0 +1,72 @@
+package com.ats.atssystem.search;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark for ranking a job's applicants: one JobMatchProfile
+ * scoring 5000 tokenized resumes of 400 terms each.
+ *
+ * Not part of the unit test run. To execute:
+ *   mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ *   java -cp target/test-classes:target/classes:$(cat target/cp.txt) \
+ *        com.ats.atssystem.search.JobMatchProfileBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobMatchProfileBenchmark {
+
+    private static final int RESUMES = 5000;
+    private static final int TERMS_PER_RESUME = 400;
+
+    private JobMatchProfile profile;
+    private List<List<String>> resumes;
+
+    @Setup
+    public void setUp() {
+        profile = JobMatchProfile.of("Senior Java Engineer",
+                "Build Spring Boot microservices with Kafka and PostgreSQL",
+                new JobMatchProfile.CorpusSnapshot(RESUMES, TERMS_PER_RESUME, Map.of()));
+
+        List<String> vocabulary = List.of("java", "spring", "kafka", "python", "react", "sql", "team",
+                "lead", "design", "agile", "cloud", "docker", "engineer", "microservice", "testing");
+        Random random = new Random(42);
+        resumes = new ArrayList<>();
+        for (int i = 0; i < RESUMES; i++) {
+            List<String> terms = new ArrayList<>();
+            for (int t = 0; t < TERMS_PER_RESUME; t++) {
+                terms.add(vocabulary.get(random.nextInt(vocabulary.size())));
+            }
+            resumes.add(terms);
+        }
+    }
+
+    @Benchmark
+    public double scoreAllResumes() {
+        double total = 0;
+        for (List<String> resume : resumes) {
+            total += profile.score(resume);
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JobMatchProfileBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
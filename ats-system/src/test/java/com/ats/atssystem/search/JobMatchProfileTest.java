@@ -0,0 +1,78 @@
+package com.ats.atssystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JobMatchProfileTest {
+
+    private static final String TITLE = "Senior Java Engineer";
+    private static final String DESCRIPTION = "Build Spring Boot microservices with Kafka and PostgreSQL";
+
+    @Test
+    void betterCoverage_scoresHigher_andScoresStayBelowOne() {
+        JobMatchProfile profile = JobMatchProfile.of(TITLE, DESCRIPTION, corpus(100, 400, Map.of()));
+
+        double strong = score(profile, "Java engineer: Spring Boot microservices, Kafka, PostgreSQL");
+        double partial = score(profile, "Java developer who knows some Spring");
+        double none = score(profile, "Graphic designer, Figma and Illustrator");
+
+        assertTrue(strong > partial, strong + " > " + partial);
+        assertTrue(partial > 0);
+        assertEquals(0, none);
+        assertTrue(strong < 1);
+    }
+
+    @Test
+    void rareTerms_weighMoreThanCommonOnes() {
+        // Every resume mentions Java; few mention Kafka
+        JobMatchProfile profile = JobMatchProfile.of("Java Kafka", "", corpus(1000, 400,
+                Map.of("java", 900, "kafka", 10)));
+
+        assertTrue(score(profile, "kafka") > score(profile, "java"));
+    }
+
+    @Test
+    void titleTerms_weighMoreThanDescriptionTerms() {
+        JobMatchProfile profile = JobMatchProfile.of("Kotlin", "Scala", corpus(100, 400, Map.of()));
+
+        assertTrue(score(profile, "kotlin") > score(profile, "scala"));
+    }
+
+    @Test
+    void emptyJobOrResume_scoresZero() {
+        assertEquals(0, score(JobMatchProfile.of("", null, corpus(0, 0, Map.of())), "java"));
+        assertEquals(0, score(JobMatchProfile.of(TITLE, DESCRIPTION, corpus(0, 0, Map.of())), ""));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private static double score(JobMatchProfile profile, String resumeText) {
+        return profile.score(TextAnalyzer.tokenize(resumeText));
+    }
+
+    private static JobMatchProfile.CorpusStatistics corpus(int documents, double averageLength,
+                                                           Map<String, Integer> frequencies) {
+        return new JobMatchProfile.CorpusStatistics() {
+            @Override
+            public int documentCount() {
+                return documents;
+            }
+
+            @Override
+            public double averageLength() {
+                return averageLength;
+            }
+
+            @Override
+            public int[] documentFrequencies(List<String> terms) {
+                return terms.stream().mapToInt(term -> frequencies.getOrDefault(term, 1)).toArray();
+            }
+        };
+    }
+}
@@ -0,0 +1,142 @@
+package com.ats.atssystem.search;
+
+import com.ats.atssystem.dto.JobSearchHit;
+import com.ats.atssystem.dto.JobSearchResponse;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class JobSearchIndexTest {
+
+    private JobRepository jobRepository;
+    private JobSearchIndex searchIndex;
+    private User recruiter;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        searchIndex = new JobSearchIndex(jobRepository);
+        recruiter = recruiter();
+
+        when(jobRepository.findByStatus(JobStatus.OPEN)).thenReturn(List.of(
+                job(1L, "Senior Java Engineer", "Spring Boot microservices", "Colombo"),
+                job(2L, "Frontend Developer", "React and TypeScript; some Java exposure", "Remote"),
+                job(3L, "Data Analyst", "SQL dashboards", "Colombo")
+        ));
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void titleMatches_rankAboveDescriptionMatches() {
+        JobSearchResponse response = searchIndex.search("java", null, 0, 10);
+
+        assertEquals(2, response.getTotalHits());
+        assertEquals(List.of(1L, 2L), ids(response));
+    }
+
+    @Test
+    void pluralsAndCase_areNormalized() {
+        JobSearchResponse response = searchIndex.search("ENGINEERS", null, 0, 10);
+
+        assertEquals(List.of(1L), ids(response));
+    }
+
+    @Test
+    void locationFilter_keepsFacetsOverAllMatches() {
+        JobSearchResponse response = searchIndex.search("", "colombo", 0, 10);
+
+        assertEquals(2, response.getTotalHits());
+        assertEquals(2L, response.getLocationFacets().get("Colombo"));
+        assertEquals(1L, response.getLocationFacets().get("Remote"));
+    }
+
+    @Test
+    void pagination_slicesRankedResults() {
+        JobSearchResponse page0 = searchIndex.search("", null, 0, 2);
+        JobSearchResponse page1 = searchIndex.search("", null, 1, 2);
+
+        assertEquals(3, page0.getTotalHits());
+        assertEquals(2, page0.getHits().size());
+        assertEquals(1, page1.getHits().size());
+    }
+
+    @Test
+    void incrementalUpdates_addAndRemoveJobs() {
+        searchIndex.index(job(4L, "Kotlin Engineer", "Android", "Kandy"));
+        assertEquals(List.of(4L), ids(searchIndex.search("kotlin", null, 0, 10)));
+
+        Job closed = job(1L, "Senior Java Engineer", "Spring Boot microservices", "Colombo");
+        closed.setStatus(JobStatus.CLOSED);
+        searchIndex.index(closed);
+
+        assertEquals(List.of(2L), ids(searchIndex.search("java", null, 0, 10)));
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    void stopWordOnlyQuery_browsesAllJobs() {
+        JobSearchResponse response = searchIndex.search("the and of", null, 0, 10);
+
+        assertEquals(List.of(3L, 2L, 1L), ids(response));
+    }
+
+    @Test
+    void pageBeyondIntRange_returnsNoHits() {
+        JobSearchResponse response = searchIndex.search("", null, Integer.MAX_VALUE / 2, 10);
+
+        assertEquals(3, response.getTotalHits());
+        assertTrue(response.getHits().isEmpty());
+    }
+
+    @Test
+    void reconcile_picksUpJobsChangedOnOtherNodes() {
+        // Job 1 closed elsewhere, job 2 edited (version 1), job 4 created elsewhere
+        Job edited = job(2L, "Frontend Developer", "React, TypeScript and Kotlin", "Remote");
+        ReflectionTestUtils.setField(edited, "version", 1L);
+        Job created = job(4L, "Kotlin Engineer", "Android", "Kandy");
+        when(jobRepository.findIdsAndVersionsByStatus(JobStatus.OPEN)).thenReturn(List.of(
+                new Object[]{2L, 1L}, new Object[]{3L, null}, new Object[]{4L, null}));
+        when(jobRepository.findAllById(List.of(2L, 4L))).thenReturn(List.of(edited, created));
+
+        assertEquals(3, searchIndex.reconcile());
+
+        assertEquals(List.of(4L, 2L), ids(searchIndex.search("kotlin", null, 0, 10)));
+        assertTrue(ids(searchIndex.search("java", null, 0, 10)).isEmpty(), "job 1 closed, job 2 re-indexed");
+        assertEquals(3, searchIndex.size());
+        assertEquals(0, searchIndex.reconcile(), "nothing left to change");
+    }
+
+    @Test
+    void reconcile_keepsJobsIndexedAfterItsQuery() {
+        when(jobRepository.findIdsAndVersionsByStatus(JobStatus.OPEN)).thenAnswer(invocation -> {
+            // Created on this node while the reconcile query runs
+            searchIndex.index(job(5L, "Go Developer", "Backend", "Remote"));
+            return List.of(new Object[]{1L, null}, new Object[]{2L, null}, new Object[]{3L, null});
+        });
+
+        assertEquals(0, searchIndex.reconcile());
+        assertEquals(List.of(5L), ids(searchIndex.search("go", null, 0, 10)));
+    }
+
+    private Job job(Long id, String title, String description, String location) {
+        Job job = new Job(title, description, location, JobStatus.OPEN, recruiter);
+        job.setJobsId(id);
+        job.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id));
+        return job;
+    }
+
+    private static List<Long> ids(JobSearchResponse response) {
+        return response.getHits().stream().map(JobSearchHit::getJobsId).toList();
+    }
+}
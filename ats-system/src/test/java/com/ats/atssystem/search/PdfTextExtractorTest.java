@@ -0,0 +1,89 @@
+package com.ats.atssystem.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdfTextExtractorTest {
+
+    @Test
+    void flateContentStream_yieldsTextWithWordAndLineBreaks() {
+        String content = "BT /F1 12 Tf 72 720 Td (Senior Java) Tj 0 -14 Td "
+                + "[(Spring)-250(Boot) 12 (ers)] TJ T* <4B61666B61> Tj ET\n"
+                + "BT (Escaped \\(parens\\) and \\101) Tj ET";
+
+        String text = PdfTextExtractor.extract(pdf(deflate(content), "/Filter /FlateDecode"));
+
+        assertEquals("Senior Java Spring Booters Kafka\nEscaped (parens) and A", text.strip());
+    }
+
+    @Test
+    void unfilteredStreams_areReadAndOtherFiltersSkipped() {
+        byte[] plain = pdf(ascii("BT (plain text) Tj ET"), "");
+        byte[] image = pdf(ascii("BT (not text) Tj ET"), "/Filter /DCTDecode");
+
+        assertEquals("plain text", PdfTextExtractor.extract(plain).strip());
+        assertEquals("", PdfTextExtractor.extract(image).strip());
+    }
+
+    @Test
+    void garbageAndTruncatedFiles_yieldNoTextInsteadOfFailing() {
+        assertEquals("", PdfTextExtractor.extract(ascii("%PDF-1.4 not really a pdf")));
+        assertEquals("", PdfTextExtractor.extract(ascii("%PDF-1.4\n1 0 obj << /Length 99 >> stream\nBT (cut")));
+        assertEquals("", PdfTextExtractor.extract(pdf(ascii("x\u009c garbage"), "/Filter /FlateDecode")));
+    }
+
+    @Test
+    void deflateBomb_isCappedNotInflatedWhole() {
+        // ~64 MB of "(a) Tj " compresses to well under a megabyte
+        byte[] op = ascii("(a) Tj ");
+        byte[] huge = new byte[64 * 1024 * 1024];
+        for (int i = 0; i + op.length <= huge.length; i += op.length) {
+            System.arraycopy(op, 0, huge, i, op.length);
+        }
+        byte[] content = new byte[huge.length + 6];
+        System.arraycopy(ascii("BT "), 0, content, 0, 3);
+        System.arraycopy(huge, 0, content, 3, huge.length);
+        System.arraycopy(ascii(" ET"), 0, content, huge.length + 3, 3);
+
+        String text = PdfTextExtractor.extract(pdf(deflate(content), "/Filter /FlateDecode"));
+
+        assertTrue(text.length() <= 200_000, "text is capped, got " + text.length());
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    /** A one-object PDF whose only stream holds the given (already encoded) data */
+    private static byte[] pdf(byte[] streamData, String filter) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(ascii("%PDF-1.4\n4 0 obj\n<< /Length " + streamData.length + " " + filter + " >>\nstream\n"));
+        out.writeBytes(streamData);
+        out.writeBytes(ascii("\nendstream\nendobj\ntrailer\n<< /Root 1 0 R >>\n%%EOF\n"));
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(String content) {
+        return deflate(ascii(content));
+    }
+
+    private static byte[] deflate(byte[] content) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(content);
+        deflater.finish();
+        byte[] buffer = new byte[content.length + 64];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+        return Arrays.copyOf(buffer, length);
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ats.atssystem.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryLoginThrottleStoreTest {
+
+    private static final Duration LOCKOUT = Duration.ofMinutes(15);
+
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void locksAfterMaxAttemptsAndUnlocksAfterLockout() {
+        InMemoryLoginThrottleStore store = new InMemoryLoginThrottleStore(3, LOCKOUT, 100, clock);
+
+        store.recordFailure("rita@test.com");
+        store.recordFailure("rita@test.com");
+        assertEquals(0, store.lockedForMillis("rita@test.com"));
+
+        store.recordFailure("rita@test.com");
+        assertEquals(LOCKOUT.toMillis(), store.lockedForMillis("rita@test.com"));
+
+        clock.advance(LOCKOUT);
+        assertEquals(0, store.lockedForMillis("rita@test.com"));
+        assertEquals(0, store.size(), "expired entry should be purged");
+    }
+
+    @Test
+    void resetClearsFailures() {
+        InMemoryLoginThrottleStore store = new InMemoryLoginThrottleStore(2, LOCKOUT, 100, clock);
+
+        store.recordFailure("rita@test.com");
+        store.reset("rita@test.com");
+        store.recordFailure("rita@test.com");
+
+        assertEquals(0, store.lockedForMillis("rita@test.com"));
+    }
+
+    @Test
+    void failuresOutsideTheWindowAreForgotten() {
+        InMemoryLoginThrottleStore store = new InMemoryLoginThrottleStore(2, LOCKOUT, 100, clock);
+
+        store.recordFailure("rita@test.com");
+        clock.advance(LOCKOUT.plusSeconds(1));
+        store.recordFailure("rita@test.com");
+
+        assertEquals(0, store.lockedForMillis("rita@test.com"));
+    }
+
+    /**
+     * Load test: a credential-stuffing flood of one million random emails.
+     * The store must stay at its entry cap and retained heap must stay flat
+     * between the early and late checkpoints.
+     */
+    @Test
+    void randomEmailFlood_staysAtEntryCap() {
+        int maxEntries = 10_000;
+        InMemoryLoginThrottleStore store = new InMemoryLoginThrottleStore(5, LOCKOUT, maxEntries, clock);
+
+        flood(store, 100_000);
+        assertEquals(maxEntries, store.size());
+        assertEquals(100_000 - maxEntries, store.evictedCount());
+
+        // Every further key displaces exactly one old one: the map never grows
+        flood(store, 900_000);
+        assertEquals(maxEntries, store.size());
+        assertEquals(1_000_000 - maxEntries, store.evictedCount());
+    }
+
+    @Test
+    void realLockoutSurvivesModerateFlood() {
+        InMemoryLoginThrottleStore store = new InMemoryLoginThrottleStore(1, LOCKOUT, 1_000, clock);
+
+        store.recordFailure("victim@test.com");
+        flood(store, 500);
+
+        assertTrue(store.lockedForMillis("victim@test.com") > 0);
+    }
+
+    private static void flood(LoginThrottleStore store, int logins) {
+        for (int i = 0; i < logins; i++) {
+            String email = UUID.randomUUID() + "@flood.test";
+            store.lockedForMillis(email);
+            store.recordFailure(email);
+        }
+    }
+}
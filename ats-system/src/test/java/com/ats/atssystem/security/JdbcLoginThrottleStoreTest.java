@@ -0,0 +1,79 @@
+package com.ats.atssystem.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the shared store against the login_throttles table. Two store
+ * instances over the same database stand in for two application nodes.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class JdbcLoginThrottleStoreTest {
+
+    private static final Duration LOCKOUT = Duration.ofMinutes(15);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock();
+
+    private JdbcLoginThrottleStore nodeA;
+    private JdbcLoginThrottleStore nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new JdbcLoginThrottleStore(jdbcTemplate, transactionManager, 3, LOCKOUT, clock);
+        nodeB = new JdbcLoginThrottleStore(jdbcTemplate, transactionManager, 3, LOCKOUT, clock);
+    }
+
+    @Test
+    void failuresOnDifferentNodesShareOneCounter() {
+        nodeA.recordFailure("rita@test.com");
+        nodeB.recordFailure("rita@test.com");
+        assertEquals(0, nodeA.lockedForMillis("rita@test.com"));
+
+        nodeA.recordFailure("rita@test.com");
+
+        assertEquals(LOCKOUT.toMillis(), nodeB.lockedForMillis("rita@test.com"));
+    }
+
+    @Test
+    void resetOnOneNodeClearsForAll() {
+        nodeA.recordFailure("rita@test.com");
+        nodeA.recordFailure("rita@test.com");
+        nodeB.reset("rita@test.com");
+        nodeA.recordFailure("rita@test.com");
+
+        assertEquals(0, nodeB.lockedForMillis("rita@test.com"));
+    }
+
+    @Test
+    void purgeRemovesOnlyExpiredRows() {
+        for (int i = 0; i < 3; i++) {
+            nodeA.recordFailure("locked@test.com");
+        }
+        nodeA.recordFailure("once@test.com");
+
+        clock.advance(LOCKOUT.minusMinutes(1));
+        assertEquals(0, nodeA.purgeExpired());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertEquals(2, nodeB.purgeExpired());
+        assertEquals(0, nodeA.lockedForMillis("locked@test.com"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.ats.atssystem.security;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-that-is-at-least-32-chars";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000);
+
+    @Test
+    void parseToken_returnsAllClaimsFromOneParse() {
+        String token = jwtUtil.generateToken(7L, "rita@test.com", "RECRUITER");
+
+        Claims claims = jwtUtil.parseToken(token);
+
+        assertNotNull(claims);
+        assertEquals("rita@test.com", claims.getSubject());
+        assertEquals("RECRUITER", claims.get("role", String.class));
+        assertEquals(7L, claims.get("uid", Long.class));
+    }
+
+    @Test
+    void parseToken_rejectsTokenSignedWithAnotherKey() {
+        JwtUtil other = new JwtUtil("another-secret-key-that-is-32-chars-long", 60_000);
+        String foreignToken = other.generateToken(7L, "rita@test.com", "RECRUITER");
+
+        assertNull(jwtUtil.parseToken(foreignToken));
+        assertFalse(jwtUtil.validateToken(foreignToken));
+    }
+
+    @Test
+    void parseToken_rejectsExpiredAndMalformedTokens() {
+        JwtUtil expiring = new JwtUtil(SECRET, -1_000);
+
+        assertNull(jwtUtil.parseToken(expiring.generateToken(7L, "rita@test.com", "RECRUITER")));
+        assertNull(jwtUtil.parseToken("not-a-jwt"));
+    }
+
+    @Test
+    void shortSecret_failsAtStartup() {
+        assertThrows(IllegalStateException.class, () -> new JwtUtil("too-short", 60_000));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ats.atssystem.security;
+
+import com.ats.atssystem.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (hasher != null) {
+            hasher.shutdown();
+        }
+    }
+
+    @Test
+    void hashesAndVerifiesOffTheCallingThread() throws Exception {
+        hasher = new PasswordHasher(new BCryptPasswordEncoder(4), 1, 4);
+
+        String hash = hasher.encode("Secret#123").get(5, TimeUnit.SECONDS);
+
+        assertTrue(hasher.matches("Secret#123", hash).get(5, TimeUnit.SECONDS));
+        assertFalse(hasher.matches("wrong", hash).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void rejectsImmediatelyWhenPoolAndQueueAreFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        hasher = new PasswordHasher(new BlockingEncoder(started, release), 1, 2);
+
+        // One call occupies the only thread, two more fill the queue
+        CompletableFuture<Boolean> running = hasher.matches("a", "hash");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        hasher.matches("b", "hash");
+        hasher.matches("c", "hash");
+
+        assertEquals(1, hasher.getActiveCount());
+        assertEquals(2, hasher.getQueueDepth());
+
+        TooManyRequestsException ex = assertThrows(TooManyRequestsException.class,
+                () -> hasher.matches("d", "hash"));
+        assertTrue(ex.getRetryAfterSeconds() > 0);
+        assertEquals(1, hasher.getRejectedCount());
+
+        // Capacity comes back once the pool drains
+        release.countDown();
+        running.get(5, TimeUnit.SECONDS);
+        assertNotNull(hasher.matches("e", "hash").get(5, TimeUnit.SECONDS));
+    }
+
+    /** Encoder whose matches() holds its thread until released */
+    private static final class BlockingEncoder extends BCryptPasswordEncoder {
+        private final CountDownLatch started;
+        private final CountDownLatch release;
+
+        private BlockingEncoder(CountDownLatch started, CountDownLatch release) {
+            this.started = started;
+            this.release = release;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        }
+    }
+}
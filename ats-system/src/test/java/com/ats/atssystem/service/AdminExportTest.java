@@ -0,0 +1,162 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.ExportFormat;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.AdminExportRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Streamed NDJSON/CSV admin exports. They read committed rows on the
+ * export pool (AdminExportRepository), so this runs without a test
+ * transaction and cleans up after each test.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AdminService.class, AdminExportRepository.class, DashboardStatistics.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AdminExportTest {
+
+    @Autowired
+    private AdminService adminService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("DELETE FROM jobs");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void exportUsers_writesCsvWithQuotedFields() throws IOException {
+        userRepository.save(candidate("Smith, \"Ann\"", "ann@test.com"));
+        userRepository.save(recruiter());
+
+        String csv = export(out -> adminService.exportUsers(null, null, ExportFormat.CSV, out));
+
+        assertEquals("email,name,role\r\n"
+                + "ann@test.com,\"Smith, \"\"Ann\"\"\",CANDIDATE\r\n"
+                + "rita@test.com,Rita Recruiter,RECRUITER\r\n", csv);
+    }
+
+    @Test
+    void exportUsers_neutralizesFormulaCells() throws IOException {
+        userRepository.save(candidate("=HYPERLINK(\"http://evil.test\")", "a@test.com"));
+        userRepository.save(candidate("+1+1", "b@test.com"));
+        userRepository.save(candidate("-2", "c@test.com"));
+        userRepository.save(candidate("@SUM(A1)", "d@test.com"));
+        userRepository.save(candidate("\tTabbed", "e@test.com"));
+        userRepository.save(candidate("Plain - Name", "f@test.com"));
+
+        String csv = export(out -> adminService.exportUsers(Role.CANDIDATE, null, ExportFormat.CSV, out));
+
+        assertEquals("email,name,role\r\n"
+                + "a@test.com,\"'=HYPERLINK(\"\"http://evil.test\"\")\",CANDIDATE\r\n"
+                + "b@test.com,'+1+1,CANDIDATE\r\n"
+                + "c@test.com,'-2,CANDIDATE\r\n"
+                + "d@test.com,'@SUM(A1),CANDIDATE\r\n"
+                + "e@test.com,'\tTabbed,CANDIDATE\r\n"
+                + "f@test.com,Plain - Name,CANDIDATE\r\n", csv);
+    }
+
+    @Test
+    void exportUsers_appliesRoleAndPrefixFilters() throws IOException {
+        userRepository.save(recruiter("Alice Recruiter", "alice@test.com"));
+        userRepository.save(candidate("Alan Candidate", "alan@test.com"));
+        userRepository.save(candidate("Bob Candidate", "bob@test.com"));
+        userRepository.save(candidate("Bo_x", "x@test.com"));
+
+        String csv = export(out -> adminService.exportUsers(Role.CANDIDATE, "al", ExportFormat.CSV, out));
+        String literal = export(out -> adminService.exportUsers(null, "Bo_", ExportFormat.CSV, out));
+
+        assertEquals("email,name,role\r\n"
+                + "alan@test.com,Alan Candidate,CANDIDATE\r\n", csv);
+        assertEquals("email,name,role\r\n"
+                + "x@test.com,Bo_x,CANDIDATE\r\n", literal);
+    }
+
+    @Test
+    void exportJobs_writesOneJsonObjectPerLine() throws IOException {
+        User recruiter = userRepository.save(recruiter());
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Colombo", JobStatus.OPEN, recruiter));
+        jobRepository.save(new Job("Designer", "Figma", "Remote", JobStatus.CLOSED, recruiter));
+
+        String ndjson = export(out -> adminService.exportJobs(JobStatus.OPEN, "Back", ExportFormat.NDJSON, out));
+
+        assertEquals("{\"jobId\":" + job.getJobsId() + ",\"title\":\"Backend Engineer\","
+                + "\"recruiterEmail\":\"rita@test.com\",\"recruiterName\":\"Rita Recruiter\","
+                + "\"status\":\"OPEN\",\"location\":\"Colombo\"}\n", ndjson);
+    }
+
+    @Test
+    void exportJobs_streamsEveryRowOffTheApplicationPool() throws IOException {
+        List<Job> jobs = new ArrayList<>();
+        for (int r = 0; r < 20; r++) {
+            User recruiter = userRepository.save(recruiter("Recruiter " + r, "recruiter" + r + "@test.com"));
+            for (int j = 0; j < 10; j++) {
+                jobs.add(new Job("Job " + r + "-" + j, "Description", "Remote", JobStatus.OPEN, recruiter));
+            }
+        }
+        jobRepository.saveAll(jobs);
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        String ndjson = export(out -> adminService.exportJobs(null, null, ExportFormat.NDJSON, out));
+
+        assertEquals(200, ndjson.lines().count());
+        assertEquals(0, statistics.getPrepareStatementCount(), "exports read through the export pool, not Hibernate");
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private interface Export {
+        void writeTo(ByteArrayOutputStream out) throws IOException;
+    }
+
+    private static String export(Export export) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
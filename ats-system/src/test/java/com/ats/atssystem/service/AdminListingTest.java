@@ -0,0 +1,107 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.AdminJobDTO;
+import com.ats.atssystem.dto.AdminUserDTO;
+import com.ats.atssystem.dto.PageResponse;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.AdminExportRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Admin listings: filters and paging. Exports are covered by AdminExportTest.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({AdminService.class, AdminExportRepository.class, DashboardStatistics.class, JacksonAutoConfiguration.class})
+class AdminListingTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private AdminService adminService;
+
+    @Test
+    void usersPage_filtersByRoleAndPrefix() {
+        persist(entityManager, recruiter("Alice Recruiter", "alice@test.com"));
+        persist(entityManager, candidate("Alan Candidate", "alan@test.com"));
+        persist(entityManager, candidate("Bob Candidate", "bob@test.com"));
+        flushAndClear();
+
+        PageResponse<AdminUserDTO> candidates = adminService.getUsersPage(Role.CANDIDATE, null, 0, 10);
+        assertEquals(List.of("alan@test.com", "bob@test.com"), emails(candidates));
+
+        PageResponse<AdminUserDTO> al = adminService.getUsersPage(null, "al", 0, 10);
+        assertEquals(List.of("alice@test.com", "alan@test.com"), emails(al));
+
+        // Name prefix matches too
+        PageResponse<AdminUserDTO> bobByName = adminService.getUsersPage(Role.CANDIDATE, "Bob", 0, 10);
+        assertEquals(List.of("bob@test.com"), emails(bobByName));
+    }
+
+    @Test
+    void usersPage_treatsLikeWildcardsLiterally() {
+        persist(entityManager, candidate("Percent", "100%done@test.com"));
+        persist(entityManager, candidate("Plain", "100xdone@test.com"));
+        persist(entityManager, candidate("Under", "a_b@test.com"));
+        persist(entityManager, candidate("Other", "axb@test.com"));
+        flushAndClear();
+
+        assertEquals(List.of("100%done@test.com"), emails(adminService.getUsersPage(null, "100%", 0, 10)));
+        assertEquals(List.of("a_b@test.com"), emails(adminService.getUsersPage(null, "a_", 0, 10)));
+    }
+
+    @Test
+    void jobsPage_pagesInIdOrderAndReportsHasNext() {
+        User recruiter = persist(entityManager, recruiter());
+        for (int i = 0; i < 5; i++) {
+            persist(entityManager, new Job("Engineer " + i, "Java", "Remote", JobStatus.OPEN, recruiter));
+        }
+        persist(entityManager, new Job("Designer", "Figma", "Remote", JobStatus.CLOSED, recruiter));
+        flushAndClear();
+
+        PageResponse<AdminJobDTO> first = adminService.getJobsPage(JobStatus.OPEN, "Engineer", 0, 3);
+        PageResponse<AdminJobDTO> second = adminService.getJobsPage(JobStatus.OPEN, "Engineer", 1, 3);
+
+        assertEquals(List.of("Engineer 0", "Engineer 1", "Engineer 2"), titles(first));
+        assertTrue(first.isHasNext());
+        assertEquals(List.of("Engineer 3", "Engineer 4"), titles(second));
+        assertFalse(second.isHasNext());
+        assertEquals("rita@test.com", first.getContent().get(0).getRecruiterEmail());
+
+        assertEquals(List.of("Designer"), titles(adminService.getJobsPage(JobStatus.CLOSED, null, 0, 10)));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private static List<String> emails(PageResponse<AdminUserDTO> page) {
+        return page.getContent().stream().map(AdminUserDTO::getEmail).toList();
+    }
+
+    private static List<String> titles(PageResponse<AdminJobDTO> page) {
+        return page.getContent().stream().map(AdminJobDTO::getTitle).toList();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,182 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.ApplicationStatusEventDTO;
+import com.ats.atssystem.dto.StatusEventPageDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.ApplicationStatusEvent;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.service.impl.ApplicationServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Application status log: written by the status-change path, read back
+ * incrementally, by time range and as per-application history.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationStatusLog.class, ApplicationServiceImpl.class, FunnelAnalyticsService.class,
+        NotificationOutbox.class, JacksonAutoConfiguration.class})
+class ApplicationStatusLogTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ApplicationStatusLog statusLog;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void updateApplicationStatus_appendsEventsAndReportsTimeInStage() {
+        User recruiter = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        User candidate = persist(entityManager, candidate());
+        Application application = persist(entityManager, new Application(job, candidate));
+        statusLog.record(application, null, ApplicationStatus.APPLIED, candidate.getUserId(),
+                application.getAppliedAt().minusHours(2));
+        authenticateAs(recruiter);
+
+        applicationService.updateApplicationStatus(application.getApplicationId(), ApplicationStatus.SHORTLISTED, null);
+        applicationService.updateApplicationStatus(application.getApplicationId(), ApplicationStatus.HIRED, null);
+
+        List<ApplicationStatusEventDTO> history = applicationService.getStatusHistory(application.getApplicationId());
+
+        assertEquals(3, history.size());
+        assertNull(history.get(0).getFromStatus());
+        assertEquals(ApplicationStatus.APPLIED, history.get(0).getToStatus());
+        assertNull(history.get(0).getSecondsInPreviousStatus());
+
+        ApplicationStatusEventDTO shortlisted = history.get(1);
+        assertEquals(ApplicationStatus.APPLIED, shortlisted.getFromStatus());
+        assertEquals(ApplicationStatus.SHORTLISTED, shortlisted.getToStatus());
+        assertEquals(recruiter.getUserId(), shortlisted.getActorId());
+        assertEquals(job.getJobsId(), shortlisted.getJobId());
+        assertTrue(shortlisted.getSecondsInPreviousStatus() >= 7200);
+
+        assertEquals(ApplicationStatus.HIRED, history.get(2).getToStatus());
+    }
+
+    @Test
+    void readAfter_pagesFromAnOffsetAndSkipsUnsettledEvents() {
+        Application application = seedApplication();
+        LocalDateTime base = LocalDateTime.now().minusMinutes(10);
+        for (int i = 0; i < 5; i++) {
+            statusLog.record(application, ApplicationStatus.APPLIED, ApplicationStatus.SHORTLISTED, 1L, base.plusMinutes(i));
+        }
+        // Too recent to be handed to offset readers yet
+        statusLog.record(application, ApplicationStatus.SHORTLISTED, ApplicationStatus.HIRED, 1L, LocalDateTime.now());
+
+        StatusEventPageDTO first = statusLog.readAfter(0, 3);
+        assertEquals(3, first.getEvents().size());
+        assertTrue(first.isHasMore());
+
+        StatusEventPageDTO second = statusLog.readAfter(first.getNextOffset(), 3);
+        assertEquals(2, second.getEvents().size());
+        assertFalse(second.isHasMore());
+        assertTrue(second.getEvents().get(0).getEventId() > first.getNextOffset());
+
+        StatusEventPageDTO empty = statusLog.readAfter(second.getNextOffset(), 3);
+        assertTrue(empty.getEvents().isEmpty());
+        assertEquals(second.getNextOffset(), empty.getNextOffset());
+    }
+
+    @Test
+    void readAfter_neverPassesAnUnsettledLowerId() {
+        Application application = seedApplication();
+        LocalDateTime old = LocalDateTime.now().minusMinutes(10);
+        statusLog.record(application, null, ApplicationStatus.APPLIED, 1L, old);
+        // Lower id, still inside the settle lag (its transaction may still be committing)...
+        statusLog.record(application, ApplicationStatus.APPLIED, ApplicationStatus.SHORTLISTED, 1L, LocalDateTime.now());
+        // ...ahead of a higher id that is already old enough
+        statusLog.record(application, ApplicationStatus.SHORTLISTED, ApplicationStatus.HIRED, 1L, old);
+
+        StatusEventPageDTO page = statusLog.readAfter(0, 10);
+
+        assertEquals(1, page.getEvents().size());
+        assertEquals(ApplicationStatus.APPLIED, page.getEvents().get(0).getToStatus());
+        assertEquals(page.getEvents().get(0).getEventId(), page.getNextOffset());
+        assertFalse(page.isHasMore());
+
+        StatusEventPageDTO again = statusLog.readAfter(page.getNextOffset(), 10);
+        assertTrue(again.getEvents().isEmpty(), "the older, higher id waits for the younger one");
+        assertEquals(page.getNextOffset(), again.getNextOffset());
+    }
+
+    @Test
+    void readRange_returnsEventsInTimeOrderAcrossPages() {
+        Application application = seedApplication();
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 9, 0);
+        // Inserted out of time order; equal timestamps tie-break on eventId
+        statusLog.record(application, null, ApplicationStatus.APPLIED, 1L, base.plusHours(3));
+        statusLog.record(application, null, ApplicationStatus.APPLIED, 1L, base.plusHours(1));
+        statusLog.record(application, null, ApplicationStatus.APPLIED, 1L, base.plusHours(1));
+        statusLog.record(application, null, ApplicationStatus.APPLIED, 1L, base.plusHours(2));
+        statusLog.record(application, null, ApplicationStatus.APPLIED, 1L, base.plusDays(2));
+
+        StatusEventPageDTO first = statusLog.readRange(base, base.plusDays(1), null, 2);
+        StatusEventPageDTO second = statusLog.readRange(base, base.plusDays(1), first.getNextCursor(), 2);
+
+        assertEquals(List.of(base.plusHours(1), base.plusHours(1)), times(first));
+        assertNotNull(first.getNextCursor());
+        assertEquals(List.of(base.plusHours(2), base.plusHours(3)), times(second));
+        assertNull(second.getNextCursor());
+        assertTrue(first.getEvents().get(0).getEventId() < first.getEvents().get(1).getEventId());
+    }
+
+    @Test
+    void statusColumns_areStoredAsNames() {
+        Application application = seedApplication();
+        statusLog.record(application, ApplicationStatus.SHORTLISTED, ApplicationStatus.REJECTED, 1L,
+                LocalDateTime.now().minusMinutes(2));
+        statusLog.recordAll(List.of(new ApplicationStatusEvent(application.getApplicationId(),
+                application.getJob().getJobsId(), 1L, null, ApplicationStatus.APPLIED,
+                LocalDateTime.now().minusMinutes(1))));
+        entityManager.flush();
+
+        List<?> rows = entityManager.createNativeQuery(
+                "SELECT from_status, to_status FROM application_status_events ORDER BY event_id").getResultList();
+        assertArrayEquals(new Object[]{"SHORTLISTED", "REJECTED"}, (Object[]) rows.get(0));
+        assertArrayEquals(new Object[]{null, "APPLIED"}, (Object[]) rows.get(1));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private Application seedApplication() {
+        User recruiter = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        User candidate = persist(entityManager, candidate());
+        return persist(entityManager, new Application(job, candidate));
+    }
+
+    private static List<LocalDateTime> times(StatusEventPageDTO page) {
+        return page.getEvents().stream().map(ApplicationStatusEventDTO::getOccurredAt).toList();
+    }
+}
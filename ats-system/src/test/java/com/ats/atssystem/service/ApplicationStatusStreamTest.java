@@ -0,0 +1,190 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.controller.CandidateApplicationController;
+import com.ats.atssystem.dto.ApplicationStatusEventDTO;
+import com.ats.atssystem.exception.GlobalExceptionHandler;
+import com.ats.atssystem.exception.TooManyRequestsException;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.repository.ApplicationRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.service.impl.ApplicationServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Candidate status stream: committed changes pushed to open connections,
+ * replay from Last-Event-ID, and connection limits. Runs without a test
+ * transaction so the after-commit push actually fires.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationStatusStream.class, ApplicationServiceImpl.class, ApplicationStatusLog.class,
+        FunnelAnalyticsService.class, NotificationOutbox.class, JacksonAutoConfiguration.class})
+@TestPropertySource(properties = "app.status-events.read-lag=PT0.2S")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationStatusStreamTest {
+
+    @Autowired
+    private ApplicationStatusStream applicationStatusStream;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private MockMvc mockMvc;
+    private User recruiter;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new CandidateApplicationController(mock(CandidateApplicationService.class), applicationStatusStream))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        recruiter = userRepository.save(recruiter());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        for (String table : List.of("outbox_messages", "application_status_events", "application_funnel_daily",
+                "application_decision_time_daily", "applications", "jobs", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void openStream_receivesOnlyItsCandidatesCommittedChanges() throws Exception {
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        Application mine = apply(job, "carl@test.com");
+        Application other = apply(job, "cora@test.com");
+
+        authenticateAs(mine.getCandidate());
+        MvcResult stream = mockMvc.perform(get("/candidate/applications/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        authenticateAs(recruiter);
+        applicationService.updateApplicationStatus(other.getApplicationId(), ApplicationStatus.REJECTED, null);
+        applicationService.updateApplicationStatus(mine.getApplicationId(), ApplicationStatus.SHORTLISTED, null);
+
+        String body = awaitBody(stream, content -> content.contains("SHORTLISTED"));
+        assertTrue(body.contains("event:status"));
+        assertTrue(body.contains("\"applicationId\":" + mine.getApplicationId()));
+        assertFalse(body.contains("REJECTED"), "another candidate's change must not be pushed");
+        assertEquals("text/event-stream", stream.getResponse().getContentType());
+    }
+
+    @Test
+    void reconnectWithLastEventId_replaysWhatWasMissed() throws Exception {
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        Application application = apply(job, "carl@test.com");
+
+        authenticateAs(recruiter);
+        applicationService.updateApplicationStatus(application.getApplicationId(), ApplicationStatus.SHORTLISTED, null);
+        applicationService.updateApplicationStatus(application.getApplicationId(), ApplicationStatus.HIRED, null);
+        List<ApplicationStatusEventDTO> history = applicationService.getStatusHistory(application.getApplicationId());
+        Long seen = history.get(0).getEventId();
+        Long missed = history.get(1).getEventId();
+
+        authenticateAs(application.getCandidate());
+        MvcResult resumed = mockMvc.perform(get("/candidate/applications/stream").header("Last-Event-ID", seen))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = awaitBody(resumed, content -> content.contains("HIRED"));
+        assertTrue(body.contains("id:" + missed));
+        assertFalse(body.contains("id:" + seen + "\n"), "the event the client already has is not resent");
+
+        // A fresh connection starts at the latest event instead of replaying history
+        MvcResult fresh = mockMvc.perform(get("/candidate/applications/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertFalse(awaitBody(fresh, content -> content.contains(":connected")).contains("event:status"));
+    }
+
+    @Test
+    void connectionsPerCandidate_areCapped() {
+        Long candidateId = 424_242L;
+        long rejectedBefore = applicationStatusStream.getRejectedCount();
+        for (int i = 0; i < 5; i++) {
+            applicationStatusStream.subscribe(candidateId, null);
+        }
+
+        TooManyRequestsException e = assertThrows(TooManyRequestsException.class,
+                () -> applicationStatusStream.subscribe(candidateId, null));
+        assertTrue(e.getRetryAfterSeconds() > 0);
+        assertEquals(rejectedBefore + 1, applicationStatusStream.getRejectedCount());
+    }
+
+    @Test
+    void malformedLastEventId_isABadRequest() throws Exception {
+        authenticateAs(userRepository.save(candidate()));
+
+        int status = mockMvc.perform(get("/candidate/applications/stream").header("Last-Event-ID", "abc"))
+                .andReturn().getResponse().getStatus();
+
+        assertEquals(400, status);
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private Application apply(Job job, String candidateEmail) {
+        User candidate = userRepository.save(candidate("Candidate", candidateEmail));
+        return applicationRepository.save(new Application(job, candidate));
+    }
+
+    private static String awaitBody(MvcResult result, Predicate<String> done) throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String body = result.getResponse().getContentAsString();
+        while (!done.test(body) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            body = result.getResponse().getContentAsString();
+        }
+        assertTrue(done.test(body), "stream did not deliver in time: " + body);
+        return body;
+    }
+}
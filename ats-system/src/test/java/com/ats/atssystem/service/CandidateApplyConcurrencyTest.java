@@ -0,0 +1,236 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.ApplicationRequest;
+import com.ats.atssystem.dto.ApplicationResponse;
+import com.ats.atssystem.exception.DuplicateApplicationException;
+import com.ats.atssystem.exception.IdempotencyKeyReusedException;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.search.ResumeSearchIndex;
+import com.ats.atssystem.service.ResumeStorageService.StagedResume;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Apply endpoint under double submits: parallel requests for the same
+ * candidate and job create one application, one resume and one file, with
+ * and without an Idempotency-Key. Runs without a test transaction so each
+ * request commits or rolls back for real.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CandidateApplicationService.class, ResumeStorageService.class, FunnelAnalyticsService.class,
+        ApplicationStatusLog.class, ResumeTextIndexer.class, ResumeSearchIndex.class, MatchScoringService.class,
+        NotificationOutbox.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CandidateApplyConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.resume.upload-dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private CandidateApplicationService applicationService;
+
+    @Autowired
+    private ResumeStorageService storageService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void cleanUp() {
+        for (String table : List.of("application_match_scores", "resume_texts", "resumes", "resume_blobs", "outbox_messages", "application_status_events",
+                "application_funnel_daily", "applications", "jobs", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void parallelSubmissions_createOneApplicationAndNoOrphanFiles() throws Exception {
+        Job job = seedJob();
+        User candidate = userRepository.save(candidate());
+        long blobsBefore = countFiles(uploadDir.resolve("blobs"));
+
+        // Each click uploads different bytes, so a loser's file would be a new blob
+        List<Object> outcomes = race(i -> applicationService.applyForJob(
+                new ApplicationRequest(job.getJobsId()), pdf("click " + i), candidate.getUserId()));
+
+        assertEquals(1, outcomes.stream().filter(ApplicationResponse.class::isInstance).count());
+        assertEquals(THREADS - 1, outcomes.stream().filter(DuplicateApplicationException.class::isInstance).count(),
+                "losers get a 409, not a constraint-violation 500");
+        assertEquals(1, count("applications"));
+        assertEquals(1, count("resumes"));
+        assertEquals(blobsBefore + 1, countFiles(uploadDir.resolve("blobs")));
+        assertEquals(0, countFiles(uploadDir.resolve("tmp")));
+    }
+
+    @Test
+    void parallelRetriesWithOneKey_allSeeTheSameApplication() throws Exception {
+        Job job = seedJob();
+        User candidate = userRepository.save(candidate());
+
+        List<Object> outcomes = race(i -> applicationService.applyForJob(
+                new ApplicationRequest(job.getJobsId(), "key-1"), pdf("resume"), candidate.getUserId()));
+
+        ApplicationResponse replayed = applicationService.applyForJob(
+                new ApplicationRequest(job.getJobsId(), "key-1"), pdf("resume"), candidate.getUserId());
+
+        // Retries either replay the winner or (if it had not committed yet) get 409
+        for (Object outcome : outcomes) {
+            if (outcome instanceof ApplicationResponse response) {
+                assertEquals(replayed.getApplicationId(), response.getApplicationId());
+                assertEquals(replayed.getResumeId(), response.getResumeId());
+            } else {
+                assertInstanceOf(DuplicateApplicationException.class, outcome);
+            }
+        }
+        assertEquals(1, count("applications"));
+        assertEquals(1, count("resumes"));
+    }
+
+    @Test
+    void keyReusedForAnotherJob_isRejected() {
+        Job first = seedJob();
+        Job second = jobRepository.save(new Job("Designer", "Figma", "Remote", JobStatus.OPEN, first.getRecruiter()));
+        User candidate = userRepository.save(candidate());
+        applicationService.applyForJob(new ApplicationRequest(first.getJobsId(), "key-1"), pdf("a"), candidate.getUserId());
+
+        assertThrows(IdempotencyKeyReusedException.class, () -> applicationService.applyForJob(
+                new ApplicationRequest(second.getJobsId(), "key-1"), pdf("a"), candidate.getUserId()));
+        assertEquals(1, count("applications"));
+    }
+
+    @Test
+    void rolledBackUpload_removesTheBlobFileItCreated() throws IOException {
+        long blobsBefore = countFiles(uploadDir.resolve("blobs"));
+
+        Path blob = new TransactionTemplate(transactionManager).execute(status -> {
+            Path stored;
+            try (StagedResume staged = storageService.stage(pdf("rolled back"))) {
+                stored = Path.of(storageService.store(staged).getFilePath());
+            }
+            assertTrue(Files.exists(stored));
+            status.setRollbackOnly();
+            return stored;
+        });
+
+        assertFalse(Files.exists(blob));
+        assertEquals(blobsBefore, countFiles(uploadDir.resolve("blobs")));
+        assertEquals(0, count("resume_blobs"));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private interface Submission {
+        ApplicationResponse submit(int index);
+    }
+
+    /** Releases THREADS submissions at once; each yields a response or its exception */
+    private List<Object> race(Submission submission) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                Callable<Object> task = () -> {
+                    start.await();
+                    try {
+                        return submission.submit(index);
+                    } catch (RuntimeException e) {
+                        return e;
+                    }
+                };
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+
+            List<Object> outcomes = new ArrayList<>();
+            for (Future<Object> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Job seedJob() {
+        User recruiter = userRepository.save(recruiter());
+        return jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    private static ResumeUpload pdf(String text) {
+        byte[] content = ("%PDF-1.4\n" + text + "\n%%EOF").getBytes(StandardCharsets.UTF_8);
+        return new ResumeUpload("resume.pdf", "application/pdf", new ByteArrayInputStream(content));
+    }
+
+    private static long countFiles(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.JobSummaryResponse;
+import com.ats.atssystem.dto.PageResponse;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.search.JobSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the paged, database-filtered candidate job browse list.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CandidateJobService.class, JobSearchIndex.class})
+class CandidateJobBrowseTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CandidateJobService candidateJobService;
+
+    @Test
+    void browse_returnsOnlyOpenJobsNewestFirstAcrossPages() {
+        User recruiter = recruiter();
+        entityManager.persist(recruiter);
+
+        LocalDateTime base = LocalDateTime.of(2024, 3, 1, 12, 0);
+        for (int i = 0; i < 5; i++) {
+            persistJob(recruiter, "Open " + i, JobStatus.OPEN, base.plusDays(i));
+            persistJob(recruiter, "Closed " + i, JobStatus.CLOSED, base.plusDays(i));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        PageResponse<JobSummaryResponse> first = candidateJobService.browseOpenJobs(0, 3);
+        PageResponse<JobSummaryResponse> second = candidateJobService.browseOpenJobs(1, 3);
+
+        assertTrue(first.isHasNext());
+        assertFalse(second.isHasNext());
+        assertEquals(List.of("Open 4", "Open 3", "Open 2"), titles(first));
+        assertEquals(List.of("Open 1", "Open 0"), titles(second));
+        assertEquals("Rita Recruiter", first.getContent().get(0).getRecruiterName());
+    }
+
+    @Test
+    void getAllOpenJobs_excludesClosedJobs() {
+        User recruiter = recruiter();
+        entityManager.persist(recruiter);
+        persistJob(recruiter, "Open", JobStatus.OPEN, LocalDateTime.now());
+        persistJob(recruiter, "Closed", JobStatus.CLOSED, LocalDateTime.now());
+        entityManager.flush();
+
+        assertEquals(1, candidateJobService.getAllOpenJobs().size());
+    }
+
+    private void persistJob(User recruiter, String title, JobStatus status, LocalDateTime createdAt) {
+        Job job = new Job(title, "Long description for " + title, "Colombo", status, recruiter);
+        job.setCreatedAt(createdAt);
+        entityManager.persist(job);
+    }
+
+    private static List<String> titles(PageResponse<JobSummaryResponse> page) {
+        return page.getContent().stream().map(JobSummaryResponse::getTitle).toList();
+    }
+}
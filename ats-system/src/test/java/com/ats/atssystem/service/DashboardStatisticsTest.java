@@ -0,0 +1,93 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.AdminDashboardStatsDTO;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DashboardStatisticsTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final JobRepository jobRepository = mock(JobRepository.class);
+    private final DashboardStatistics statistics = new DashboardStatistics(userRepository, jobRepository);
+
+    @BeforeEach
+    void seedDatabaseCounts() {
+        when(userRepository.countGroupedByRole()).thenReturn(List.of(
+                new Object[]{Role.ADMIN, 1L},
+                new Object[]{Role.RECRUITER, 4L},
+                new Object[]{Role.CANDIDATE, 20L}));
+        when(jobRepository.countGroupedByStatus()).thenReturn(List.<Object[]>of(
+                new Object[]{JobStatus.OPEN, 7L}));
+        statistics.reconcile();
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reconcile_loadsAllCountersWithTwoQueries() {
+        AdminDashboardStatsDTO stats = statistics.snapshot();
+
+        assertEquals(25L, stats.getTotalUsers());
+        assertEquals(4L, stats.getRecruiters());
+        assertEquals(20L, stats.getCandidates());
+        assertEquals(7L, stats.getTotalJobs());
+        assertEquals(7L, stats.getOpenJobs());
+        assertEquals(0L, stats.getClosedJobs());
+        verify(userRepository, never()).count();
+        verify(jobRepository, never()).count();
+    }
+
+    @Test
+    void incrementalUpdates_areReflectedWithoutQueries() {
+        statistics.userRegistered(Role.CANDIDATE);
+        statistics.jobCreated(JobStatus.OPEN);
+        statistics.jobStatusChanged(JobStatus.OPEN, JobStatus.CLOSED);
+        statistics.jobStatusChanged(JobStatus.CLOSED, JobStatus.CLOSED);
+
+        AdminDashboardStatsDTO stats = statistics.snapshot();
+        assertEquals(26L, stats.getTotalUsers());
+        assertEquals(21L, stats.getCandidates());
+        assertEquals(8L, stats.getTotalJobs());
+        assertEquals(7L, stats.getOpenJobs());
+        assertEquals(1L, stats.getClosedJobs());
+        verify(userRepository, times(1)).countGroupedByRole();
+    }
+
+    @Test
+    void updatesInsideATransaction_applyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        statistics.jobCreated(JobStatus.OPEN);
+        assertEquals(7L, statistics.snapshot().getOpenJobs());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(8L, statistics.snapshot().getOpenJobs());
+    }
+
+    @Test
+    void reconcile_correctsDrift() {
+        statistics.jobCreated(JobStatus.OPEN);
+        statistics.jobCreated(JobStatus.OPEN);
+
+        statistics.reconcile();
+
+        assertEquals(7L, statistics.snapshot().getOpenJobs());
+    }
+}
@@ -0,0 +1,180 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.FunnelStatsDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.service.impl.ApplicationServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hiring funnel: rollups maintained by the status-change path, and the
+ * counts, rates and percentiles read back from them.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({FunnelAnalyticsService.class, ApplicationServiceImpl.class, ApplicationStatusLog.class,
+        NotificationOutbox.class, JacksonAutoConfiguration.class})
+class FunnelAnalyticsTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private FunnelAnalyticsService funnelAnalyticsService;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void updateApplicationStatus_maintainsTodaysRollup() {
+        User recruiter = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        Application first = apply(job, "c1@test.com");
+        Application second = apply(job, "c2@test.com");
+        authenticateAs(recruiter);
+
+        applicationService.updateApplicationStatus(first.getApplicationId(), ApplicationStatus.SHORTLISTED, null);
+        applicationService.updateApplicationStatus(first.getApplicationId(), ApplicationStatus.HIRED, null);
+        applicationService.updateApplicationStatus(second.getApplicationId(), ApplicationStatus.REJECTED, null);
+
+        FunnelStatsDTO funnel = funnelAnalyticsService.getMyFunnel(job.getJobsId(), null, null);
+
+        assertEquals(2, funnel.getApplied());
+        assertEquals(1, funnel.getShortlisted());
+        assertEquals(1, funnel.getHired());
+        assertEquals(1, funnel.getRejected());
+        assertEquals(0.5, funnel.getShortlistRate());
+        assertEquals(1.0, funnel.getShortlistToHireRate());
+        assertEquals(2, funnel.getDecisions());
+        assertNotNull(funnel.getTimeToDecisionP50Hours());
+        assertTrue(funnel.getTimeToDecisionP50Hours() < 1.0, "same-session decisions land in the first bucket");
+    }
+
+    @Test
+    void funnel_isScopedByJobRecruiterAndDateRange() {
+        User rita = persist(entityManager, recruiter());
+        User ravi = persist(entityManager, recruiter("Ravi Recruiter", "ravi@test.com"));
+        Job ritaJob = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        Job raviJob = persist(entityManager, new Job("Designer", "Figma", "Remote", JobStatus.OPEN, ravi));
+        LocalDate today = LocalDate.now();
+
+        Application a1 = apply(ritaJob, "c1@test.com");
+        Application a2 = apply(ritaJob, "c2@test.com");
+        Application a3 = apply(raviJob, "c3@test.com");
+
+        LocalDateTime appliedAt = a1.getAppliedAt();
+        funnelAnalyticsService.statusChanged(a1, ApplicationStatus.HIRED, appliedAt.plusHours(34));
+        funnelAnalyticsService.statusChanged(a2, ApplicationStatus.REJECTED, appliedAt.plusDays(3));
+        funnelAnalyticsService.statusChanged(a3, ApplicationStatus.SHORTLISTED, appliedAt.plusDays(40));
+
+        FunnelStatsDTO system = funnelAnalyticsService.getFunnel(null, null, today, today.plusDays(60));
+        assertEquals(3, system.getApplied());
+        assertEquals(1, system.getShortlisted());
+        assertEquals(2, system.getDecisions());
+
+        FunnelStatsDTO ritaFunnel = funnelAnalyticsService.getFunnel(rita.getUserId(), null, today, today.plusDays(60));
+        assertEquals(2, ritaFunnel.getApplied());
+        assertEquals(0, ritaFunnel.getShortlisted());
+        assertEquals(0.5, ritaFunnel.getHireRate());
+        assertEquals(0.5, ritaFunnel.getRejectionRate());
+
+        FunnelStatsDTO raviJobFunnel = funnelAnalyticsService.getFunnel(null, raviJob.getJobsId(), today, today.plusDays(60));
+        assertEquals(1, raviJobFunnel.getApplied());
+        assertEquals(1, raviJobFunnel.getShortlisted());
+        assertNull(raviJobFunnel.getTimeToDecisionP50Hours());
+
+        // Only today: the later decisions fall outside the range
+        FunnelStatsDTO todayOnly = funnelAnalyticsService.getFunnel(null, null, today, today);
+        assertEquals(3, todayOnly.getApplied());
+        assertEquals(0, todayOnly.getDecisions());
+        assertEquals(today.minusDays(29), funnelAnalyticsService.getFunnel(null, null, null, today).getFrom());
+    }
+
+    @Test
+    void myFunnelsByJob_returnsOneFunnelPerJobWithActivity() {
+        User recruiter = persist(entityManager, recruiter());
+        Job backend = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        Job frontend = persist(entityManager, new Job("Frontend Engineer", "React", "Remote", JobStatus.OPEN, recruiter));
+        persist(entityManager, new Job("Quiet Job", "None", "Remote", JobStatus.OPEN, recruiter));
+
+        Application application = apply(backend, "c1@test.com");
+        apply(frontend, "c2@test.com");
+        apply(frontend, "c3@test.com");
+        funnelAnalyticsService.statusChanged(application, ApplicationStatus.REJECTED,
+                application.getAppliedAt().plusHours(30));
+        authenticateAs(recruiter);
+
+        List<FunnelStatsDTO> funnels = funnelAnalyticsService.getMyFunnelsByJob(null, LocalDate.now().plusDays(2));
+
+        assertEquals(2, funnels.size());
+        FunnelStatsDTO backendFunnel = funnels.get(0);
+        assertEquals(backend.getJobsId(), backendFunnel.getJobId());
+        assertEquals(1, backendFunnel.getRejected());
+        assertEquals(30.0, backendFunnel.getTimeToDecisionP50Hours(), 6.0);
+        assertEquals(2, funnels.get(1).getApplied());
+    }
+
+    @Test
+    void myFunnel_rejectsOtherRecruitersJob() {
+        User rita = persist(entityManager, recruiter());
+        User ravi = persist(entityManager, recruiter("Ravi Recruiter", "ravi@test.com"));
+        Job raviJob = persist(entityManager, new Job("Designer", "Figma", "Remote", JobStatus.OPEN, ravi));
+        authenticateAs(rita);
+
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> funnelAnalyticsService.getMyFunnel(raviJob.getJobsId(), null, null));
+        assertTrue(e.getMessage().startsWith("Access denied"));
+    }
+
+    @Test
+    void histogramPercentiles_interpolateWithinBuckets() {
+        long[] buckets = new long[DecisionTimeHistogram.BUCKETS];
+        buckets[DecisionTimeHistogram.bucketOf(Duration.ofMinutes(30))] += 50;   // [0, 1) h
+        buckets[DecisionTimeHistogram.bucketOf(Duration.ofHours(30))] += 40;     // [24, 36) h
+        buckets[DecisionTimeHistogram.bucketOf(Duration.ofDays(200))] += 10;     // 90 days +
+
+        assertEquals(1.0, DecisionTimeHistogram.percentile(buckets, 0.50), 1e-9);
+        assertEquals(33.0, DecisionTimeHistogram.percentile(buckets, 0.80), 1e-9);
+        assertEquals(2160.0, DecisionTimeHistogram.percentile(buckets, 0.99), 1e-9);
+        assertNull(DecisionTimeHistogram.percentile(new long[DecisionTimeHistogram.BUCKETS], 0.5));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    /** Saves an application and counts it, as CandidateApplicationService does */
+    private Application apply(Job job, String candidateEmail) {
+        User candidate = persist(entityManager, candidate("Candidate", candidateEmail));
+        Application application = persist(entityManager, new Application(job, candidate));
+        funnelAnalyticsService.applicationReceived(application);
+        return application;
+    }
+}
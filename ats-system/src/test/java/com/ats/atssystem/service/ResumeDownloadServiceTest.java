@@ -0,0 +1,100 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Resume;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.service.ResumeDownloadService.ResumeFile;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ResumeDownloadService.class)
+class ResumeDownloadServiceTest {
+
+    @Autowired
+    private ResumeDownloadService resumeDownloadService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    Path tempDir;
+
+    private User owner;
+    private User otherRecruiter;
+    private Resume resume;
+    private Path file;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        owner = persist(entityManager, recruiter("Owner", "owner@test.com"));
+        otherRecruiter = persist(entityManager, recruiter("Other", "other@test.com"));
+        User candidate = persist(entityManager, candidate("Cand", "cand@test.com"));
+        Job job = persist(entityManager, new Job("Engineer", "Description", "Colombo", JobStatus.OPEN, owner));
+        Application application = persist(entityManager, new Application(job, candidate));
+
+        file = Files.writeString(tempDir.resolve("cv.pdf"), "%PDF-1.4 resume body", StandardCharsets.UTF_8);
+        resume = persist(entityManager, new Resume(application, "cv.pdf", file.toString()));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void owner_getsFileWithContentHashEtag() throws Exception {
+        authenticateAs(owner);
+
+        ResumeFile download = resumeDownloadService.getResumeFile(resume.getResumeId());
+
+        String expected = HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(Files.readAllBytes(file)));
+        assertEquals("\"" + expected + "\"", download.getEtag());
+        assertEquals(Files.size(file), download.getLength());
+        assertEquals("cv.pdf", download.getFileName());
+    }
+
+    @Test
+    void etagFollowsContentChanges() throws Exception {
+        authenticateAs(owner);
+        String before = resumeDownloadService.getResumeFile(resume.getResumeId()).getEtag();
+
+        Files.writeString(file, "%PDF-1.4 a different, longer resume body", StandardCharsets.UTF_8);
+
+        assertNotEquals(before, resumeDownloadService.getResumeFile(resume.getResumeId()).getEtag());
+    }
+
+    @Test
+    void otherRecruiter_isDenied() {
+        authenticateAs(otherRecruiter);
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> resumeDownloadService.getResumeFile(resume.getResumeId()));
+        assertTrue(ex.getMessage().startsWith("Access denied"));
+    }
+}
@@ -0,0 +1,231 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.exception.ResumeTooLargeException;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Resume;
+import com.ats.atssystem.model.ResumeBlob;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.repository.ResumeBlobRepository;
+import com.ats.atssystem.service.ResumeStorageService.StagedResume;
+import com.ats.atssystem.service.ResumeStorageService.StoredResume;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Stream;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ResumeStorageService.class, SimpleMeterRegistry.class})
+class ResumeStorageServiceTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.resume.upload-dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private ResumeStorageService storageService;
+
+    @Autowired
+    private ResumeBlobRepository blobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void identicalUploads_shareOneBlobWithTwoReferences() throws Exception {
+        byte[] content = pdf("same resume for every job");
+        long blobsBefore = countFiles(uploadDir.resolve("blobs"));
+        long tempBefore = countFiles(uploadDir.resolve("tmp"));
+
+        StoredResume first = stageAndStore(upload(content));
+        StoredResume second = stageAndStore(upload(content));
+
+        assertEquals(sha256(content), first.getContentHash());
+        assertEquals(first.getFilePath(), second.getFilePath());
+        assertArrayEquals(content, Files.readAllBytes(Paths.get(first.getFilePath())));
+        assertEquals(blobsBefore + 1, countFiles(uploadDir.resolve("blobs")));
+        assertEquals(tempBefore, countFiles(uploadDir.resolve("tmp")), "temp files must be moved, not left behind");
+
+        entityManager.clear();
+        ResumeBlob blob = blobRepository.findById(first.getContentHash()).orElseThrow();
+        assertEquals(2, blob.getRefCount());
+        assertEquals(content.length, blob.getSizeBytes());
+    }
+
+    @Test
+    void blobsAreShardedByHashPrefix() {
+        StoredResume stored = stageAndStore(upload(pdf("sharded")));
+
+        String hash = stored.getContentHash();
+        Path expected = uploadDir.resolve("blobs")
+                .resolve(hash.substring(0, 2))
+                .resolve(hash.substring(2, 4))
+                .resolve(hash + ".pdf");
+        assertEquals(expected.toString(), stored.getFilePath());
+    }
+
+    @Test
+    void garbageCollection_removesOnlyUnreferencedOldBlobs() throws Exception {
+        StoredResume kept = stageAndStore(upload(pdf("still referenced")));
+        persistResumeReferencing(kept);
+        StoredResume dropped = stageAndStore(upload(pdf("no longer referenced")));
+
+        Path orphan = uploadDir.resolve("blobs/ff/ff/ffff-orphan.pdf");
+        Files.createDirectories(orphan.getParent());
+        Files.write(orphan, pdf("rolled back upload"));
+
+        Path staleTemp = Files.write(uploadDir.resolve("tmp/crashed.part"), new byte[]{1});
+        Path freshTemp = Files.write(uploadDir.resolve("tmp/in-flight.part"), new byte[]{1});
+
+        for (Path path : new Path[]{Paths.get(kept.getFilePath()), Paths.get(dropped.getFilePath()), orphan, staleTemp}) {
+            Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+        }
+
+        assertEquals(3, storageService.collectGarbage());
+
+        assertTrue(Files.exists(Paths.get(kept.getFilePath())));
+        assertFalse(Files.exists(Paths.get(dropped.getFilePath())));
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(staleTemp));
+        assertTrue(Files.exists(freshTemp));
+
+        entityManager.clear();
+        assertEquals(1, blobRepository.findById(kept.getContentHash()).orElseThrow().getRefCount());
+        assertFalse(blobRepository.existsById(dropped.getContentHash()));
+    }
+
+    @Test
+    void nonPdfUpload_isRejectedBeforeAnythingIsWritten() throws Exception {
+        ResumeUpload text = new ResumeUpload("cv.txt", "text/plain", new ByteArrayInputStream(new byte[]{1, 2, 3}));
+
+        assertThrows(IllegalArgumentException.class, () -> storageService.stage(text));
+        assertEquals(0, blobRepository.count());
+    }
+
+    @Test
+    void contentWithoutPdfSignature_isRejectedWhateverTheDeclaredType() throws Exception {
+        long tempBefore = countFiles(uploadDir.resolve("tmp"));
+        ResumeUpload disguised = new ResumeUpload("cv.pdf", "application/pdf",
+                new ByteArrayInputStream("MZ\u0090 not a pdf".getBytes(StandardCharsets.UTF_8)));
+
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> storageService.stage(disguised));
+        assertTrue(e.getMessage().contains("PDF"));
+        assertEquals(tempBefore, countFiles(uploadDir.resolve("tmp")));
+        assertEquals(0, blobRepository.count());
+    }
+
+    @Test
+    void oversizedUpload_isCutOffAtTheLimit() throws Exception {
+        long tempBefore = countFiles(uploadDir.resolve("tmp"));
+        EndlessPdf endless = new EndlessPdf();
+
+        assertThrows(ResumeTooLargeException.class,
+                () -> storageService.stage(new ResumeUpload("huge.pdf", "application/pdf", endless)));
+
+        // Reading stops within one buffer of the 5 MB limit, not at the end of the upload
+        assertTrue(endless.bytesRead <= 5 * 1024 * 1024 + 64 * 1024, "read " + endless.bytesRead + " bytes");
+        assertEquals(tempBefore, countFiles(uploadDir.resolve("tmp")), "the partial file is removed");
+        assertEquals(0, blobRepository.count());
+    }
+
+    // ── helpers ─────────────────────────────────────────────────────
+
+    /** What the apply flow does: stage outside, store inside the transaction */
+    private StoredResume stageAndStore(ResumeUpload upload) {
+        try (StagedResume staged = storageService.stage(upload)) {
+            return storageService.store(staged);
+        }
+    }
+
+    private void persistResumeReferencing(StoredResume stored) {
+        User recruiter = persist(entityManager, recruiter("Rec", "rec@test.com"));
+        User candidate = persist(entityManager, candidate("Cand", "cand@test.com"));
+        Job job = persist(entityManager, new Job("Engineer", "Description", "Colombo", JobStatus.OPEN, recruiter));
+        Application application = persist(entityManager, new Application(job, candidate));
+        Resume resume = new Resume(application, "cv.pdf", stored.getFilePath());
+        resume.setContentHash(stored.getContentHash());
+        persist(entityManager, resume);
+        entityManager.flush();
+    }
+
+    private static ResumeUpload upload(byte[] content) {
+        return new ResumeUpload("cv.pdf", "application/pdf", new ByteArrayInputStream(content));
+    }
+
+    /** A PDF header followed by zeros forever, counting what is read */
+    private static final class EndlessPdf extends InputStream {
+
+        private final byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+        private long bytesRead;
+
+        @Override
+        public int read() {
+            return bytesRead < header.length ? header[(int) bytesRead++] : zero();
+        }
+
+        private int zero() {
+            bytesRead++;
+            return 0;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            int n = 0;
+            while (n < length && bytesRead < header.length) {
+                buffer[offset + n++] = header[(int) bytesRead++];
+            }
+            Arrays.fill(buffer, offset + n, offset + length, (byte) 0);
+            bytesRead += length - n;
+            return length;
+        }
+    }
+
+    private static byte[] pdf(String body) {
+        return ("%PDF-1.4\n" + body).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+
+    private static long countFiles(Path directory) throws Exception {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile).count();
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package com.ats.atssystem.service;
+
+import com.ats.atssystem.dto.ApplicationRequest;
+import com.ats.atssystem.dto.ApplicationResponse;
+import com.ats.atssystem.dto.ResumeSearchHit;
+import com.ats.atssystem.dto.ResumeSearchResponse;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Resume;
+import com.ats.atssystem.model.ResumeText;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.repository.ApplicationRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.ResumeRepository;
+import com.ats.atssystem.repository.ResumeTextRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.search.ResumeSearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Resume text pipeline: extraction after apply commits, the backfill for
+ * resumes the trigger missed, the startup rebuild, and recruiter-scoped
+ * search. Runs without a test transaction so after-commit hooks fire.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CandidateApplicationService.class, ResumeStorageService.class, FunnelAnalyticsService.class,
+        ApplicationStatusLog.class, ResumeTextIndexer.class, ResumeSearchIndex.class, MatchScoringService.class,
+        ResumeSearchService.class,
+        NotificationOutbox.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ResumeTextIndexingTest {
+
+    private static final long INDEXING_TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadDirectory(DynamicPropertyRegistry registry) {
+        registry.add("app.resume.upload-dir", uploadDir::toString);
+    }
+
+    @Autowired
+    private CandidateApplicationService applicationService;
+
+    @Autowired
+    private ResumeTextIndexer indexer;
+
+    @Autowired
+    private ResumeSearchIndex searchIndex;
+
+    @Autowired
+    private ResumeSearchService searchService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        for (String table : List.of("application_match_scores", "resume_texts", "resumes", "resume_blobs", "outbox_messages", "application_status_events",
+                "application_funnel_daily", "applications", "jobs", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void appliedResume_isSearchableByTheJobOwnerOnly() throws InterruptedException {
+        User rita = savedRecruiter("rita@test.com");
+        User ravi = savedRecruiter("ravi@test.com");
+        Job ritaJob = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        Job raviJob = jobRepository.save(new Job("Data Engineer", "SQL", "Remote", JobStatus.OPEN, ravi));
+
+        ApplicationResponse carl = apply(ritaJob, "carl@test.com", "Kafka streams and Spring Boot");
+        ApplicationResponse dana = apply(raviJob, "dana@test.com", "Kafka pipelines in Python");
+        awaitIndexed(carl.getResumeId(), dana.getResumeId());
+
+        authenticateAs(rita);
+        ResumeSearchResponse kafka = searchService.searchMyResumes("kafka", null, 0, 20);
+        assertEquals(List.of(carl.getResumeId()), resumeIds(kafka));
+        ResumeSearchHit hit = kafka.getHits().get(0);
+        assertEquals(carl.getApplicationId(), hit.getApplicationId());
+        assertEquals(ritaJob.getJobsId(), hit.getJobId());
+        assertEquals("Candidate", hit.getCandidateName());
+
+        assertEquals(0, searchService.searchMyResumes("python", null, 0, 20).getTotalHits(),
+                "another recruiter's resume must not match");
+        assertEquals(0, searchService.searchMyResumes("kafka", raviJob.getJobsId(), 0, 20).getTotalHits());
+        assertEquals(2, count("resume_texts"));
+        assertEquals(2, count("application_match_scores"));
+    }
+
+    @Test
+    void backfill_indexesResumesTheTriggerMissed_andRebuildRestoresThem() throws Exception {
+        User rita = savedRecruiter("rita@test.com");
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        User candidate = userRepository.save(candidate());
+        Application application = applicationRepository.save(new Application(job, candidate));
+        // Saved directly: no after-commit trigger, as for resumes uploaded before the pipeline existed
+        Path file = Files.write(uploadDir.resolve("legacy.pdf"), pdfBytes("Legacy Kotlin resume"));
+        Resume resume = resumeRepository.save(new Resume(application, "legacy.pdf", file.toString()));
+
+        indexer.backfill();
+        awaitIndexed(resume.getResumeId());
+
+        searchIndex.rebuild();
+
+        authenticateAs(rita);
+        assertEquals(List.of(resume.getResumeId()), resumeIds(searchService.searchMyResumes("kotlin", null, 0, 20)));
+        assertEquals(List.of(), jdbcTemplate.queryForList(
+                "SELECT resume_id FROM resumes r WHERE NOT EXISTS " +
+                        "(SELECT 1 FROM resume_texts t WHERE t.resume_id = r.resume_id)", Long.class));
+    }
+
+    @Test
+    void reload_picksUpTextExtractedOnAnotherNode() {
+        User rita = savedRecruiter("rita@test.com");
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        searchIndex.rebuild();
+
+        List<Long> resumeIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            User candidate = userRepository.save(candidate("Candidate", "c" + i + "@test.com"));
+            Application application = applicationRepository.save(new Application(job, candidate));
+            Resume resume = resumeRepository.save(new Resume(application, "cv" + i + ".pdf", "/elsewhere/cv.pdf"));
+            // Written by another node's extractor: this node's index never saw it
+            resumeTextRepository.save(new ResumeText(resume.getResumeId(), null, "Elixir and Erlang",
+                    LocalDateTime.now().minusSeconds(30 - 10 * i)));
+            resumeIds.add(resume.getResumeId());
+        }
+
+        assertEquals(3, searchIndex.reload());
+        authenticateAs(rita);
+        assertEquals(3, searchService.searchMyResumes("erlang", null, 0, 20).getTotalHits());
+
+        // Too recent to pass the watermark: read again (a late commit may sit among them) and replaced
+        assertEquals(3, searchIndex.reload());
+        assertEquals(3, searchService.searchMyResumes("erlang", null, 0, 20).getTotalHits());
+        assertTrue(resumeIds.stream().allMatch(searchIndex::contains));
+    }
+
+    @Test
+    void unreadableFile_isStoredWithEmptyTextAndNotRetried() throws InterruptedException {
+        User rita = savedRecruiter("rita@test.com");
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        User candidate = userRepository.save(candidate());
+        Application application = applicationRepository.save(new Application(job, candidate));
+        Resume resume = resumeRepository.save(new Resume(application, "Carl Java.pdf",
+                uploadDir.resolve("missing.pdf").toString()));
+
+        indexer.backfill();
+        awaitIndexed(resume.getResumeId());
+
+        assertEquals("", jdbcTemplate.queryForObject(
+                "SELECT content FROM resume_texts WHERE resume_id = ?", String.class, resume.getResumeId()));
+        authenticateAs(rita);
+        assertEquals(1, searchService.searchMyResumes("carl", null, 0, 20).getTotalHits(),
+                "the file name is still searchable");
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private ApplicationResponse apply(Job job, String candidateEmail, String resumeText) {
+        User candidate = userRepository.save(candidate("Candidate", candidateEmail));
+        ResumeUpload upload = new ResumeUpload("resume.pdf", "application/pdf",
+                new ByteArrayInputStream(pdfBytes(resumeText)));
+        return applicationService.applyForJob(new ApplicationRequest(job.getJobsId()), upload, candidate.getUserId());
+    }
+
+    private void awaitIndexed(Long... resumeIds) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + INDEXING_TIMEOUT_MILLIS;
+        for (Long resumeId : resumeIds) {
+            while (!searchIndex.contains(resumeId)) {
+                assertTrue(System.currentTimeMillis() < deadline, "resume " + resumeId + " was not indexed");
+                Thread.sleep(20);
+            }
+        }
+    }
+
+    /** A minimal PDF drawing the text with an unfiltered content stream */
+    private static byte[] pdfBytes(String text) {
+        String content = "BT /F1 12 Tf 72 720 Td (" + text + ") Tj ET";
+        return ("%PDF-1.4\n4 0 obj\n<< /Length " + content.length() + " >>\nstream\n" + content
+                + "\nendstream\nendobj\n%%EOF\n").getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static List<Long> resumeIds(ResumeSearchResponse response) {
+        return response.getHits().stream().map(ResumeSearchHit::getResumeId).toList();
+    }
+
+    private User savedRecruiter(String email) {
+        return userRepository.save(recruiter("Recruiter", email));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+}
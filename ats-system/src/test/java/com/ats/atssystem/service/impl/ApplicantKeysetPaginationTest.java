@@ -0,0 +1,163 @@
+package com.ats.atssystem.service.impl;
+
+import com.ats.atssystem.dto.ApplicantDTO;
+import com.ats.atssystem.dto.ApplicantPageDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.search.JobSearchIndex;
+import com.ats.atssystem.service.DashboardStatistics;
+import com.ats.atssystem.security.AuthenticatedUser;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the keyset-paginated applicant list.
+ *
+ * Applicants are seeded with appliedAt timestamps that run opposite to
+ * their ids and contain ties, so the (appliedAt, applicationId) ordering
+ * and the cursor tie-breaker are both exercised.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobServiceImpl.class, JobSearchIndex.class, DashboardStatistics.class,
+        NotificationOutbox.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+class ApplicantKeysetPaginationTest {
+
+    private static final int APPLICANTS = 23;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JobServiceImpl jobService;
+
+    private Job job;
+
+    @BeforeEach
+    void seed() {
+        User recruiter = persist(entityManager, recruiter());
+        job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 9, 0);
+        for (int i = 0; i < APPLICANTS; i++) {
+            User candidate = persist(entityManager, candidate("Candidate " + i, "c" + i + "@test.com"));
+            Application application = persist(entityManager, new Application(job, candidate));
+            entityManager.flush();
+
+            // Newer ids get older timestamps; every pair of applicants shares one
+            entityManager.createNativeQuery(
+                            "UPDATE applications SET applied_at = ?, status = ? WHERE application_id = ?")
+                    .setParameter(1, base.minusMinutes(i / 2))
+                    .setParameter(2, (i % 3 == 0 ? ApplicationStatus.SHORTLISTED : ApplicationStatus.APPLIED).name())
+                    .setParameter(3, application.getApplicationId())
+                    .executeUpdate();
+        }
+        entityManager.clear();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(recruiter.getUserId(), recruiter.getEmail(), Role.RECRUITER), null, List.of()));
+    }
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void walkingAllPages_returnsEveryApplicantOnceInKeysetOrder() {
+        List<ApplicantDTO> all = collectAllPages(null, 5, Sort.Direction.ASC);
+
+        assertEquals(APPLICANTS, all.size());
+        assertEquals(APPLICANTS, all.stream().map(ApplicantDTO::getApplicationId).distinct().count());
+        assertEquals(sorted(all, Sort.Direction.ASC), all);
+    }
+
+    @Test
+    void descendingOrder_isReverseOfAscending() {
+        List<ApplicantDTO> asc = collectAllPages(null, 7, Sort.Direction.ASC);
+        List<ApplicantDTO> desc = collectAllPages(null, 7, Sort.Direction.DESC);
+
+        List<Long> reversed = new ArrayList<>(ids(asc));
+        Collections.reverse(reversed);
+        assertEquals(reversed, ids(desc));
+    }
+
+    @Test
+    void statusFilter_isAppliedServerSide() {
+        List<ApplicantDTO> shortlisted = collectAllPages(ApplicationStatus.SHORTLISTED, 3, Sort.Direction.ASC);
+
+        assertEquals(8, shortlisted.size());
+        assertTrue(shortlisted.stream().allMatch(a -> a.getStatus() == ApplicationStatus.SHORTLISTED));
+    }
+
+    @Test
+    void lastPage_hasNoCursor() {
+        ApplicantPageDTO page = jobService.getApplicantsPage(job.getJobsId(), null, null, 100, Sort.Direction.ASC);
+
+        assertEquals(APPLICANTS, page.getApplicants().size());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void malformedCursor_isRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                jobService.getApplicantsPage(job.getJobsId(), null, "not-a-cursor", 10, Sort.Direction.ASC));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private List<ApplicantDTO> collectAllPages(ApplicationStatus status, int limit, Sort.Direction direction) {
+        List<ApplicantDTO> all = new ArrayList<>();
+        String cursor = null;
+        do {
+            ApplicantPageDTO page = jobService.getApplicantsPage(job.getJobsId(), status, cursor, limit, direction);
+            assertTrue(page.getApplicants().size() <= limit);
+            all.addAll(page.getApplicants());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return all;
+    }
+
+    private static List<ApplicantDTO> sorted(List<ApplicantDTO> rows, Sort.Direction direction) {
+        Comparator<ApplicantDTO> order = Comparator.comparing(ApplicantDTO::getAppliedAt)
+                .thenComparing(ApplicantDTO::getApplicationId);
+        List<ApplicantDTO> copy = new ArrayList<>(rows);
+        copy.sort(direction == Sort.Direction.ASC ? order : order.reversed());
+        return copy;
+    }
+
+    private static List<Long> ids(List<ApplicantDTO> rows) {
+        return rows.stream().map(ApplicantDTO::getApplicationId).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.ats.atssystem.service.impl;
+
+import com.ats.atssystem.dto.ApplicantDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Resume;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.search.JobSearchIndex;
+import com.ats.atssystem.service.DashboardStatistics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Query-count benchmark for the recruiter applicant listing.
+ *
+ * Seeds jobs with a small and a large number of applicants and checks that
+ * JobServiceImpl.getApplicantsForJob issues the same number of SQL statements
+ * for both — i.e. the read path is O(1) in queries, not 1 + 2N.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobServiceImpl.class, JobSearchIndex.class, DashboardStatistics.class,
+        NotificationOutbox.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+class ApplicantListingQueryCountTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JobServiceImpl jobService;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statementCount_isIndependentOfApplicantCount() {
+        User recruiter = persist(entityManager, recruiter());
+        Job smallJob = seedJob(recruiter, "Small", 5);
+        Job largeJob = seedJob(recruiter, "Large", 200);
+        authenticateAs(recruiter);
+
+        long smallCount = countStatements(smallJob, 5);
+        long largeCount = countStatements(largeJob, 200);
+
+        assertEquals(smallCount, largeCount, "statement count must not grow with the number of applicants");
+        assertEquals(2, largeCount, "one job ownership lookup plus one projection query");
+    }
+
+    @Test
+    void applicantsWithoutResume_areReportedWithoutResumeFields() {
+        User recruiter = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        User candidate = persist(entityManager, candidate());
+        persist(entityManager, new Application(job, candidate));
+        entityManager.flush();
+        entityManager.clear();
+        authenticateAs(recruiter);
+
+        List<ApplicantDTO> applicants = jobService.getApplicantsForJob(job.getJobsId());
+
+        assertEquals(1, applicants.size());
+        ApplicantDTO applicant = applicants.get(0);
+        assertEquals("carl@test.com", applicant.getCandidateEmail());
+        assertFalse(applicant.getHasResume());
+        assertNull(applicant.getResumeId());
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private long countStatements(Job job, int expectedRows) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ApplicantDTO> applicants = jobService.getApplicantsForJob(job.getJobsId());
+
+        assertEquals(expectedRows, applicants.size());
+        assertTrue(applicants.stream().allMatch(ApplicantDTO::getHasResume));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Job seedJob(User recruiter, String title, int applicants) {
+        Job job = persist(entityManager, new Job(title, "Description", "Colombo", JobStatus.OPEN, recruiter));
+        for (int i = 0; i < applicants; i++) {
+            String email = title.toLowerCase() + i + "@test.com";
+            User candidate = persist(entityManager, candidate("Candidate " + i, email));
+            Application application = persist(entityManager, new Application(job, candidate));
+            persist(entityManager, new Resume(application, "resume" + i + ".pdf", "/tmp/resume" + i + ".pdf"));
+        }
+        return job;
+    }
+}
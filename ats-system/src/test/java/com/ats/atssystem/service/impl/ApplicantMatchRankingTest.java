@@ -0,0 +1,145 @@
+package com.ats.atssystem.service.impl;
+
+import com.ats.atssystem.dto.ApplicantDTO;
+import com.ats.atssystem.dto.ApplicantSort;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.Resume;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.repository.ApplicationMatchScoreRepository;
+import com.ats.atssystem.repository.JobMatchStatisticsRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.ResumeTextRepository;
+import com.ats.atssystem.search.JobSearchIndex;
+import com.ats.atssystem.search.ResumeSearchIndex;
+import com.ats.atssystem.search.TextAnalyzer;
+import com.ats.atssystem.service.DashboardStatistics;
+import com.ats.atssystem.service.MatchScoringService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applicant list ranked by cached resume-to-job match scores.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JobServiceImpl.class, JobSearchIndex.class, DashboardStatistics.class,
+        MatchScoringService.class, ResumeSearchIndex.class,
+        NotificationOutbox.class, SimpleMeterRegistry.class, JacksonAutoConfiguration.class})
+class ApplicantMatchRankingTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JobServiceImpl jobService;
+
+    @Autowired
+    private MatchScoringService matchScoringService;
+
+    @Autowired
+    private ApplicationMatchScoreRepository matchScoreRepository;
+
+    @Autowired
+    private JobMatchStatisticsRepository statisticsRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeTextRepository resumeTextRepository;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void sortByScore_ranksBestMatchFirstAndUnscoredLast() {
+        User recruiter = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer",
+                "Java and Spring Boot microservices on Kafka", "Remote", JobStatus.OPEN, recruiter));
+        Application unscored = apply(job, "unscored@test.com");
+        Application weak = apply(job, "weak@test.com");
+        Application strong = apply(job, "strong@test.com");
+
+        matchScoringService.scoreApplication(weak.getApplicationId(), job.getJobsId(),
+                "Office manager with some Java exposure");
+        matchScoringService.scoreApplication(strong.getApplicationId(), job.getJobsId(),
+                "Backend engineer: Java, Spring Boot, Kafka microservices");
+        entityManager.flush();
+        entityManager.clear();
+        authenticateAs(recruiter);
+
+        List<ApplicantDTO> ranked = jobService.getApplicantsForJob(job.getJobsId(), ApplicantSort.SCORE);
+
+        assertEquals(List.of(strong.getApplicationId(), weak.getApplicationId(), unscored.getApplicationId()),
+                ranked.stream().map(ApplicantDTO::getApplicationId).toList());
+        assertTrue(ranked.get(0).getMatchScore() > ranked.get(1).getMatchScore());
+        assertNull(ranked.get(2).getMatchScore());
+
+        // Default order is unchanged, with the scores included
+        List<ApplicantDTO> applied = jobService.getApplicantsForJob(job.getJobsId());
+        assertEquals(unscored.getApplicationId(), applied.get(0).getApplicationId());
+        assertNotNull(applied.get(2).getMatchScore());
+    }
+
+    @Test
+    void anotherNode_scoresAJobAgainstTheSameStoredStatistics() {
+        User recruiter = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer",
+                "Java and Spring Boot microservices on Kafka", "Remote", JobStatus.OPEN, recruiter));
+        Application first = apply(job, "first@test.com");
+        Application second = apply(job, "second@test.com");
+        entityManager.flush();
+        String resume = "Backend engineer: Java, Spring Boot, Kafka microservices";
+
+        double here = matchScoringService.scoreApplication(first.getApplicationId(), job.getJobsId(), resume);
+
+        // A node whose index has seen other resumes and has no cached profile
+        ResumeSearchIndex otherIndex = new ResumeSearchIndex(resumeTextRepository);
+        otherIndex.put(900L, 900L, 900L, 900L, "Other", "other.pdf", "Kafka operator, Kafka streams");
+        MatchScoringService otherNode = new MatchScoringService(
+                matchScoreRepository, statisticsRepository, jobRepository, otherIndex);
+        double there = otherNode.scoreApplication(second.getApplicationId(), job.getJobsId(), resume);
+
+        assertEquals(here, there, 1e-12);
+        double ownSnapshot = otherIndex.matchProfile(job.getTitle(), job.getDescription())
+                .score(TextAnalyzer.tokenize(resume));
+        assertNotEquals(here, ownSnapshot, 1e-6, "the other node's own statistics would give another scale");
+    }
+
+    @Test
+    void unknownSort_isRejected() {
+        assertThrows(IllegalArgumentException.class, () -> ApplicantSort.from("salary"));
+        assertEquals(ApplicantSort.SCORE, ApplicantSort.from("SCORE"));
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private Application apply(Job job, String candidateEmail) {
+        User candidate = persist(entityManager, candidate("Candidate", candidateEmail));
+        Application application = persist(entityManager, new Application(job, candidate));
+        persist(entityManager, new Resume(application, "resume.pdf", "/tmp/" + candidateEmail + ".pdf"));
+        return application;
+    }
+}
@@ -0,0 +1,190 @@
+package com.ats.atssystem.service.impl;
+
+import com.ats.atssystem.exception.ConcurrentUpdateException;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.repository.ApplicationRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.service.ApplicationStatusLog;
+import com.ats.atssystem.service.FunnelAnalyticsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Optimistic locking under contention: many recruiters' sessions racing on
+ * the same application. Runs without a test transaction so every thread
+ * commits (or loses) for real.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationServiceImpl.class, ApplicationStatusLog.class, FunnelAnalyticsService.class,
+        NotificationOutbox.class, JacksonAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ApplicationStatusConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanUp() {
+        for (String table : List.of("outbox_messages", "application_status_events", "application_funnel_daily",
+                "application_decision_time_daily", "applications", "jobs", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void staleExpectedVersion_exactlyOneWriterWins() throws Exception {
+        User recruiter = userRepository.save(recruiter());
+        Application application = seedApplication(recruiter);
+        Long id = application.getApplicationId();
+        Long seenVersion = application.getVersion();
+
+        // Every session saw the same version and decides differently
+        List<Outcome> outcomes = race(recruiter, i -> applicationService.updateApplicationStatus(id,
+                i % 2 == 0 ? ApplicationStatus.SHORTLISTED : ApplicationStatus.REJECTED, seenVersion));
+
+        assertEquals(1, count(outcomes, Outcome.UPDATED));
+        assertEquals(THREADS - 1, count(outcomes, Outcome.CONFLICT), "losers get a 409, never a 400 or 500");
+
+        Application stored = applicationRepository.findById(id).orElseThrow();
+        assertEquals(seenVersion + 1, stored.getVersion());
+        assertEquals(1, transitionsLogged(id), "no lost update: one change, one event");
+    }
+
+    @Test
+    void unversionedRequests_neverApplyTheSameTransitionTwice() throws Exception {
+        User recruiter = userRepository.save(recruiter());
+        Long id = seedApplication(recruiter).getApplicationId();
+
+        List<Outcome> outcomes = race(recruiter,
+                i -> applicationService.updateApplicationStatus(id, ApplicationStatus.SHORTLISTED, null));
+
+        // Losers either collide on the version or, having read the new status,
+        // are refused SHORTLISTED -> SHORTLISTED
+        assertEquals(1, count(outcomes, Outcome.UPDATED));
+        assertEquals(0, count(outcomes, Outcome.OTHER));
+        assertEquals(ApplicationStatus.SHORTLISTED, applicationRepository.findById(id).orElseThrow().getStatus());
+        assertEquals(1, transitionsLogged(id));
+    }
+
+    @Test
+    void conflict_reportsTheCurrentState() {
+        User recruiter = userRepository.save(recruiter());
+        Long id = seedApplication(recruiter).getApplicationId();
+        authenticateAs(recruiter);
+
+        applicationService.updateApplicationStatus(id, ApplicationStatus.SHORTLISTED, 0L);
+        ConcurrentUpdateException e = assertThrows(ConcurrentUpdateException.class,
+                () -> applicationService.updateApplicationStatus(id, ApplicationStatus.REJECTED, 0L));
+
+        assertEquals(ApplicationStatus.SHORTLISTED, e.getCurrentState().get("status"));
+        assertEquals(1L, e.getCurrentState().get("version"));
+        SecurityContextHolder.clearContext();
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private enum Outcome { UPDATED, CONFLICT, INVALID_TRANSITION, OTHER }
+
+    private interface Attempt {
+        void run(int index);
+    }
+
+    /** Releases THREADS callers at once, each with its own security context */
+    private List<Outcome> race(User recruiter, Attempt attempt) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int index = i;
+                Callable<Outcome> task = () -> {
+                    authenticateAs(recruiter);
+                    start.await();
+                    try {
+                        attempt.run(index);
+                        return Outcome.UPDATED;
+                    } catch (ConcurrentUpdateException e) {
+                        return Outcome.CONFLICT;
+                    } catch (RuntimeException e) {
+                        return e.getMessage() != null && e.getMessage().startsWith("Invalid status transition")
+                                ? Outcome.INVALID_TRANSITION : Outcome.OTHER;
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                };
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Application seedApplication(User recruiter) {
+        Job job = jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+        User candidate = userRepository.save(candidate());
+        return applicationRepository.save(new Application(job, candidate));
+    }
+
+    private int transitionsLogged(Long applicationId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM application_status_events WHERE application_id = ? AND from_status IS NOT NULL",
+                Integer.class, applicationId);
+    }
+
+    private static long count(List<Outcome> outcomes, Outcome outcome) {
+        return outcomes.stream().filter(o -> o == outcome).count();
+    }
+}
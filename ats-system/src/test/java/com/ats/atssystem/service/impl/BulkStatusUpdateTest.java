@@ -0,0 +1,251 @@
+package com.ats.atssystem.service.impl;
+
+import com.ats.atssystem.dto.BulkStatusUpdateResponse;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse.Outcome;
+import com.ats.atssystem.dto.BulkStatusUpdateResponse.Result;
+import com.ats.atssystem.dto.FunnelStatsDTO;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.repository.ApplicationRepository;
+import com.ats.atssystem.service.ApplicationStatusLog;
+import com.ats.atssystem.service.FunnelAnalyticsService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Bulk status updates: per-id outcomes, persisted changes, and a statement
+ * count that does not grow with the number of applications.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ApplicationServiceImpl.class, ApplicationStatusLog.class, FunnelAnalyticsService.class,
+        NotificationOutbox.class, JacksonAutoConfiguration.class})
+class BulkStatusUpdateTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private FunnelAnalyticsService funnelAnalyticsService;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationStatusLog applicationStatusLog;
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void bulkUpdate_reportsOutcomePerIdInRequestOrder() {
+        User rita = persist(entityManager, recruiter());
+        User ravi = persist(entityManager, recruiter("Ravi Recruiter", "ravi@test.com"));
+        Job ritaJob = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        Job raviJob = persist(entityManager, new Job("Designer", "Figma", "Remote", JobStatus.OPEN, ravi));
+        List<Application> mine = seedApplications(ritaJob, "mine", 3);
+        Application hired = mine.get(2);
+        hired.setStatus(ApplicationStatus.HIRED);
+        Application other = seedApplications(raviJob, "other", 1).get(0);
+        flushAndClear();
+        authenticateAs(rita);
+
+        List<Long> request = List.of(
+                mine.get(0).getApplicationId(),
+                other.getApplicationId(),
+                999_999L,
+                hired.getApplicationId(),
+                mine.get(1).getApplicationId(),
+                mine.get(0).getApplicationId());
+
+        BulkStatusUpdateResponse response =
+                applicationService.updateApplicationStatuses(request, ApplicationStatus.SHORTLISTED);
+
+        List<Result> results = response.getResults();
+        assertEquals(5, results.size(), "duplicate ids are collapsed");
+        assertResult(results.get(0), mine.get(0).getApplicationId(), Outcome.UPDATED, ApplicationStatus.APPLIED);
+        assertResult(results.get(1), other.getApplicationId(), Outcome.ACCESS_DENIED, null);
+        assertResult(results.get(2), 999_999L, Outcome.NOT_FOUND, null);
+        assertResult(results.get(3), hired.getApplicationId(), Outcome.INVALID_TRANSITION, ApplicationStatus.HIRED);
+        assertResult(results.get(4), mine.get(1).getApplicationId(), Outcome.UPDATED, ApplicationStatus.APPLIED);
+        assertEquals(2, response.getUpdated());
+        assertEquals(3, response.getFailed());
+
+        entityManager.clear();
+        assertEquals(ApplicationStatus.SHORTLISTED, statusOf(mine.get(0)));
+        assertEquals(ApplicationStatus.SHORTLISTED, statusOf(mine.get(1)));
+        assertEquals(ApplicationStatus.HIRED, statusOf(hired));
+        assertEquals(ApplicationStatus.APPLIED, statusOf(other));
+
+        // One logged transition (the APPLIED event comes from applyForJob, bypassed here)
+        assertEquals(1, applicationService.getStatusHistory(mine.get(0).getApplicationId()).size());
+        FunnelStatsDTO funnel = funnelAnalyticsService.getMyFunnel(ritaJob.getJobsId(), null, null);
+        assertEquals(2, funnel.getShortlisted());
+    }
+
+    @Test
+    void bulkReject_recordsDecisionsInTheFunnel() {
+        User rita = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        List<Application> applications = seedApplications(job, "c", 4);
+        flushAndClear();
+        authenticateAs(rita);
+
+        applicationService.updateApplicationStatuses(ids(applications), ApplicationStatus.REJECTED);
+
+        FunnelStatsDTO funnel = funnelAnalyticsService.getMyFunnel(job.getJobsId(), null, null);
+        assertEquals(4, funnel.getRejected());
+        assertEquals(4, funnel.getDecisions());
+        assertNotNull(funnel.getTimeToDecisionP50Hours());
+    }
+
+    @Test
+    void unreportedBatchCounts_areConfirmedBeforeSideEffects() {
+        User rita = persist(entityManager, recruiter());
+        Job job = persist(entityManager, new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, rita));
+        List<Application> applications = seedApplications(job, "c", 3);
+        Long changedElsewhere = applications.get(1).getApplicationId();
+        flushAndClear();
+        authenticateAs(rita);
+
+        // A driver that rewrites batches (SUCCESS_NO_INFO for every row), with another
+        // writer rejecting one application between the check and the UPDATE
+        JdbcTemplate rewritingDriver = new JdbcTemplate(dataSource) {
+            @Override
+            public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                           ParameterizedPreparedStatementSetter<T> pss) {
+                update("UPDATE applications SET status = 'REJECTED', version = version + 1 "
+                        + "WHERE application_id = ?", changedElsewhere);
+                int[][] counts = super.batchUpdate(sql, batchArgs, batchSize, pss);
+                for (int[] batch : counts) {
+                    Arrays.fill(batch, Statement.SUCCESS_NO_INFO);
+                }
+                return counts;
+            }
+        };
+        ApplicationServiceImpl service = new ApplicationServiceImpl(applicationRepository, funnelAnalyticsService,
+                applicationStatusLog, notificationOutbox, rewritingDriver, eventPublisher, transactionManager);
+
+        BulkStatusUpdateResponse response =
+                service.updateApplicationStatuses(ids(applications), ApplicationStatus.SHORTLISTED);
+
+        List<Result> results = response.getResults();
+        assertResult(results.get(0), applications.get(0).getApplicationId(), Outcome.UPDATED, ApplicationStatus.APPLIED);
+        assertResult(results.get(1), changedElsewhere, Outcome.CONFLICT, ApplicationStatus.APPLIED);
+        assertResult(results.get(2), applications.get(2).getApplicationId(), Outcome.UPDATED, ApplicationStatus.APPLIED);
+
+        // Side effects only for the rows this request changed
+        assertTrue(applicationService.getStatusHistory(changedElsewhere).isEmpty());
+        assertEquals(1, applicationService.getStatusHistory(applications.get(0).getApplicationId()).size());
+        assertEquals(2, funnelAnalyticsService.getMyFunnel(job.getJobsId(), null, null).getShortlisted());
+    }
+
+    @Test
+    void statementCount_isIndependentOfBatchSize() {
+        User rita = persist(entityManager, recruiter());
+        Job smallJob = persist(entityManager, new Job("Small", "Java", "Remote", JobStatus.OPEN, rita));
+        Job largeJob = persist(entityManager, new Job("Large", "Java", "Remote", JobStatus.OPEN, rita));
+        List<Application> small = seedApplications(smallJob, "small", 5);
+        List<Application> large = seedApplications(largeJob, "large", 300);
+        flushAndClear();
+        authenticateAs(rita);
+
+        long smallCount = countStatements(ids(small));
+        long largeCount = countStatements(ids(large));
+
+        assertEquals(smallCount, largeCount, "only JDBC batches may grow with the number of applications");
+        assertEquals(3, largeCount, "Hibernate statements per bulk update (JDBC batches are not counted)");
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private long countStatements(List<Long> ids) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        BulkStatusUpdateResponse response = applicationService.updateApplicationStatuses(ids, ApplicationStatus.REJECTED);
+
+        assertEquals(ids.size(), response.getUpdated());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static void assertResult(Result result, Long id, Outcome outcome, ApplicationStatus previous) {
+        assertEquals(id, result.getApplicationId());
+        assertEquals(outcome, result.getOutcome());
+        assertEquals(previous, result.getPreviousStatus());
+    }
+
+    private ApplicationStatus statusOf(Application application) {
+        return entityManager.find(Application.class, application.getApplicationId()).getStatus();
+    }
+
+    private List<Application> seedApplications(Job job, String prefix, int count) {
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User candidate = persist(entityManager, candidate("Candidate " + i, prefix + i + "@test.com"));
+            applications.add(persist(entityManager, new Application(job, candidate)));
+        }
+        return applications;
+    }
+
+    private static List<Long> ids(List<Application> applications) {
+        return applications.stream().map(Application::getApplicationId).toList();
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
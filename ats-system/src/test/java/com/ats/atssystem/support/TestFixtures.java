@@ -0,0 +1,80 @@
+package com.ats.atssystem.support;
+
+import com.ats.atssystem.model.Role;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.outbox.OutboxDispatcher;
+import com.ats.atssystem.security.AuthenticatedUser;
+import jakarta.persistence.EntityManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Shared test data and helpers: the default recruiter and candidate, the
+ * security context the services read the current user from, and waiting
+ * for the outbox dispatcher's asynchronous outcomes.
+ *
+ * The users are new, unsaved entities; persist them with the test's own
+ * EntityManager or repository. Tests that call authenticateAs should clear
+ * the context afterwards (SecurityContextHolder.clearContext()).
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /** Rita Recruiter, rita@test.com */
+    public static User recruiter() {
+        return recruiter("Rita Recruiter", "rita@test.com");
+    }
+
+    public static User recruiter(String name, String email) {
+        return new User(name, email, "hash", Role.RECRUITER);
+    }
+
+    /** Carl Candidate, carl@test.com */
+    public static User candidate() {
+        return candidate("Carl Candidate", "carl@test.com");
+    }
+
+    public static User candidate(String name, String email) {
+        return new User(name, email, "hash", Role.CANDIDATE);
+    }
+
+    /** Makes the user the caller, as JwtFilter would for their token */
+    public static void authenticateAs(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        new AuthenticatedUser(user.getUserId(), user.getEmail(), user.getRole()), null, List.of()));
+    }
+
+    /** Persists the entity and returns it, for inline use */
+    public static <T> T persist(EntityManager entityManager, T entity) {
+        entityManager.persist(entity);
+        return entity;
+    }
+
+    /** Waits until every message the dispatcher claimed has its outcome recorded */
+    public static void awaitOutcomes(OutboxDispatcher dispatcher) {
+        awaitInFlight(dispatcher, 0);
+    }
+
+    /** Waits until at most the given number of claimed messages are without an outcome */
+    public static void awaitInFlight(OutboxDispatcher dispatcher, int atMost) {
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (dispatcher.getInFlightCount() > atMost) {
+            if (System.nanoTime() > deadline) {
+                fail(dispatcher.getInFlightCount() + " outbox messages still in flight");
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail("Interrupted");
+            }
+        }
+    }
+}
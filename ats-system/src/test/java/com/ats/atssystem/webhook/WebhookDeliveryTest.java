@@ -0,0 +1,302 @@
+package com.ats.atssystem.webhook;
+
+import com.ats.atssystem.dto.WebhookEndpointDTO;
+import com.ats.atssystem.dto.WebhookRegistrationRequest;
+import com.ats.atssystem.model.Application;
+import com.ats.atssystem.model.ApplicationStatus;
+import com.ats.atssystem.model.Job;
+import com.ats.atssystem.model.JobStatus;
+import com.ats.atssystem.model.OutboxMessage;
+import com.ats.atssystem.model.OutboxStatus;
+import com.ats.atssystem.model.User;
+import com.ats.atssystem.model.WebhookEndpoint;
+import com.ats.atssystem.outbox.NotificationOutbox;
+import com.ats.atssystem.outbox.OutboxDispatcher;
+import com.ats.atssystem.repository.ApplicationRepository;
+import com.ats.atssystem.repository.JobRepository;
+import com.ats.atssystem.repository.OutboxMessageRepository;
+import com.ats.atssystem.repository.UserRepository;
+import com.ats.atssystem.repository.WebhookEndpointRepository;
+import com.ats.atssystem.service.ApplicationStatusLog;
+import com.ats.atssystem.service.FunnelAnalyticsService;
+import com.ats.atssystem.service.WebhookService;
+import com.ats.atssystem.service.impl.ApplicationServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.ats.atssystem.support.TestFixtures.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Recruiter webhooks end to end: outbox messages delivered to a local stub
+ * server in signed per-endpoint batches, with circuit breakers and
+ * timeouts keeping bad endpoints from holding up good ones. Target address
+ * checks are covered by WebhookTargetPolicyTest.
+ */
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({WebhookOutboxSink.class, WebhookClient.class, WebhookTargetPolicy.class, WebhookService.class,
+        NotificationOutbox.class, OutboxDispatcher.class, ApplicationServiceImpl.class, ApplicationStatusLog.class,
+        FunnelAnalyticsService.class, JacksonAutoConfiguration.class})
+@TestPropertySource(properties = {
+        "app.outbox.poll-interval=PT1H",
+        "app.outbox.retry-backoff=PT0S",
+        "app.outbox.delivery-timeout=PT5S",
+        "app.webhooks.request-timeout=PT0.5S",
+        "app.webhooks.breaker-failure-threshold=2",
+        // The stub server is plain http on 127.0.0.1
+        "app.webhooks.allow-private-targets=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class WebhookDeliveryTest {
+
+    private static final String SECRET = "whsec_test";
+
+    private static HttpServer server;
+    private static ExecutorService serverThreads;
+    private static final Map<String, List<Received>> received = new ConcurrentHashMap<>();
+
+    @Autowired
+    private OutboxDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutbox notificationOutbox;
+
+    @Autowired
+    private WebhookService webhookService;
+
+    @Autowired
+    private ApplicationServiceImpl applicationService;
+
+    @Autowired
+    private WebhookEndpointRepository webhookEndpointRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeAll
+    static void startStubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> answer(exchange, "/ok", 200, 0));
+        server.createContext("/fail", exchange -> answer(exchange, "/fail", 500, 0));
+        server.createContext("/slow", exchange -> answer(exchange, "/slow", 200, 2_000));
+        serverThreads = Executors.newCachedThreadPool();
+        server.setExecutor(serverThreads);
+        server.start();
+    }
+
+    @AfterAll
+    static void stopStubServer() {
+        server.stop(0);
+        serverThreads.shutdownNow();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        SecurityContextHolder.clearContext();
+        received.clear();
+        for (String table : List.of("webhook_endpoints", "outbox_messages", "application_status_events",
+                "application_funnel_daily", "application_decision_time_daily", "applications", "jobs", "users")) {
+            jdbcTemplate.update("DELETE FROM " + table);
+        }
+    }
+
+    @Test
+    void events_areSentToTheOwningRecruiterInOneSignedBatch() throws Exception {
+        User rita = savedRecruiter("rita@test.com");
+        User ravi = savedRecruiter("ravi@test.com");
+        register(rita, "/ok", List.of());
+        register(ravi, "/ok", List.of(NotificationOutbox.APPLICATION_SUBMITTED));
+        Job ritaJob = job(rita);
+        Job raviJob = job(ravi);
+        List<Application> applications = List.of(apply(ritaJob, "c1@test.com"), apply(ritaJob, "c2@test.com"),
+                apply(ritaJob, "c3@test.com"));
+        Application raviApplication = apply(raviJob, "c4@test.com");
+
+        notificationOutbox.applicationSubmitted(applications.get(0));
+        authenticateAs(rita);
+        applicationService.updateApplicationStatus(applications.get(0).getApplicationId(),
+                ApplicationStatus.SHORTLISTED, null);
+        applicationService.updateApplicationStatuses(
+                List.of(applications.get(1).getApplicationId(), applications.get(2).getApplicationId()),
+                ApplicationStatus.REJECTED);
+        // Ravi only subscribed to new applicants
+        authenticateAs(ravi);
+        applicationService.updateApplicationStatus(raviApplication.getApplicationId(),
+                ApplicationStatus.REJECTED, null);
+
+        assertEquals(5, dispatcher.dispatch());
+        awaitOutcomes(dispatcher);
+
+        List<Received> requests = received.get("/ok");
+        assertEquals(1, requests.size(), "one request per endpoint per batch");
+        Received request = requests.get(0);
+        JsonNode events = objectMapper.readTree(request.body).get("events");
+        assertEquals(4, events.size());
+        assertEquals(NotificationOutbox.APPLICATION_SUBMITTED, events.get(0).get("type").asText());
+        assertEquals(rita.getUserId(), events.get(1).get("data").get("recruiterId").asLong());
+
+        // t=<seconds>,v1=<hex HMAC of "<t>.<body>">
+        String[] signature = request.signature.split(",");
+        String timestamp = signature[0].substring(2);
+        assertEquals("v1=" + WebhookSigner.hmacHex(SECRET, timestamp + "." + request.body), signature[1]);
+        assertTrue(outboxMessageRepository.findAll().stream().allMatch(m -> m.getStatus() == OutboxStatus.DELIVERED));
+    }
+
+    @Test
+    void failingEndpoint_opensItsCircuitAndStopsBeingCalled() {
+        User rita = savedRecruiter("rita@test.com");
+        register(rita, "/fail", List.of());
+        Application application = apply(job(rita), "c1@test.com");
+        authenticateAs(rita);
+        applicationService.updateApplicationStatus(application.getApplicationId(), ApplicationStatus.SHORTLISTED, null);
+
+        for (int poll = 0; poll < 4; poll++) {
+            assertEquals(1, dispatcher.dispatch());
+            awaitOutcomes(dispatcher);
+        }
+
+        assertEquals(2, received.get("/fail").size(), "calls stop once the breaker opens");
+        OutboxMessage message = outboxMessageRepository.findAll().get(0);
+        assertEquals(OutboxStatus.PENDING, message.getStatus());
+        assertEquals(4, message.getAttempts());
+        assertTrue(message.getLastError().contains("circuit open"), message.getLastError());
+    }
+
+    @Test
+    void slowEndpoint_timesOutWithoutHoldingUpOtherEndpoints() {
+        User slow = savedRecruiter("slow@test.com");
+        User fast = savedRecruiter("fast@test.com");
+        register(slow, "/slow", List.of());
+        register(fast, "/ok", List.of());
+        Application slowApplication = apply(job(slow), "c1@test.com");
+        Application fastApplication = apply(job(fast), "c2@test.com");
+        authenticateAs(slow);
+        applicationService.updateApplicationStatus(slowApplication.getApplicationId(), ApplicationStatus.REJECTED, null);
+        authenticateAs(fast);
+        applicationService.updateApplicationStatus(fastApplication.getApplicationId(), ApplicationStatus.REJECTED, null);
+
+        assertEquals(2, dispatcher.dispatch());
+        long started = System.nanoTime();
+        awaitOutcomes(dispatcher);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(elapsedMillis < 1_500, "bounded by the request timeout, took " + elapsedMillis + " ms");
+        assertEquals(1, received.get("/ok").size());
+        Map<Long, OutboxMessage> byApplication = new ConcurrentHashMap<>();
+        outboxMessageRepository.findAll().forEach(m -> byApplication.put(m.getAggregateId(), m));
+        assertEquals(OutboxStatus.DELIVERED, byApplication.get(fastApplication.getApplicationId()).getStatus());
+        OutboxMessage timedOut = byApplication.get(slowApplication.getApplicationId());
+        assertEquals(OutboxStatus.PENDING, timedOut.getStatus());
+        assertTrue(timedOut.getLastError().contains("Timeout"), timedOut.getLastError());
+    }
+
+    @Test
+    void registration_validatesAndShowsTheSecretOnlyOnce() {
+        User rita = savedRecruiter("rita@test.com");
+        authenticateAs(rita);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> webhookService.register(new WebhookRegistrationRequest("ftp://hr.example.com", null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> webhookService.register(new WebhookRegistrationRequest("/relative", null)));
+        assertThrows(IllegalArgumentException.class, () -> webhookService.register(
+                new WebhookRegistrationRequest("https://hr.example.com/ats", List.of("job.deleted"))));
+
+        WebhookEndpointDTO created = webhookService.register(new WebhookRegistrationRequest(
+                "https://hr.example.com/ats", List.of(NotificationOutbox.APPLICATION_SUBMITTED)));
+        assertTrue(created.getSecret().startsWith("whsec_"));
+
+        List<WebhookEndpointDTO> listed = webhookService.getMyWebhooks();
+        assertEquals(1, listed.size());
+        assertNull(listed.get(0).getSecret());
+        assertEquals(List.of(NotificationOutbox.APPLICATION_SUBMITTED), listed.get(0).getEvents());
+
+        authenticateAs(savedRecruiter("ravi@test.com"));
+        assertThrows(RuntimeException.class, () -> webhookService.deleteWebhook(created.getEndpointId()));
+        authenticateAs(rita);
+        webhookService.deleteWebhook(created.getEndpointId());
+        assertTrue(webhookService.getMyWebhooks().isEmpty());
+    }
+
+    // ============================================================
+    // Helpers
+    // ============================================================
+
+    private static void answer(HttpExchange exchange, String path, int status, long delayMillis) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        received.computeIfAbsent(path, p -> new CopyOnWriteArrayList<>())
+                .add(new Received(body, exchange.getRequestHeaders().getFirst(WebhookSigner.SIGNATURE_HEADER)));
+        try {
+            Thread.sleep(delayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        exchange.sendResponseHeaders(status, -1);
+        exchange.close();
+    }
+
+    private void register(User recruiter, String path, List<String> events) {
+        String url = "http://127.0.0.1:" + server.getAddress().getPort() + path;
+        webhookEndpointRepository.save(new WebhookEndpoint(recruiter.getUserId(), url, SECRET, events));
+    }
+
+    private User savedRecruiter(String email) {
+        return userRepository.save(recruiter("Recruiter", email));
+    }
+
+    private Job job(User recruiter) {
+        return jobRepository.save(new Job("Backend Engineer", "Java", "Remote", JobStatus.OPEN, recruiter));
+    }
+
+    private Application apply(Job job, String candidateEmail) {
+        User candidate = userRepository.save(candidate("Candidate", candidateEmail));
+        return applicationRepository.save(new Application(job, candidate));
+    }
+
+    private record Received(String body, String signature) {
+    }
+}
@@ -0,0 +1,78 @@
+package com.ats.atssystem.webhook;
+
+import com.ats.atssystem.model.WebhookEndpoint;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Webhook targets: https only, and never an address inside the server's
+ * own network — at registration and again at send time.
+ */
+class WebhookTargetPolicyTest {
+
+    private final WebhookTargetPolicy policy = new WebhookTargetPolicy(false);
+
+    @Test
+    void internalAddresses_areRejected() {
+        for (String url : List.of(
+                "https://127.0.0.1/hook",            // loopback
+                "https://[::1]/hook",
+                "https://169.254.169.254/latest",    // link-local (cloud metadata)
+                "https://10.0.0.5/hook",             // site-local
+                "https://192.168.1.10/hook",
+                "https://[fd00::1]/hook",            // IPv6 unique local
+                "https://0.0.0.0/hook",              // wildcard
+                "https://224.0.0.1/hook",            // multicast
+                "https://[::ffff:127.0.0.1]/hook")) {
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> policy.check(url), url);
+            assertTrue(e.getMessage().contains("non-public"), url + ": " + e.getMessage());
+        }
+    }
+
+    @Test
+    void onlyAbsoluteHttpsUrls_areAccepted() {
+        assertThrows(IllegalArgumentException.class, () -> policy.check("http://93.184.216.34/hook"));
+        assertThrows(IllegalArgumentException.class, () -> policy.check("ftp://93.184.216.34/hook"));
+        assertThrows(IllegalArgumentException.class, () -> policy.check("/relative"));
+        assertThrows(IllegalArgumentException.class, () -> policy.check("https://bad host/"));
+
+        assertEquals("93.184.216.34", policy.check("https://93.184.216.34/hook").getHost());
+    }
+
+    @Test
+    void allowingPrivateTargets_permitsALocalHttpStub() throws Exception {
+        WebhookTargetPolicy development = new WebhookTargetPolicy(true);
+
+        assertEquals(8080, development.check("http://127.0.0.1:8080/hook").getPort());
+        assertThrows(IllegalArgumentException.class, () -> development.check("ftp://127.0.0.1/hook"));
+        assertFalse(WebhookTargetPolicy.isPublic(InetAddress.getByName("172.16.0.1")));
+        assertTrue(WebhookTargetPolicy.isPublic(InetAddress.getByName("93.184.216.34")));
+    }
+
+    @Test
+    void send_rechecksTheTargetAndNeverConnectsToAnInternalAddress() {
+        WebhookClient client = new WebhookClient(policy, 1, Duration.ofSeconds(1), Duration.ofSeconds(1),
+                1, 10, 5, Duration.ofMinutes(1));
+        try {
+            // Stored before the policy existed, or re-pointed by DNS after registration
+            WebhookEndpoint endpoint = new WebhookEndpoint(1L, "https://127.0.0.1:9/hook", "whsec_test", List.of());
+            ReflectionTestUtils.setField(endpoint, "endpointId", 1L);
+            CompletableFuture<Void> sent = client.send(endpoint, "{}");
+
+            ExecutionException e = assertThrows(ExecutionException.class, () -> sent.get(5, TimeUnit.SECONDS));
+            assertTrue(e.getCause().getMessage().contains("non-public"), e.getCause().getMessage());
+            assertEquals(1, client.getFailedCount());
+        } finally {
+            client.shutdown();
+        }
+    }
+}